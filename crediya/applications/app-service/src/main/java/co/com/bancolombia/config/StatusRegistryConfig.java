@@ -0,0 +1,31 @@
+package co.com.bancolombia.config;
+
+import co.com.bancolombia.model.status.StatusRegistry;
+import co.com.bancolombia.model.status.gateways.StatusRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Slf4j
+@Configuration
+public class StatusRegistryConfig {
+
+    private static final Duration LOAD_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Loads the status table once at startup. Startup fails if it drifts from StatusEnum.
+     *
+     * @param statusRepository repository for status reference data
+     * @return StatusRegistry instance
+     */
+    @Bean
+    @DependsOnDatabaseInitialization
+    public StatusRegistry statusRegistry(StatusRepository statusRepository) {
+        StatusRegistry registry = StatusRegistry.from(statusRepository.findAll().collectList().block(LOAD_TIMEOUT));
+        log.info("Registro de estados cargado desde la base de datos");
+        return registry;
+    }
+}
@@ -1,27 +1,245 @@
 package co.com.bancolombia.config;
 
+import co.com.bancolombia.api.config.AutoDecisionProperties;
+import co.com.bancolombia.api.config.DecisionQueueProperties;
+import co.com.bancolombia.api.config.DecisionRelayProperties;
+import co.com.bancolombia.api.config.DuplicateDetectionProperties;
+import co.com.bancolombia.api.config.IdempotencyProperties;
+import co.com.bancolombia.api.config.OrderClaimProperties;
+import co.com.bancolombia.api.config.PendingExpiryProperties;
+import co.com.bancolombia.api.config.VelocityLimitProperties;
+import co.com.bancolombia.model.amortization.AmortizationEngine;
+import co.com.bancolombia.model.autodecision.EligibilityPolicy;
+import co.com.bancolombia.model.autodecision.gateways.ApplicantFinancialsRepository;
+import co.com.bancolombia.model.decisionqueue.gateways.DecisionRequestRepository;
+import co.com.bancolombia.model.idempotency.gateways.IdempotencyRepository;
 import co.com.bancolombia.model.loantype.gateways.LoanTypeRepository;
+import co.com.bancolombia.model.notification.gateways.DecisionOutboxRepository;
 import co.com.bancolombia.model.notification.gateways.NotificationGateway;
 import co.com.bancolombia.model.orders.gateways.OrdersRepository;
+import co.com.bancolombia.model.status.StatusRegistry;
+import co.com.bancolombia.model.userprofile.gateways.UserChangeFeedGateway;
+import co.com.bancolombia.model.userprofile.gateways.UserProfileRepository;
+import co.com.bancolombia.model.velocity.VelocityLimit;
+import co.com.bancolombia.model.velocity.VelocityTracker;
+import co.com.bancolombia.usecase.autodecision.AutomaticDecisionEngine;
+import co.com.bancolombia.usecase.decisionqueue.DecisionQueueUseCase;
+import co.com.bancolombia.usecase.idempotency.IdempotentLoanRequestUseCase;
+import co.com.bancolombia.usecase.notification.DecisionRelayUseCase;
+import co.com.bancolombia.usecase.idempotency.interfaces.IIdempotentLoanRequestUseCase;
+import co.com.bancolombia.usecase.orderclaim.OrderClaimUseCase;
+import co.com.bancolombia.usecase.orderexpiry.PendingOrderExpiryUseCase;
+import co.com.bancolombia.usecase.orders.ApplicationVelocityLimiter;
+import co.com.bancolombia.usecase.orders.DuplicateApplicationDetector;
 import co.com.bancolombia.usecase.orders.OrdersUseCase;
 import co.com.bancolombia.usecase.orders.interfaces.IOrdersUseCase;
+import co.com.bancolombia.usecase.userprofile.UserProfileReplicationUseCase;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Configuration
 public class UseCasesConfig {
 
+    private static final int AMORTIZATION_CACHE_SIZE = 1024;
+
     /**
      * Creates the Orders use case bean.
      * 
      * @param ordersRepository repository for order operations
      * @param loanTypeRepository repository for loan type operations
+     * @param statusRegistry status reference data loaded at startup
+     * @param applicantFinancialsRepository repository for the applicant's income and approved debt
+     * @param automaticDecisionEngine eligibility rules of loan types with automatic validation
+     * @param amortizationEngine installment and schedule calculator
+     * @param duplicateApplicationDetector detector of applications submitted twice
+     * @param applicationVelocityLimiter per-applicant application rate limits
      * @return IOrdersUseCase implementation
      */
     @Bean
     public IOrdersUseCase ordersUseCase(OrdersRepository ordersRepository, 
-                                       LoanTypeRepository loanTypeRepository) {
-        // TODO: Agregar NotificationGateway cuando AWS esté configurado
-        return new OrdersUseCase(ordersRepository, loanTypeRepository, null);
+                                       LoanTypeRepository loanTypeRepository,
+                                       StatusRegistry statusRegistry,
+                                       ApplicantFinancialsRepository applicantFinancialsRepository,
+                                       AutomaticDecisionEngine automaticDecisionEngine,
+                                       AmortizationEngine amortizationEngine,
+                                       DuplicateApplicationDetector duplicateApplicationDetector,
+                                       ApplicationVelocityLimiter applicationVelocityLimiter) {
+        return new OrdersUseCase(ordersRepository, loanTypeRepository, statusRegistry,
+                applicantFinancialsRepository, automaticDecisionEngine, amortizationEngine,
+                duplicateApplicationDetector, applicationVelocityLimiter);
+    }
+
+    /**
+     * Creates the detector of applications submitted twice.
+     *
+     * @param ordersRepository repository used to confirm misses across instances
+     * @param properties action, window and fallback settings
+     * @return DuplicateApplicationDetector, letting everything through when disabled
+     */
+    @Bean
+    public DuplicateApplicationDetector duplicateApplicationDetector(OrdersRepository ordersRepository,
+                                                                     DuplicateDetectionProperties properties) {
+        if (!properties.enabled()) {
+            return DuplicateApplicationDetector.disabled();
+        }
+        return new DuplicateApplicationDetector(ordersRepository, properties.action(), properties.window(),
+                properties.buckets(), properties.databaseFallback());
+    }
+
+    /**
+     * Creates the per-email and per-user application rate limiter.
+     *
+     * @param ordersRepository repository the email counters are rebuilt from
+     * @param properties hourly and daily limits and counter sizing
+     * @return ApplicationVelocityLimiter, letting everything through when disabled
+     */
+    @Bean
+    public ApplicationVelocityLimiter applicationVelocityLimiter(OrdersRepository ordersRepository,
+                                                                 VelocityLimitProperties properties) {
+        if (!properties.enabled()) {
+            return ApplicationVelocityLimiter.disabled();
+        }
+        List<VelocityLimit> limits = List.of(
+                new VelocityLimit(Duration.ofHours(1), properties.maxPerHour()),
+                new VelocityLimit(Duration.ofDays(1), properties.maxPerDay()));
+        return new ApplicationVelocityLimiter(ordersRepository,
+                new VelocityTracker(limits, properties.slots(), properties.stripes(), properties.maxKeysPerStripe()),
+                new VelocityTracker(limits, properties.slots(), properties.stripes(), properties.maxKeysPerStripe()));
+    }
+
+    /**
+     * Creates the amortization engine shared by the use cases.
+     *
+     * @return AmortizationEngine caching up to AMORTIZATION_CACHE_SIZE schedules
+     */
+    @Bean
+    public AmortizationEngine amortizationEngine() {
+        return new AmortizationEngine(AMORTIZATION_CACHE_SIZE);
+    }
+
+    /**
+     * Compiles the configured eligibility policies once at startup.
+     *
+     * @param properties default limits and per loan type policies
+     * @return AutomaticDecisionEngine instance
+     */
+    @Bean
+    public AutomaticDecisionEngine automaticDecisionEngine(AutoDecisionProperties properties) {
+        EligibilityPolicy defaultPolicy = EligibilityPolicy.builder()
+                .minTermMonths(properties.minTermMonths())
+                .maxTermMonths(properties.maxTermMonths())
+                .maxDebtToIncome(properties.maxDebtToIncome())
+                .build();
+        return AutomaticDecisionEngine.compile(properties.policies().stream()
+                .map(policy -> EligibilityPolicy.builder()
+                        .loanTypeId(policy.loanTypeId())
+                        .minAmount(policy.minAmount())
+                        .maxAmount(policy.maxAmount())
+                        .minTermMonths(policy.minTermMonths())
+                        .maxTermMonths(policy.maxTermMonths())
+                        .maxDebtToIncome(policy.maxDebtToIncome())
+                        .build())
+                .toList(), defaultPolicy);
+    }
+
+    /**
+     * Creates the use case that publishes queued decisions from the outbox.
+     *
+     * @param decisionOutboxRepository repository for the decision outbox
+     * @param notificationGateway gateway used to publish decisions, when available
+     * @param properties lease and backoff settings
+     * @return DecisionRelayUseCase instance
+     */
+    @Bean
+    public DecisionRelayUseCase decisionRelayUseCase(DecisionOutboxRepository decisionOutboxRepository,
+                                                     ObjectProvider<NotificationGateway> notificationGateway,
+                                                     DecisionRelayProperties properties) {
+        // Journal local (adapter.journal) o SQS; vacío si ninguno está habilitado
+        return new DecisionRelayUseCase(decisionOutboxRepository, notificationGateway.getIfAvailable(),
+                properties.lease(), properties.initialBackoff(), properties.maxBackoff(), properties.maxAttempts());
+    }
+
+    /**
+     * Creates the use case that queues assessor decisions and applies them in the background.
+     *
+     * @param ordersUseCase use case that applies each decision
+     * @param decisionRequestRepository repository for the decision queue
+     * @param properties lease, attempts and backoff settings
+     * @return DecisionQueueUseCase instance
+     */
+    @Bean
+    public DecisionQueueUseCase decisionQueueUseCase(IOrdersUseCase ordersUseCase,
+                                                     DecisionRequestRepository decisionRequestRepository,
+                                                     DecisionQueueProperties properties) {
+        return new DecisionQueueUseCase(ordersUseCase, decisionRequestRepository, properties.lease(),
+                properties.maxAttempts(), properties.initialBackoff(), properties.maxBackoff());
+    }
+
+    /**
+     * Creates the use case that hands pending orders to assessors under a lease.
+     *
+     * @param ordersRepository repository the claims are stored in
+     * @param statusRegistry status reference data
+     * @param properties lease and claim size settings
+     * @return OrderClaimUseCase instance
+     */
+    @Bean
+    public OrderClaimUseCase orderClaimUseCase(OrdersRepository ordersRepository, StatusRegistry statusRegistry,
+                                               OrderClaimProperties properties) {
+        return new OrderClaimUseCase(ordersRepository, statusRegistry, properties.lease(), properties.maxSize());
+    }
+
+    /**
+     * Creates the use case that cancels pending orders older than the maximum age of their loan type.
+     *
+     * @param ordersRepository repository the orders are cancelled in
+     * @param statusRegistry status reference data
+     * @param properties default and per loan type maximum ages and chunk size
+     * @return PendingOrderExpiryUseCase instance
+     */
+    @Bean
+    public PendingOrderExpiryUseCase pendingOrderExpiryUseCase(OrdersRepository ordersRepository,
+                                                               StatusRegistry statusRegistry,
+                                                               PendingExpiryProperties properties) {
+        Map<String, Duration> maxAgeByLoanType = new LinkedHashMap<>();
+        properties.loanTypes().forEach(loanType -> maxAgeByLoanType.put(loanType.loanTypeId(), loanType.maxAge()));
+        return new PendingOrderExpiryUseCase(ordersRepository, statusRegistry, properties.maxAge(),
+                maxAgeByLoanType, properties.chunkSize());
+    }
+
+    /**
+     * Creates the use case that deduplicates loan request creation by Idempotency-Key.
+     *
+     * @param ordersUseCase use case that creates the order on the first attempt
+     * @param idempotencyRepository repository for idempotency keys
+     * @param properties TTL, cache size and wait settings
+     * @return IIdempotentLoanRequestUseCase implementation
+     */
+    @Bean
+    public IIdempotentLoanRequestUseCase idempotentLoanRequestUseCase(IOrdersUseCase ordersUseCase,
+                                                                    IdempotencyRepository idempotencyRepository,
+                                                                    IdempotencyProperties properties) {
+        return new IdempotentLoanRequestUseCase(ordersUseCase, idempotencyRepository, properties.ttl(),
+                properties.inProgressLease(), properties.maxEntries(), properties.waitTimeout(),
+                properties.pollInterval());
+    }
+
+    /**
+     * Creates the use case that replicates user profiles into the local read model.
+     *
+     * @param userChangeFeedGateway gateway for the user change feed
+     * @param userProfileRepository repository for the local user profile projection
+     * @return UserProfileReplicationUseCase instance
+     */
+    @Bean
+    public UserProfileReplicationUseCase userProfileReplicationUseCase(UserChangeFeedGateway userChangeFeedGateway,
+                                                                       UserProfileRepository userProfileRepository) {
+        return new UserProfileReplicationUseCase(userChangeFeedGateway, userProfileRepository);
     }
 }
@@ -1,12 +1,36 @@
 package co.com.bancolombia.config;
 
+import co.com.bancolombia.api.config.AutoDecisionProperties;
+import co.com.bancolombia.api.config.DecisionQueueProperties;
+import co.com.bancolombia.api.config.DecisionRelayProperties;
+import co.com.bancolombia.api.config.DuplicateDetectionProperties;
+import co.com.bancolombia.api.config.IdempotencyProperties;
+import co.com.bancolombia.api.config.OrderClaimProperties;
+import co.com.bancolombia.api.config.PendingExpiryProperties;
+import co.com.bancolombia.api.config.VelocityLimitProperties;
+import co.com.bancolombia.model.autodecision.gateways.ApplicantFinancialsRepository;
+import co.com.bancolombia.model.decisionqueue.gateways.DecisionRequestRepository;
+import co.com.bancolombia.model.duplicate.DuplicateAction;
+import co.com.bancolombia.model.idempotency.gateways.IdempotencyRepository;
+import co.com.bancolombia.model.notification.gateways.DecisionOutboxRepository;
 import co.com.bancolombia.model.loantype.gateways.LoanTypeRepository;
+import co.com.bancolombia.model.enums.StatusEnum;
 import co.com.bancolombia.model.orders.gateways.OrdersRepository;
+import co.com.bancolombia.model.status.Status;
+import co.com.bancolombia.model.status.StatusRegistry;
+import co.com.bancolombia.model.userprofile.gateways.UserChangeFeedGateway;
+import co.com.bancolombia.model.userprofile.gateways.UserProfileRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -43,6 +67,90 @@ public class UseCasesConfigTest {
             return mock(LoanTypeRepository.class);
         }
 
+        @Bean
+        public StatusRegistry statusRegistry() {
+            return StatusRegistry.from(Arrays.stream(StatusEnum.values())
+                    .map(status -> new Status(status.getId(), status.getName()))
+                    .toList());
+        }
+
+        @Bean
+        public ApplicantFinancialsRepository applicantFinancialsRepository() {
+            return mock(ApplicantFinancialsRepository.class);
+        }
+
+        @Bean
+        public AutoDecisionProperties autoDecisionProperties() {
+            return new AutoDecisionProperties(new BigDecimal("0.40"), 1, 60, List.of(
+                    new AutoDecisionProperties.Policy("550e8400-e29b-41d4-a716-446655441003", null,
+                            new BigDecimal("1000000"), null, 36, new BigDecimal("0.35"))));
+        }
+
+        @Bean
+        public IdempotencyRepository idempotencyRepository() {
+            return mock(IdempotencyRepository.class);
+        }
+
+        @Bean
+        public IdempotencyProperties idempotencyProperties() {
+            return new IdempotencyProperties(Duration.ofHours(24), 100, Duration.ofSeconds(10),
+                    Duration.ofMillis(100), Duration.ofMinutes(15), Duration.ofSeconds(30));
+        }
+
+        @Bean
+        public DecisionOutboxRepository decisionOutboxRepository() {
+            return mock(DecisionOutboxRepository.class);
+        }
+
+        @Bean
+        public DecisionRelayProperties decisionRelayProperties() {
+            return new DecisionRelayProperties(false, Duration.ofSeconds(1), 100, Duration.ofSeconds(30),
+                    Duration.ofSeconds(1), Duration.ofMinutes(5), 10, Duration.ofDays(7), Duration.ofHours(1), 1000);
+        }
+
+        @Bean
+        public DuplicateDetectionProperties duplicateDetectionProperties() {
+            return new DuplicateDetectionProperties(true, DuplicateAction.REJECT, Duration.ofSeconds(30), 6, true);
+        }
+
+        @Bean
+        public VelocityLimitProperties velocityLimitProperties() {
+            return new VelocityLimitProperties(true, 5, 20, 12, 16, 4096, Duration.ofMinutes(10));
+        }
+
+        @Bean
+        public DecisionRequestRepository decisionRequestRepository() {
+            return mock(DecisionRequestRepository.class);
+        }
+
+        @Bean
+        public DecisionQueueProperties decisionQueueProperties() {
+            return new DecisionQueueProperties(true, Duration.ofMillis(250), 50, 8, Duration.ofSeconds(30), 5,
+                    Duration.ofSeconds(1), Duration.ofMinutes(1), Duration.ofDays(7), Duration.ofHours(1));
+        }
+
+        @Bean
+        public OrderClaimProperties orderClaimProperties() {
+            return new OrderClaimProperties(Duration.ofMinutes(15), 10, 50);
+        }
+
+        @Bean
+        public PendingExpiryProperties pendingExpiryProperties() {
+            return new PendingExpiryProperties(true, Duration.ofHours(1), 500, Duration.ofDays(30), List.of(
+                    new PendingExpiryProperties.LoanTypeMaxAge("550e8400-e29b-41d4-a716-446655441003",
+                            Duration.ofDays(15))));
+        }
+
+        @Bean
+        public UserChangeFeedGateway userChangeFeedGateway() {
+            return mock(UserChangeFeedGateway.class);
+        }
+
+        @Bean
+        public UserProfileRepository userProfileRepository() {
+            return mock(UserProfileRepository.class);
+        }
+
         @Bean
         public MyUseCase myUseCase() {
             return new MyUseCase();
@@ -0,0 +1,53 @@
+package co.com.bancolombia.model.amortization;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of installments and schedules; run with {@code ./gradlew :model:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AmortizationEngineBenchmark {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("5000000");
+    private static final BigDecimal RATE = new BigDecimal("0.0189");
+
+    private AmortizationEngine cached;
+    private AmortizationEngine uncached;
+
+    @Setup
+    public void setUp() {
+        cached = new AmortizationEngine(1024);
+        uncached = new AmortizationEngine(0);
+    }
+
+    @Benchmark
+    public double monthlyPayment() {
+        return AmortizationEngine.monthlyPayment(5_000_000, 0.0189, 24);
+    }
+
+    @Benchmark
+    public BigDecimal monthlyAmount() {
+        return cached.monthlyAmount(AMOUNT, RATE, 24);
+    }
+
+    @Benchmark
+    public AmortizationSchedule scheduleCached() {
+        return cached.schedule(AMOUNT, RATE, 24);
+    }
+
+    @Benchmark
+    public AmortizationSchedule scheduleUncached() {
+        return uncached.schedule(AMOUNT, RATE, 24);
+    }
+}
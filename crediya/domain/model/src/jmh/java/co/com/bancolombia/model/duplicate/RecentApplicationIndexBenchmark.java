@@ -0,0 +1,59 @@
+package co.com.bancolombia.model.duplicate;
+
+import co.com.bancolombia.model.orders.Orders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Duplicate lookup against an index holding {@code 10_000} recent applications; run with
+ * {@code ./gradlew :model:jmh}. A repeat should be answered well under a microsecond.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RecentApplicationIndexBenchmark {
+
+    private static final int APPLICATIONS = 10_000;
+
+    private RecentApplicationIndex index;
+    private ApplicationFingerprint repeated;
+    private Orders repeatedOrder;
+
+    @Setup
+    public void setUp() {
+        index = new RecentApplicationIndex(Duration.ofMinutes(10), 6);
+        for (int i = 0; i < APPLICATIONS; i++) {
+            Orders order = Orders.builder()
+                    .id("order-" + i)
+                    .emailAddress("user" + i + "@example.com")
+                    .amount(new BigDecimal("5000000.00"))
+                    .deadline(24)
+                    .idLoanType("550e8400-e29b-41d4-a716-446655441003")
+                    .build();
+            index.putIfAbsent(ApplicationFingerprint.of(order), order);
+            if (i == APPLICATIONS / 2) {
+                repeatedOrder = order;
+                repeated = ApplicationFingerprint.of(order);
+            }
+        }
+    }
+
+    @Benchmark
+    public Orders lookupRepeat() {
+        return index.putIfAbsent(repeated, repeatedOrder);
+    }
+
+    @Benchmark
+    public ApplicationFingerprint fingerprint() {
+        return ApplicationFingerprint.of(repeatedOrder);
+    }
+}
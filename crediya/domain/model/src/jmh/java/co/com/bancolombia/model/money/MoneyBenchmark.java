@@ -0,0 +1,79 @@
+package co.com.bancolombia.model.money;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Range check and debt-to-income sum with {@link BigDecimal} against long cents; run with
+ * {@code ./gradlew :model:jmh} (the gc profiler reports allocation per operation).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MoneyBenchmark {
+
+    private static final BigDecimal RATE = new BigDecimal("0.0189");
+
+    private BigDecimal amount;
+    private BigDecimal minimum;
+    private BigDecimal maximum;
+    private BigDecimal debt;
+    private BigDecimal income;
+
+    private Money amountMoney;
+    private Money minimumMoney;
+    private Money maximumMoney;
+    private long debtCents;
+    private long incomeCents;
+
+    @Setup
+    public void setUp() {
+        amount = new BigDecimal("5000000.00");
+        minimum = new BigDecimal("100000.00");
+        maximum = new BigDecimal("50000000.00");
+        debt = new BigDecimal("450000.00");
+        income = new BigDecimal("3500000.00");
+
+        amountMoney = Money.of(amount);
+        minimumMoney = Money.of(minimum);
+        maximumMoney = Money.of(maximum);
+        debtCents = Money.toCents(debt, RoundingMode.HALF_EVEN);
+        incomeCents = Money.toCents(income, RoundingMode.HALF_EVEN);
+    }
+
+    @Benchmark
+    public boolean rangeBigDecimal() {
+        return amount.compareTo(minimum) >= 0 && amount.compareTo(maximum) <= 0;
+    }
+
+    @Benchmark
+    public boolean rangeMoney() {
+        return amountMoney.isBetween(minimumMoney, maximumMoney);
+    }
+
+    @Benchmark
+    public BigDecimal debtToIncomeBigDecimal() {
+        BigDecimal interest = amount.multiply(RATE).setScale(2, RoundingMode.HALF_UP);
+        return debt.add(interest).divide(income, 4, RoundingMode.HALF_EVEN);
+    }
+
+    @Benchmark
+    public double debtToIncomeCents() {
+        long interest = Money.roundCents(amountMoney.cents() * 0.0189, RoundingMode.HALF_UP);
+        return (double) Math.addExact(debtCents, interest) / incomeCents;
+    }
+
+    @Benchmark
+    public Money toMoney() {
+        return Money.of(amount);
+    }
+}
@@ -0,0 +1,56 @@
+package co.com.bancolombia.model.orders;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the single-pass validator against the previous per-field checks, which recompiled the email
+ * regex through {@link String#matches} on every call. Run with {@code ./gradlew :model:jmh}; the gc profiler
+ * reports the bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LoanRequestValidatorBenchmark {
+
+    private static final String LEGACY_EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$";
+    private static final BigDecimal AMOUNT = new BigDecimal("5000000.00");
+    private static final String EMAIL = "cliente.prueba@crediya.com";
+    private static final String LOAN_TYPE = "550e8400-e29b-41d4-a716-446655441003";
+
+    @Benchmark
+    public List<String> singlePassValid() {
+        return LoanRequestValidator.validate(AMOUNT, 24, EMAIL, LOAN_TYPE);
+    }
+
+    @Benchmark
+    public List<String> singlePassInvalid() {
+        return LoanRequestValidator.validate(null, 400, "correo-invalido", " ");
+    }
+
+    @Benchmark
+    public boolean legacyValid() {
+        return legacyValidate(AMOUNT, 24, EMAIL, LOAN_TYPE);
+    }
+
+    private static boolean legacyValidate(BigDecimal amount, Integer deadline, String emailAddress, String loanTypeId) {
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0 || amount.scale() > 2) {
+            return false;
+        }
+        if (deadline == null || deadline <= 0 || deadline > 360) {
+            return false;
+        }
+        if (emailAddress == null || emailAddress.trim().isEmpty() || !emailAddress.matches(LEGACY_EMAIL_REGEX)) {
+            return false;
+        }
+        return loanTypeId != null && !loanTypeId.trim().isEmpty();
+    }
+}
@@ -0,0 +1,117 @@
+package co.com.bancolombia.model.amortization;
+
+import co.com.bancolombia.model.money.Money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * French-system (fixed installment) amortization with a monthly rate expressed as a fraction, as stored in
+ * {@code loan_type.interest_rate}.
+ *
+ * <p>The installment is computed in double precision and rounded to cents once, which is exact enough for
+ * display and ratios. Schedules are built on whole cents with {@link Money} rounding, the last payment
+ * absorbing the difference, and are cached by (amount, rate, term) in a bounded LRU.</p>
+ */
+public final class AmortizationEngine {
+
+    private static final int RATE_SCALE = 8;
+    private static final RoundingMode ROUNDING = RoundingMode.HALF_UP;
+
+    private final Map<ScheduleKey, AmortizationSchedule> schedules;
+
+    public AmortizationEngine(int maxCachedSchedules) {
+        this.schedules = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ScheduleKey, AmortizationSchedule> eldest) {
+                return size() > maxCachedSchedules;
+            }
+        };
+    }
+
+    /**
+     * Fixed monthly payment for {@code principal} over {@code termMonths}; the hot path, free of BigDecimal.
+     */
+    public static double monthlyPayment(double principal, double monthlyRate, int termMonths) {
+        if (termMonths <= 0) {
+            throw new IllegalArgumentException("El plazo debe ser mayor que 0");
+        }
+        if (monthlyRate == 0) {
+            return principal / termMonths;
+        }
+        return principal * monthlyRate / (1 - Math.pow(1 + monthlyRate, -termMonths));
+    }
+
+    /**
+     * Fixed monthly payment of {@code principal}, rounded half up to whole cents.
+     */
+    public static Money installment(Money principal, double monthlyRate, int termMonths) {
+        return Money.ofCents(monthlyPayment(principal.cents(), monthlyRate, termMonths), ROUNDING);
+    }
+
+    /**
+     * Monthly payment rounded to cents, or null when any input is missing.
+     */
+    public BigDecimal monthlyAmount(BigDecimal amount, BigDecimal monthlyRate, Integer termMonths) {
+        if (amount == null || monthlyRate == null || termMonths == null || termMonths <= 0) {
+            return null;
+        }
+        return installment(Money.of(amount, RoundingMode.HALF_EVEN), monthlyRate.doubleValue(), termMonths)
+                .toBigDecimal();
+    }
+
+    public AmortizationSchedule schedule(BigDecimal amount, BigDecimal monthlyRate, int termMonths) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new IllegalArgumentException("El monto debe ser mayor que 0");
+        }
+        if (monthlyRate == null || monthlyRate.signum() < 0) {
+            throw new IllegalArgumentException("La tasa de interés no puede ser negativa");
+        }
+        if (termMonths <= 0) {
+            throw new IllegalArgumentException("El plazo debe ser mayor que 0");
+        }
+        ScheduleKey key = new ScheduleKey(Money.toCents(amount, RoundingMode.HALF_EVEN),
+                monthlyRate.movePointRight(RATE_SCALE).longValue(), termMonths);
+        synchronized (schedules) {
+            AmortizationSchedule cached = schedules.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        AmortizationSchedule schedule = build(key.amountCents(), monthlyRate.doubleValue(), termMonths);
+        synchronized (schedules) {
+            schedules.put(key, schedule);
+        }
+        return schedule;
+    }
+
+    private static AmortizationSchedule build(long amountCents, double monthlyRate, int termMonths) {
+        long installment = Money.roundCents(monthlyPayment(amountCents, monthlyRate, termMonths), ROUNDING);
+        List<ScheduledPayment> payments = new ArrayList<>(termMonths);
+        long balance = amountCents;
+        long totalInterest = 0;
+
+        for (int number = 1; number <= termMonths; number++) {
+            long interest = Money.roundCents(balance * monthlyRate, ROUNDING);
+            long principal = number == termMonths ? balance : Math.min(installment - interest, balance);
+            balance -= principal;
+            totalInterest = Math.addExact(totalInterest, interest);
+            payments.add(new ScheduledPayment(number, cents(interest + principal), cents(interest),
+                    cents(principal), cents(balance)));
+        }
+        return new AmortizationSchedule(cents(installment), cents(totalInterest),
+                cents(Math.addExact(amountCents, totalInterest)), Collections.unmodifiableList(payments));
+    }
+
+    private static BigDecimal cents(long value) {
+        return BigDecimal.valueOf(value, Money.SCALE);
+    }
+
+    private record ScheduleKey(long amountCents, long rateScaled, int termMonths) {
+    }
+}
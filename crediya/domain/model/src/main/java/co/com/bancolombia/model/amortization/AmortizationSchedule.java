@@ -0,0 +1,19 @@
+package co.com.bancolombia.model.amortization;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Full French-system schedule of a loan. Immutable, so it can be shared from the engine's cache.
+ */
+@Getter
+@AllArgsConstructor
+public class AmortizationSchedule {
+    private final BigDecimal installment;
+    private final BigDecimal totalInterest;
+    private final BigDecimal totalPaid;
+    private final List<ScheduledPayment> payments;
+}
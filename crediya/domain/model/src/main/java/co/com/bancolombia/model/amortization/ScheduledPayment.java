@@ -0,0 +1,19 @@
+package co.com.bancolombia.model.amortization;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * One row of an amortization schedule; {@code balance} is what remains owed after this payment.
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduledPayment {
+    private final int number;
+    private final BigDecimal payment;
+    private final BigDecimal interest;
+    private final BigDecimal principal;
+    private final BigDecimal balance;
+}
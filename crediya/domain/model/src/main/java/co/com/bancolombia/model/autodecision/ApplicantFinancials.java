@@ -0,0 +1,18 @@
+package co.com.bancolombia.model.autodecision;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Monthly income of the applicant and the installments of the loans already approved to them.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ApplicantFinancials {
+    private final BigDecimal baseSalary;
+    private final BigDecimal monthlyDebt;
+}
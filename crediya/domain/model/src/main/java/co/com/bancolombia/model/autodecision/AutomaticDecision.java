@@ -0,0 +1,31 @@
+package co.com.bancolombia.model.autodecision;
+
+import co.com.bancolombia.model.enums.StatusEnum;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of the eligibility rules for one order.
+ * {@link StatusEnum#PENDING} means the rules could not decide and the order goes to an assessor.
+ */
+@Getter
+@AllArgsConstructor
+public class AutomaticDecision {
+
+    public static final AutomaticDecision APPROVED = new AutomaticDecision(StatusEnum.APPROVED, null);
+
+    private final StatusEnum status;
+    private final String reason;
+
+    public static AutomaticDecision rejected(String reason) {
+        return new AutomaticDecision(StatusEnum.REJECTED, reason);
+    }
+
+    public static AutomaticDecision manualReview(String reason) {
+        return new AutomaticDecision(StatusEnum.PENDING, reason);
+    }
+
+    public boolean isFinal() {
+        return status != StatusEnum.PENDING;
+    }
+}
@@ -0,0 +1,23 @@
+package co.com.bancolombia.model.autodecision;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Eligibility thresholds applied to orders of a loan type with automatic validation.
+ * A null bound is not checked; {@code loanTypeId} is null for the policy used by unlisted loan types.
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+public class EligibilityPolicy {
+    private final String loanTypeId;
+    private final BigDecimal minAmount;
+    private final BigDecimal maxAmount;
+    private final Integer minTermMonths;
+    private final Integer maxTermMonths;
+    private final BigDecimal maxDebtToIncome;
+}
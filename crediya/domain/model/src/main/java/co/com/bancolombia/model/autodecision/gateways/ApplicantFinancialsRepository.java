@@ -0,0 +1,13 @@
+package co.com.bancolombia.model.autodecision.gateways;
+
+import co.com.bancolombia.model.autodecision.ApplicantFinancials;
+import reactor.core.publisher.Mono;
+
+public interface ApplicantFinancialsRepository {
+
+    /**
+     * Income from the local user profile and the monthly installments of the applicant's orders in
+     * approvedStatusId. Emits empty when there is no profile for the e-mail.
+     */
+    Mono<ApplicantFinancials> findByEmailAddress(String emailAddress, String approvedStatusId);
+}
@@ -0,0 +1,41 @@
+package co.com.bancolombia.model.decisionqueue;
+
+import co.com.bancolombia.model.identifier.UuidV7;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Assessor decision queued to be applied in the background. {@code result} takes the values of
+ * {@link co.com.bancolombia.model.orders.DecisionResult}; {@code attempts} counts the current claim as well.
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+public class DecisionRequest {
+    private final String id;
+    private final String orderId;
+    private final String decision;
+    private final DecisionRequestStatus status;
+    private final String result;
+    private final String error;
+    private final int attempts;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime completedAt;
+
+    public static DecisionRequest queue(String orderId, String decision) {
+        return DecisionRequest.builder()
+                .id(UuidV7.next().toString())
+                .orderId(orderId)
+                .decision(decision)
+                .status(DecisionRequestStatus.QUEUED)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    public boolean isFinished() {
+        return status == DecisionRequestStatus.COMPLETED || status == DecisionRequestStatus.FAILED;
+    }
+}
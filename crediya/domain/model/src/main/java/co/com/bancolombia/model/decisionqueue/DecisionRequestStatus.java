@@ -0,0 +1,15 @@
+package co.com.bancolombia.model.decisionqueue;
+
+/**
+ * Lifecycle of a decision submitted for background processing.
+ */
+public enum DecisionRequestStatus {
+    /** Waiting for a worker, either new or scheduled for a retry. */
+    QUEUED,
+    /** Claimed by a worker; back to the queue if the lease expires first. */
+    PROCESSING,
+    /** Processed; {@code result} tells whether the decision was applied. */
+    COMPLETED,
+    /** Gave up after repeated errors; {@code error} holds the last one. */
+    FAILED
+}
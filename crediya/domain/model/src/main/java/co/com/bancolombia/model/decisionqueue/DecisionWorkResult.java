@@ -0,0 +1,19 @@
+package co.com.bancolombia.model.decisionqueue;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Outcome of one worker round over the decision queue.
+ * {@code failed} counts requests scheduled for a retry or given up; {@code drained} is true when the round
+ * claimed fewer requests than the batch size.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class DecisionWorkResult {
+    private final int completed;
+    private final int failed;
+    private final boolean drained;
+}
@@ -0,0 +1,44 @@
+package co.com.bancolombia.model.decisionqueue.gateways;
+
+import co.com.bancolombia.model.decisionqueue.DecisionRequest;
+import co.com.bancolombia.model.decisionqueue.DecisionRequestStatus;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+public interface DecisionRequestRepository {
+
+    Mono<DecisionRequest> enqueue(DecisionRequest request);
+
+    Mono<DecisionRequest> findById(String id);
+
+    /**
+     * Claims up to batchSize due requests, oldest first, skipping rows locked by other workers. Claimed
+     * requests stay hidden from other workers for the lease, so a crashed worker's requests are retried once
+     * it expires.
+     */
+    Flux<DecisionRequest> claimBatch(int batchSize, Duration lease);
+
+    /**
+     * Finishes the request claimed with {@code attempts}; emits false when the lease was lost, that is when the
+     * request was claimed again by another worker meanwhile, and the row was left untouched.
+     */
+    Mono<Boolean> complete(String id, int attempts, DecisionRequestStatus status, String result, String error);
+
+    /**
+     * Queues the request claimed with {@code attempts} again after {@code delay}; emits false when the lease
+     * was lost and the row was left untouched.
+     */
+    Mono<Boolean> scheduleRetry(String id, int attempts, Duration delay, String error);
+
+    /**
+     * Age of the oldest request not yet finished, measured by the database clock; zero when the queue is empty.
+     */
+    Mono<Duration> findOldestQueuedAge();
+
+    /**
+     * Deletes requests finished more than {@code retention} ago; emits how many were deleted.
+     */
+    Mono<Long> deleteFinishedBefore(Duration retention);
+}
@@ -0,0 +1,20 @@
+package co.com.bancolombia.model.duplicate;
+
+import co.com.bancolombia.model.money.Money;
+import co.com.bancolombia.model.orders.Orders;
+
+import java.math.RoundingMode;
+
+/**
+ * Fields that make two loan applications the same one submitted twice. The amount is kept in cents so
+ * {@code 100} and {@code 100.00} match.
+ */
+public record ApplicationFingerprint(String emailAddress, long amountCents, int deadline, String loanTypeId) {
+
+    public static ApplicationFingerprint of(Orders order) {
+        return new ApplicationFingerprint(order.getEmailAddress(),
+                Money.toCents(order.getAmount(), RoundingMode.HALF_EVEN),
+                order.getDeadline(),
+                order.getIdLoanType());
+    }
+}
@@ -0,0 +1,11 @@
+package co.com.bancolombia.model.duplicate;
+
+/**
+ * What to do with an application that repeats one received within the detection window.
+ */
+public enum DuplicateAction {
+    /** Fail the request with DUPLICATE_APPLICATION. */
+    REJECT,
+    /** Answer with the order created by the first submission. */
+    MERGE
+}
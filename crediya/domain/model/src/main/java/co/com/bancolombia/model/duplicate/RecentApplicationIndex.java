@@ -0,0 +1,128 @@
+package co.com.bancolombia.model.duplicate;
+
+import co.com.bancolombia.model.orders.Orders;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * In-memory index of the applications received in the last {@code window}, keyed by fingerprint.
+ *
+ * <p>Entries are spread over a ring of time buckets, each a hash map covering {@code window / buckets}. A
+ * bucket is replaced as a whole once its slot comes round again, so expiry needs neither a sweeper thread nor
+ * per-entry timers. A lookup probes only the few buckets that overlap the window and allocates nothing.
+ * Within a bucket, registration is atomic, so of two concurrent submissions exactly one registers.</p>
+ */
+public final class RecentApplicationIndex {
+
+    private final long windowMillis;
+    private final long bucketMillis;
+    private final int slots;
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final Clock clock;
+
+    public RecentApplicationIndex(Duration window, int bucketCount) {
+        this(window, bucketCount, Clock.systemUTC());
+    }
+
+    RecentApplicationIndex(Duration window, int bucketCount, Clock clock) {
+        if (window == null || window.toMillis() <= 0) {
+            throw new IllegalArgumentException("La ventana de detección de duplicados debe ser mayor que 0");
+        }
+        if (bucketCount < 1) {
+            throw new IllegalArgumentException("La detección de duplicados requiere al menos un bucket");
+        }
+        this.windowMillis = window.toMillis();
+        this.bucketMillis = Math.max(1, windowMillis / bucketCount);
+        // Enough slots that no two buckets overlapping the window share one
+        this.slots = (int) (windowMillis / bucketMillis) + 2;
+        this.buckets = new AtomicReferenceArray<>(slots);
+        this.clock = clock;
+    }
+
+    /**
+     * Registers {@code order} under its fingerprint unless an application with the same fingerprint was
+     * registered within the window; returns that earlier order, or {@code null} when this one was registered.
+     */
+    public Orders putIfAbsent(ApplicationFingerprint fingerprint, Orders order) {
+        long now = clock.millis();
+        long current = now / bucketMillis;
+        long oldest = Math.max(0, now - windowMillis) / bucketMillis;
+        for (long epoch = current - 1; epoch >= oldest; epoch--) {
+            Orders existing = find(epoch, fingerprint, now);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        Entry previous = bucketFor(current).entries.putIfAbsent(fingerprint, new Entry(order, now));
+        return previous != null && now - previous.registeredAt() <= windowMillis ? previous.order() : null;
+    }
+
+    /**
+     * Points the registration of {@code registered} at {@code existing}, found by another node, so later
+     * duplicates are answered from memory.
+     */
+    public void replace(ApplicationFingerprint fingerprint, Orders registered, Orders existing) {
+        for (int slot = 0; slot < slots; slot++) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null) {
+                bucket.entries.computeIfPresent(fingerprint, (key, entry) ->
+                        entry.order() == registered ? new Entry(existing, entry.registeredAt()) : entry);
+            }
+        }
+    }
+
+    /**
+     * Drops the registration of {@code order}, e.g. when storing it failed and a retry must not be flagged.
+     */
+    public void remove(ApplicationFingerprint fingerprint, Orders order) {
+        for (int slot = 0; slot < slots; slot++) {
+            Bucket bucket = buckets.get(slot);
+            if (bucket != null) {
+                bucket.entries.computeIfPresent(fingerprint, (key, entry) -> entry.order() == order ? null : entry);
+            }
+        }
+    }
+
+    private Orders find(long epoch, ApplicationFingerprint fingerprint, long now) {
+        Bucket bucket = buckets.get(slot(epoch));
+        if (bucket == null || bucket.epoch != epoch) {
+            return null;
+        }
+        Entry entry = bucket.entries.get(fingerprint);
+        return entry != null && now - entry.registeredAt() <= windowMillis ? entry.order() : null;
+    }
+
+    private Bucket bucketFor(long epoch) {
+        int slot = slot(epoch);
+        while (true) {
+            Bucket bucket = buckets.get(slot);
+            // A newer bucket means this thread lagged behind a rotation; the entry timestamp still bounds it
+            if (bucket != null && bucket.epoch >= epoch) {
+                return bucket;
+            }
+            Bucket fresh = new Bucket(epoch);
+            if (buckets.compareAndSet(slot, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private int slot(long epoch) {
+        return (int) (epoch % slots);
+    }
+
+    private record Entry(Orders order, long registeredAt) {
+    }
+
+    private static final class Bucket {
+        private final long epoch;
+        private final ConcurrentHashMap<ApplicationFingerprint, Entry> entries = new ConcurrentHashMap<>();
+
+        Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package co.com.bancolombia.model.expiry;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of one chunk of the pending order expiry. {@code scanned} counts the orders the chunk locked;
+ * the last of them is the keyset the next chunk starts after.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PendingExpiryChunk {
+    private final String scope;
+    private final int scanned;
+    private final int cancelled;
+    private final LocalDateTime lastCreationDate;
+    private final String lastId;
+}
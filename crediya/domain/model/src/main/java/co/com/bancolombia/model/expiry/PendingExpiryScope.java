@@ -0,0 +1,22 @@
+package co.com.bancolombia.model.expiry;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Pending orders that expire together: those of {@code loanTypeIds} (any loan type when empty) outside
+ * {@code excludedLoanTypeIds}, created before {@code createdBefore}.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PendingExpiryScope {
+    private final String name;
+    private final List<String> loanTypeIds;
+    private final List<String> excludedLoanTypeIds;
+    private final LocalDateTime createdBefore;
+}
@@ -0,0 +1,17 @@
+package co.com.bancolombia.model.idempotency;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class IdempotencyRecord {
+    private String keyHash;
+    private String requestHash;
+    private String orderId;
+
+    public boolean isCompleted() {
+        return orderId != null;
+    }
+}
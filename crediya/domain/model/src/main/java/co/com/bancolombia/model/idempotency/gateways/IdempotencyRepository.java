@@ -0,0 +1,31 @@
+package co.com.bancolombia.model.idempotency.gateways;
+
+import co.com.bancolombia.model.idempotency.IdempotencyRecord;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+public interface IdempotencyRepository {
+
+    /**
+     * Claims the key for the caller until {@code lease} elapses and emits the owner token that fences its later
+     * writes. Completes empty when a live record already holds it; expired records are taken over.
+     */
+    Mono<String> reserve(String keyHash, String requestHash, Duration lease);
+
+    Mono<IdempotencyRecord> findActive(String keyHash);
+
+    /**
+     * Records the created order and keeps the key for {@code ttl} from now. Emits false when the reservation of
+     * {@code owner} was lost, that is when its lease expired and another request took the key over, and the row
+     * was left untouched.
+     */
+    Mono<Boolean> complete(String keyHash, String owner, String orderId, Duration ttl);
+
+    /**
+     * Drops the reservation of {@code owner} as long as no order was recorded for it.
+     */
+    Mono<Void> release(String keyHash, String owner);
+
+    Mono<Long> deleteExpired();
+}
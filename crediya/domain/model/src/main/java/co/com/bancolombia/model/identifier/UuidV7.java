@@ -0,0 +1,67 @@
+package co.com.bancolombia.model.identifier;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-ordered UUID version 7 (RFC 9562) generator, so new primary keys land at the right edge of the index
+ * instead of all over it.
+ *
+ * <p>The 48-bit Unix millisecond timestamp and the 12-bit {@code rand_a} counter are kept together in one
+ * {@link AtomicLong} and advanced with a CAS: a new millisecond starts the counter at a random value in its
+ * lower half, and ids within the same millisecond (or after the clock moves backwards) increment the previous
+ * one, borrowing the next millisecond on overflow. Ids are therefore strictly increasing per process, both as
+ * {@link UUID} and as their canonical string; only a sustained rate above ~2 million ids per second makes the
+ * embedded timestamp run ahead of the clock. The 62 random bits come from {@link ThreadLocalRandom}: these ids
+ * are unique, not secret.</p>
+ */
+public final class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final int COUNTER_START_BOUND = 1 << (COUNTER_BITS - 1);
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private static final UuidV7 SYSTEM = new UuidV7(System::currentTimeMillis);
+
+    private final LongSupplier clock;
+    private final AtomicLong state = new AtomicLong();
+
+    UuidV7(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Next id from the process-wide generator.
+     */
+    public static UUID next() {
+        return SYSTEM.generate();
+    }
+
+    /**
+     * Unix millisecond timestamp embedded in a version 7 id.
+     */
+    public static long timestampOf(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    UUID generate() {
+        long now = clock.getAsLong() << COUNTER_BITS;
+        long previous;
+        long next;
+        do {
+            previous = state.get();
+            next = now > previous
+                    ? now | ThreadLocalRandom.current().nextInt(COUNTER_START_BOUND)
+                    : previous + 1;
+        } while (!state.compareAndSet(previous, next));
+
+        long mostSignificant = ((next >>> COUNTER_BITS) << 16) | VERSION | (next & COUNTER_MASK);
+        long leastSignificant = (ThreadLocalRandom.current().nextLong() & RANDOM_MASK) | VARIANT;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
@@ -0,0 +1,152 @@
+package co.com.bancolombia.model.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Amount of money held as a long number of cents.
+ *
+ * <p>Arithmetic is exact and throws {@link ArithmeticException} on overflow instead of wrapping. Operations
+ * that can produce fractions of a cent take an explicit {@link RoundingMode}. {@link BigDecimal} is only used
+ * to convert at the edges (persistence and JSON). The static {@code long} helpers serve loops that must not
+ * allocate.</p>
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0);
+
+    // Largest double below 2^63, so rounded values always fit in a long
+    private static final double MAX_CENTS = 9.223372036854775E18;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Exact conversion; fails when the amount has fractions of a cent.
+     */
+    public static Money of(BigDecimal amount) {
+        return ofCents(toCents(amount, RoundingMode.UNNECESSARY));
+    }
+
+    public static Money of(BigDecimal amount, RoundingMode rounding) {
+        return ofCents(toCents(amount, rounding));
+    }
+
+    /**
+     * Rounds a fractional number of cents, typically the result of a rate calculation in double precision.
+     */
+    public static Money ofCents(double cents, RoundingMode rounding) {
+        return ofCents(roundCents(cents, rounding));
+    }
+
+    public static long toCents(BigDecimal amount, RoundingMode rounding) {
+        if (amount == null) {
+            throw new IllegalArgumentException("El monto es obligatorio");
+        }
+        BigDecimal scaled = amount.setScale(SCALE, rounding);
+        if (scaled.precision() > 18) {
+            throw new ArithmeticException("El monto " + amount.toPlainString() + " excede el rango soportado");
+        }
+        return scaled.unscaledValue().longValue();
+    }
+
+    public static long roundCents(double cents, RoundingMode rounding) {
+        if (Double.isNaN(cents) || Math.abs(cents) > MAX_CENTS) {
+            throw new ArithmeticException("El monto en centavos " + cents + " excede el rango soportado");
+        }
+        double magnitude = Math.abs(cents);
+        double rounded = switch (rounding) {
+            case UP -> Math.ceil(magnitude);
+            case DOWN -> Math.floor(magnitude);
+            case CEILING -> cents >= 0 ? Math.ceil(magnitude) : Math.floor(magnitude);
+            case FLOOR -> cents >= 0 ? Math.floor(magnitude) : Math.ceil(magnitude);
+            case HALF_UP -> Math.floor(magnitude + 0.5);
+            case HALF_DOWN -> Math.ceil(magnitude - 0.5);
+            case HALF_EVEN -> Math.rint(magnitude);
+            case UNNECESSARY -> {
+                if (magnitude != Math.rint(magnitude)) {
+                    throw new ArithmeticException("El monto " + cents + " tiene fracciones de centavo");
+                }
+                yield magnitude;
+            }
+        };
+        return (long) Math.copySign(rounded, cents);
+    }
+
+    public long cents() {
+        return cents;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public Money times(long factor) {
+        return ofCents(Math.multiplyExact(cents, factor));
+    }
+
+    /**
+     * Multiplies by a rate or ratio, rounding the result to whole cents.
+     */
+    public Money times(double factor, RoundingMode rounding) {
+        return ofCents((double) cents * factor, rounding);
+    }
+
+    /**
+     * This amount divided by {@code other}, as used for debt-to-income ratios.
+     */
+    public double ratioTo(Money other) {
+        if (other.cents == 0) {
+            throw new ArithmeticException("No se puede dividir entre un monto en cero");
+        }
+        return (double) cents / other.cents;
+    }
+
+    public int signum() {
+        return Long.signum(cents);
+    }
+
+    public boolean isPositive() {
+        return cents > 0;
+    }
+
+    public boolean isBetween(Money min, Money max) {
+        return cents >= min.cents && cents <= max.cents;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof Money money && cents == money.cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,21 @@
+package co.com.bancolombia.model.notification;
+
+import co.com.bancolombia.model.orders.Orders;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Decision waiting in the outbox to be notified. {@code attempts} counts this claim as well.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class DecisionOutboxEntry {
+    private final long seq;
+    private final Orders order;
+    private final int attempts;
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,20 @@
+package co.com.bancolombia.model.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Outcome of one relay round over the decision outbox.
+ * {@code abandoned} counts entries that failed their last allowed attempt and will not be retried.
+ * {@code drained} is true when the round claimed fewer entries than the batch size.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class RelayResult {
+    private final int published;
+    private final int failed;
+    private final int abandoned;
+    private final boolean drained;
+}
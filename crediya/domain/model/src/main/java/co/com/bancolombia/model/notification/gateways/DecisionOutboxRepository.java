@@ -0,0 +1,36 @@
+package co.com.bancolombia.model.notification.gateways;
+
+import co.com.bancolombia.model.notification.DecisionOutboxEntry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface DecisionOutboxRepository {
+
+    /**
+     * Claims up to batchSize due entries, skipping rows locked by other relays. Claimed entries stay
+     * hidden from other relays for the lease, so a crashed relay's entries are retried once it expires.
+     */
+    Flux<DecisionOutboxEntry> claimBatch(int batchSize, Duration lease);
+
+    Mono<Void> markSent(List<Long> seqs);
+
+    Mono<Void> scheduleRetry(List<Long> seqs, Duration delay);
+
+    /**
+     * Marks entries as failed for good; they are no longer claimed and stay in the table for inspection.
+     */
+    Mono<Void> markFailed(List<Long> seqs);
+
+    /**
+     * Deletes up to limit entries sent longer than retention ago and emits how many were deleted.
+     */
+    Mono<Long> deleteSentBefore(Duration retention, int limit);
+
+    /**
+     * Age of the oldest entry still to be sent, measured by the database clock; zero when the outbox is drained.
+     */
+    Mono<Duration> findOldestPendingAge();
+}
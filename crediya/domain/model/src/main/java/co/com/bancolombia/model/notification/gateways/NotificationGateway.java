@@ -3,7 +3,11 @@ package co.com.bancolombia.model.notification.gateways;
 import co.com.bancolombia.model.orders.Orders;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface NotificationGateway {
     
     Mono<Void> notifyOrderDecision(Orders order);
+
+    Mono<Void> notifyOrderDecisions(List<Orders> orders);
 }
\ No newline at end of file
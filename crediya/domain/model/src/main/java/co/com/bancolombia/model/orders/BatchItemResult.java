@@ -0,0 +1,33 @@
+package co.com.bancolombia.model.orders;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Outcome of one item of a batch submission. {@code index} is the item position in the submitted batch.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class BatchItemResult {
+    public static final String CREATED = "CREATED";
+    public static final String REJECTED = "REJECTED";
+
+    private final long index;
+    private final String orderId;
+    private final String result;
+    private final String error;
+
+    public static BatchItemResult created(long index, String orderId) {
+        return new BatchItemResult(index, orderId, CREATED, null);
+    }
+
+    public static BatchItemResult rejected(long index, String error) {
+        return new BatchItemResult(index, null, REJECTED, error);
+    }
+
+    public boolean isCreated() {
+        return CREATED.equals(result);
+    }
+}
@@ -0,0 +1,45 @@
+package co.com.bancolombia.model.orders;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Outcome of one decision of a bulk decision request.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class DecisionResult {
+    public static final String APPLIED = "APPLIED";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String ALREADY_PROCESSED = "ALREADY_PROCESSED";
+    public static final String INVALID = "INVALID";
+
+    private final String orderId;
+    private final String decision;
+    private final String result;
+    private final String error;
+
+    public static DecisionResult applied(OrderDecision decision) {
+        return new DecisionResult(decision.getOrderId(), decision.getDecision(), APPLIED, null);
+    }
+
+    public static DecisionResult notFound(OrderDecision decision) {
+        return new DecisionResult(decision.getOrderId(), decision.getDecision(), NOT_FOUND,
+                "No se encontró la solicitud con ID: " + decision.getOrderId());
+    }
+
+    public static DecisionResult alreadyProcessed(OrderDecision decision) {
+        return new DecisionResult(decision.getOrderId(), decision.getDecision(), ALREADY_PROCESSED,
+                "La orden ya fue procesada y no puede modificarse");
+    }
+
+    public static DecisionResult invalid(OrderDecision decision, String error) {
+        return new DecisionResult(decision.getOrderId(), decision.getDecision(), INVALID, error);
+    }
+
+    public boolean isApplied() {
+        return APPLIED.equals(result);
+    }
+}
@@ -0,0 +1,22 @@
+package co.com.bancolombia.model.orders;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * One loan request of a batch submission, before validation.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class LoanRequestItem {
+    private BigDecimal amount;
+    private Integer deadline;
+    private String emailAddress;
+    private String loanTypeId;
+}
@@ -0,0 +1,66 @@
+package co.com.bancolombia.model.orders;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Validation of a loan request, shared by the web handler and {@link Orders#validateForCreation()}.
+ *
+ * <p>Checks every field in one pass and returns all the errors at once. The email pattern is compiled once,
+ * and a valid request allocates nothing beyond the regex matcher.</p>
+ */
+public final class LoanRequestValidator {
+
+    public static final int MAX_DEADLINE_MONTHS = 360;
+    public static final int MAX_AMOUNT_DECIMALS = 2;
+    public static final int MAX_AMOUNT_INTEGER_DIGITS = 13;
+
+    private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$");
+
+    private LoanRequestValidator() {
+    }
+
+    /**
+     * Returns the error messages in field order, or an empty list when the request is valid.
+     */
+    public static List<String> validate(BigDecimal amount, Integer deadline, String emailAddress, String loanTypeId) {
+        List<String> errors = null;
+
+        if (amount == null || amount.signum() <= 0) {
+            errors = add(errors, "El monto debe ser mayor que 0");
+        } else {
+            if (amount.scale() > MAX_AMOUNT_DECIMALS) {
+                errors = add(errors, "El monto no puede tener más de " + MAX_AMOUNT_DECIMALS + " decimales");
+            }
+            if (amount.precision() - amount.scale() > MAX_AMOUNT_INTEGER_DIGITS) {
+                errors = add(errors, "El monto no puede tener más de " + MAX_AMOUNT_INTEGER_DIGITS + " dígitos enteros");
+            }
+        }
+
+        if (deadline == null || deadline <= 0) {
+            errors = add(errors, "El plazo debe ser mayor que 0");
+        } else if (deadline > MAX_DEADLINE_MONTHS) {
+            errors = add(errors, "El plazo no puede ser mayor a " + MAX_DEADLINE_MONTHS + " meses");
+        }
+
+        if (emailAddress == null || emailAddress.isBlank()) {
+            errors = add(errors, "El correo electrónico es obligatorio");
+        } else if (!EMAIL.matcher(emailAddress).matches()) {
+            errors = add(errors, "El formato del correo electrónico no es válido");
+        }
+
+        if (loanTypeId == null || loanTypeId.isBlank()) {
+            errors = add(errors, "El tipo de préstamo es obligatorio");
+        }
+
+        return errors == null ? List.of() : errors;
+    }
+
+    private static List<String> add(List<String> errors, String error) {
+        List<String> target = errors == null ? new ArrayList<>(4) : errors;
+        target.add(error);
+        return target;
+    }
+}
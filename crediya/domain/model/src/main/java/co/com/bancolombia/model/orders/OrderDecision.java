@@ -0,0 +1,12 @@
+package co.com.bancolombia.model.orders;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class OrderDecision {
+    private String orderId;
+    private String decision;
+}
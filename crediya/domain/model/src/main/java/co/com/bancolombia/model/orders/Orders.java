@@ -1,9 +1,10 @@
 package co.com.bancolombia.model.orders;
+import co.com.bancolombia.model.identifier.UuidV7;
 import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -18,12 +19,14 @@ public class Orders {
     private String idLoanType;
     private LocalDateTime creationDate;
     private LocalDateTime updateDate;
+    private String claimedBy;
+    private LocalDateTime claimExpiresAt;
 
     public static Orders createNew(BigDecimal amount, Integer deadline, 
                                  String emailAddress, String idLoanType, String pendingStatusId) {
         LocalDateTime now = LocalDateTime.now();
         return Orders.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UuidV7.next().toString())
                 .amount(amount)
                 .deadline(deadline)
                 .emailAddress(emailAddress)
@@ -34,44 +37,13 @@ public class Orders {
                 .build();
     }
 
+    /**
+     * Validates every field in one pass; the message lists all the errors found.
+     */
     public void validateForCreation() {
-        validateAmount();
-        validateDeadline();
-        validateEmailAddress();
-        validateLoanType();
-    }
-
-    private void validateAmount() {
-        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException("El monto debe ser mayor que 0");
-        }
-        if (amount.scale() > 2) {
-            throw new IllegalArgumentException("El monto no puede tener más de 2 decimales");
-        }
-    }
-
-    private void validateDeadline() {
-        if (deadline == null || deadline <= 0) {
-            throw new IllegalArgumentException("El plazo debe ser mayor que 0");
-        }
-        if (deadline > 360) {
-            throw new IllegalArgumentException("El plazo no puede ser mayor a 360 meses");
-        }
-    }
-
-    private void validateEmailAddress() {
-        if (emailAddress == null || emailAddress.trim().isEmpty()) {
-            throw new IllegalArgumentException("El correo electrónico es obligatorio");
-        }
-        String emailRegex = "^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$";
-        if (!emailAddress.matches(emailRegex)) {
-            throw new IllegalArgumentException("El formato del correo electrónico no es válido");
-        }
-    }
-
-    private void validateLoanType() {
-        if (idLoanType == null || idLoanType.trim().isEmpty()) {
-            throw new IllegalArgumentException("El tipo de préstamo es obligatorio");
+        List<String> errors = LoanRequestValidator.validate(amount, deadline, emailAddress, idLoanType);
+        if (!errors.isEmpty()) {
+            throw new IllegalArgumentException(String.join("; ", errors));
         }
     }
 }
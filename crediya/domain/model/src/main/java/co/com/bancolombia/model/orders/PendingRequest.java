@@ -21,4 +21,11 @@ public class PendingRequest {
     private String status;
     private BigDecimal baseSalary;
     private BigDecimal monthlyAmount;
+
+    /**
+     * True when the applicant data was already resolved from the local user profile projection.
+     */
+    public boolean hasApplicantProfile() {
+        return baseSalary != null;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package co.com.bancolombia.model.orders.exceptions;
+
+public class DuplicateApplicationException extends OrdersBusinessException {
+
+    public DuplicateApplicationException(String existingOrderId) {
+        super("DUPLICATE_APPLICATION",
+              String.format("Ya existe una solicitud idéntica registrada recientemente con ID '%s'", existingOrderId));
+    }
+}
@@ -0,0 +1,12 @@
+package co.com.bancolombia.model.orders.exceptions;
+
+import co.com.bancolombia.model.velocity.VelocityLimit;
+
+public class VelocityLimitExceededException extends OrdersBusinessException {
+
+    public VelocityLimitExceededException(VelocityLimit limit) {
+        super("VELOCITY_LIMIT_EXCEEDED",
+              String.format("Se alcanzó el límite de %d solicitudes cada %d minutos", limit.maxApplications(),
+                      limit.window().toMinutes()));
+    }
+}
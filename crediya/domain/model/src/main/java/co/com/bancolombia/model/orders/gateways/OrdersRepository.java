@@ -1,16 +1,63 @@
 package co.com.bancolombia.model.orders.gateways;
 
+import co.com.bancolombia.model.expiry.PendingExpiryChunk;
+import co.com.bancolombia.model.expiry.PendingExpiryScope;
 import co.com.bancolombia.model.orders.Orders;
 import co.com.bancolombia.model.orders.PendingRequest;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 public interface OrdersRepository {
-    Mono<Orders> save(Orders orders);
+    Mono<Orders> insert(Orders orders);
+
+    /**
+     * Moves the order to newStatusId only if it is still in expectedStatusId. Emits empty when no row matched.
+     */
+    Mono<Orders> updateStatusIfCurrent(String id, String expectedStatusId, String newStatusId);
+
+    /**
+     * Set-based variant of updateStatusIfCurrent. Emits only the orders that changed status.
+     */
+    Flux<Orders> updateStatusIfCurrentAll(List<String> ids, String expectedStatusId, String newStatusId);
+    Mono<Void> insertAll(List<Orders> orders);
     Mono<Orders> findById(String id);
+    Flux<Orders> findByIds(List<String> ids);
     Flux<Orders> findByEmailAddress(String emailAddress);
-    Mono<String> findPendingStatusId();
+
+    /**
+     * Latest order with the same email, amount, term and loan type created at or after {@code since}.
+     */
+    Mono<Orders> findRecentDuplicate(String emailAddress, BigDecimal amount, Integer deadline, String loanTypeId,
+                                     LocalDateTime since);
+
+    /**
+     * Orders created at or after {@code since}, oldest first.
+     */
+    Flux<Orders> findCreatedSince(LocalDateTime since);
+
+    /**
+     * Claims up to {@code limit} of the oldest orders in pendingStatusId that nobody else holds, for {@code lease}.
+     * Orders the assessor already holds are renewed and included.
+     */
+    Flux<Orders> claimPending(String pendingStatusId, String assessorId, int limit, Duration lease);
+
+    /**
+     * Gives the order back before its claim expires. Emits false when the assessor did not hold it.
+     */
+    Mono<Boolean> releaseClaim(String id, String assessorId);
+
+    /**
+     * Moves up to {@code limit} orders of the scope from pendingStatusId to cancelledStatusId, oldest first,
+     * starting after the last order of {@code after} (from the start when null). Orders locked elsewhere are
+     * skipped, not waited for.
+     */
+    Mono<PendingExpiryChunk> cancelStalePending(String pendingStatusId, String cancelledStatusId,
+                                                PendingExpiryScope scope, PendingExpiryChunk after, int limit);
     Flux<PendingRequest> findPendingRequests(UUID statusId, String email, int page, int size);
 }
@@ -0,0 +1,12 @@
+package co.com.bancolombia.model.status;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class Status {
+    private String id;
+    private String name;
+}
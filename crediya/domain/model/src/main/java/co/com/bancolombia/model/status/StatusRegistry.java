@@ -0,0 +1,85 @@
+package co.com.bancolombia.model.status;
+
+import co.com.bancolombia.model.enums.StatusEnum;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of the {@code status} table, loaded once and checked against {@link StatusEnum}.
+ * Enum to id lookups index an array by ordinal; id to status lookups use a single hash map.
+ */
+public final class StatusRegistry {
+
+    private final String[] idsByOrdinal;
+    private final Map<String, StatusEnum> statusesById;
+
+    private StatusRegistry(String[] idsByOrdinal, Map<String, StatusEnum> statusesById) {
+        this.idsByOrdinal = idsByOrdinal;
+        this.statusesById = statusesById;
+    }
+
+    /**
+     * Builds the registry from the stored rows, failing when they drift from {@link StatusEnum}.
+     */
+    public static StatusRegistry from(Collection<Status> rows) {
+        StatusEnum[] values = StatusEnum.values();
+        String[] idsByOrdinal = new String[values.length];
+        Map<String, StatusEnum> statusesById = new HashMap<>(values.length * 2);
+        boolean[] seen = new boolean[values.length];
+        List<String> drift = new ArrayList<>();
+
+        for (Status row : rows) {
+            StatusEnum status = findByName(row.getName());
+            if (status == null) {
+                drift.add("estado desconocido '" + row.getName() + "'");
+                continue;
+            }
+            seen[status.ordinal()] = true;
+            if (!status.getId().equals(row.getId())) {
+                drift.add("estado " + status.getName() + " con id " + row.getId() + " (esperado " + status.getId() + ")");
+            } else {
+                idsByOrdinal[status.ordinal()] = row.getId();
+                statusesById.put(row.getId(), status);
+            }
+        }
+        for (StatusEnum status : values) {
+            if (!seen[status.ordinal()]) {
+                drift.add("falta el estado " + status.getName());
+            }
+        }
+
+        if (!drift.isEmpty()) {
+            throw new IllegalStateException("La tabla status no coincide con StatusEnum: " + String.join(", ", drift));
+        }
+        return new StatusRegistry(idsByOrdinal, Map.copyOf(statusesById));
+    }
+
+    public String idOf(StatusEnum status) {
+        return idsByOrdinal[status.ordinal()];
+    }
+
+    public StatusEnum statusOf(String id) {
+        StatusEnum status = id != null ? statusesById.get(id) : null;
+        if (status == null) {
+            throw new IllegalArgumentException("Invalid status id: " + id);
+        }
+        return status;
+    }
+
+    public String nameOf(String id) {
+        return statusOf(id).getName();
+    }
+
+    private static StatusEnum findByName(String name) {
+        for (StatusEnum status : StatusEnum.values()) {
+            if (status.getName().equals(name)) {
+                return status;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,8 @@
+package co.com.bancolombia.model.status.gateways;
+
+import co.com.bancolombia.model.status.Status;
+import reactor.core.publisher.Flux;
+
+public interface StatusRepository {
+    Flux<Status> findAll();
+}
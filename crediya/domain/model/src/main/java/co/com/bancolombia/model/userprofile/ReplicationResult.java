@@ -0,0 +1,21 @@
+package co.com.bancolombia.model.userprofile;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of one replication round against the user feed.
+ * {@code caughtUp} is true when the feed had no more changes than the ones applied.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ReplicationResult {
+    private final long lastSeq;
+    private final int appliedChanges;
+    private final LocalDateTime lastChangeAt;
+    private final boolean caughtUp;
+}
@@ -0,0 +1,34 @@
+package co.com.bancolombia.model.userprofile;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Change event read from the user feed published by the authentication service.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class UserChange {
+
+    public static final String DELETED = "DELETED";
+
+    private Long seq;
+    private String userId;
+    private String changeType;
+    private String name;
+    private String lastName;
+    private String emailAddress;
+    private BigDecimal baseSalary;
+    private LocalDateTime occurredAt;
+
+    public boolean isDeletion() {
+        return DELETED.equals(changeType);
+    }
+}
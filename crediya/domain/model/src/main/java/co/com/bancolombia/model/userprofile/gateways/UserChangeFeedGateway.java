@@ -0,0 +1,9 @@
+package co.com.bancolombia.model.userprofile.gateways;
+
+import co.com.bancolombia.model.userprofile.UserChange;
+import reactor.core.publisher.Flux;
+
+public interface UserChangeFeedGateway {
+
+    Flux<UserChange> fetchChangesAfter(long afterSeq, int limit);
+}
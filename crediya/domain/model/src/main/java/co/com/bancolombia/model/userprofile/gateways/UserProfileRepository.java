@@ -0,0 +1,16 @@
+package co.com.bancolombia.model.userprofile.gateways;
+
+import co.com.bancolombia.model.userprofile.UserChange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface UserProfileRepository {
+
+    Mono<Long> findLastAppliedSeq();
+
+    /**
+     * Applies the changes in order and advances the replication cursor atomically.
+     */
+    Mono<Void> applyChanges(List<UserChange> changes);
+}
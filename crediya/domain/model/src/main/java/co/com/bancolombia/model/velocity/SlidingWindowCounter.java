@@ -0,0 +1,63 @@
+package co.com.bancolombia.model.velocity;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Event count over a sliding window, kept as a ring of fixed-width slots.
+ *
+ * <p>Each slot packs the period it belongs to and its count into one long, so a slot is reset and incremented
+ * by a single compare-and-set and no lock is taken. A slot left over from an earlier lap of the ring is
+ * recognised by its period and counted as zero. The window slides one slot at a time, so the count covers
+ * between {@code window - slot} and {@code window}.</p>
+ */
+final class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final long slotMillis;
+    private final AtomicLongArray slots;
+
+    SlidingWindowCounter(long windowMillis, int slotCount) {
+        this.slotMillis = Math.max(1000, windowMillis / slotCount);
+        this.slots = new AtomicLongArray(slotCount);
+    }
+
+    /**
+     * Adds {@code delta} to the slot of {@code atMillis}; ignored when that slot already holds a later period.
+     * Counts never go below zero.
+     */
+    void add(long atMillis, int delta) {
+        long period = atMillis / slotMillis;
+        int index = (int) (period % slots.length());
+        while (true) {
+            long current = slots.get(index);
+            long currentPeriod = current >>> COUNT_BITS;
+            if (currentPeriod > period) {
+                return;
+            }
+            long count = currentPeriod == period ? current & COUNT_MASK : 0;
+            long updated = Math.max(0, Math.min(COUNT_MASK, count + delta));
+            if (slots.compareAndSet(index, current, (period << COUNT_BITS) | updated)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Events recorded in the slots that fall within the window ending at {@code nowMillis}.
+     */
+    int count(long nowMillis) {
+        long period = nowMillis / slotMillis;
+        long oldest = period - slots.length() + 1;
+        int total = 0;
+        for (int index = 0; index < slots.length(); index++) {
+            long current = slots.get(index);
+            long currentPeriod = current >>> COUNT_BITS;
+            if (currentPeriod >= oldest && currentPeriod <= period) {
+                total += (int) (current & COUNT_MASK);
+            }
+        }
+        return total;
+    }
+}
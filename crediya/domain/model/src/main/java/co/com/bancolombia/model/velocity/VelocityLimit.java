@@ -0,0 +1,18 @@
+package co.com.bancolombia.model.velocity;
+
+import java.time.Duration;
+
+/**
+ * At most {@code maxApplications} applications per key within any {@code window}.
+ */
+public record VelocityLimit(Duration window, int maxApplications) {
+
+    public VelocityLimit {
+        if (window == null || window.toSeconds() < 1) {
+            throw new IllegalArgumentException("La ventana del límite de solicitudes debe ser de al menos un segundo");
+        }
+        if (maxApplications < 1) {
+            throw new IllegalArgumentException("El límite de solicitudes debe ser mayor que 0");
+        }
+    }
+}
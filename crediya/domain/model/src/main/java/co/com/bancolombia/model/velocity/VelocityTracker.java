@@ -0,0 +1,192 @@
+package co.com.bancolombia.model.velocity;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-key application counters checked against a set of {@link VelocityLimit}s.
+ *
+ * <p>Keys are spread over independent stripes, each capped at {@code maxKeysPerStripe}. A stripe that is full
+ * first drops its idle keys (no activity for the longest window) and then its least recently active key, so
+ * memory stays bounded at the cost of forgetting the quietest applicant. Counters themselves are lock-free
+ * ({@link SlidingWindowCounter}).</p>
+ */
+public final class VelocityTracker {
+
+    private final List<VelocityLimit> limits;
+    private final int slotsPerWindow;
+    private final int maxKeysPerStripe;
+    private final long idleMillis;
+    private final ConcurrentHashMap<String, KeyCounters>[] stripes;
+    private final LongAdder[] rejections;
+    private final Clock clock;
+
+    public VelocityTracker(List<VelocityLimit> limits, int slotsPerWindow, int stripeCount, int maxKeysPerStripe) {
+        this(limits, slotsPerWindow, stripeCount, maxKeysPerStripe, Clock.systemUTC());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    VelocityTracker(List<VelocityLimit> limits, int slotsPerWindow, int stripeCount, int maxKeysPerStripe,
+                    Clock clock) {
+        if (limits == null || limits.isEmpty()) {
+            throw new IllegalArgumentException("Se requiere al menos un límite de solicitudes");
+        }
+        if (slotsPerWindow < 1 || stripeCount < 1 || maxKeysPerStripe < 1) {
+            throw new IllegalArgumentException("Las franjas, particiones y claves por partición deben ser mayores que 0");
+        }
+        this.limits = List.copyOf(limits);
+        this.slotsPerWindow = slotsPerWindow;
+        this.maxKeysPerStripe = maxKeysPerStripe;
+        this.idleMillis = this.limits.stream().map(VelocityLimit::window).max(Comparator.naturalOrder())
+                .orElseThrow().toMillis();
+        this.stripes = new ConcurrentHashMap[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.rejections = new LongAdder[this.limits.size()];
+        for (int i = 0; i < rejections.length; i++) {
+            rejections[i] = new LongAdder();
+        }
+        this.clock = clock;
+    }
+
+    /**
+     * Counts one application for {@code key} unless that would exceed a limit; returns the first limit that
+     * would be exceeded, or {@code null} when the application was counted.
+     */
+    public VelocityLimit tryAcquire(String key) {
+        long now = clock.millis();
+        KeyCounters counters = countersFor(key, now);
+        for (SlidingWindowCounter counter : counters.windows) {
+            counter.add(now, 1);
+        }
+        // Counting first and checking after means concurrent requests can never both take the last place
+        for (int i = 0; i < limits.size(); i++) {
+            if (counters.windows[i].count(now) > limits.get(i).maxApplications()) {
+                for (SlidingWindowCounter counter : counters.windows) {
+                    counter.add(now, -1);
+                }
+                rejections[i].increment();
+                return limits.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Takes back an application counted by {@link #tryAcquire} that was not stored after all.
+     */
+    public void release(String key) {
+        KeyCounters counters = stripeOf(key).get(key);
+        if (counters != null) {
+            long now = clock.millis();
+            for (SlidingWindowCounter counter : counters.windows) {
+                counter.add(now, -1);
+            }
+        }
+    }
+
+    /**
+     * Counts an application stored at {@code atMillis} without checking limits, to rebuild the counters.
+     */
+    public void record(String key, long atMillis) {
+        if (clock.millis() - atMillis > idleMillis) {
+            return;
+        }
+        KeyCounters counters = countersFor(key, atMillis);
+        for (SlidingWindowCounter counter : counters.windows) {
+            counter.add(atMillis, 1);
+        }
+    }
+
+    /**
+     * Drops keys with no activity within the longest window; returns how many were dropped.
+     */
+    public int evictIdle() {
+        long now = clock.millis();
+        int evicted = 0;
+        for (ConcurrentHashMap<String, KeyCounters> stripe : stripes) {
+            evicted += evictIdle(stripe, now);
+        }
+        return evicted;
+    }
+
+    public List<VelocityLimit> limits() {
+        return limits;
+    }
+
+    /**
+     * Applications refused because of {@code limit} since start-up.
+     */
+    public long rejections(VelocityLimit limit) {
+        int index = limits.indexOf(limit);
+        return index < 0 ? 0 : rejections[index].sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, KeyCounters> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private KeyCounters countersFor(String key, long now) {
+        ConcurrentHashMap<String, KeyCounters> stripe = stripeOf(key);
+        KeyCounters counters = stripe.get(key);
+        if (counters == null) {
+            if (stripe.size() >= maxKeysPerStripe) {
+                makeRoom(stripe, now);
+            }
+            counters = stripe.computeIfAbsent(key, ignored -> new KeyCounters(limits, slotsPerWindow));
+        }
+        counters.touch(now);
+        return counters;
+    }
+
+    private void makeRoom(ConcurrentHashMap<String, KeyCounters> stripe, long now) {
+        if (evictIdle(stripe, now) > 0) {
+            return;
+        }
+        stripe.entrySet().stream()
+                .min(Comparator.comparingLong(entry -> entry.getValue().lastActivity))
+                .ifPresent(entry -> stripe.remove(entry.getKey(), entry.getValue()));
+    }
+
+    private int evictIdle(ConcurrentHashMap<String, KeyCounters> stripe, long now) {
+        int evicted = 0;
+        for (Map.Entry<String, KeyCounters> entry : stripe.entrySet()) {
+            if (now - entry.getValue().lastActivity > idleMillis && stripe.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    private ConcurrentHashMap<String, KeyCounters> stripeOf(String key) {
+        int hash = key.hashCode();
+        return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+    }
+
+    private static final class KeyCounters {
+        private final SlidingWindowCounter[] windows;
+        private volatile long lastActivity;
+
+        KeyCounters(List<VelocityLimit> limits, int slotsPerWindow) {
+            this.windows = new SlidingWindowCounter[limits.size()];
+            for (int i = 0; i < windows.length; i++) {
+                windows[i] = new SlidingWindowCounter(limits.get(i).window().toMillis(), slotsPerWindow);
+            }
+        }
+
+        void touch(long now) {
+            if (now > lastActivity) {
+                lastActivity = now;
+            }
+        }
+    }
+}
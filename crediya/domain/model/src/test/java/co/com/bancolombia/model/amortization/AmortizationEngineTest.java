@@ -0,0 +1,83 @@
+package co.com.bancolombia.model.amortization;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the French-system amortization engine.
+ */
+class AmortizationEngineTest {
+
+    private final AmortizationEngine engine = new AmortizationEngine(4);
+
+    @Test
+    @DisplayName("Monthly amount - French installment rounded to cents")
+    void monthlyAmountFrenchInstallment() {
+        // Act
+        BigDecimal monthly = engine.monthlyAmount(new BigDecimal("12000"), new BigDecimal("0.01"), 12);
+
+        // Assert
+        assertEquals(new BigDecimal("1066.19"), monthly);
+    }
+
+    @Test
+    @DisplayName("Monthly amount - zero rate splits the amount evenly")
+    void monthlyAmountZeroRate() {
+        // Act & Assert
+        assertEquals(new BigDecimal("1000.00"), engine.monthlyAmount(new BigDecimal("12000"), BigDecimal.ZERO, 12));
+    }
+
+    @Test
+    @DisplayName("Monthly amount - missing input returns null")
+    void monthlyAmountMissingInput() {
+        // Act & Assert
+        assertNull(engine.monthlyAmount(new BigDecimal("12000"), null, 12));
+        assertNull(engine.monthlyAmount(null, new BigDecimal("0.01"), 12));
+        assertNull(engine.monthlyAmount(new BigDecimal("12000"), new BigDecimal("0.01"), 0));
+    }
+
+    @Test
+    @DisplayName("Schedule - pays off the whole amount and ends with zero balance")
+    void scheduleEndsWithZeroBalance() {
+        // Act
+        AmortizationSchedule schedule = engine.schedule(new BigDecimal("12000"), new BigDecimal("0.01"), 12);
+
+        // Assert
+        assertEquals(12, schedule.getPayments().size());
+        assertEquals(new BigDecimal("1066.19"), schedule.getInstallment());
+        BigDecimal principal = schedule.getPayments().stream()
+                .map(ScheduledPayment::getPrincipal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        assertEquals(0, new BigDecimal("12000").compareTo(principal));
+        assertEquals(0, BigDecimal.ZERO.compareTo(schedule.getPayments().get(11).getBalance()));
+        assertEquals(schedule.getTotalPaid(), new BigDecimal("12000.00").add(schedule.getTotalInterest()));
+        assertEquals(new BigDecimal("120.00"), schedule.getPayments().get(0).getInterest());
+    }
+
+    @Test
+    @DisplayName("Schedule - same amount, rate and term reuse the cached schedule")
+    void scheduleIsCached() {
+        // Act
+        AmortizationSchedule first = engine.schedule(new BigDecimal("5000000"), new BigDecimal("0.0189"), 24);
+        AmortizationSchedule second = engine.schedule(new BigDecimal("5000000.00"), new BigDecimal("0.018900"), 24);
+
+        // Assert
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("Schedule - invalid amount, rate or term throws")
+    void scheduleInvalidInput() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.schedule(BigDecimal.ZERO, new BigDecimal("0.01"), 12));
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.schedule(new BigDecimal("1000"), new BigDecimal("-0.01"), 12));
+        assertThrows(IllegalArgumentException.class,
+                () -> engine.schedule(new BigDecimal("1000"), new BigDecimal("0.01"), 0));
+    }
+}
@@ -0,0 +1,137 @@
+package co.com.bancolombia.model.duplicate;
+
+import co.com.bancolombia.model.orders.Orders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the bucketed index of recent applications.
+ */
+class RecentApplicationIndexTest {
+
+    private MutableClock clock;
+    private RecentApplicationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        index = new RecentApplicationIndex(Duration.ofSeconds(30), 6, clock);
+    }
+
+    @Test
+    @DisplayName("Registration - second identical application returns the first order")
+    void returnsFirstOrderForRepeat() {
+        // Arrange
+        Orders first = buildOrder("order-1", "50000");
+        Orders second = buildOrder("order-2", "50000.00");
+
+        // Act & Assert
+        assertNull(index.putIfAbsent(ApplicationFingerprint.of(first), first));
+        clock.advance(Duration.ofSeconds(12));
+        assertSame(first, index.putIfAbsent(ApplicationFingerprint.of(second), second));
+    }
+
+    @Test
+    @DisplayName("Registration - different amounts are different applications")
+    void distinguishesFingerprints() {
+        // Arrange
+        Orders first = buildOrder("order-1", "50000");
+        Orders second = buildOrder("order-2", "50000.01");
+
+        // Act & Assert
+        assertNull(index.putIfAbsent(ApplicationFingerprint.of(first), first));
+        assertNull(index.putIfAbsent(ApplicationFingerprint.of(second), second));
+    }
+
+    @Test
+    @DisplayName("Expiry - application older than the window is forgotten")
+    void forgetsAfterWindow() {
+        // Arrange
+        Orders first = buildOrder("order-1", "50000");
+        Orders second = buildOrder("order-2", "50000");
+        index.putIfAbsent(ApplicationFingerprint.of(first), first);
+
+        // Act
+        clock.advance(Duration.ofSeconds(31));
+
+        // Assert
+        assertNull(index.putIfAbsent(ApplicationFingerprint.of(second), second));
+        clock.advance(Duration.ofSeconds(5));
+        assertSame(second, index.putIfAbsent(ApplicationFingerprint.of(first), first));
+    }
+
+    @Test
+    @DisplayName("Remove and replace - only touch the registration of the given order")
+    void removesAndReplacesRegistration() {
+        // Arrange
+        Orders first = buildOrder("order-1", "50000");
+        Orders remote = buildOrder("order-remote", "50000");
+        ApplicationFingerprint fingerprint = ApplicationFingerprint.of(first);
+        index.putIfAbsent(fingerprint, first);
+
+        // Act & Assert
+        index.replace(fingerprint, first, remote);
+        assertSame(remote, index.putIfAbsent(fingerprint, first));
+
+        index.remove(fingerprint, first);
+        assertSame(remote, index.putIfAbsent(fingerprint, first));
+
+        index.remove(fingerprint, remote);
+        assertNull(index.putIfAbsent(fingerprint, first));
+    }
+
+    @Test
+    @DisplayName("Configuration - rejects an empty window or no buckets")
+    void rejectsInvalidConfiguration() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new RecentApplicationIndex(Duration.ZERO, 6));
+        assertThrows(IllegalArgumentException.class, () -> new RecentApplicationIndex(Duration.ofSeconds(30), 0));
+    }
+
+    private static Orders buildOrder(String id, String amount) {
+        return Orders.builder()
+                .id(id)
+                .emailAddress("test@example.com")
+                .amount(new BigDecimal(amount))
+                .deadline(24)
+                .idLoanType("550e8400-e29b-41d4-a716-446655441003")
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package co.com.bancolombia.model.identifier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the UUIDv7 generator.
+ */
+class UuidV7Test {
+
+    private static final long NOW = 1_760_000_000_000L;
+
+    @Test
+    @DisplayName("Generate - version 7, RFC variant and the clock's timestamp")
+    void generateVersionVariantAndTimestamp() {
+        // Arrange
+        UuidV7 generator = new UuidV7(() -> NOW);
+
+        // Act
+        UUID id = generator.generate();
+
+        // Assert
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(NOW, UuidV7.timestampOf(id));
+    }
+
+    @Test
+    @DisplayName("Generate - strictly increasing within the same millisecond")
+    void generateMonotonicWithinMillisecond() {
+        // Arrange
+        UuidV7 generator = new UuidV7(() -> NOW);
+        List<String> ids = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.generate().toString());
+        }
+
+        // Assert
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0, "Id fuera de orden en la posición " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Generate - keeps increasing when the clock moves backwards")
+    void generateMonotonicWhenClockMovesBackwards() {
+        // Arrange
+        AtomicLong clock = new AtomicLong(NOW);
+        UuidV7 generator = new UuidV7(clock::get);
+        UUID before = generator.generate();
+        clock.set(NOW - 1_000);
+
+        // Act
+        UUID after = generator.generate();
+
+        // Assert
+        assertTrue(before.toString().compareTo(after.toString()) < 0);
+        assertEquals(NOW, UuidV7.timestampOf(after));
+    }
+
+    @Test
+    @DisplayName("Next - unique across concurrent threads")
+    void nextUniqueAcrossThreads() throws InterruptedException {
+        // Arrange
+        int threads = 8;
+        int perThread = 5_000;
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(threads);
+
+        // Act
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(UuidV7.next());
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await();
+
+        // Assert
+        assertEquals(threads * perThread, ids.size());
+    }
+}
@@ -0,0 +1,86 @@
+package co.com.bancolombia.model.money;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the long-cents money type.
+ */
+class MoneyTest {
+
+    @Test
+    @DisplayName("Conversion - round trips BigDecimal amounts with two decimals")
+    void roundTripsBigDecimal() {
+        // Act
+        Money money = Money.of(new BigDecimal("1234.5"));
+
+        // Assert
+        assertEquals(123450, money.cents());
+        assertEquals(new BigDecimal("1234.50"), money.toBigDecimal());
+        assertEquals("1234.50", money.toString());
+    }
+
+    @Test
+    @DisplayName("Conversion - exact factory rejects fractions of a cent")
+    void exactConversionRejectsFractions() {
+        // Act & Assert
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("10.005")));
+        assertEquals(1001, Money.of(new BigDecimal("10.005"), RoundingMode.HALF_UP).cents());
+        assertEquals(1000, Money.of(new BigDecimal("10.005"), RoundingMode.HALF_EVEN).cents());
+    }
+
+    @Test
+    @DisplayName("Rounding - follows each rounding mode for positive and negative cents")
+    void roundCentsFollowsRoundingMode() {
+        // Act & Assert
+        assertEquals(3, Money.roundCents(2.5, RoundingMode.HALF_UP));
+        assertEquals(-3, Money.roundCents(-2.5, RoundingMode.HALF_UP));
+        assertEquals(2, Money.roundCents(2.5, RoundingMode.HALF_EVEN));
+        assertEquals(2, Money.roundCents(2.5, RoundingMode.HALF_DOWN));
+        assertEquals(3, Money.roundCents(2.1, RoundingMode.UP));
+        assertEquals(-2, Money.roundCents(-2.9, RoundingMode.DOWN));
+        assertEquals(-2, Money.roundCents(-2.5, RoundingMode.CEILING));
+        assertEquals(-3, Money.roundCents(-2.5, RoundingMode.FLOOR));
+        assertEquals(7, Money.roundCents(7.0, RoundingMode.UNNECESSARY));
+        assertThrows(ArithmeticException.class, () -> Money.roundCents(7.5, RoundingMode.UNNECESSARY));
+    }
+
+    @Test
+    @DisplayName("Arithmetic - exact sums and products that fail on overflow")
+    void arithmeticChecksOverflow() {
+        // Arrange
+        Money amount = Money.ofCents(150);
+
+        // Act & Assert
+        assertEquals(Money.ofCents(250), amount.plus(Money.ofCents(100)));
+        assertEquals(Money.ofCents(-50), Money.ofCents(100).minus(amount));
+        assertEquals(Money.ofCents(450), amount.times(3));
+        assertEquals(Money.ofCents(3), amount.times(0.0189, RoundingMode.HALF_UP));
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MAX_VALUE).plus(Money.ofCents(1)));
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MAX_VALUE / 2).times(3));
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MAX_VALUE).times(2.0, RoundingMode.HALF_UP));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1e30")));
+    }
+
+    @Test
+    @DisplayName("Comparison - orders by cents and checks ranges and ratios")
+    void comparesAmounts() {
+        // Arrange
+        Money min = Money.of(new BigDecimal("100000"));
+        Money max = Money.of(new BigDecimal("1000000"));
+
+        // Act & Assert
+        assertTrue(Money.of(new BigDecimal("500000.00")).isBetween(min, max));
+        assertFalse(Money.of(new BigDecimal("99999.99")).isBetween(min, max));
+        assertTrue(min.compareTo(max) < 0);
+        assertEquals(0.1, min.ratioTo(max), 1e-12);
+        assertThrows(ArithmeticException.class, () -> min.ratioTo(Money.ZERO));
+        assertSame(Money.ZERO, Money.ofCents(0));
+        assertFalse(Money.ZERO.isPositive());
+    }
+}
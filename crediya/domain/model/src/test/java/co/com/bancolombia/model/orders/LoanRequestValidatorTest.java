@@ -0,0 +1,60 @@
+package co.com.bancolombia.model.orders;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoanRequestValidatorTest {
+
+    @Test
+    @DisplayName("Valid request - no errors")
+    void validRequestHasNoErrors() {
+        // Act
+        List<String> errors = LoanRequestValidator.validate(
+                new BigDecimal("50000.00"), 24, "test@example.com", "550e8400-e29b-41d4-a716-446655441003");
+
+        // Assert
+        assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Invalid request - reports every field error in one pass")
+    void invalidRequestReportsEveryError() {
+        // Act
+        List<String> errors = LoanRequestValidator.validate(null, 400, "invalid-email", " ");
+
+        // Assert
+        assertEquals(List.of(
+                "El monto debe ser mayor que 0",
+                "El plazo no puede ser mayor a 360 meses",
+                "El formato del correo electrónico no es válido",
+                "El tipo de préstamo es obligatorio"), errors);
+    }
+
+    @Test
+    @DisplayName("Amount - rejects more than 2 decimals and 13 integer digits")
+    void amountPrecisionLimits() {
+        // Act
+        List<String> errors = LoanRequestValidator.validate(
+                new BigDecimal("12345678901234.567"), 12, "test@example.com", "loan-type");
+
+        // Assert
+        assertEquals(List.of(
+                "El monto no puede tener más de 2 decimales",
+                "El monto no puede tener más de 13 dígitos enteros"), errors);
+    }
+
+    @Test
+    @DisplayName("Missing email and deadline - reports both as required")
+    void missingFieldsAreReported() {
+        // Act
+        List<String> errors = LoanRequestValidator.validate(BigDecimal.TEN, null, null, "loan-type");
+
+        // Assert
+        assertEquals(List.of("El plazo debe ser mayor que 0", "El correo electrónico es obligatorio"), errors);
+    }
+}
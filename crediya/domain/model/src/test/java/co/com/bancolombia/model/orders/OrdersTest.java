@@ -7,6 +7,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -32,6 +33,7 @@ class OrdersTest {
         // Assert
         assertNotNull(order);
         assertNotNull(order.getId());
+        assertEquals(7, UUID.fromString(order.getId()).version());
         assertEquals(amount, order.getAmount());
         assertEquals(deadline, order.getDeadline());
         assertEquals(emailAddress, order.getEmailAddress());
@@ -0,0 +1,59 @@
+package co.com.bancolombia.model.status;
+
+import co.com.bancolombia.model.enums.StatusEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatusRegistryTest {
+
+    private List<Status> matchingRows() {
+        return new ArrayList<>(Arrays.stream(StatusEnum.values())
+                .map(status -> new Status(status.getId(), status.getName()))
+                .toList());
+    }
+
+    @Test
+    @DisplayName("StatusRegistry - resolves ids and names in both directions")
+    void resolvesIdsAndNames() {
+        // Arrange & Act
+        StatusRegistry registry = StatusRegistry.from(matchingRows());
+
+        // Assert
+        assertEquals(StatusEnum.PENDING.getId(), registry.idOf(StatusEnum.PENDING));
+        assertEquals(StatusEnum.APPROVED, registry.statusOf(StatusEnum.APPROVED.getId()));
+        assertEquals("REJECTED", registry.nameOf(StatusEnum.REJECTED.getId()));
+        assertThrows(IllegalArgumentException.class, () -> registry.nameOf("unknown-id"));
+    }
+
+    @Test
+    @DisplayName("StatusRegistry - fails when a stored id differs from the enum")
+    void failsOnIdDrift() {
+        // Arrange
+        List<Status> rows = matchingRows();
+        rows.set(0, new Status("other-id", StatusEnum.values()[0].getName()));
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> StatusRegistry.from(rows));
+        assertTrue(exception.getMessage().contains("other-id"));
+    }
+
+    @Test
+    @DisplayName("StatusRegistry - fails when a status is missing or unknown")
+    void failsOnMissingOrUnknownStatus() {
+        // Arrange
+        List<Status> rows = matchingRows();
+        rows.remove(rows.size() - 1);
+        rows.add(new Status("extra-id", "ARCHIVED"));
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> StatusRegistry.from(rows));
+        assertTrue(exception.getMessage().contains("ARCHIVED"));
+        assertTrue(exception.getMessage().contains("falta el estado"));
+    }
+}
@@ -0,0 +1,140 @@
+package co.com.bancolombia.model.velocity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the per-key sliding-window application counters.
+ */
+class VelocityTrackerTest {
+
+    private static final VelocityLimit HOURLY = new VelocityLimit(Duration.ofHours(1), 3);
+    private static final VelocityLimit DAILY = new VelocityLimit(Duration.ofDays(1), 5);
+
+    private MutableClock clock;
+    private VelocityTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        tracker = new VelocityTracker(List.of(HOURLY, DAILY), 12, 4, 2, clock);
+    }
+
+    @Test
+    @DisplayName("Acquire - refuses the application over the hourly limit and counts the refusal")
+    void refusesOverHourlyLimit() {
+        // Act
+        for (int i = 0; i < 3; i++) {
+            assertNull(tracker.tryAcquire("test@example.com"));
+        }
+
+        // Assert
+        assertEquals(HOURLY, tracker.tryAcquire("test@example.com"));
+        assertEquals(1, tracker.rejections(HOURLY));
+        assertEquals(0, tracker.rejections(DAILY));
+        assertNull(tracker.tryAcquire("other@example.com"));
+    }
+
+    @Test
+    @DisplayName("Acquire - the hourly window slides while the daily one still counts")
+    void slidesHourlyWindow() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            tracker.tryAcquire("test@example.com");
+        }
+
+        // Act
+        clock.advance(Duration.ofMinutes(65));
+
+        // Assert
+        assertNull(tracker.tryAcquire("test@example.com"));
+        assertNull(tracker.tryAcquire("test@example.com"));
+        assertEquals(DAILY, tracker.tryAcquire("test@example.com"));
+    }
+
+    @Test
+    @DisplayName("Release - a released application frees its place")
+    void releaseFreesPlace() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            tracker.tryAcquire("test@example.com");
+        }
+
+        // Act
+        tracker.release("test@example.com");
+
+        // Assert
+        assertNull(tracker.tryAcquire("test@example.com"));
+        assertEquals(HOURLY, tracker.tryAcquire("test@example.com"));
+    }
+
+    @Test
+    @DisplayName("Record - rebuilt applications count, those older than every window are ignored")
+    void recordsPastApplications() {
+        // Arrange
+        long now = clock.millis();
+
+        // Act
+        tracker.record("test@example.com", now - Duration.ofMinutes(10).toMillis());
+        tracker.record("test@example.com", now - Duration.ofMinutes(20).toMillis());
+        tracker.record("test@example.com", now - Duration.ofMinutes(30).toMillis());
+        tracker.record("old@example.com", now - Duration.ofDays(2).toMillis());
+
+        // Assert
+        assertEquals(HOURLY, tracker.tryAcquire("test@example.com"));
+        assertNull(tracker.tryAcquire("old@example.com"));
+    }
+
+    @Test
+    @DisplayName("Memory - keys stay bounded per stripe and idle keys are evicted")
+    void boundsAndEvictsKeys() {
+        // Act
+        for (int i = 0; i < 50; i++) {
+            tracker.tryAcquire("user" + i + "@example.com");
+        }
+
+        // Assert
+        int tracked = tracker.size();
+        assertTrue(tracked <= 8);
+        clock.advance(Duration.ofDays(2));
+        assertEquals(tracked, tracker.evictIdle());
+        assertEquals(0, tracker.size());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
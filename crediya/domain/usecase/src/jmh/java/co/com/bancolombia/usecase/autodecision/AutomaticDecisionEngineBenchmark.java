@@ -0,0 +1,59 @@
+package co.com.bancolombia.usecase.autodecision;
+
+import co.com.bancolombia.model.autodecision.AutomaticDecision;
+import co.com.bancolombia.model.autodecision.EligibilityPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of evaluating compiled eligibility plans; run with {@code ./gradlew :usecase:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AutomaticDecisionEngineBenchmark {
+
+    private static final String MICROCREDITO = "550e8400-e29b-41d4-a716-446655441003";
+    private static final String LIBRANZA = "550e8400-e29b-41d4-a716-446655441002";
+
+    private AutomaticDecisionEngine engine;
+    private long amountCents;
+
+    @Setup
+    public void setUp() {
+        engine = AutomaticDecisionEngine.compile(List.of(EligibilityPolicy.builder()
+                        .loanTypeId(MICROCREDITO)
+                        .minAmount(new BigDecimal("100000"))
+                        .maxAmount(new BigDecimal("1000000"))
+                        .minTermMonths(1)
+                        .maxTermMonths(36)
+                        .maxDebtToIncome(new BigDecimal("0.35"))
+                        .build()),
+                EligibilityPolicy.builder().minTermMonths(1).maxTermMonths(60).build());
+        amountCents = 50_000_000L;
+    }
+
+    @Benchmark
+    public AutomaticDecision fullPolicyApproved() {
+        return engine.evaluate(MICROCREDITO, amountCents, 24, 0.0299, 300_000_000L, 20_000_000L);
+    }
+
+    @Benchmark
+    public AutomaticDecision fullPolicyRejectedByTerm() {
+        return engine.evaluate(MICROCREDITO, amountCents, 48, 0.0299, 300_000_000L, 20_000_000L);
+    }
+
+    @Benchmark
+    public AutomaticDecision defaultPolicy() {
+        return engine.evaluate(LIBRANZA, amountCents, 24, 0.0156, AutomaticDecisionEngine.UNKNOWN_INCOME, 0);
+    }
+}
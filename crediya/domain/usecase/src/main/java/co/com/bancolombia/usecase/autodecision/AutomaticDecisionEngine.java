@@ -0,0 +1,203 @@
+package co.com.bancolombia.usecase.autodecision;
+
+import co.com.bancolombia.model.amortization.AmortizationEngine;
+import co.com.bancolombia.model.autodecision.ApplicantFinancials;
+import co.com.bancolombia.model.autodecision.AutomaticDecision;
+import co.com.bancolombia.model.autodecision.EligibilityPolicy;
+import co.com.bancolombia.model.loantype.LoanType;
+import co.com.bancolombia.model.money.Money;
+import co.com.bancolombia.model.orders.Orders;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates the eligibility policies of loan types with automatic validation.
+ *
+ * <p>Policies are compiled once into one plan per loan type: only the bounds a policy sets become rules,
+ * amounts are kept in cents, and the rules run cheapest first, stopping at the first one that fails. Each
+ * rule's rejection is built at compile time, so evaluating an order allocates nothing.</p>
+ *
+ * <p>Amounts, income and debt are converted to {@link Money} cents once per order. The installment and the
+ * debt sum are exact long arithmetic; only the final debt-to-income ratio is a double.</p>
+ */
+public final class AutomaticDecisionEngine {
+
+    /**
+     * Income passed to the primitive entry point when the applicant has no local profile.
+     */
+    public static final long UNKNOWN_INCOME = Long.MIN_VALUE;
+
+    private static final RoundingMode ROUNDING = RoundingMode.HALF_EVEN;
+
+    private static final AutomaticDecision NO_PROFILE = AutomaticDecision.manualReview(
+            "No hay ingresos registrados del solicitante para calcular su capacidad de endeudamiento");
+    private static final AutomaticDecision NO_INCOME = AutomaticDecision.rejected(
+            "El solicitante no tiene ingresos registrados");
+
+    private final Map<String, Plan> plansByLoanType;
+    private final Plan defaultPlan;
+
+    private AutomaticDecisionEngine(Map<String, Plan> plansByLoanType, Plan defaultPlan) {
+        this.plansByLoanType = plansByLoanType;
+        this.defaultPlan = defaultPlan;
+    }
+
+    /**
+     * Compiles the policies; loan types without their own policy use {@code defaultPolicy}.
+     */
+    public static AutomaticDecisionEngine compile(List<EligibilityPolicy> policies, EligibilityPolicy defaultPolicy) {
+        Map<String, Plan> plans = new HashMap<>();
+        for (EligibilityPolicy policy : policies) {
+            if (policy.getLoanTypeId() == null || policy.getLoanTypeId().isBlank()) {
+                throw new IllegalArgumentException("Cada política de aprobación automática requiere un tipo de préstamo");
+            }
+            if (plans.put(policy.getLoanTypeId(), Plan.of(policy)) != null) {
+                throw new IllegalArgumentException("Política de aprobación automática repetida para el tipo de préstamo "
+                        + policy.getLoanTypeId());
+            }
+        }
+        return new AutomaticDecisionEngine(Map.copyOf(plans), Plan.of(defaultPolicy));
+    }
+
+    /**
+     * True when the plan of the loan type checks debt-to-income, so the applicant's financials are needed.
+     */
+    public boolean requiresFinancials(String loanTypeId) {
+        return planFor(loanTypeId).requiresFinancials;
+    }
+
+    /**
+     * Decides the order; {@code financials} may be null when the applicant has no local profile.
+     */
+    public AutomaticDecision evaluate(Orders order, LoanType loanType, ApplicantFinancials financials) {
+        boolean known = financials != null && financials.getBaseSalary() != null;
+        return evaluate(loanType.getId(),
+                Money.toCents(order.getAmount(), ROUNDING),
+                order.getDeadline(),
+                loanType.getInterestRate() == null ? 0 : loanType.getInterestRate().doubleValue(),
+                known ? Money.toCents(financials.getBaseSalary(), ROUNDING) : UNKNOWN_INCOME,
+                known && financials.getMonthlyDebt() != null
+                        ? Money.toCents(financials.getMonthlyDebt(), ROUNDING) : 0);
+    }
+
+    /**
+     * Primitive entry point with amounts in cents; {@code incomeCents} is {@link #UNKNOWN_INCOME} when unknown.
+     */
+    public AutomaticDecision evaluate(String loanTypeId, long amountCents, int termMonths, double monthlyRate,
+                                      long incomeCents, long debtCents) {
+        for (Rule rule : planFor(loanTypeId).rules) {
+            AutomaticDecision rejection = rule.check(amountCents, termMonths, monthlyRate, incomeCents, debtCents);
+            if (rejection != null) {
+                return rejection;
+            }
+        }
+        return AutomaticDecision.APPROVED;
+    }
+
+    private Plan planFor(String loanTypeId) {
+        Plan plan = loanTypeId != null ? plansByLoanType.get(loanTypeId) : null;
+        return plan != null ? plan : defaultPlan;
+    }
+
+    private record Plan(Rule[] rules, boolean requiresFinancials) {
+
+        static Plan of(EligibilityPolicy policy) {
+            List<Rule> rules = new ArrayList<>(3);
+            if (policy.getMinTermMonths() != null || policy.getMaxTermMonths() != null) {
+                rules.add(new TermRule(
+                        policy.getMinTermMonths() != null ? policy.getMinTermMonths() : 1,
+                        policy.getMaxTermMonths() != null ? policy.getMaxTermMonths() : Integer.MAX_VALUE));
+            }
+            if (policy.getMinAmount() != null || policy.getMaxAmount() != null) {
+                rules.add(new AmountRule(
+                        policy.getMinAmount() != null ? Money.toCents(policy.getMinAmount(), RoundingMode.CEILING) : 0,
+                        policy.getMaxAmount() != null
+                                ? Money.toCents(policy.getMaxAmount(), RoundingMode.FLOOR) : Long.MAX_VALUE,
+                        policy.getMinAmount(), policy.getMaxAmount()));
+            }
+            boolean requiresFinancials = policy.getMaxDebtToIncome() != null;
+            if (requiresFinancials) {
+                rules.add(new DebtToIncomeRule(policy.getMaxDebtToIncome()));
+            }
+            return new Plan(rules.toArray(Rule[]::new), requiresFinancials);
+        }
+    }
+
+    private interface Rule {
+
+        /**
+         * Returns the rejection when the order breaks the rule, null when it passes.
+         */
+        AutomaticDecision check(long amountCents, int termMonths, double monthlyRate,
+                                long incomeCents, long debtCents);
+    }
+
+    private static final class TermRule implements Rule {
+        private final int min;
+        private final int max;
+        private final AutomaticDecision rejection;
+
+        TermRule(int min, int max) {
+            this.min = min;
+            this.max = max;
+            this.rejection = AutomaticDecision.rejected("El plazo está fuera del rango de aprobación automática ("
+                    + min + " - " + (max == Integer.MAX_VALUE ? "sin límite" : max) + " meses)");
+        }
+
+        @Override
+        public AutomaticDecision check(long amountCents, int termMonths, double monthlyRate,
+                                       long incomeCents, long debtCents) {
+            return termMonths < min || termMonths > max ? rejection : null;
+        }
+    }
+
+    private static final class AmountRule implements Rule {
+        private final long minCents;
+        private final long maxCents;
+        private final AutomaticDecision rejection;
+
+        AmountRule(long minCents, long maxCents, BigDecimal min, BigDecimal max) {
+            this.minCents = minCents;
+            this.maxCents = maxCents;
+            this.rejection = AutomaticDecision.rejected("El monto está fuera del rango de aprobación automática ("
+                    + (min != null ? min.toPlainString() : "0") + " - "
+                    + (max != null ? max.toPlainString() : "sin límite") + ")");
+        }
+
+        @Override
+        public AutomaticDecision check(long amountCents, int termMonths, double monthlyRate,
+                                       long incomeCents, long debtCents) {
+            return amountCents < minCents || amountCents > maxCents ? rejection : null;
+        }
+    }
+
+    private static final class DebtToIncomeRule implements Rule {
+        private final double maxRatio;
+        private final AutomaticDecision rejection;
+
+        DebtToIncomeRule(BigDecimal maxRatio) {
+            this.maxRatio = maxRatio.doubleValue();
+            this.rejection = AutomaticDecision.rejected("La cuota supera la capacidad de endeudamiento del "
+                    + maxRatio.movePointRight(2).stripTrailingZeros().toPlainString() + "% de los ingresos");
+        }
+
+        @Override
+        public AutomaticDecision check(long amountCents, int termMonths, double monthlyRate,
+                                       long incomeCents, long debtCents) {
+            if (incomeCents == UNKNOWN_INCOME) {
+                return NO_PROFILE;
+            }
+            if (incomeCents <= 0) {
+                return NO_INCOME;
+            }
+            long installmentCents = Money.roundCents(
+                    AmortizationEngine.monthlyPayment(amountCents, monthlyRate, termMonths), RoundingMode.HALF_UP);
+            return (double) Math.addExact(debtCents, installmentCents) / incomeCents > maxRatio ? rejection : null;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package co.com.bancolombia.usecase.decisionqueue;
+
+import co.com.bancolombia.model.decisionqueue.DecisionRequest;
+import co.com.bancolombia.model.decisionqueue.DecisionRequestStatus;
+import co.com.bancolombia.model.decisionqueue.DecisionWorkResult;
+import co.com.bancolombia.model.decisionqueue.gateways.DecisionRequestRepository;
+import co.com.bancolombia.model.enums.StatusEnum;
+import co.com.bancolombia.model.orders.DecisionResult;
+import co.com.bancolombia.model.orders.exceptions.OrdersBusinessException;
+import co.com.bancolombia.usecase.decisionqueue.interfaces.IDecisionQueueUseCase;
+import co.com.bancolombia.usecase.orders.interfaces.IOrdersUseCase;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Queues assessor decisions so the request returns at once, and applies them in the background.
+ *
+ * <p>A decision is applied by the same conditional update as the synchronous endpoint, so the outcomes are
+ * the same: applied, already processed or not found. Other errors are retried with exponential backoff up to
+ * {@code maxAttempts}; a worker that dies mid-batch loses its lease and the requests are claimed again. A worker
+ * that outlives its lease finds the request claimed by another one and leaves its outcome to that worker.</p>
+ *
+ * <p>A worker may apply the decision and lose its lease before completing the request. When a later claim
+ * then finds the order already in the requested status it records APPLIED, since an earlier attempt of the
+ * same request is the likely author; an order decided the other way stays ALREADY_PROCESSED.</p>
+ */
+@RequiredArgsConstructor
+public class DecisionQueueUseCase implements IDecisionQueueUseCase {
+
+    private static final Logger log = Loggers.getLogger(DecisionQueueUseCase.class);
+    private static final List<String> DECISIONS = List.of("APPROVED", "REJECTED");
+
+    private final IOrdersUseCase ordersUseCase;
+    private final DecisionRequestRepository decisionRequestRepository;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    /**
+     * Checks the decision and that the order exists, then queues it.
+     */
+    @Override
+    public Mono<DecisionRequest> submit(String orderId, String decision) {
+        if (!DECISIONS.contains(decision)) {
+            return Mono.error(new IllegalArgumentException("Decisión inválida: " + decision));
+        }
+        return ordersUseCase.findById(orderId)
+                .then(Mono.defer(() -> decisionRequestRepository.enqueue(DecisionRequest.queue(orderId, decision))));
+    }
+
+    @Override
+    public Mono<DecisionRequest> findById(String requestId) {
+        return decisionRequestRepository.findById(requestId)
+                .switchIfEmpty(Mono.error(new OrdersBusinessException("DECISION_REQUEST_NOT_FOUND",
+                        "No se encontró la decisión en cola con ID: " + requestId)));
+    }
+
+    /**
+     * Claims the next batch and applies up to {@code concurrency} decisions at a time.
+     */
+    public Mono<DecisionWorkResult> processNextBatch(int batchSize, int concurrency) {
+        if (batchSize <= 0 || concurrency <= 0) {
+            return Mono.error(new IllegalArgumentException("El tamaño del lote y la concurrencia deben ser mayores que 0"));
+        }
+        return decisionRequestRepository.claimBatch(batchSize, lease)
+                .collectList()
+                .flatMap(requests -> requests.isEmpty()
+                        ? Mono.just(new DecisionWorkResult(0, 0, true))
+                        : Flux.fromIterable(requests)
+                                .flatMap(this::process, concurrency)
+                                .filter(Boolean::booleanValue)
+                                .count()
+                                .map(completed -> new DecisionWorkResult(completed.intValue(),
+                                        requests.size() - completed.intValue(), requests.size() < batchSize)));
+    }
+
+    public Mono<Duration> oldestQueuedAge() {
+        return decisionRequestRepository.findOldestQueuedAge();
+    }
+
+    public Mono<Long> purgeFinished(Duration retention) {
+        return decisionRequestRepository.deleteFinishedBefore(retention);
+    }
+
+    /**
+     * Emits true when the request finished, false when it was scheduled for a retry, given up or its lease lost.
+     */
+    private Mono<Boolean> process(DecisionRequest request) {
+        return ordersUseCase.updateOrderDecision(request.getOrderId(), request.getDecision())
+                .then(Mono.defer(() -> complete(request, DecisionResult.APPLIED, null)))
+                .onErrorResume(error -> settle(request, error))
+                // The lease expires and another round picks the request up again
+                .onErrorReturn(false);
+    }
+
+    private Mono<Boolean> settle(DecisionRequest request, Throwable error) {
+        if (error instanceof OrdersBusinessException businessError) {
+            if ("ORDER_ALREADY_PROCESSED".equals(businessError.getCode())) {
+                return settleAlreadyProcessed(request, error);
+            }
+            if ("ORDER_NOT_FOUND".equals(businessError.getCode())) {
+                return complete(request, DecisionResult.NOT_FOUND, error.getMessage());
+            }
+        }
+        if (error instanceof IllegalArgumentException) {
+            return complete(request, DecisionResult.INVALID, error.getMessage());
+        }
+        if (request.getAttempts() >= maxAttempts) {
+            return decisionRequestRepository.complete(request.getId(), request.getAttempts(),
+                            DecisionRequestStatus.FAILED, null, error.getMessage())
+                    .doOnNext(updated -> warnIfLeaseLost(request, updated))
+                    .thenReturn(false);
+        }
+        return decisionRequestRepository.scheduleRetry(request.getId(), request.getAttempts(),
+                        backoffFor(request.getAttempts()), error.getMessage())
+                .doOnNext(updated -> warnIfLeaseLost(request, updated))
+                .thenReturn(false);
+    }
+
+    /**
+     * On a re-claim, an order already in the requested status was most likely decided by an earlier attempt.
+     */
+    private Mono<Boolean> settleAlreadyProcessed(DecisionRequest request, Throwable error) {
+        if (request.getAttempts() <= 1) {
+            return complete(request, DecisionResult.ALREADY_PROCESSED, error.getMessage());
+        }
+        return ordersUseCase.findById(request.getOrderId())
+                .map(order -> request.getDecision().equals(StatusEnum.fromId(order.getIdStatus()).getName()))
+                .flatMap(appliedEarlier -> appliedEarlier
+                        ? complete(request, DecisionResult.APPLIED, null)
+                        : complete(request, DecisionResult.ALREADY_PROCESSED, error.getMessage()));
+    }
+
+    private Mono<Boolean> complete(DecisionRequest request, String result, String error) {
+        return decisionRequestRepository.complete(request.getId(), request.getAttempts(),
+                        DecisionRequestStatus.COMPLETED, result, error)
+                .doOnNext(updated -> warnIfLeaseLost(request, updated));
+    }
+
+    /**
+     * No row updated means the lease expired and the request was claimed again; that claim settles it.
+     */
+    private static void warnIfLeaseLost(DecisionRequest request, boolean updated) {
+        if (!updated) {
+            log.warn("La decisión {} fue reclamada de nuevo tras vencer el lease del intento {}; "
+                            + "se descarta su resultado",
+                    request.getId(), request.getAttempts());
+        }
+    }
+
+    Duration backoffFor(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration backoff = initialBackoff.multipliedBy(1L << exponent);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
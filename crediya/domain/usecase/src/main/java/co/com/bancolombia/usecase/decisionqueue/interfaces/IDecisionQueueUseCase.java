@@ -0,0 +1,11 @@
+package co.com.bancolombia.usecase.decisionqueue.interfaces;
+
+import co.com.bancolombia.model.decisionqueue.DecisionRequest;
+import reactor.core.publisher.Mono;
+
+public interface IDecisionQueueUseCase {
+
+    Mono<DecisionRequest> submit(String orderId, String decision);
+
+    Mono<DecisionRequest> findById(String requestId);
+}
@@ -0,0 +1,198 @@
+package co.com.bancolombia.usecase.idempotency;
+
+import co.com.bancolombia.model.idempotency.IdempotencyRecord;
+import co.com.bancolombia.model.idempotency.gateways.IdempotencyRepository;
+import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.model.orders.exceptions.OrdersBusinessException;
+import co.com.bancolombia.usecase.idempotency.interfaces.IIdempotentLoanRequestUseCase;
+import co.com.bancolombia.usecase.orders.interfaces.IOrdersUseCase;
+import reactor.core.publisher.Mono;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+import reactor.util.retry.Retry;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Creates loan requests at most once per (user, Idempotency-Key).
+ *
+ * <p>Completed keys are served from an in-memory LRU and then from the idempotency_key table, so a replay
+ * returns the original order without running the orders use case again. Concurrent duplicates in this
+ * instance share the first execution; duplicates in other instances poll the table until it completes.</p>
+ *
+ * <p>A key is reserved only for {@code inProgressLease} while the order is created and kept for the full
+ * {@code ttl} once it completes, so a key left behind by a crashed instance is taken over after the lease
+ * instead of blocking retries until the TTL ends. Every reservation carries an owner token, so a request whose
+ * lease ran out can neither complete nor release a key another request has taken over.</p>
+ */
+public class IdempotentLoanRequestUseCase implements IIdempotentLoanRequestUseCase {
+
+    static final String KEY_REUSED = "IDEMPOTENCY_KEY_REUSED";
+    static final String IN_PROGRESS = "IDEMPOTENCY_IN_PROGRESS";
+    static final int COMPLETE_RETRIES = 3;
+
+    private static final Logger log = Loggers.getLogger(IdempotentLoanRequestUseCase.class);
+
+    private final IOrdersUseCase ordersUseCase;
+    private final IdempotencyRepository idempotencyRepository;
+    private final Duration ttl;
+    private final Duration inProgressLease;
+    private final Duration pollInterval;
+    private final long maxPollAttempts;
+    private final Clock clock;
+    private final Map<String, CompletedRequest> completed;
+    private final Map<String, Mono<CompletedRequest>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotentLoanRequestUseCase(IOrdersUseCase ordersUseCase, IdempotencyRepository idempotencyRepository,
+                                        Duration ttl, Duration inProgressLease, int maxEntries, Duration waitTimeout,
+                                        Duration pollInterval) {
+        this(ordersUseCase, idempotencyRepository, ttl, inProgressLease, maxEntries, waitTimeout, pollInterval,
+                Clock.systemUTC());
+    }
+
+    IdempotentLoanRequestUseCase(IOrdersUseCase ordersUseCase, IdempotencyRepository idempotencyRepository,
+                                 Duration ttl, Duration inProgressLease, int maxEntries, Duration waitTimeout,
+                                 Duration pollInterval, Clock clock) {
+        this.ordersUseCase = ordersUseCase;
+        this.idempotencyRepository = idempotencyRepository;
+        this.ttl = ttl;
+        this.inProgressLease = inProgressLease;
+        this.pollInterval = pollInterval;
+        this.maxPollAttempts = Math.max(1, waitTimeout.toMillis() / Math.max(1, pollInterval.toMillis()));
+        this.clock = clock;
+        this.completed = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletedRequest> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public Mono<Orders> createLoanRequest(String idUser, String idempotencyKey, BigDecimal amount, Integer deadline,
+                                          String emailAddress, String loanTypeId) {
+        String keyHash = sha256(idUser + ":" + idempotencyKey);
+        String requestHash = sha256(fingerprint(amount, deadline, emailAddress, loanTypeId));
+
+        return Mono.defer(() -> {
+            CompletedRequest cached = getCompleted(keyHash);
+            if (cached != null) {
+                return replay(cached, requestHash);
+            }
+            return inFlight.computeIfAbsent(keyHash, key -> execute(key, requestHash,
+                            () -> ordersUseCase.createLoanRequest(idUser, amount, deadline, emailAddress, loanTypeId))
+                            .doOnNext(result -> putCompleted(key, result))
+                            .doFinally(signal -> inFlight.remove(key))
+                            .cache())
+                    .flatMap(result -> replay(result, requestHash));
+        });
+    }
+
+    @Override
+    public Mono<Long> purgeExpired() {
+        return idempotencyRepository.deleteExpired();
+    }
+
+    private Mono<CompletedRequest> execute(String keyHash, String requestHash, Supplier<Mono<Orders>> creation) {
+        return idempotencyRepository.reserve(keyHash, requestHash, inProgressLease)
+                .flatMap(owner -> createOnce(keyHash, owner, requestHash, creation))
+                .switchIfEmpty(Mono.defer(() -> awaitExisting(keyHash)))
+                .retryWhen(Retry.fixedDelay(maxPollAttempts, pollInterval)
+                        .filter(IdempotentLoanRequestUseCase::isInProgress)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    /**
+     * Only a failed creation releases the key; once the order exists, a failure to record it is retried and then
+     * surfaced, leaving the reservation to expire rather than letting a retry create a second order.
+     */
+    private Mono<CompletedRequest> createOnce(String keyHash, String owner, String requestHash,
+                                              Supplier<Mono<Orders>> creation) {
+        return Mono.defer(creation)
+                .onErrorResume(error -> idempotencyRepository.release(keyHash, owner)
+                        .onErrorResume(releaseError -> Mono.empty())
+                        .then(Mono.<Orders>error(error)))
+                .flatMap(order -> idempotencyRepository.complete(keyHash, owner, order.getId(), ttl)
+                        .retryWhen(Retry.backoff(COMPLETE_RETRIES, pollInterval)
+                                .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                        .doOnNext(recorded -> warnIfReservationLost(order, recorded))
+                        .thenReturn(new CompletedRequest(requestHash, order, expiry())));
+    }
+
+    private static void warnIfReservationLost(Orders order, boolean recorded) {
+        if (!recorded) {
+            log.warn("La reserva de la clave de idempotencia de la orden {} venció y la tomó otra solicitud; "
+                    + "la orden no quedó asociada a la clave", order.getId());
+        }
+    }
+
+    private Mono<CompletedRequest> awaitExisting(String keyHash) {
+        return idempotencyRepository.findActive(keyHash)
+                .filter(IdempotencyRecord::isCompleted)
+                .switchIfEmpty(Mono.error(new OrdersBusinessException(IN_PROGRESS,
+                        "Otra solicitud con la misma clave de idempotencia está en proceso")))
+                .flatMap(record -> ordersUseCase.findById(record.getOrderId())
+                        .map(order -> new CompletedRequest(record.getRequestHash(), order, expiry())));
+    }
+
+    private Mono<Orders> replay(CompletedRequest result, String requestHash) {
+        if (!result.requestHash().equals(requestHash)) {
+            return Mono.error(new OrdersBusinessException(KEY_REUSED,
+                    "La clave de idempotencia ya fue usada con una solicitud diferente"));
+        }
+        return Mono.just(result.order());
+    }
+
+    private CompletedRequest getCompleted(String keyHash) {
+        synchronized (completed) {
+            CompletedRequest result = completed.get(keyHash);
+            if (result != null && !clock.instant().isBefore(result.expiresAt())) {
+                completed.remove(keyHash);
+                return null;
+            }
+            return result;
+        }
+    }
+
+    private void putCompleted(String keyHash, CompletedRequest result) {
+        synchronized (completed) {
+            completed.put(keyHash, result);
+        }
+    }
+
+    private Instant expiry() {
+        return clock.instant().plus(ttl);
+    }
+
+    private static boolean isInProgress(Throwable error) {
+        return error instanceof OrdersBusinessException businessException
+                && IN_PROGRESS.equals(businessException.getCode());
+    }
+
+    private static String fingerprint(BigDecimal amount, Integer deadline, String emailAddress, String loanTypeId) {
+        String normalizedAmount = amount == null ? "" : amount.stripTrailingZeros().toPlainString();
+        return normalizedAmount + "|" + deadline + "|" + emailAddress + "|" + loanTypeId;
+    }
+
+    static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    private record CompletedRequest(String requestHash, Orders order, Instant expiresAt) {}
+}
@@ -0,0 +1,14 @@
+package co.com.bancolombia.usecase.idempotency.interfaces;
+
+import co.com.bancolombia.model.orders.Orders;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+public interface IIdempotentLoanRequestUseCase {
+
+    Mono<Orders> createLoanRequest(String idUser, String idempotencyKey, BigDecimal amount, Integer deadline,
+                                   String emailAddress, String loanTypeId);
+
+    Mono<Long> purgeExpired();
+}
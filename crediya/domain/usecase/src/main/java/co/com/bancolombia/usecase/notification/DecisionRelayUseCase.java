@@ -0,0 +1,100 @@
+package co.com.bancolombia.usecase.notification;
+
+import co.com.bancolombia.model.notification.DecisionOutboxEntry;
+import co.com.bancolombia.model.notification.RelayResult;
+import co.com.bancolombia.model.notification.gateways.DecisionOutboxRepository;
+import co.com.bancolombia.model.notification.gateways.NotificationGateway;
+import co.com.bancolombia.model.orders.Orders;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Publishes the decisions written to the outbox by the status updates.
+ * A batch is marked sent only after the gateway accepts it; a failed batch is retried with exponential
+ * backoff, so delivery is at least once and survives restarts. Entries that fail {@code maxAttempts} times are
+ * marked failed instead of being retried forever, and sent entries are purged once past their retention.
+ */
+@RequiredArgsConstructor
+public class DecisionRelayUseCase {
+
+    private final DecisionOutboxRepository outboxRepository;
+    private final NotificationGateway notificationGateway;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+
+    public Mono<RelayResult> relayNextBatch(int batchSize) {
+        if (batchSize <= 0) {
+            return Mono.error(new IllegalArgumentException("El tamaño del lote debe ser mayor que 0"));
+        }
+        if (notificationGateway == null) {
+            return Mono.error(new IllegalStateException("No hay un gateway de notificaciones configurado"));
+        }
+        return outboxRepository.claimBatch(batchSize, lease)
+                .collectList()
+                .flatMap(entries -> entries.isEmpty()
+                        ? Mono.just(new RelayResult(0, 0, 0, true))
+                        : publish(entries, batchSize));
+    }
+
+    public Mono<Duration> oldestPendingAge() {
+        return outboxRepository.findOldestPendingAge();
+    }
+
+    /**
+     * Deletes sent entries older than retention in chunks of chunkSize and emits the total deleted.
+     */
+    public Mono<Long> purgeSent(Duration retention, int chunkSize) {
+        if (chunkSize <= 0) {
+            return Mono.error(new IllegalArgumentException("El tamaño del lote debe ser mayor que 0"));
+        }
+        return outboxRepository.deleteSentBefore(retention, chunkSize)
+                .expand(deleted -> deleted < chunkSize
+                        ? Mono.empty()
+                        : outboxRepository.deleteSentBefore(retention, chunkSize))
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<RelayResult> publish(List<DecisionOutboxEntry> entries, int batchSize) {
+        List<Long> seqs = entries.stream().map(DecisionOutboxEntry::getSeq).toList();
+        List<Orders> orders = entries.stream().map(DecisionOutboxEntry::getOrder).toList();
+
+        return notificationGateway.notifyOrderDecisions(orders)
+                .then(outboxRepository.markSent(seqs))
+                .thenReturn(new RelayResult(entries.size(), 0, 0, entries.size() < batchSize))
+                .onErrorResume(error -> handleFailure(entries));
+    }
+
+    private Mono<RelayResult> handleFailure(List<DecisionOutboxEntry> entries) {
+        List<Long> exhausted = entries.stream()
+                .filter(entry -> entry.getAttempts() >= maxAttempts)
+                .map(DecisionOutboxEntry::getSeq)
+                .toList();
+        List<Long> retryable = entries.stream()
+                .filter(entry -> entry.getAttempts() < maxAttempts)
+                .map(DecisionOutboxEntry::getSeq)
+                .toList();
+        int attempts = entries.stream()
+                .mapToInt(DecisionOutboxEntry::getAttempts)
+                .filter(value -> value < maxAttempts)
+                .max()
+                .orElse(1);
+
+        Mono<Void> fail = exhausted.isEmpty() ? Mono.empty() : outboxRepository.markFailed(exhausted);
+        Mono<Void> retry = retryable.isEmpty()
+                ? Mono.empty()
+                : outboxRepository.scheduleRetry(retryable, backoffFor(attempts));
+        return fail.then(retry)
+                .thenReturn(new RelayResult(0, retryable.size(), exhausted.size(), true));
+    }
+
+    Duration backoffFor(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 20);
+        Duration backoff = initialBackoff.multipliedBy(1L << exponent);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+}
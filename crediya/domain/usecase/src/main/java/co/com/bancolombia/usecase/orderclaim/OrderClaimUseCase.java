@@ -0,0 +1,49 @@
+package co.com.bancolombia.usecase.orderclaim;
+
+import co.com.bancolombia.model.enums.StatusEnum;
+import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.model.orders.exceptions.OrdersBusinessException;
+import co.com.bancolombia.model.orders.gateways.OrdersRepository;
+import co.com.bancolombia.model.status.StatusRegistry;
+import co.com.bancolombia.usecase.orderclaim.interfaces.IOrderClaimUseCase;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Hands pending orders to assessors so two of them never review the same order.
+ *
+ * <p>A claim lasts {@code lease}. It ends when the order is decided, when the assessor releases it, or when it
+ * expires, so an order left open by an assessor who walks away goes back to the queue on its own.</p>
+ */
+@RequiredArgsConstructor
+public class OrderClaimUseCase implements IOrderClaimUseCase {
+
+    private final OrdersRepository ordersRepository;
+    private final StatusRegistry statusRegistry;
+    private final Duration lease;
+    private final int maxClaimSize;
+
+    /**
+     * Claims up to {@code count} of the oldest unclaimed pending orders, renewing those the assessor already holds.
+     */
+    @Override
+    public Flux<Orders> claimNext(String assessorId, int count) {
+        if (count <= 0 || count > maxClaimSize) {
+            return Flux.error(new IllegalArgumentException(
+                    "La cantidad de solicitudes a asignar debe estar entre 1 y " + maxClaimSize));
+        }
+        return ordersRepository.claimPending(statusRegistry.idOf(StatusEnum.PENDING), assessorId, count, lease);
+    }
+
+    @Override
+    public Mono<Void> release(String orderId, String assessorId) {
+        return ordersRepository.releaseClaim(orderId, assessorId)
+                .flatMap(released -> released
+                        ? Mono.<Void>empty()
+                        : Mono.error(new OrdersBusinessException("ORDER_NOT_CLAIMED",
+                                "La solicitud no está asignada al asesor: " + orderId)));
+    }
+}
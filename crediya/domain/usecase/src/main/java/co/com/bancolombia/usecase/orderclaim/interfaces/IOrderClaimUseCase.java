@@ -0,0 +1,12 @@
+package co.com.bancolombia.usecase.orderclaim.interfaces;
+
+import co.com.bancolombia.model.orders.Orders;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface IOrderClaimUseCase {
+
+    Flux<Orders> claimNext(String assessorId, int count);
+
+    Mono<Void> release(String orderId, String assessorId);
+}
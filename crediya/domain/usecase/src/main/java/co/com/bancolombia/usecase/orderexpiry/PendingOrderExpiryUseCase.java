@@ -0,0 +1,100 @@
+package co.com.bancolombia.usecase.orderexpiry;
+
+import co.com.bancolombia.model.enums.StatusEnum;
+import co.com.bancolombia.model.expiry.PendingExpiryChunk;
+import co.com.bancolombia.model.expiry.PendingExpiryScope;
+import co.com.bancolombia.model.orders.gateways.OrdersRepository;
+import co.com.bancolombia.model.status.StatusRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cancels pending orders nobody decided within the maximum age of their loan type, so the pending set stays
+ * bounded.
+ *
+ * <p>Each loan type with its own age is a scope, and every other loan type falls in the default scope. A scope
+ * is walked in creation order one chunk at a time, each chunk starting after the last order of the previous
+ * one, so no transaction holds more than {@code chunkSize} rows.</p>
+ */
+public class PendingOrderExpiryUseCase {
+
+    static final String DEFAULT_SCOPE = "default";
+
+    private final OrdersRepository ordersRepository;
+    private final StatusRegistry statusRegistry;
+    private final Duration defaultMaxAge;
+    private final Map<String, Duration> maxAgeByLoanType;
+    private final int chunkSize;
+    private final Clock clock;
+
+    public PendingOrderExpiryUseCase(OrdersRepository ordersRepository, StatusRegistry statusRegistry,
+                                     Duration defaultMaxAge, Map<String, Duration> maxAgeByLoanType,
+                                     int chunkSize) {
+        this(ordersRepository, statusRegistry, defaultMaxAge, maxAgeByLoanType, chunkSize,
+                Clock.systemDefaultZone());
+    }
+
+    PendingOrderExpiryUseCase(OrdersRepository ordersRepository, StatusRegistry statusRegistry,
+                              Duration defaultMaxAge, Map<String, Duration> maxAgeByLoanType, int chunkSize,
+                              Clock clock) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("El tamaño del bloque de vencimiento debe ser mayor que 0");
+        }
+        this.ordersRepository = ordersRepository;
+        this.statusRegistry = statusRegistry;
+        this.defaultMaxAge = defaultMaxAge;
+        this.maxAgeByLoanType = maxAgeByLoanType;
+        this.chunkSize = chunkSize;
+        this.clock = clock;
+    }
+
+    /**
+     * Cancels every stale pending order, emitting one element per chunk as it commits.
+     */
+    public Flux<PendingExpiryChunk> expireStale() {
+        String pendingStatusId = statusRegistry.idOf(StatusEnum.PENDING);
+        String cancelledStatusId = statusRegistry.idOf(StatusEnum.CANCELLED);
+
+        return Flux.defer(() -> Flux.fromIterable(scopes()))
+                .concatMap(scope -> nextChunk(pendingStatusId, cancelledStatusId, scope, null)
+                        .expand(chunk -> chunk.getScanned() < chunkSize
+                                ? Mono.empty()
+                                : nextChunk(pendingStatusId, cancelledStatusId, scope, chunk)));
+    }
+
+    private Mono<PendingExpiryChunk> nextChunk(String pendingStatusId, String cancelledStatusId,
+                                               PendingExpiryScope scope, PendingExpiryChunk after) {
+        return Mono.defer(() -> ordersRepository.cancelStalePending(pendingStatusId, cancelledStatusId, scope,
+                after, chunkSize));
+    }
+
+    /**
+     * Cut-offs are fixed when the run starts, so orders that age during a long run wait for the next one.
+     */
+    List<PendingExpiryScope> scopes() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<PendingExpiryScope> scopes = new ArrayList<>();
+        maxAgeByLoanType.forEach((loanTypeId, maxAge) -> scopes.add(PendingExpiryScope.builder()
+                .name(loanTypeId)
+                .loanTypeIds(List.of(loanTypeId))
+                .excludedLoanTypeIds(List.of())
+                .createdBefore(now.minus(maxAge))
+                .build()));
+        if (defaultMaxAge != null) {
+            scopes.add(PendingExpiryScope.builder()
+                    .name(DEFAULT_SCOPE)
+                    .loanTypeIds(List.of())
+                    .excludedLoanTypeIds(List.copyOf(maxAgeByLoanType.keySet()))
+                    .createdBefore(now.minus(defaultMaxAge))
+                    .build());
+        }
+        return scopes;
+    }
+}
@@ -0,0 +1,137 @@
+package co.com.bancolombia.usecase.orders;
+
+import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.model.orders.exceptions.VelocityLimitExceededException;
+import co.com.bancolombia.model.orders.gateways.OrdersRepository;
+import co.com.bancolombia.model.velocity.VelocityLimit;
+import co.com.bancolombia.model.velocity.VelocityTracker;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Locale;
+
+/**
+ * Caps how many loan applications one email and one user can open within the configured windows.
+ *
+ * <p>Counters live in memory ({@link VelocityTracker}), so a check costs no query. Email counters are rebuilt
+ * from the orders stored within the longest window; orders do not record the user, so user counters start
+ * empty after a restart. Emails are counted trimmed and lowercased, so changing their case does not reset
+ * the limit.</p>
+ */
+public class ApplicationVelocityLimiter {
+
+    private final OrdersRepository ordersRepository;
+    private final VelocityTracker emailTracker;
+    private final VelocityTracker userTracker;
+    private final Clock clock;
+    private final LocalDateTime trackingSince;
+
+    public ApplicationVelocityLimiter(OrdersRepository ordersRepository, VelocityTracker emailTracker,
+                                      VelocityTracker userTracker) {
+        this(ordersRepository, emailTracker, userTracker, Clock.systemDefaultZone());
+    }
+
+    ApplicationVelocityLimiter(OrdersRepository ordersRepository, VelocityTracker emailTracker,
+                               VelocityTracker userTracker, Clock clock) {
+        this.ordersRepository = ordersRepository;
+        this.emailTracker = emailTracker;
+        this.userTracker = userTracker;
+        this.clock = clock;
+        this.trackingSince = clock != null ? LocalDateTime.now(clock) : null;
+    }
+
+    /**
+     * Limiter that lets every application through.
+     */
+    public static ApplicationVelocityLimiter disabled() {
+        return new ApplicationVelocityLimiter(null, null, null, null);
+    }
+
+    /**
+     * Counts one application for the email and the user, or fails with
+     * {@link VelocityLimitExceededException} without counting it when either is over a limit.
+     */
+    public Mono<Void> acquire(String idUser, String emailAddress) {
+        if (emailTracker == null) {
+            return Mono.empty();
+        }
+        return Mono.fromRunnable(() -> {
+            String emailKey = emailKey(emailAddress);
+            VelocityLimit exceeded = emailTracker.tryAcquire(emailKey);
+            if (exceeded == null && hasUser(idUser)) {
+                exceeded = userTracker.tryAcquire(idUser);
+                if (exceeded != null) {
+                    emailTracker.release(emailKey);
+                }
+            }
+            if (exceeded != null) {
+                throw new VelocityLimitExceededException(exceeded);
+            }
+        });
+    }
+
+    /**
+     * Takes back an application counted by {@link #acquire} that could not be stored.
+     */
+    public void release(String idUser, String emailAddress) {
+        if (emailTracker == null) {
+            return;
+        }
+        emailTracker.release(emailKey(emailAddress));
+        if (hasUser(idUser)) {
+            userTracker.release(idUser);
+        }
+    }
+
+    /**
+     * Counts the orders stored within the longest window, so limits hold across restarts. Emits how many
+     * orders were counted.
+     *
+     * <p>Requests may be served while this runs, and {@link #acquire} already counts them, so only orders
+     * created before this limiter was built are counted here.</p>
+     */
+    public Mono<Long> rebuild() {
+        if (emailTracker == null) {
+            return Mono.just(0L);
+        }
+        Duration longest = emailTracker.limits().stream()
+                .map(VelocityLimit::window)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+        return ordersRepository.findCreatedSince(trackingSince.minus(longest))
+                .filter(order -> order.getCreationDate().isBefore(trackingSince))
+                .doOnNext(this::record)
+                .count();
+    }
+
+    /**
+     * Drops counters of applicants with no recent activity; returns how many were dropped.
+     */
+    public int evictIdle() {
+        return emailTracker == null ? 0 : emailTracker.evictIdle() + userTracker.evictIdle();
+    }
+
+    public VelocityTracker emailTracker() {
+        return emailTracker;
+    }
+
+    public VelocityTracker userTracker() {
+        return userTracker;
+    }
+
+    private void record(Orders order) {
+        emailTracker.record(emailKey(order.getEmailAddress()),
+                order.getCreationDate().atZone(clock.getZone()).toInstant().toEpochMilli());
+    }
+
+    private static String emailKey(String emailAddress) {
+        return emailAddress != null ? emailAddress.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static boolean hasUser(String idUser) {
+        return idUser != null && !idUser.isBlank();
+    }
+}
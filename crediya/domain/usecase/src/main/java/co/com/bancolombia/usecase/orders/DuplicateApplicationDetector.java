@@ -0,0 +1,111 @@
+package co.com.bancolombia.usecase.orders;
+
+import co.com.bancolombia.model.duplicate.ApplicationFingerprint;
+import co.com.bancolombia.model.duplicate.DuplicateAction;
+import co.com.bancolombia.model.duplicate.RecentApplicationIndex;
+import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.model.orders.exceptions.DuplicateApplicationException;
+import co.com.bancolombia.model.orders.gateways.OrdersRepository;
+import reactor.core.publisher.Mono;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Detects a loan application submitted again (same email, amount, term and loan type) within a short window.
+ *
+ * <p>Applications are registered in a {@link RecentApplicationIndex}, so repeats reaching this instance are
+ * caught in memory. When enabled, a miss is confirmed against the orders table to catch repeats that reached
+ * another instance. Depending on {@link DuplicateAction}, a repeat is rejected or answered with the first
+ * order as stored.</p>
+ */
+public class DuplicateApplicationDetector {
+
+    private static final Logger log = Loggers.getLogger(DuplicateApplicationDetector.class);
+
+    private final OrdersRepository ordersRepository;
+    private final DuplicateAction action;
+    private final Duration window;
+    private final boolean databaseFallback;
+    private final RecentApplicationIndex index;
+    private final Clock clock;
+
+    public DuplicateApplicationDetector(OrdersRepository ordersRepository, DuplicateAction action, Duration window,
+                                        int buckets, boolean databaseFallback) {
+        this(ordersRepository, action, window, databaseFallback, new RecentApplicationIndex(window, buckets),
+                Clock.systemDefaultZone());
+    }
+
+    DuplicateApplicationDetector(OrdersRepository ordersRepository, DuplicateAction action, Duration window,
+                                 boolean databaseFallback, RecentApplicationIndex index, Clock clock) {
+        this.ordersRepository = ordersRepository;
+        this.action = action;
+        this.window = window;
+        this.databaseFallback = databaseFallback;
+        this.index = index;
+        this.clock = clock;
+    }
+
+    /**
+     * Detector that lets every application through.
+     */
+    public static DuplicateApplicationDetector disabled() {
+        return new DuplicateApplicationDetector(null, null, null, false, null, null);
+    }
+
+    /**
+     * Registers the order and emits empty when it is new. For a repeat, fails with
+     * {@link DuplicateApplicationException} or emits the first order, depending on the configured action.
+     */
+    public Mono<Orders> check(Orders order) {
+        if (index == null) {
+            return Mono.empty();
+        }
+        return Mono.defer(() -> {
+            ApplicationFingerprint fingerprint = ApplicationFingerprint.of(order);
+            Orders existing = index.putIfAbsent(fingerprint, order);
+            if (existing != null) {
+                return action == DuplicateAction.MERGE ? findStored(existing) : resolve(existing);
+            }
+            if (!databaseFallback) {
+                return Mono.empty();
+            }
+            // A failed lookup must not block the application; it is only a second line of defence
+            return ordersRepository.findRecentDuplicate(order.getEmailAddress(), order.getAmount(),
+                            order.getDeadline(), order.getIdLoanType(), LocalDateTime.now(clock).minus(window))
+                    .onErrorResume(error -> {
+                        log.warn("No se pudo verificar en base de datos si la solicitud de {} es duplicada; "
+                                + "se acepta sin confirmar: {}", order.getEmailAddress(), error.toString());
+                        return Mono.empty();
+                    })
+                    .doOnNext(found -> index.replace(fingerprint, order, found))
+                    .flatMap(this::resolve);
+        });
+    }
+
+    /**
+     * Forgets the order, so a retry after a failed insert is not taken for a duplicate.
+     */
+    public void release(Orders order) {
+        if (index != null) {
+            index.remove(ApplicationFingerprint.of(order), order);
+        }
+    }
+
+    /**
+     * The index is filled before the insert runs, so a merge answers the order read back from the table, with its
+     * current status. While the first insert has not landed, or after it failed, the repeat is let through.
+     */
+    private Mono<Orders> findStored(Orders existing) {
+        return ordersRepository.findById(existing.getId());
+    }
+
+    private Mono<Orders> resolve(Orders existing) {
+        return action == DuplicateAction.MERGE
+                ? Mono.just(existing)
+                : Mono.error(new DuplicateApplicationException(existing.getId()));
+    }
+}
@@ -1,45 +1,202 @@
 package co.com.bancolombia.usecase.orders;
 
+import co.com.bancolombia.model.amortization.AmortizationEngine;
+import co.com.bancolombia.model.amortization.AmortizationSchedule;
+import co.com.bancolombia.model.autodecision.ApplicantFinancials;
+import co.com.bancolombia.model.autodecision.gateways.ApplicantFinancialsRepository;
 import co.com.bancolombia.model.enums.StatusEnum;
 import co.com.bancolombia.model.loantype.LoanType;
 import co.com.bancolombia.model.loantype.gateways.LoanTypeRepository;
-import co.com.bancolombia.model.notification.gateways.NotificationGateway;
+import co.com.bancolombia.model.orders.BatchItemResult;
+import co.com.bancolombia.model.orders.DecisionResult;
+import co.com.bancolombia.model.orders.LoanRequestItem;
+import co.com.bancolombia.model.orders.OrderDecision;
 import co.com.bancolombia.model.orders.Orders;
 import co.com.bancolombia.model.orders.PendingRequest;
 import co.com.bancolombia.model.orders.exceptions.InvalidLoanAmountException;
 import co.com.bancolombia.model.orders.exceptions.LoanTypeNotFoundException;
 import co.com.bancolombia.model.orders.exceptions.OrdersBusinessException;
 import co.com.bancolombia.model.orders.gateways.OrdersRepository;
+import co.com.bancolombia.model.status.StatusRegistry;
+import co.com.bancolombia.usecase.autodecision.AutomaticDecisionEngine;
 import co.com.bancolombia.usecase.orders.interfaces.IOrdersUseCase;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-
-import java.time.LocalDateTime;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+import reactor.util.function.Tuple2;
 
 import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 public class OrdersUseCase implements IOrdersUseCase {
+
+    private static final Logger log = Loggers.getLogger(OrdersUseCase.class);
+    static final String ITEM_INTERNAL_ERROR = "Error interno al procesar la solicitud";
+    static final String ITEM_WRITE_ERROR = "No se pudo guardar la solicitud";
+    // Automatic decisions of one chunk in flight at once; results still follow the submission order
+    private static final int DECISION_CONCURRENCY = 8;
     
     private final OrdersRepository ordersRepository;
     private final LoanTypeRepository loanTypeRepository;
-    private final NotificationGateway notificationGateway;
+    private final StatusRegistry statusRegistry;
+    private final ApplicantFinancialsRepository applicantFinancialsRepository;
+    private final AutomaticDecisionEngine automaticDecisionEngine;
+    private final AmortizationEngine amortizationEngine;
+    private final DuplicateApplicationDetector duplicateApplicationDetector;
+    private final ApplicationVelocityLimiter applicationVelocityLimiter;
 
+    /**
+     * Stores the order as PENDING; orders of loan types with automatic validation are then decided by the
+     * eligibility rules and leave the assessor queue, unless the rules cannot decide them.
+     * A repeat of an application received moments earlier is rejected or answered with the first order;
+     * any other application counts towards the applicant's velocity limits, and is refused once they are reached.
+     */
         public Mono<Orders> createLoanRequest(String idUser, BigDecimal amount, Integer deadline,
                                         String emailAddress, String loanTypeId) {
         
         return validateLoanType(loanTypeId)
                 .flatMap(loanType -> {
                     validateLoanAmountSync(amount, loanType);
-                    return getPendingStatusId()
-                            .flatMap(pendingStatusId -> createAndValidateOrder(
-                                    idUser, amount, deadline, emailAddress, loanTypeId, pendingStatusId))
-                            .flatMap(this::saveOrder);
+                    return createAndValidateOrder(idUser, amount, deadline, emailAddress, loanTypeId,
+                                    statusRegistry.idOf(StatusEnum.PENDING))
+                            .flatMap(order -> duplicateApplicationDetector.check(order)
+                                    .switchIfEmpty(Mono.defer(() -> insertWithinLimits(idUser, order)
+                                            .flatMap(saved -> applyAutomaticDecision(saved, loanType)))));
+                });
+    }
+
+    /**
+     * Both reservations are taken back when the order is not stored, so a retry is neither taken for a
+     * duplicate nor counted twice.
+     */
+    private Mono<Orders> insertWithinLimits(String idUser, Orders order) {
+        return applicationVelocityLimiter.acquire(idUser, order.getEmailAddress())
+                .doOnError(error -> duplicateApplicationDetector.release(order))
+                .then(Mono.defer(() -> ordersRepository.insert(order)
+                        .doOnError(error -> {
+                            duplicateApplicationDetector.release(order);
+                            applicationVelocityLimiter.release(idUser, order.getEmailAddress());
+                        })));
+    }
+
+    /**
+     * Moves the stored order to the status chosen by the rules with the same conditional UPDATE used by
+     * assessors, so the decision is queued in the outbox too. Any failure is logged and leaves the order PENDING.
+     */
+    private Mono<Orders> applyAutomaticDecision(Orders order, LoanType loanType) {
+        if (!Boolean.TRUE.equals(loanType.getAutomaticValidation())) {
+            return Mono.just(order);
+        }
+        Mono<ApplicantFinancials> financials = automaticDecisionEngine.requiresFinancials(loanType.getId())
+                ? applicantFinancialsRepository.findByEmailAddress(order.getEmailAddress(),
+                        statusRegistry.idOf(StatusEnum.APPROVED))
+                : Mono.empty();
+
+        return financials
+                .map(found -> automaticDecisionEngine.evaluate(order, loanType, found))
+                .switchIfEmpty(Mono.fromSupplier(() -> automaticDecisionEngine.evaluate(order, loanType, null)))
+                .flatMap(decision -> decision.isFinal()
+                        ? ordersRepository.updateStatusIfCurrent(order.getId(), statusRegistry.idOf(StatusEnum.PENDING),
+                                statusRegistry.idOf(decision.getStatus()))
+                        : Mono.<Orders>empty())
+                .defaultIfEmpty(order)
+                .onErrorResume(ex -> {
+                    log.warn("No se pudo decidir automáticamente la solicitud {}; queda pendiente: {}",
+                            order.getId(), ex.getMessage());
+                    return Mono.just(order);
+                });
+    }
+
+    /**
+     * Validates and stores a stream of loan requests chunk by chunk, so only one chunk is held in memory.
+     * Each chunk is written with a single multi-row insert; results keep the submission order. Every valid
+     * item counts towards the applicant's velocity limits, and items over a limit are rejected.
+     */
+    @Override
+    public Flux<BatchItemResult> createLoanRequests(String idUser, Flux<LoanRequestItem> items, int chunkSize) {
+        return items.index()
+                .buffer(Math.max(1, chunkSize))
+                .concatMap(chunk -> processChunk(idUser, chunk));
+    }
+
+    private Flux<BatchItemResult> processChunk(String idUser, List<Tuple2<Long, LoanRequestItem>> chunk) {
+        String pendingStatusId = statusRegistry.idOf(StatusEnum.PENDING);
+
+        return Flux.fromIterable(chunk)
+                .concatMap(entry -> prepareOrder(idUser, entry.getT1(), entry.getT2(), pendingStatusId)
+                        .onErrorResume(ex -> Mono.just(new PreparedItem(entry.getT1(), null, null,
+                                itemError(entry.getT1(), ex)))))
+                .collectList()
+                .flatMapMany(prepared -> {
+                    List<Orders> valid = prepared.stream()
+                            .filter(PreparedItem::isValid)
+                            .map(PreparedItem::order)
+                            .toList();
+                    Mono<Void> write = valid.isEmpty() ? Mono.empty() : ordersRepository.insertAll(valid)
+                            .doOnError(error -> valid.forEach(order ->
+                                    applicationVelocityLimiter.release(idUser, order.getEmailAddress())));
+
+                    return write.thenMany(Flux.fromIterable(prepared)
+                                    .flatMapSequential(item -> item.isValid()
+                                            ? applyAutomaticDecision(item.order(), item.loanType()).thenReturn(item)
+                                            : Mono.just(item), DECISION_CONCURRENCY)
+                                    .map(PreparedItem::toResult))
+                            .onErrorResume(ex -> {
+                                log.error("Error guardando el lote de {} solicitudes del usuario {}",
+                                        valid.size(), idUser, ex);
+                                return Flux.fromIterable(prepared)
+                                        .map(item -> item.isValid()
+                                                ? BatchItemResult.rejected(item.index(), ITEM_WRITE_ERROR)
+                                                : item.toResult());
+                            });
                 });
     }
 
+    /**
+     * Business validation messages are meant for the client; anything else is logged here and answered
+     * with a fixed message so driver or SQL details never reach the response.
+     */
+    private String itemError(long index, Throwable ex) {
+        if (ex instanceof OrdersBusinessException) {
+            return ex.getMessage();
+        }
+        log.error("Error inesperado procesando el elemento {} del lote", index, ex);
+        return ITEM_INTERNAL_ERROR;
+    }
+
+    private Mono<PreparedItem> prepareOrder(String idUser, long index, LoanRequestItem item, String pendingStatusId) {
+        return createAndValidateOrder(idUser, item.getAmount(), item.getDeadline(),
+                        item.getEmailAddress(), item.getLoanTypeId(), pendingStatusId)
+                .flatMap(order -> validateLoanType(order.getIdLoanType())
+                        .map(loanType -> {
+                            validateLoanAmountSync(order.getAmount(), loanType);
+                            return new PreparedItem(index, order, loanType, null);
+                        }))
+                .flatMap(prepared -> applicationVelocityLimiter.acquire(idUser, item.getEmailAddress())
+                        .thenReturn(prepared));
+    }
+
+    private record PreparedItem(long index, Orders order, LoanType loanType, String error) {
+
+        boolean isValid() {
+            return order != null;
+        }
+
+        BatchItemResult toResult() {
+            return isValid() ? BatchItemResult.created(index, order.getId()) : BatchItemResult.rejected(index, error);
+        }
+    }
+
     private Mono<LoanType> validateLoanType(String loanTypeId) {
         return loanTypeRepository.findById(loanTypeId)
                 .switchIfEmpty(Mono.error(new LoanTypeNotFoundException(loanTypeId)));
@@ -57,12 +214,6 @@ public class OrdersUseCase implements IOrdersUseCase {
         }
     }
 
-    private Mono<String> getPendingStatusId() {
-        return ordersRepository.findPendingStatusId()
-                .switchIfEmpty(Mono.error(new OrdersBusinessException("PENDING_STATUS_NOT_FOUND", 
-                                                                     "No se encontró el estado 'PENDING'")));
-    }
-
     private Mono<Orders> createAndValidateOrder(String idUser, BigDecimal amount, Integer deadline,
                                               String emailAddress, String loanTypeId, String pendingStatusId) {
         return Mono.fromCallable(() -> {
@@ -72,16 +223,6 @@ public class OrdersUseCase implements IOrdersUseCase {
         });
     }
 
-    private Mono<Orders> saveOrder(Orders order) {
-        return ordersRepository.save(order);
-    }
-
-    private Mono<Orders> sendDecisionNotification(Orders order) {
-        return notificationGateway.notifyOrderDecision(order)
-                .then(Mono.just(order))
-                .onErrorReturn(order);
-    }
-
     public Mono<Orders> findById(String orderId) {
         return ordersRepository.findById(orderId)
                 .switchIfEmpty(Mono.error(new OrdersBusinessException("ORDER_NOT_FOUND", 
@@ -93,45 +234,146 @@ public class OrdersUseCase implements IOrdersUseCase {
         return ordersRepository.findByEmailAddress(emailAddress);
     }
 
+    /**
+     * The monthly amount is the French-system installment for the order's amount, term and loan type rate.
+     */
     @Override
     public Flux<PendingRequest> findPendingRequests(UUID statusId, String email, int page, int size) {
-        return ordersRepository.findPendingRequests(statusId, email, page, size);
+        return ordersRepository.findPendingRequests(statusId, email, page, size)
+                .map(request -> {
+                    request.setMonthlyAmount(amortizationEngine.monthlyAmount(
+                            request.getAmount(), request.getInterestRate(), request.getDeadline()));
+                    return request;
+                });
     }
 
+    /**
+     * Full French-system schedule of the order at its loan type's rate; schedules are shared through the
+     * engine's cache, so orders with the same amount, rate and term are built once.
+     */
     @Override
-    public Mono<Orders> updateOrderDecision(String orderId, String decision) {
+    public Mono<AmortizationSchedule> getAmortizationSchedule(String orderId) {
         return findById(orderId)
-                .flatMap(order -> validateOrderCanBeUpdated(order))
-                .flatMap(order -> getNewStatusId(decision)
-                        .flatMap(newStatusId -> updateOrderWithNewStatus(order, newStatusId)))
-                .flatMap(this::saveOrder);
-                // TODO: Descomentar cuando AWS esté configurado
-                // .flatMap(this::sendDecisionNotification);
-    }
-
-    private Mono<Orders> validateOrderCanBeUpdated(Orders order) {
-        String pendingStatusId = StatusEnum.PENDING.getId();
-        if (!pendingStatusId.equals(order.getIdStatus())) {
-            return Mono.error(new OrdersBusinessException("ORDER_ALREADY_PROCESSED", 
-                    "La orden ya fue procesada y no puede modificarse"));
+                .flatMap(order -> validateLoanType(order.getIdLoanType())
+                        .map(loanType -> amortizationEngine.schedule(
+                                order.getAmount(), loanType.getInterestRate(), order.getDeadline())));
+    }
+
+    /**
+     * Applies the decision with a single conditional UPDATE, so two assessors cannot both decide the same order.
+     * Only when no row matched is the order read again, to tell a missing order from an already decided one.
+     * The notification is queued in the decision outbox by the same statement and published by the relay.
+     */
+    @Override
+    public Mono<Orders> updateOrderDecision(String orderId, String decision) {
+        return getNewStatusId(decision)
+                .flatMap(newStatusId -> ordersRepository.updateStatusIfCurrent(
+                        orderId, statusRegistry.idOf(StatusEnum.PENDING), newStatusId))
+                .switchIfEmpty(Mono.defer(() -> rejectUnmatchedDecision(orderId)));
+    }
+
+    /**
+     * Applies many decisions with one conditional UPDATE per target status and answers one outcome per decision,
+     * in request order. Orders that did not change are looked up in a single query to tell missing from decided.
+     */
+    @Override
+    public Flux<DecisionResult> updateOrderDecisions(List<OrderDecision> decisions) {
+        List<PlannedDecision> plan = planDecisions(decisions);
+        Map<String, List<String>> idsByTargetStatus = plan.stream()
+                .filter(PlannedDecision::isValid)
+                .collect(Collectors.groupingBy(PlannedDecision::targetStatusId, LinkedHashMap::new,
+                        Collectors.mapping(PlannedDecision::orderId, Collectors.toList())));
+        String pendingStatusId = statusRegistry.idOf(StatusEnum.PENDING);
+
+        return Flux.fromIterable(idsByTargetStatus.entrySet())
+                .concatMap(entry -> ordersRepository.updateStatusIfCurrentAll(entry.getValue(), pendingStatusId, entry.getKey()))
+                .collectList()
+                .flatMapMany(updated -> {
+                    Set<String> updatedIds = updated.stream().map(Orders::getId).collect(Collectors.toSet());
+                    List<String> unmatchedIds = plan.stream()
+                            .filter(PlannedDecision::isValid)
+                            .map(PlannedDecision::orderId)
+                            .filter(orderId -> !updatedIds.contains(orderId))
+                            .toList();
+
+                    return ordersRepository.findByIds(unmatchedIds)
+                            .map(Orders::getId)
+                            .collect(Collectors.toSet())
+                            .flatMapMany(existingIds -> Flux.fromIterable(plan)
+                                    .map(planned -> planned.toResult(updatedIds, existingIds)));
+                });
+    }
+
+    /**
+     * Ids are lowercased once here, since the repository answers them in canonical lowercase form; the
+     * normalized id is the one used for deduplication, grouping and matching the results.
+     */
+    private List<PlannedDecision> planDecisions(List<OrderDecision> decisions) {
+        Set<String> seenIds = new HashSet<>();
+        return decisions.stream()
+                .map(decision -> {
+                    if (decision.getOrderId() == null || decision.getOrderId().isBlank()) {
+                        return PlannedDecision.invalid(decision, "El ID de la solicitud es obligatorio");
+                    }
+                    String orderId = decision.getOrderId().toLowerCase(Locale.ROOT);
+                    if (!seenIds.add(orderId)) {
+                        return PlannedDecision.invalid(decision, "La solicitud está repetida en el lote");
+                    }
+                    String targetStatusId = targetStatusIdOf(decision.getDecision());
+                    if (targetStatusId == null) {
+                        return PlannedDecision.invalid(decision, "Decisión inválida: " + decision.getDecision());
+                    }
+                    return new PlannedDecision(decision, orderId, targetStatusId, null);
+                })
+                .toList();
+    }
+
+    private String targetStatusIdOf(String decision) {
+        if ("APPROVED".equals(decision)) {
+            return statusRegistry.idOf(StatusEnum.APPROVED);
+        }
+        if ("REJECTED".equals(decision)) {
+            return statusRegistry.idOf(StatusEnum.REJECTED);
+        }
+        return null;
+    }
+
+    private record PlannedDecision(OrderDecision decision, String orderId, String targetStatusId, String error) {
+
+        static PlannedDecision invalid(OrderDecision decision, String error) {
+            return new PlannedDecision(decision, null, null, error);
+        }
+
+        boolean isValid() {
+            return error == null;
+        }
+
+        DecisionResult toResult(Set<String> updatedIds, Set<String> existingIds) {
+            if (!isValid()) {
+                return DecisionResult.invalid(decision, error);
+            }
+            if (updatedIds.contains(orderId)) {
+                return DecisionResult.applied(decision);
+            }
+            return existingIds.contains(orderId)
+                    ? DecisionResult.alreadyProcessed(decision)
+                    : DecisionResult.notFound(decision);
         }
-        return Mono.just(order);
+    }
+
+    private Mono<Orders> rejectUnmatchedDecision(String orderId) {
+        return findById(orderId)
+                .flatMap(order -> Mono.<Orders>error(new OrdersBusinessException("ORDER_ALREADY_PROCESSED",
+                        "La orden ya fue procesada y no puede modificarse")));
     }
 
     private Mono<String> getNewStatusId(String decision) {
         return Mono.fromCallable(() -> {
             return switch (decision) {
-                case "APPROVED" -> StatusEnum.APPROVED.getId();
-                case "REJECTED" -> StatusEnum.REJECTED.getId();
+                case "APPROVED" -> statusRegistry.idOf(StatusEnum.APPROVED);
+                case "REJECTED" -> statusRegistry.idOf(StatusEnum.REJECTED);
                 default -> throw new IllegalArgumentException("Decisión inválida: " + decision);
             };
         });
     }
-
-    private Mono<Orders> updateOrderWithNewStatus(Orders order, String newStatusId) {
-        return Mono.fromCallable(() -> order.toBuilder()
-                .idStatus(newStatusId)
-                .updateDate(LocalDateTime.now())
-                .build());
-    }
-}
\ No newline at end of file
+}
\ No newline at end of file
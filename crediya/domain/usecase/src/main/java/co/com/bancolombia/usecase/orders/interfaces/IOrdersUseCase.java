@@ -1,11 +1,17 @@
 package co.com.bancolombia.usecase.orders.interfaces;
 
+import co.com.bancolombia.model.amortization.AmortizationSchedule;
+import co.com.bancolombia.model.orders.BatchItemResult;
+import co.com.bancolombia.model.orders.DecisionResult;
+import co.com.bancolombia.model.orders.LoanRequestItem;
+import co.com.bancolombia.model.orders.OrderDecision;
 import co.com.bancolombia.model.orders.PendingRequest;
 import co.com.bancolombia.model.orders.Orders;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 public interface IOrdersUseCase {
@@ -13,6 +19,8 @@ public interface IOrdersUseCase {
     Mono<Orders> createLoanRequest(String idUser, BigDecimal amount, Integer deadline, 
                                   String emailAddress, String loanTypeId);
 
+    Flux<BatchItemResult> createLoanRequests(String idUser, Flux<LoanRequestItem> items, int chunkSize);
+
     Mono<Orders> findById(String orderId);
 
     Flux<Orders> findByEmailAddress(String emailAddress);
@@ -20,4 +28,8 @@ public interface IOrdersUseCase {
     Flux<co.com.bancolombia.model.orders.PendingRequest> findPendingRequests(UUID statusId, String email, int page, int size);
 
     Mono<Orders> updateOrderDecision(String orderId, String decision);
+
+    Flux<DecisionResult> updateOrderDecisions(List<OrderDecision> decisions);
+
+    Mono<AmortizationSchedule> getAmortizationSchedule(String orderId);
 }   
\ No newline at end of file
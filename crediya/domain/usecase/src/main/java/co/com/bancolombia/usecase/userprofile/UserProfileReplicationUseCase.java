@@ -0,0 +1,53 @@
+package co.com.bancolombia.usecase.userprofile;
+
+import co.com.bancolombia.model.userprofile.ReplicationResult;
+import co.com.bancolombia.model.userprofile.UserChange;
+import co.com.bancolombia.model.userprofile.gateways.UserChangeFeedGateway;
+import co.com.bancolombia.model.userprofile.gateways.UserProfileRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Keeps the local user profile projection in sync with the user change feed.
+ * Each round resumes from the persisted cursor, so a restart never loses or re-applies changes.
+ */
+@RequiredArgsConstructor
+public class UserProfileReplicationUseCase {
+
+    private final UserChangeFeedGateway userChangeFeedGateway;
+    private final UserProfileRepository userProfileRepository;
+
+    public Mono<ReplicationResult> replicateNextBatch(int batchSize) {
+        if (batchSize <= 0) {
+            return Mono.error(new IllegalArgumentException("El tamaño del lote debe ser mayor que 0"));
+        }
+        return userProfileRepository.findLastAppliedSeq()
+                .defaultIfEmpty(0L)
+                .flatMap(lastSeq -> userChangeFeedGateway.fetchChangesAfter(lastSeq, batchSize)
+                        .collectList()
+                        .flatMap(changes -> changes.isEmpty()
+                                ? Mono.just(caughtUp(lastSeq))
+                                : userProfileRepository.applyChanges(changes)
+                                        .thenReturn(applied(changes, batchSize))));
+    }
+
+    private ReplicationResult caughtUp(long lastSeq) {
+        return ReplicationResult.builder()
+                .lastSeq(lastSeq)
+                .appliedChanges(0)
+                .caughtUp(true)
+                .build();
+    }
+
+    private ReplicationResult applied(List<UserChange> changes, int batchSize) {
+        UserChange last = changes.get(changes.size() - 1);
+        return ReplicationResult.builder()
+                .lastSeq(last.getSeq())
+                .appliedChanges(changes.size())
+                .lastChangeAt(last.getOccurredAt())
+                .caughtUp(changes.size() < batchSize)
+                .build();
+    }
+}
@@ -0,0 +1,136 @@
+package co.com.bancolombia.usecase.autodecision;
+
+import co.com.bancolombia.model.autodecision.ApplicantFinancials;
+import co.com.bancolombia.model.autodecision.AutomaticDecision;
+import co.com.bancolombia.model.autodecision.EligibilityPolicy;
+import co.com.bancolombia.model.enums.StatusEnum;
+import co.com.bancolombia.model.loantype.LoanType;
+import co.com.bancolombia.model.orders.Orders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AutomaticDecisionEngineTest {
+
+    private static final String MICROCREDITO = "550e8400-e29b-41d4-a716-446655441003";
+    private static final String LIBRANZA = "550e8400-e29b-41d4-a716-446655441002";
+
+    private AutomaticDecisionEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = AutomaticDecisionEngine.compile(List.of(EligibilityPolicy.builder()
+                        .loanTypeId(MICROCREDITO)
+                        .minAmount(new BigDecimal("100000"))
+                        .maxAmount(new BigDecimal("1000000"))
+                        .maxTermMonths(36)
+                        .maxDebtToIncome(new BigDecimal("0.35"))
+                        .build()),
+                EligibilityPolicy.builder().minTermMonths(1).maxTermMonths(60).build());
+    }
+
+    @Test
+    @DisplayName("Debe aprobar cuando el monto, el plazo y el endeudamiento están dentro de la política")
+    void shouldApproveWithinPolicy() {
+        // Act
+        AutomaticDecision decision = engine.evaluate(order("500000", 24), loanType(MICROCREDITO), financials("3000000", "200000"));
+
+        // Assert
+        assertEquals(StatusEnum.APPROVED, decision.getStatus());
+        assertNull(decision.getReason());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar cuando el plazo supera el máximo de la política")
+    void shouldRejectWhenTermExceedsPolicy() {
+        // Act
+        AutomaticDecision decision = engine.evaluate(order("500000", 48), loanType(MICROCREDITO), financials("3000000", "0"));
+
+        // Assert
+        assertEquals(StatusEnum.REJECTED, decision.getStatus());
+        assertTrue(decision.getReason().contains("plazo"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar cuando el monto está fuera del rango de la política")
+    void shouldRejectWhenAmountOutsidePolicy() {
+        // Act
+        AutomaticDecision decision = engine.evaluate(order("1200000", 12), loanType(MICROCREDITO), financials("3000000", "0"));
+
+        // Assert
+        assertEquals(StatusEnum.REJECTED, decision.getStatus());
+        assertTrue(decision.getReason().contains("monto"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar cuando la nueva cuota supera la capacidad de endeudamiento")
+    void shouldRejectWhenDebtToIncomeTooHigh() {
+        // Act
+        AutomaticDecision decision = engine.evaluate(order("1000000", 6), loanType(MICROCREDITO), financials("1000000", "200000"));
+
+        // Assert
+        assertEquals(StatusEnum.REJECTED, decision.getStatus());
+        assertTrue(decision.getReason().contains("35%"));
+    }
+
+    @Test
+    @DisplayName("Debe enviar a revisión manual cuando no hay perfil del solicitante")
+    void shouldRequestManualReviewWithoutProfile() {
+        // Act
+        AutomaticDecision decision = engine.evaluate(order("500000", 24), loanType(MICROCREDITO), null);
+
+        // Assert
+        assertEquals(StatusEnum.PENDING, decision.getStatus());
+        assertFalse(decision.isFinal());
+    }
+
+    @Test
+    @DisplayName("Debe aplicar la política por defecto a tipos de préstamo sin política propia")
+    void shouldUseDefaultPolicyForUnlistedLoanType() {
+        // Act & Assert
+        assertFalse(engine.requiresFinancials(LIBRANZA));
+        assertEquals(StatusEnum.APPROVED, engine.evaluate(order("5000000", 60), loanType(LIBRANZA), null).getStatus());
+        assertEquals(StatusEnum.REJECTED, engine.evaluate(order("5000000", 72), loanType(LIBRANZA), null).getStatus());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar políticas repetidas para el mismo tipo de préstamo")
+    void shouldRejectDuplicatedPolicies() {
+        // Arrange
+        EligibilityPolicy policy = EligibilityPolicy.builder().loanTypeId(MICROCREDITO).maxTermMonths(12).build();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> AutomaticDecisionEngine.compile(List.of(policy, policy), EligibilityPolicy.builder().build()));
+    }
+
+    private Orders order(String amount, int deadline) {
+        return Orders.builder()
+                .id("order-1")
+                .amount(new BigDecimal(amount))
+                .deadline(deadline)
+                .emailAddress("cliente@correo.com")
+                .build();
+    }
+
+    private LoanType loanType(String id) {
+        return LoanType.builder()
+                .id(id)
+                .interestRate(new BigDecimal("0.0299"))
+                .automaticValidation(true)
+                .build();
+    }
+
+    private ApplicantFinancials financials(String baseSalary, String monthlyDebt) {
+        return new ApplicantFinancials(new BigDecimal(baseSalary), new BigDecimal(monthlyDebt));
+    }
+}
@@ -0,0 +1,197 @@
+package co.com.bancolombia.usecase.decisionqueue;
+
+import co.com.bancolombia.model.decisionqueue.DecisionRequest;
+import co.com.bancolombia.model.decisionqueue.DecisionRequestStatus;
+import co.com.bancolombia.model.decisionqueue.gateways.DecisionRequestRepository;
+import co.com.bancolombia.model.enums.StatusEnum;
+import co.com.bancolombia.model.orders.DecisionResult;
+import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.model.orders.exceptions.OrdersBusinessException;
+import co.com.bancolombia.usecase.orders.interfaces.IOrdersUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for DecisionQueueUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class DecisionQueueUseCaseTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    @Mock
+    private IOrdersUseCase ordersUseCase;
+
+    @Mock
+    private DecisionRequestRepository decisionRequestRepository;
+
+    private DecisionQueueUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new DecisionQueueUseCase(ordersUseCase, decisionRequestRepository, LEASE, 3,
+                Duration.ofSeconds(1), Duration.ofSeconds(60));
+    }
+
+    private DecisionRequest buildRequest(String id, int attempts) {
+        return DecisionRequest.builder()
+                .id(id)
+                .orderId("order-" + id)
+                .decision("APPROVED")
+                .status(DecisionRequestStatus.PROCESSING)
+                .attempts(attempts)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should queue a valid decision for an existing order")
+    void shouldQueueDecision() {
+        // Arrange
+        when(ordersUseCase.findById("order-1")).thenReturn(Mono.just(Orders.builder().id("order-1").build()));
+        when(decisionRequestRepository.enqueue(any(DecisionRequest.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(useCase.submit("order-1", "REJECTED"))
+                .assertNext(request -> {
+                    assertEquals("order-1", request.getOrderId());
+                    assertEquals("REJECTED", request.getDecision());
+                    assertEquals(DecisionRequestStatus.QUEUED, request.getStatus());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should refuse an unknown decision without queueing it")
+    void shouldRefuseInvalidDecision() {
+        // Act & Assert
+        StepVerifier.create(useCase.submit("order-1", "MAYBE"))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(decisionRequestRepository, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("Should complete applied and already processed decisions")
+    void shouldCompleteAppliedAndAlreadyProcessed() {
+        // Arrange
+        when(decisionRequestRepository.claimBatch(10, LEASE))
+                .thenReturn(Flux.just(buildRequest("1", 1), buildRequest("2", 1)));
+        when(ordersUseCase.updateOrderDecision("order-1", "APPROVED"))
+                .thenReturn(Mono.just(Orders.builder().id("order-1").build()));
+        when(ordersUseCase.updateOrderDecision("order-2", "APPROVED"))
+                .thenReturn(Mono.error(new OrdersBusinessException("ORDER_ALREADY_PROCESSED", "Ya procesada")));
+        when(decisionRequestRepository.complete(anyString(), anyInt(), any(), anyString(), any()))
+                .thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(useCase.processNextBatch(10, 4))
+                .assertNext(result -> {
+                    assertEquals(2, result.getCompleted());
+                    assertEquals(0, result.getFailed());
+                    assertEquals(true, result.isDrained());
+                })
+                .verifyComplete();
+
+        verify(decisionRequestRepository).complete("1", 1, DecisionRequestStatus.COMPLETED,
+                DecisionResult.APPLIED, null);
+        verify(decisionRequestRepository).complete("2", 1, DecisionRequestStatus.COMPLETED,
+                DecisionResult.ALREADY_PROCESSED, "Ya procesada");
+    }
+
+    @Test
+    @DisplayName("Should record APPLIED when a re-claim finds the order already in the requested status")
+    void shouldRecordAppliedWhenEarlierAttemptAppliedDecision() {
+        // Arrange
+        when(decisionRequestRepository.claimBatch(10, LEASE))
+                .thenReturn(Flux.just(buildRequest("1", 2), buildRequest("2", 2)));
+        when(ordersUseCase.updateOrderDecision(anyString(), anyString()))
+                .thenReturn(Mono.error(new OrdersBusinessException("ORDER_ALREADY_PROCESSED", "Ya procesada")));
+        when(ordersUseCase.findById("order-1")).thenReturn(Mono.just(Orders.builder().id("order-1")
+                .idStatus(StatusEnum.APPROVED.getId()).build()));
+        when(ordersUseCase.findById("order-2")).thenReturn(Mono.just(Orders.builder().id("order-2")
+                .idStatus(StatusEnum.REJECTED.getId()).build()));
+        when(decisionRequestRepository.complete(anyString(), anyInt(), any(), anyString(), any()))
+                .thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(useCase.processNextBatch(10, 4))
+                .assertNext(result -> assertEquals(2, result.getCompleted()))
+                .verifyComplete();
+
+        verify(decisionRequestRepository).complete("1", 2, DecisionRequestStatus.COMPLETED,
+                DecisionResult.APPLIED, null);
+        verify(decisionRequestRepository).complete("2", 2, DecisionRequestStatus.COMPLETED,
+                DecisionResult.ALREADY_PROCESSED, "Ya procesada");
+    }
+
+    @Test
+    @DisplayName("Should retry a transient error with backoff and give up after the last attempt")
+    void shouldRetryThenFail() {
+        // Arrange
+        when(decisionRequestRepository.claimBatch(2, LEASE))
+                .thenReturn(Flux.just(buildRequest("1", 2), buildRequest("2", 3)));
+        when(ordersUseCase.updateOrderDecision(anyString(), anyString()))
+                .thenReturn(Mono.error(new RuntimeException("Conexión perdida")));
+        when(decisionRequestRepository.scheduleRetry("1", 2, Duration.ofSeconds(2), "Conexión perdida"))
+                .thenReturn(Mono.just(true));
+        when(decisionRequestRepository.complete("2", 3, DecisionRequestStatus.FAILED, null, "Conexión perdida"))
+                .thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(useCase.processNextBatch(2, 2))
+                .assertNext(result -> {
+                    assertEquals(0, result.getCompleted());
+                    assertEquals(2, result.getFailed());
+                    assertEquals(false, result.isDrained());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should not count a decision as completed when its lease was lost to another worker")
+    void shouldNotCountLostLease() {
+        // Arrange
+        when(decisionRequestRepository.claimBatch(10, LEASE)).thenReturn(Flux.just(buildRequest("1", 1)));
+        when(ordersUseCase.updateOrderDecision("order-1", "APPROVED"))
+                .thenReturn(Mono.just(Orders.builder().id("order-1").build()));
+        when(decisionRequestRepository.complete("1", 1, DecisionRequestStatus.COMPLETED, DecisionResult.APPLIED, null))
+                .thenReturn(Mono.just(false));
+
+        // Act & Assert
+        StepVerifier.create(useCase.processNextBatch(10, 4))
+                .assertNext(result -> {
+                    assertEquals(0, result.getCompleted());
+                    assertEquals(1, result.getFailed());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should cap the backoff at the configured maximum")
+    void shouldCapBackoff() {
+        assertEquals(Duration.ofSeconds(1), useCase.backoffFor(1));
+        assertEquals(Duration.ofSeconds(4), useCase.backoffFor(3));
+        assertEquals(Duration.ofSeconds(60), useCase.backoffFor(10));
+    }
+}
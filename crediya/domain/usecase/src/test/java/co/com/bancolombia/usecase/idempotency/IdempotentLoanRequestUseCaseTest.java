@@ -0,0 +1,249 @@
+package co.com.bancolombia.usecase.idempotency;
+
+import co.com.bancolombia.model.idempotency.IdempotencyRecord;
+import co.com.bancolombia.model.idempotency.gateways.IdempotencyRepository;
+import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.model.orders.exceptions.OrdersBusinessException;
+import co.com.bancolombia.usecase.orders.interfaces.IOrdersUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for IdempotentLoanRequestUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotentLoanRequestUseCaseTest {
+
+    private static final String USER_ID = "user-1";
+    private static final String KEY = "retry-key-1";
+    private static final BigDecimal AMOUNT = new BigDecimal("50000.00");
+    private static final String EMAIL = "test@example.com";
+    private static final String LOAN_TYPE_ID = "550e8400-e29b-41d4-a716-446655441003";
+    private static final Duration TTL = Duration.ofHours(24);
+    private static final Duration LEASE = Duration.ofSeconds(30);
+    private static final String OWNER = "7d444840-9dc0-11d1-b245-5ffdce74fad2";
+
+    @Mock
+    private IOrdersUseCase ordersUseCase;
+
+    @Mock
+    private IdempotencyRepository idempotencyRepository;
+
+    private IdempotentLoanRequestUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new IdempotentLoanRequestUseCase(ordersUseCase, idempotencyRepository,
+                TTL, LEASE, 100, Duration.ofMillis(50), Duration.ofMillis(10));
+    }
+
+    private Orders buildOrder() {
+        return Orders.builder()
+                .id("order-123")
+                .amount(AMOUNT)
+                .deadline(24)
+                .emailAddress(EMAIL)
+                .idLoanType(LOAN_TYPE_ID)
+                .build();
+    }
+
+    private Mono<Orders> create(BigDecimal amount) {
+        return useCase.createLoanRequest(USER_ID, KEY, amount, 24, EMAIL, LOAN_TYPE_ID);
+    }
+
+    @Test
+    @DisplayName("Should create the order once and replay it from memory")
+    void shouldCreateOnceAndReplayFromMemory() {
+        // Arrange
+        Orders order = buildOrder();
+        when(idempotencyRepository.reserve(anyString(), anyString(), any(Duration.class))).thenReturn(Mono.just(OWNER));
+        when(ordersUseCase.createLoanRequest(USER_ID, AMOUNT, 24, EMAIL, LOAN_TYPE_ID)).thenReturn(Mono.just(order));
+        when(idempotencyRepository.complete(anyString(), eq(OWNER), eq("order-123"), eq(TTL)))
+                .thenReturn(Mono.just(true));
+
+        // Act & Assert
+        StepVerifier.create(create(AMOUNT))
+                .expectNext(order)
+                .verifyComplete();
+        StepVerifier.create(create(new BigDecimal("50000")))
+                .expectNext(order)
+                .verifyComplete();
+
+        verify(ordersUseCase, times(1)).createLoanRequest(USER_ID, AMOUNT, 24, EMAIL, LOAN_TYPE_ID);
+        verify(idempotencyRepository, times(1)).reserve(anyString(), anyString(), eq(LEASE));
+        verify(idempotencyRepository).complete(anyString(), eq(OWNER), eq("order-123"), eq(TTL));
+    }
+
+    @Test
+    @DisplayName("Should share the first execution with concurrent duplicates")
+    void shouldShareExecutionWithConcurrentDuplicates() {
+        // Arrange
+        Orders order = buildOrder();
+        Sinks.One<Orders> creation = Sinks.one();
+        when(idempotencyRepository.reserve(anyString(), anyString(), any(Duration.class))).thenReturn(Mono.just(OWNER));
+        when(ordersUseCase.createLoanRequest(USER_ID, AMOUNT, 24, EMAIL, LOAN_TYPE_ID)).thenReturn(creation.asMono());
+        when(idempotencyRepository.complete(anyString(), eq(OWNER), eq("order-123"), eq(TTL)))
+                .thenReturn(Mono.just(true));
+
+        Mono<Orders> first = create(AMOUNT);
+        Mono<Orders> second = create(AMOUNT);
+
+        // Act & Assert
+        StepVerifier.create(first.zipWith(second))
+                .then(() -> creation.tryEmitValue(order))
+                .expectNextMatches(pair -> pair.getT1() == order && pair.getT2() == order)
+                .verifyComplete();
+
+        verify(ordersUseCase, times(1)).createLoanRequest(USER_ID, AMOUNT, 24, EMAIL, LOAN_TYPE_ID);
+    }
+
+    @Test
+    @DisplayName("Should return the stored order when another instance already completed the key")
+    void shouldReturnStoredOrderWhenKeyCompletedElsewhere() {
+        // Arrange
+        Orders order = buildOrder();
+        String requestHash = IdempotentLoanRequestUseCase.sha256("50000|24|" + EMAIL + "|" + LOAN_TYPE_ID);
+        when(idempotencyRepository.reserve(anyString(), anyString(), any(Duration.class))).thenReturn(Mono.empty());
+        when(idempotencyRepository.findActive(anyString())).thenReturn(Mono.just(IdempotencyRecord.builder()
+                .requestHash(requestHash)
+                .orderId("order-123")
+                .build()));
+        when(ordersUseCase.findById("order-123")).thenReturn(Mono.just(order));
+
+        // Act & Assert
+        StepVerifier.create(create(AMOUNT))
+                .expectNext(order)
+                .verifyComplete();
+
+        verify(ordersUseCase, never()).createLoanRequest(anyString(), any(), any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with a different request")
+    void shouldRejectKeyReusedWithDifferentRequest() {
+        // Arrange
+        when(idempotencyRepository.reserve(anyString(), anyString(), any(Duration.class))).thenReturn(Mono.empty());
+        when(idempotencyRepository.findActive(anyString())).thenReturn(Mono.just(IdempotencyRecord.builder()
+                .requestHash("another-request")
+                .orderId("order-123")
+                .build()));
+        when(ordersUseCase.findById("order-123")).thenReturn(Mono.just(buildOrder()));
+
+        // Act & Assert
+        StepVerifier.create(create(AMOUNT))
+                .expectErrorMatches(error -> error instanceof OrdersBusinessException
+                        && "IDEMPOTENCY_KEY_REUSED".equals(((OrdersBusinessException) error).getCode()))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should fail with in progress when the first execution does not finish in time")
+    void shouldFailWhenFirstExecutionDoesNotFinish() {
+        // Arrange
+        when(idempotencyRepository.reserve(anyString(), anyString(), any(Duration.class))).thenReturn(Mono.empty());
+        when(idempotencyRepository.findActive(anyString())).thenReturn(Mono.just(IdempotencyRecord.builder()
+                .requestHash("any")
+                .build()));
+
+        // Act & Assert
+        StepVerifier.create(create(AMOUNT))
+                .expectErrorMatches(error -> error instanceof OrdersBusinessException
+                        && "IDEMPOTENCY_IN_PROGRESS".equals(((OrdersBusinessException) error).getCode()))
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should release the key when the creation fails")
+    void shouldReleaseKeyWhenCreationFails() {
+        // Arrange
+        when(idempotencyRepository.reserve(anyString(), anyString(), any(Duration.class))).thenReturn(Mono.just(OWNER));
+        when(ordersUseCase.createLoanRequest(USER_ID, AMOUNT, 24, EMAIL, LOAN_TYPE_ID))
+                .thenReturn(Mono.error(new IllegalArgumentException("El plazo debe ser mayor que 0")));
+        when(idempotencyRepository.release(anyString(), eq(OWNER))).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(create(AMOUNT))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(idempotencyRepository).release(anyString(), eq(OWNER));
+        verify(idempotencyRepository, never()).complete(anyString(), anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Should retry recording the order instead of failing on a transient error")
+    void shouldRetryCompleteOnTransientError() {
+        // Arrange
+        Orders order = buildOrder();
+        AtomicInteger attempts = new AtomicInteger();
+        when(idempotencyRepository.reserve(anyString(), anyString(), any(Duration.class))).thenReturn(Mono.just(OWNER));
+        when(ordersUseCase.createLoanRequest(USER_ID, AMOUNT, 24, EMAIL, LOAN_TYPE_ID)).thenReturn(Mono.just(order));
+        when(idempotencyRepository.complete(anyString(), eq(OWNER), eq("order-123"), eq(TTL)))
+                .thenReturn(Mono.defer(() -> attempts.incrementAndGet() == 1
+                        ? Mono.error(new IllegalStateException("Conexión perdida"))
+                        : Mono.just(true)));
+
+        // Act & Assert
+        StepVerifier.create(create(AMOUNT))
+                .expectNext(order)
+                .verifyComplete();
+
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Should surface the error without releasing the key once the order exists")
+    void shouldNotReleaseKeyWhenCompleteFails() {
+        // Arrange
+        when(idempotencyRepository.reserve(anyString(), anyString(), any(Duration.class))).thenReturn(Mono.just(OWNER));
+        when(ordersUseCase.createLoanRequest(USER_ID, AMOUNT, 24, EMAIL, LOAN_TYPE_ID))
+                .thenReturn(Mono.just(buildOrder()));
+        when(idempotencyRepository.complete(anyString(), eq(OWNER), eq("order-123"), eq(TTL)))
+                .thenReturn(Mono.error(new IllegalStateException("Conexión perdida")));
+
+        // Act & Assert
+        StepVerifier.create(create(AMOUNT))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(5));
+
+        verify(idempotencyRepository, never()).release(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should still return the order when its reservation was taken over by another request")
+    void shouldReturnOrderWhenReservationLost() {
+        // Arrange
+        Orders order = buildOrder();
+        when(idempotencyRepository.reserve(anyString(), anyString(), any(Duration.class))).thenReturn(Mono.just(OWNER));
+        when(ordersUseCase.createLoanRequest(USER_ID, AMOUNT, 24, EMAIL, LOAN_TYPE_ID)).thenReturn(Mono.just(order));
+        when(idempotencyRepository.complete(anyString(), eq(OWNER), eq("order-123"), eq(TTL)))
+                .thenReturn(Mono.just(false));
+
+        // Act & Assert
+        StepVerifier.create(create(AMOUNT))
+                .expectNext(order)
+                .verifyComplete();
+
+        verify(idempotencyRepository, times(1)).complete(anyString(), eq(OWNER), eq("order-123"), eq(TTL));
+    }
+}
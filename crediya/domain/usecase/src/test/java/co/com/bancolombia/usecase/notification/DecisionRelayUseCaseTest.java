@@ -0,0 +1,147 @@
+package co.com.bancolombia.usecase.notification;
+
+import co.com.bancolombia.model.notification.DecisionOutboxEntry;
+import co.com.bancolombia.model.notification.gateways.DecisionOutboxRepository;
+import co.com.bancolombia.model.notification.gateways.NotificationGateway;
+import co.com.bancolombia.model.orders.Orders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for DecisionRelayUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class DecisionRelayUseCaseTest {
+
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    @Mock
+    private DecisionOutboxRepository outboxRepository;
+
+    @Mock
+    private NotificationGateway notificationGateway;
+
+    private DecisionRelayUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new DecisionRelayUseCase(outboxRepository, notificationGateway, LEASE,
+                Duration.ofSeconds(1), Duration.ofSeconds(60), 5);
+    }
+
+    private DecisionOutboxEntry buildEntry(long seq, int attempts) {
+        return DecisionOutboxEntry.builder()
+                .seq(seq)
+                .attempts(attempts)
+                .createdAt(LocalDateTime.now())
+                .order(Orders.builder().id("order-" + seq).build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should publish the claimed batch and mark it sent")
+    void shouldPublishAndMarkSent() {
+        // Arrange
+        when(outboxRepository.claimBatch(10, LEASE)).thenReturn(Flux.just(buildEntry(1, 1), buildEntry(2, 1)));
+        when(notificationGateway.notifyOrderDecisions(anyList())).thenReturn(Mono.empty());
+        when(outboxRepository.markSent(List.of(1L, 2L))).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(useCase.relayNextBatch(10))
+                .assertNext(result -> {
+                    assertEquals(2, result.getPublished());
+                    assertEquals(0, result.getFailed());
+                    assertEquals(true, result.isDrained());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should schedule a retry with backoff when publishing fails")
+    void shouldScheduleRetryWhenPublishingFails() {
+        // Arrange
+        when(outboxRepository.claimBatch(2, LEASE)).thenReturn(Flux.just(buildEntry(1, 1), buildEntry(2, 3)));
+        when(notificationGateway.notifyOrderDecisions(anyList())).thenReturn(Mono.error(new RuntimeException("SQS caído")));
+        when(outboxRepository.scheduleRetry(List.of(1L, 2L), Duration.ofSeconds(4))).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(useCase.relayNextBatch(2))
+                .assertNext(result -> assertEquals(2, result.getFailed()))
+                .verifyComplete();
+
+        verify(outboxRepository, never()).markSent(anyList());
+    }
+
+    @Test
+    @DisplayName("Should mark entries failed after their last attempt and retry the rest")
+    void shouldMarkExhaustedEntriesFailed() {
+        // Arrange
+        when(outboxRepository.claimBatch(2, LEASE)).thenReturn(Flux.just(buildEntry(1, 2), buildEntry(2, 5)));
+        when(notificationGateway.notifyOrderDecisions(anyList())).thenReturn(Mono.error(new RuntimeException("SQS caído")));
+        when(outboxRepository.markFailed(List.of(2L))).thenReturn(Mono.empty());
+        when(outboxRepository.scheduleRetry(List.of(1L), Duration.ofSeconds(2))).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(useCase.relayNextBatch(2))
+                .assertNext(result -> {
+                    assertEquals(1, result.getFailed());
+                    assertEquals(1, result.getAbandoned());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should purge sent entries chunk by chunk until a chunk comes back short")
+    void shouldPurgeSentEntriesInChunks() {
+        // Arrange
+        Duration retention = Duration.ofDays(7);
+        when(outboxRepository.deleteSentBefore(retention, 100)).thenReturn(Mono.just(100L), Mono.just(40L));
+
+        // Act & Assert
+        StepVerifier.create(useCase.purgeSent(retention, 100))
+                .expectNext(140L)
+                .verifyComplete();
+
+        verify(outboxRepository, times(2)).deleteSentBefore(retention, 100);
+    }
+
+    @Test
+    @DisplayName("Should report drained without publishing when the outbox is empty")
+    void shouldReportDrainedWhenEmpty() {
+        // Arrange
+        when(outboxRepository.claimBatch(10, LEASE)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(useCase.relayNextBatch(10))
+                .assertNext(result -> assertEquals(true, result.isDrained()))
+                .verifyComplete();
+
+        verify(notificationGateway, never()).notifyOrderDecisions(anyList());
+    }
+
+    @Test
+    @DisplayName("Backoff doubles per attempt and is capped")
+    void backoffIsExponentialAndCapped() {
+        assertEquals(Duration.ofSeconds(1), useCase.backoffFor(1));
+        assertEquals(Duration.ofSeconds(8), useCase.backoffFor(4));
+        assertEquals(Duration.ofSeconds(60), useCase.backoffFor(30));
+    }
+}
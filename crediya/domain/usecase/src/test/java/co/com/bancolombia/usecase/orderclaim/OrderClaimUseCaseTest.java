@@ -0,0 +1,89 @@
+package co.com.bancolombia.usecase.orderclaim;
+
+import co.com.bancolombia.model.enums.StatusEnum;
+import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.model.orders.exceptions.OrdersBusinessException;
+import co.com.bancolombia.model.orders.gateways.OrdersRepository;
+import co.com.bancolombia.model.status.Status;
+import co.com.bancolombia.model.status.StatusRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for OrderClaimUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderClaimUseCaseTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(15);
+    private static final String ASSESSOR_ID = "3f0c2d6e-8a4b-4c1d-9e2f-7a6b5c4d3e2f";
+
+    @Mock
+    private OrdersRepository ordersRepository;
+
+    private OrderClaimUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        StatusRegistry statusRegistry = StatusRegistry.from(Arrays.stream(StatusEnum.values())
+                .map(status -> new Status(status.getId(), status.getName()))
+                .toList());
+        useCase = new OrderClaimUseCase(ordersRepository, statusRegistry, LEASE, 50);
+    }
+
+    @Test
+    @DisplayName("Should claim pending orders for the assessor under the configured lease")
+    void shouldClaimPendingOrders() {
+        // Arrange
+        when(ordersRepository.claimPending(StatusEnum.PENDING.getId(), ASSESSOR_ID, 2, LEASE))
+                .thenReturn(Flux.just(Orders.builder().id("order-1").build(), Orders.builder().id("order-2").build()));
+
+        // Act & Assert
+        StepVerifier.create(useCase.claimNext(ASSESSOR_ID, 2))
+                .assertNext(order -> assertEquals("order-1", order.getId()))
+                .assertNext(order -> assertEquals("order-2", order.getId()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should refuse a claim size outside the allowed range")
+    void shouldRefuseInvalidClaimSize() {
+        // Act & Assert
+        StepVerifier.create(useCase.claimNext(ASSESSOR_ID, 51))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(ordersRepository, never()).claimPending(anyString(), anyString(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Should fail to release an order the assessor does not hold")
+    void shouldFailToReleaseUnclaimedOrder() {
+        // Arrange
+        when(ordersRepository.releaseClaim("order-1", ASSESSOR_ID)).thenReturn(Mono.just(false));
+
+        // Act & Assert
+        StepVerifier.create(useCase.release("order-1", ASSESSOR_ID))
+                .expectErrorMatches(error -> error instanceof OrdersBusinessException businessError
+                        && "ORDER_NOT_CLAIMED".equals(businessError.getCode()))
+                .verify();
+    }
+}
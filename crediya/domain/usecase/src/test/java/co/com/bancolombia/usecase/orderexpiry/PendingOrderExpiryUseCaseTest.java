@@ -0,0 +1,106 @@
+package co.com.bancolombia.usecase.orderexpiry;
+
+import co.com.bancolombia.model.enums.StatusEnum;
+import co.com.bancolombia.model.expiry.PendingExpiryChunk;
+import co.com.bancolombia.model.expiry.PendingExpiryScope;
+import co.com.bancolombia.model.orders.gateways.OrdersRepository;
+import co.com.bancolombia.model.status.Status;
+import co.com.bancolombia.model.status.StatusRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for PendingOrderExpiryUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class PendingOrderExpiryUseCaseTest {
+
+    private static final String MICROCREDIT_ID = "550e8400-e29b-41d4-a716-446655441003";
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Mock
+    private OrdersRepository ordersRepository;
+
+    private PendingOrderExpiryUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        StatusRegistry statusRegistry = StatusRegistry.from(Arrays.stream(StatusEnum.values())
+                .map(status -> new Status(status.getId(), status.getName()))
+                .toList());
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        useCase = new PendingOrderExpiryUseCase(ordersRepository, statusRegistry, Duration.ofDays(30),
+                Map.of(MICROCREDIT_ID, Duration.ofDays(15)), 2, clock);
+    }
+
+    private PendingExpiryChunk buildChunk(String scope, int scanned, String lastId) {
+        return PendingExpiryChunk.builder()
+                .scope(scope)
+                .scanned(scanned)
+                .cancelled(scanned)
+                .lastCreationDate(NOW.minusDays(40))
+                .lastId(lastId)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should build one scope per configured loan type and a default scope for the rest")
+    void shouldBuildScopes() {
+        // Act
+        List<PendingExpiryScope> scopes = useCase.scopes();
+
+        // Assert
+        assertEquals(2, scopes.size());
+        assertEquals(List.of(MICROCREDIT_ID), scopes.get(0).getLoanTypeIds());
+        assertEquals(NOW.minusDays(15), scopes.get(0).getCreatedBefore());
+        assertEquals(PendingOrderExpiryUseCase.DEFAULT_SCOPE, scopes.get(1).getName());
+        assertEquals(List.of(), scopes.get(1).getLoanTypeIds());
+        assertEquals(List.of(MICROCREDIT_ID), scopes.get(1).getExcludedLoanTypeIds());
+        assertEquals(NOW.minusDays(30), scopes.get(1).getCreatedBefore());
+    }
+
+    @Test
+    @DisplayName("Should walk each scope chunk by chunk from the last order of the previous chunk")
+    void shouldWalkChunksWithKeyset() {
+        // Arrange
+        PendingExpiryChunk first = buildChunk(MICROCREDIT_ID, 2, "order-2");
+        PendingExpiryChunk second = buildChunk(MICROCREDIT_ID, 1, "order-3");
+        PendingExpiryChunk defaultChunk = buildChunk(PendingOrderExpiryUseCase.DEFAULT_SCOPE, 0, null);
+        when(ordersRepository.cancelStalePending(eq(StatusEnum.PENDING.getId()), eq(StatusEnum.CANCELLED.getId()),
+                any(PendingExpiryScope.class), isNull(), eq(2)))
+                .thenReturn(Mono.just(first), Mono.just(defaultChunk));
+        when(ordersRepository.cancelStalePending(eq(StatusEnum.PENDING.getId()), eq(StatusEnum.CANCELLED.getId()),
+                any(PendingExpiryScope.class), eq(first), eq(2)))
+                .thenReturn(Mono.just(second));
+
+        // Act & Assert
+        StepVerifier.create(useCase.expireStale())
+                .expectNext(first, second, defaultChunk)
+                .verifyComplete();
+
+        verify(ordersRepository).cancelStalePending(eq(StatusEnum.PENDING.getId()),
+                eq(StatusEnum.CANCELLED.getId()), any(PendingExpiryScope.class), eq(first), eq(2));
+    }
+}
@@ -0,0 +1,59 @@
+package co.com.bancolombia.usecase.orders;
+
+import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.model.orders.exceptions.VelocityLimitExceededException;
+import co.com.bancolombia.model.orders.gateways.OrdersRepository;
+import co.com.bancolombia.model.velocity.VelocityLimit;
+import co.com.bancolombia.model.velocity.VelocityTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ApplicationVelocityLimiter.
+ */
+@ExtendWith(MockitoExtension.class)
+class ApplicationVelocityLimiterTest {
+
+    @Mock
+    private OrdersRepository ordersRepository;
+
+    @Test
+    @DisplayName("Should rebuild from orders created before the limiter started, with emails in lowercase")
+    void shouldRebuildOnlyOrdersCreatedBeforeStart() {
+        // Arrange
+        Clock clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+        List<VelocityLimit> limits = List.of(new VelocityLimit(Duration.ofHours(1), 2));
+        ApplicationVelocityLimiter limiter = new ApplicationVelocityLimiter(ordersRepository,
+                new VelocityTracker(limits, 12, 4, 64), new VelocityTracker(limits, 12, 4, 64), clock);
+        LocalDateTime start = LocalDateTime.now(clock);
+        when(ordersRepository.findCreatedSince(any(LocalDateTime.class))).thenReturn(Flux.just(
+                Orders.builder().emailAddress(" User@Example.com").creationDate(start.minusMinutes(10)).build(),
+                // Created while the rebuild ran, already counted by acquire
+                Orders.builder().emailAddress("user@example.com").creationDate(start.plusSeconds(1)).build()));
+
+        // Act & Assert
+        StepVerifier.create(limiter.rebuild())
+                .expectNext(1L)
+                .verifyComplete();
+        StepVerifier.create(limiter.acquire("user-1", "user@example.com"))
+                .verifyComplete();
+        StepVerifier.create(limiter.acquire("user-2", "USER@example.com"))
+                .expectError(VelocityLimitExceededException.class)
+                .verify();
+    }
+}
@@ -1,12 +1,30 @@
 package co.com.bancolombia.usecase.orders;
 
+import co.com.bancolombia.model.amortization.AmortizationEngine;
+import co.com.bancolombia.model.autodecision.ApplicantFinancials;
+import co.com.bancolombia.model.autodecision.EligibilityPolicy;
+import co.com.bancolombia.model.autodecision.gateways.ApplicantFinancialsRepository;
+import co.com.bancolombia.model.duplicate.DuplicateAction;
+import co.com.bancolombia.model.enums.StatusEnum;
 import co.com.bancolombia.model.loantype.LoanType;
 import co.com.bancolombia.model.loantype.gateways.LoanTypeRepository;
+import co.com.bancolombia.model.orders.BatchItemResult;
+import co.com.bancolombia.model.orders.DecisionResult;
+import co.com.bancolombia.model.orders.LoanRequestItem;
+import co.com.bancolombia.model.orders.OrderDecision;
 import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.model.orders.PendingRequest;
+import co.com.bancolombia.model.orders.exceptions.DuplicateApplicationException;
 import co.com.bancolombia.model.orders.exceptions.InvalidLoanAmountException;
 import co.com.bancolombia.model.orders.exceptions.LoanTypeNotFoundException;
 import co.com.bancolombia.model.orders.exceptions.OrdersBusinessException;
+import co.com.bancolombia.model.orders.exceptions.VelocityLimitExceededException;
 import co.com.bancolombia.model.orders.gateways.OrdersRepository;
+import co.com.bancolombia.model.status.Status;
+import co.com.bancolombia.model.status.StatusRegistry;
+import co.com.bancolombia.model.velocity.VelocityLimit;
+import co.com.bancolombia.model.velocity.VelocityTracker;
+import co.com.bancolombia.usecase.autodecision.AutomaticDecisionEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,10 +36,23 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -37,11 +68,39 @@ class OrdersUseCaseTest {
     @Mock
     private LoanTypeRepository loanTypeRepository;
 
+    @Mock
+    private ApplicantFinancialsRepository applicantFinancialsRepository;
+
     private OrdersUseCase ordersUseCase;
 
     @BeforeEach
     void setUp() {
-        ordersUseCase = new OrdersUseCase(ordersRepository, loanTypeRepository);
+        ordersUseCase = useCaseWith(DuplicateApplicationDetector.disabled(), ApplicationVelocityLimiter.disabled());
+    }
+
+    private OrdersUseCase useCaseWith(DuplicateApplicationDetector duplicateApplicationDetector,
+                                      ApplicationVelocityLimiter applicationVelocityLimiter) {
+        AutomaticDecisionEngine engine = AutomaticDecisionEngine.compile(List.of(EligibilityPolicy.builder()
+                        .loanTypeId("550e8400-e29b-41d4-a716-446655441003")
+                        .maxTermMonths(36)
+                        .maxDebtToIncome(new BigDecimal("0.35"))
+                        .build()),
+                EligibilityPolicy.builder().maxTermMonths(60).build());
+        return new OrdersUseCase(ordersRepository, loanTypeRepository, buildStatusRegistry(),
+                applicantFinancialsRepository, engine, new AmortizationEngine(16), duplicateApplicationDetector,
+                applicationVelocityLimiter);
+    }
+
+    private StatusRegistry buildStatusRegistry() {
+        return StatusRegistry.from(Arrays.stream(StatusEnum.values())
+                .map(status -> new Status(status.getId(), status.getName()))
+                .toList());
+    }
+
+    private ApplicationVelocityLimiter buildVelocityLimiter(int maxPerHour) {
+        List<VelocityLimit> limits = List.of(new VelocityLimit(Duration.ofHours(1), maxPerHour));
+        return new ApplicationVelocityLimiter(ordersRepository, new VelocityTracker(limits, 12, 4, 64),
+                new VelocityTracker(limits, 12, 4, 64));
     }
 
     private LoanType buildValidLoanType() {
@@ -51,6 +110,13 @@ class OrdersUseCaseTest {
                 .minimumAmount(new BigDecimal("10000"))
                 .maximumAmount(new BigDecimal("500000"))
                 .interestRate(new BigDecimal("12.5"))
+                .automaticValidation(false)
+                .build();
+    }
+
+    private LoanType buildAutomaticLoanType() {
+        return buildValidLoanType().toBuilder()
+                .interestRate(new BigDecimal("0.0299"))
                 .automaticValidation(true)
                 .build();
     }
@@ -77,14 +143,12 @@ class OrdersUseCaseTest {
         Integer deadline = 24;
         String emailAddress = "test@example.com";
         String loanTypeId = "550e8400-e29b-41d4-a716-446655441003";
-        String pendingStatusId = "pending-status-id";
 
         LoanType loanType = buildValidLoanType();
         Orders expectedOrder = buildValidOrder();
 
         when(loanTypeRepository.findById(loanTypeId)).thenReturn(Mono.just(loanType));
-        when(ordersRepository.findPendingStatusId()).thenReturn(Mono.just(pendingStatusId));
-        when(ordersRepository.save(any(Orders.class))).thenReturn(Mono.just(expectedOrder));
+        when(ordersRepository.insert(any(Orders.class))).thenReturn(Mono.just(expectedOrder));
 
         StepVerifier.create(ordersUseCase.createLoanRequest(documentId, amount, deadline, emailAddress, loanTypeId))
                 .expectNext(expectedOrder)
@@ -109,6 +173,143 @@ class OrdersUseCaseTest {
                 .verify();
     }
 
+    @Test
+    @DisplayName("Create loan request - repeated application is rejected without a second insert")
+    void createLoanRequestDuplicateRejected() {
+        // Arrange
+        OrdersUseCase useCase = useCaseWith(new DuplicateApplicationDetector(ordersRepository,
+                DuplicateAction.REJECT, Duration.ofSeconds(30), 6, false), ApplicationVelocityLimiter.disabled());
+        String loanTypeId = "550e8400-e29b-41d4-a716-446655441003";
+        when(loanTypeRepository.findById(loanTypeId)).thenReturn(Mono.just(buildValidLoanType()));
+        when(ordersRepository.insert(any(Orders.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(useCase.createLoanRequest("user-1", new BigDecimal("50000"), 24, "test@example.com", loanTypeId))
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(useCase.createLoanRequest("user-1", new BigDecimal("50000.00"), 24, "test@example.com", loanTypeId))
+                .expectError(DuplicateApplicationException.class)
+                .verify();
+        verify(ordersRepository, times(1)).insert(any(Orders.class));
+    }
+
+    @Test
+    @DisplayName("Create loan request - repeated application is merged into the first order")
+    void createLoanRequestDuplicateMerged() {
+        // Arrange
+        OrdersUseCase useCase = useCaseWith(new DuplicateApplicationDetector(ordersRepository,
+                DuplicateAction.MERGE, Duration.ofSeconds(30), 6, false), ApplicationVelocityLimiter.disabled());
+        String loanTypeId = "550e8400-e29b-41d4-a716-446655441003";
+        when(loanTypeRepository.findById(loanTypeId)).thenReturn(Mono.just(buildValidLoanType()));
+        when(ordersRepository.insert(any(Orders.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        Orders first = useCase.createLoanRequest("user-1", new BigDecimal("50000"), 24, "test@example.com", loanTypeId)
+                .block();
+        Orders stored = first.toBuilder().idStatus(StatusEnum.APPROVED.getId()).build();
+        when(ordersRepository.findById(first.getId())).thenReturn(Mono.just(stored));
+
+        // Act & Assert
+        StepVerifier.create(useCase.createLoanRequest("user-1", new BigDecimal("50000"), 24, "test@example.com", loanTypeId))
+                .expectNext(stored)
+                .verifyComplete();
+        verify(ordersRepository, times(1)).insert(any(Orders.class));
+    }
+
+    @Test
+    @DisplayName("Create loan request - repeat is let through when the first order was never stored")
+    void createLoanRequestDuplicateMergedFirstNotStored() {
+        // Arrange
+        OrdersUseCase useCase = useCaseWith(new DuplicateApplicationDetector(ordersRepository,
+                DuplicateAction.MERGE, Duration.ofSeconds(30), 6, false), ApplicationVelocityLimiter.disabled());
+        String loanTypeId = "550e8400-e29b-41d4-a716-446655441003";
+        when(loanTypeRepository.findById(loanTypeId)).thenReturn(Mono.just(buildValidLoanType()));
+        when(ordersRepository.insert(any(Orders.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        Orders first = useCase.createLoanRequest("user-1", new BigDecimal("50000"), 24, "test@example.com", loanTypeId)
+                .block();
+        when(ordersRepository.findById(first.getId())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(useCase.createLoanRequest("user-1", new BigDecimal("50000"), 24, "test@example.com", loanTypeId))
+                .assertNext(order -> assertNotEquals(first.getId(), order.getId()))
+                .verifyComplete();
+        verify(ordersRepository, times(2)).insert(any(Orders.class));
+    }
+
+    @Test
+    @DisplayName("Create loan request - duplicate stored by another instance is found in the database")
+    void createLoanRequestDuplicateFoundInDatabase() {
+        // Arrange
+        OrdersUseCase useCase = useCaseWith(new DuplicateApplicationDetector(ordersRepository,
+                DuplicateAction.REJECT, Duration.ofSeconds(30), 6, true), ApplicationVelocityLimiter.disabled());
+        String loanTypeId = "550e8400-e29b-41d4-a716-446655441003";
+        when(loanTypeRepository.findById(loanTypeId)).thenReturn(Mono.just(buildValidLoanType()));
+        when(ordersRepository.findRecentDuplicate(eq("test@example.com"), any(BigDecimal.class), eq(24), eq(loanTypeId),
+                any(LocalDateTime.class))).thenReturn(Mono.just(buildValidOrder()));
+
+        // Act & Assert
+        StepVerifier.create(useCase.createLoanRequest("user-1", new BigDecimal("50000"), 24, "test@example.com", loanTypeId))
+                .expectError(DuplicateApplicationException.class)
+                .verify();
+        verify(ordersRepository, never()).insert(any(Orders.class));
+    }
+
+    @Test
+    @DisplayName("Create loan request - applicant over the hourly limit is refused without an insert")
+    void createLoanRequestVelocityLimitExceeded() {
+        // Arrange
+        OrdersUseCase useCase = useCaseWith(DuplicateApplicationDetector.disabled(), buildVelocityLimiter(1));
+        String loanTypeId = "550e8400-e29b-41d4-a716-446655441003";
+        when(loanTypeRepository.findById(loanTypeId)).thenReturn(Mono.just(buildValidLoanType()));
+        when(ordersRepository.insert(any(Orders.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(useCase.createLoanRequest("user-1", new BigDecimal("50000"), 24, "test@example.com", loanTypeId))
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(useCase.createLoanRequest("user-1", new BigDecimal("60000"), 12, "test@example.com", loanTypeId))
+                .expectError(VelocityLimitExceededException.class)
+                .verify();
+        verify(ordersRepository, times(1)).insert(any(Orders.class));
+    }
+
+    @Test
+    @DisplayName("Create loan request - changing the email case does not bypass the limit")
+    void createLoanRequestVelocityLimitIgnoresEmailCase() {
+        // Arrange
+        OrdersUseCase useCase = useCaseWith(DuplicateApplicationDetector.disabled(), buildVelocityLimiter(1));
+        String loanTypeId = "550e8400-e29b-41d4-a716-446655441003";
+        when(loanTypeRepository.findById(loanTypeId)).thenReturn(Mono.just(buildValidLoanType()));
+        when(ordersRepository.insert(any(Orders.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(useCase.createLoanRequest("user-1", new BigDecimal("50000"), 24, "test@example.com", loanTypeId))
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(useCase.createLoanRequest("user-2", new BigDecimal("60000"), 12, "Test@Example.com", loanTypeId))
+                .expectError(VelocityLimitExceededException.class)
+                .verify();
+        verify(ordersRepository, times(1)).insert(any(Orders.class));
+    }
+
+    @Test
+    @DisplayName("Create loan request - failed insert does not count towards the limit")
+    void createLoanRequestFailedInsertReleasesVelocity() {
+        // Arrange
+        OrdersUseCase useCase = useCaseWith(DuplicateApplicationDetector.disabled(), buildVelocityLimiter(1));
+        String loanTypeId = "550e8400-e29b-41d4-a716-446655441003";
+        when(loanTypeRepository.findById(loanTypeId)).thenReturn(Mono.just(buildValidLoanType()));
+        when(ordersRepository.insert(any(Orders.class)))
+                .thenReturn(Mono.error(new RuntimeException("Database error")))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // Act & Assert
+        StepVerifier.create(useCase.createLoanRequest("user-1", new BigDecimal("50000"), 24, "test@example.com", loanTypeId))
+                .expectError(RuntimeException.class)
+                .verify();
+        StepVerifier.create(useCase.createLoanRequest("user-1", new BigDecimal("50000"), 24, "test@example.com", loanTypeId))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("Create loan request - invalid amount (too low)")
     void createLoanRequestInvalidAmountTooLow() {
@@ -146,23 +347,80 @@ class OrdersUseCaseTest {
     }
 
     @Test
-    @DisplayName("Create loan request - pending status not found")
-    void createLoanRequestPendingStatusNotFound() {
+    @DisplayName("Create loan request - new order gets the registry PENDING id")
+    void createLoanRequestUsesPendingStatusFromRegistry() {
         // Arrange
-        String documentId = "12345678";
-        BigDecimal amount = new BigDecimal("50000");
-        Integer deadline = 24;
-        String emailAddress = "test@example.com";
         String loanTypeId = "550e8400-e29b-41d4-a716-446655441003";
 
-        LoanType loanType = buildValidLoanType();
+        when(loanTypeRepository.findById(loanTypeId)).thenReturn(Mono.just(buildValidLoanType()));
+        when(ordersRepository.insert(any(Orders.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
 
-        when(loanTypeRepository.findById(loanTypeId)).thenReturn(Mono.just(loanType));
-        when(ordersRepository.findPendingStatusId()).thenReturn(Mono.empty());
+        // Act & Assert
+        StepVerifier.create(ordersUseCase.createLoanRequest("12345678", new BigDecimal("50000"), 24,
+                        "test@example.com", loanTypeId))
+                .expectNextMatches(order -> StatusEnum.PENDING.getId().equals(order.getIdStatus()))
+                .verifyComplete();
+    }
 
-        StepVerifier.create(ordersUseCase.createLoanRequest(documentId, amount, deadline, emailAddress, loanTypeId))
-                .expectError(OrdersBusinessException.class)
-                .verify();
+    @Test
+    @DisplayName("Create loan request - automatic loan type within policy is approved without an assessor")
+    void createLoanRequestAutomaticApproval() {
+        // Arrange
+        String loanTypeId = "550e8400-e29b-41d4-a716-446655441003";
+        Orders approved = buildValidOrder().toBuilder().idStatus(StatusEnum.APPROVED.getId()).build();
+
+        when(loanTypeRepository.findById(loanTypeId)).thenReturn(Mono.just(buildAutomaticLoanType()));
+        when(ordersRepository.insert(any(Orders.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(applicantFinancialsRepository.findByEmailAddress("test@example.com", StatusEnum.APPROVED.getId()))
+                .thenReturn(Mono.just(new ApplicantFinancials(new BigDecimal("3000000"), BigDecimal.ZERO)));
+        when(ordersRepository.updateStatusIfCurrent(anyString(), eq(StatusEnum.PENDING.getId()),
+                eq(StatusEnum.APPROVED.getId()))).thenReturn(Mono.just(approved));
+
+        // Act & Assert
+        StepVerifier.create(ordersUseCase.createLoanRequest("12345678", new BigDecimal("50000"), 24,
+                        "test@example.com", loanTypeId))
+                .expectNext(approved)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Create loan request - automatic loan type over the term limit is rejected")
+    void createLoanRequestAutomaticRejection() {
+        // Arrange
+        String loanTypeId = "550e8400-e29b-41d4-a716-446655441003";
+        Orders rejected = buildValidOrder().toBuilder().idStatus(StatusEnum.REJECTED.getId()).build();
+
+        when(loanTypeRepository.findById(loanTypeId)).thenReturn(Mono.just(buildAutomaticLoanType()));
+        when(ordersRepository.insert(any(Orders.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(applicantFinancialsRepository.findByEmailAddress(anyString(), anyString()))
+                .thenReturn(Mono.just(new ApplicantFinancials(new BigDecimal("3000000"), BigDecimal.ZERO)));
+        when(ordersRepository.updateStatusIfCurrent(anyString(), eq(StatusEnum.PENDING.getId()),
+                eq(StatusEnum.REJECTED.getId()))).thenReturn(Mono.just(rejected));
+
+        // Act & Assert
+        StepVerifier.create(ordersUseCase.createLoanRequest("12345678", new BigDecimal("50000"), 48,
+                        "test@example.com", loanTypeId))
+                .expectNext(rejected)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Create loan request - automatic loan type without applicant profile stays pending")
+    void createLoanRequestAutomaticWithoutProfileStaysPending() {
+        // Arrange
+        String loanTypeId = "550e8400-e29b-41d4-a716-446655441003";
+
+        when(loanTypeRepository.findById(loanTypeId)).thenReturn(Mono.just(buildAutomaticLoanType()));
+        when(ordersRepository.insert(any(Orders.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        when(applicantFinancialsRepository.findByEmailAddress(anyString(), anyString())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(ordersUseCase.createLoanRequest("12345678", new BigDecimal("50000"), 24,
+                        "test@example.com", loanTypeId))
+                .expectNextMatches(order -> StatusEnum.PENDING.getId().equals(order.getIdStatus()))
+                .verifyComplete();
+
+        verify(ordersRepository, never()).updateStatusIfCurrent(anyString(), anyString(), anyString());
     }
 
     @Test
@@ -223,4 +481,269 @@ class OrdersUseCaseTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Find pending requests - computes the French monthly installment")
+    void findPendingRequestsComputesMonthlyAmount() {
+        // Arrange
+        PendingRequest request = PendingRequest.builder()
+                .amount(new BigDecimal("12000"))
+                .deadline(12)
+                .interestRate(new BigDecimal("0.01"))
+                .emailAddress("test@example.com")
+                .build();
+        when(ordersRepository.findPendingRequests(null, null, 0, 10)).thenReturn(Flux.just(request));
+
+        // Act & Assert
+        StepVerifier.create(ordersUseCase.findPendingRequests(null, null, 0, 10))
+                .assertNext(pending -> assertEquals(new BigDecimal("1066.19"), pending.getMonthlyAmount()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Get amortization schedule - builds the schedule at the loan type's rate")
+    void getAmortizationSchedule() {
+        // Arrange
+        Orders order = buildValidOrder().toBuilder().amount(new BigDecimal("12000")).deadline(12).build();
+        LoanType loanType = buildValidLoanType().toBuilder().interestRate(new BigDecimal("0.01")).build();
+        when(ordersRepository.findById("order-123")).thenReturn(Mono.just(order));
+        when(loanTypeRepository.findById(order.getIdLoanType())).thenReturn(Mono.just(loanType));
+
+        // Act & Assert
+        StepVerifier.create(ordersUseCase.getAmortizationSchedule("order-123"))
+                .assertNext(schedule -> {
+                    assertEquals(new BigDecimal("1066.19"), schedule.getInstallment());
+                    assertEquals(12, schedule.getPayments().size());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Get amortization schedule - order not found")
+    void getAmortizationScheduleOrderNotFound() {
+        // Arrange
+        when(ordersRepository.findById("order-123")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(ordersUseCase.getAmortizationSchedule("order-123"))
+                .expectErrorMatches(error -> error instanceof OrdersBusinessException
+                        && "ORDER_NOT_FOUND".equals(((OrdersBusinessException) error).getCode()))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Create loan requests - validates each item and inserts valid ones per chunk")
+    void createLoanRequestsBatch() {
+        // Arrange
+        String loanTypeId = "550e8400-e29b-41d4-a716-446655441003";
+        LoanRequestItem valid = LoanRequestItem.builder()
+                .amount(new BigDecimal("50000")).deadline(24).emailAddress("a@test.com").loanTypeId(loanTypeId).build();
+        LoanRequestItem tooLow = valid.toBuilder().amount(new BigDecimal("5000")).build();
+        LoanRequestItem badEmail = valid.toBuilder().emailAddress("invalid").build();
+
+        when(loanTypeRepository.findById(loanTypeId)).thenReturn(Mono.just(buildValidLoanType()));
+        when(ordersRepository.insertAll(anyList())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(ordersUseCase.createLoanRequests("user-1", Flux.just(valid, tooLow, badEmail, valid), 2))
+                .assertNext(result -> assertTrue(result.isCreated() && result.getIndex() == 0 && result.getOrderId() != null))
+                .assertNext(result -> assertEquals(BatchItemResult.REJECTED, result.getResult()))
+                .assertNext(result -> assertTrue(result.getError().contains("correo")))
+                .assertNext(result -> assertTrue(result.isCreated() && result.getIndex() == 3))
+                .verifyComplete();
+
+        verify(ordersRepository, times(2)).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Create loan requests - automatic decisions run per item and a failed one leaves its order pending")
+    void createLoanRequestsBatchAutomaticDecisions() {
+        // Arrange
+        String loanTypeId = "550e8400-e29b-41d4-a716-446655441003";
+        LoanRequestItem failing = LoanRequestItem.builder()
+                .amount(new BigDecimal("50000")).deadline(24).emailAddress("a@test.com").loanTypeId(loanTypeId).build();
+        LoanRequestItem approvable = failing.toBuilder().emailAddress("b@test.com").build();
+
+        when(loanTypeRepository.findById(loanTypeId)).thenReturn(Mono.just(buildAutomaticLoanType()));
+        when(ordersRepository.insertAll(anyList())).thenReturn(Mono.empty());
+        when(applicantFinancialsRepository.findByEmailAddress("a@test.com", StatusEnum.APPROVED.getId()))
+                .thenReturn(Mono.error(new RuntimeException("connection reset")));
+        when(applicantFinancialsRepository.findByEmailAddress("b@test.com", StatusEnum.APPROVED.getId()))
+                .thenReturn(Mono.just(new ApplicantFinancials(new BigDecimal("3000000"), BigDecimal.ZERO)));
+        when(ordersRepository.updateStatusIfCurrent(anyString(), eq(StatusEnum.PENDING.getId()),
+                eq(StatusEnum.APPROVED.getId()))).thenReturn(Mono.just(buildValidOrder()));
+
+        // Act & Assert
+        StepVerifier.create(ordersUseCase.createLoanRequests("user-1", Flux.just(failing, approvable), 10))
+                .assertNext(result -> assertTrue(result.isCreated() && result.getIndex() == 0))
+                .assertNext(result -> assertTrue(result.isCreated() && result.getIndex() == 1))
+                .verifyComplete();
+
+        verify(ordersRepository, times(1)).updateStatusIfCurrent(anyString(), eq(StatusEnum.PENDING.getId()),
+                eq(StatusEnum.APPROVED.getId()));
+    }
+
+    @Test
+    @DisplayName("Create loan requests - failed chunk write rejects its valid items without the database error")
+    void createLoanRequestsBatchWriteFailure() {
+        // Arrange
+        String loanTypeId = "550e8400-e29b-41d4-a716-446655441003";
+        LoanRequestItem valid = LoanRequestItem.builder()
+                .amount(new BigDecimal("50000")).deadline(24).emailAddress("a@test.com").loanTypeId(loanTypeId).build();
+
+        when(loanTypeRepository.findById(loanTypeId)).thenReturn(Mono.just(buildValidLoanType()));
+        when(ordersRepository.insertAll(anyList())).thenReturn(Mono.error(new RuntimeException("connection reset")));
+
+        // Act & Assert
+        StepVerifier.create(ordersUseCase.createLoanRequests("user-1", Flux.just(valid), 10))
+                .assertNext(result -> {
+                    assertFalse(result.isCreated());
+                    assertEquals("No se pudo guardar la solicitud", result.getError());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Create loan requests - items over the velocity limit are rejected and not inserted")
+    void createLoanRequestsBatchVelocityLimitExceeded() {
+        // Arrange
+        OrdersUseCase useCase = useCaseWith(DuplicateApplicationDetector.disabled(), buildVelocityLimiter(2));
+        String loanTypeId = "550e8400-e29b-41d4-a716-446655441003";
+        LoanRequestItem item = LoanRequestItem.builder()
+                .amount(new BigDecimal("50000")).deadline(24).emailAddress("a@test.com").loanTypeId(loanTypeId).build();
+
+        when(loanTypeRepository.findById(loanTypeId)).thenReturn(Mono.just(buildValidLoanType()));
+        when(ordersRepository.insertAll(anyList())).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(useCase.createLoanRequests("user-1", Flux.just(item, item, item), 10))
+                .assertNext(result -> assertTrue(result.isCreated()))
+                .assertNext(result -> assertTrue(result.isCreated()))
+                .assertNext(result -> {
+                    assertFalse(result.isCreated());
+                    assertTrue(result.getError().contains("límite"));
+                })
+                .verifyComplete();
+
+        verify(ordersRepository).insertAll(argThat(orders -> orders.size() == 2));
+    }
+
+    @Test
+    @DisplayName("Create loan requests - failed chunk write does not count towards the velocity limit")
+    void createLoanRequestsBatchWriteFailureReleasesVelocity() {
+        // Arrange
+        OrdersUseCase useCase = useCaseWith(DuplicateApplicationDetector.disabled(), buildVelocityLimiter(1));
+        String loanTypeId = "550e8400-e29b-41d4-a716-446655441003";
+        LoanRequestItem item = LoanRequestItem.builder()
+                .amount(new BigDecimal("50000")).deadline(24).emailAddress("a@test.com").loanTypeId(loanTypeId).build();
+
+        when(loanTypeRepository.findById(loanTypeId)).thenReturn(Mono.just(buildValidLoanType()));
+        when(ordersRepository.insertAll(anyList()))
+                .thenReturn(Mono.error(new RuntimeException("connection reset")))
+                .thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(useCase.createLoanRequests("user-1", Flux.just(item), 10))
+                .assertNext(result -> assertFalse(result.isCreated()))
+                .verifyComplete();
+        StepVerifier.create(useCase.createLoanRequests("user-1", Flux.just(item), 10))
+                .assertNext(result -> assertTrue(result.isCreated()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Update order decision - updates the pending order in one statement")
+    void updateOrderDecisionSuccess() {
+        // Arrange
+        Orders approvedOrder = buildValidOrder().toBuilder().idStatus(StatusEnum.APPROVED.getId()).build();
+
+        when(ordersRepository.updateStatusIfCurrent("order-123", StatusEnum.PENDING.getId(), StatusEnum.APPROVED.getId()))
+                .thenReturn(Mono.just(approvedOrder));
+
+        // Act & Assert
+        StepVerifier.create(ordersUseCase.updateOrderDecision("order-123", "APPROVED"))
+                .expectNextMatches(order -> StatusEnum.APPROVED.getId().equals(order.getIdStatus()))
+                .verifyComplete();
+
+        verify(ordersRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Update order decisions - one update per target status and one outcome per order")
+    void updateOrderDecisionsBulk() {
+        // Arrange
+        Orders approved = buildValidOrder().toBuilder().id("order-1").idStatus(StatusEnum.APPROVED.getId()).build();
+        Orders decided = buildValidOrder().toBuilder().id("order-3").idStatus(StatusEnum.REJECTED.getId()).build();
+        List<OrderDecision> decisions = List.of(
+                new OrderDecision("order-1", "APPROVED"),
+                new OrderDecision("order-2", "REJECTED"),
+                new OrderDecision("order-3", "APPROVED"),
+                new OrderDecision("order-4", "MAYBE"),
+                new OrderDecision("order-1", "REJECTED"));
+
+        when(ordersRepository.updateStatusIfCurrentAll(List.of("order-1", "order-3"),
+                StatusEnum.PENDING.getId(), StatusEnum.APPROVED.getId())).thenReturn(Flux.just(approved));
+        when(ordersRepository.updateStatusIfCurrentAll(List.of("order-2"),
+                StatusEnum.PENDING.getId(), StatusEnum.REJECTED.getId())).thenReturn(Flux.empty());
+        when(ordersRepository.findByIds(List.of("order-2", "order-3"))).thenReturn(Flux.just(decided));
+
+        // Act & Assert
+        StepVerifier.create(ordersUseCase.updateOrderDecisions(decisions).map(DecisionResult::getResult))
+                .expectNext(DecisionResult.APPLIED, DecisionResult.NOT_FOUND, DecisionResult.ALREADY_PROCESSED,
+                        DecisionResult.INVALID, DecisionResult.INVALID)
+                .verifyComplete();
+
+        verify(ordersRepository, never()).findById(anyString());
+    }
+
+    @Test
+    @DisplayName("Update order decisions - uppercase ids are matched against the canonical lowercase ids")
+    void updateOrderDecisionsUppercaseIds() {
+        // Arrange
+        String orderId = "0190f1c2-7a3b-7c4d-8e5f-a1b2c3d4e5f6";
+        Orders approved = buildValidOrder().toBuilder().id(orderId).idStatus(StatusEnum.APPROVED.getId()).build();
+        List<OrderDecision> decisions = List.of(
+                new OrderDecision(orderId.toUpperCase(), "APPROVED"),
+                new OrderDecision(orderId, "APPROVED"));
+
+        when(ordersRepository.updateStatusIfCurrentAll(List.of(orderId),
+                StatusEnum.PENDING.getId(), StatusEnum.APPROVED.getId())).thenReturn(Flux.just(approved));
+        when(ordersRepository.findByIds(List.of())).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(ordersUseCase.updateOrderDecisions(decisions).map(DecisionResult::getResult))
+                .expectNext(DecisionResult.APPLIED, DecisionResult.INVALID)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Update order decision - order does not exist")
+    void updateOrderDecisionNotFound() {
+        // Arrange
+        when(ordersRepository.updateStatusIfCurrent("order-123", StatusEnum.PENDING.getId(), StatusEnum.REJECTED.getId()))
+                .thenReturn(Mono.empty());
+        when(ordersRepository.findById("order-123")).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(ordersUseCase.updateOrderDecision("order-123", "REJECTED"))
+                .expectErrorMatches(error -> error instanceof OrdersBusinessException
+                        && "ORDER_NOT_FOUND".equals(((OrdersBusinessException) error).getCode()))
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Update order decision - order already decided")
+    void updateOrderDecisionAlreadyProcessed() {
+        // Arrange
+        Orders approvedOrder = buildValidOrder().toBuilder().idStatus(StatusEnum.APPROVED.getId()).build();
+
+        when(ordersRepository.updateStatusIfCurrent("order-123", StatusEnum.PENDING.getId(), StatusEnum.REJECTED.getId()))
+                .thenReturn(Mono.empty());
+        when(ordersRepository.findById("order-123")).thenReturn(Mono.just(approvedOrder));
+
+        // Act & Assert
+        StepVerifier.create(ordersUseCase.updateOrderDecision("order-123", "REJECTED"))
+                .expectErrorMatches(error -> error instanceof OrdersBusinessException
+                        && "ORDER_ALREADY_PROCESSED".equals(((OrdersBusinessException) error).getCode()))
+                .verify();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+package co.com.bancolombia.usecase.userprofile;
+
+import co.com.bancolombia.model.userprofile.UserChange;
+import co.com.bancolombia.model.userprofile.gateways.UserChangeFeedGateway;
+import co.com.bancolombia.model.userprofile.gateways.UserProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for UserProfileReplicationUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserProfileReplicationUseCaseTest {
+
+    @Mock
+    private UserChangeFeedGateway userChangeFeedGateway;
+
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
+    private UserProfileReplicationUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new UserProfileReplicationUseCase(userChangeFeedGateway, userProfileRepository);
+    }
+
+    private UserChange buildChange(long seq) {
+        return UserChange.builder()
+                .seq(seq)
+                .userId("user-" + seq)
+                .changeType("UPDATED")
+                .name("Ana")
+                .lastName("Gomez")
+                .emailAddress("ana" + seq + "@example.com")
+                .baseSalary(new BigDecimal("3000000"))
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Replicate next batch - resumes from cursor and applies changes")
+    void replicateNextBatchAppliesChanges() {
+        // Arrange
+        List<UserChange> changes = List.of(buildChange(11), buildChange(12));
+        when(userProfileRepository.findLastAppliedSeq()).thenReturn(Mono.just(10L));
+        when(userChangeFeedGateway.fetchChangesAfter(10L, 5)).thenReturn(Flux.fromIterable(changes));
+        when(userProfileRepository.applyChanges(changes)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(useCase.replicateNextBatch(5))
+                .expectNextMatches(result -> result.getLastSeq() == 12
+                        && result.getAppliedChanges() == 2
+                        && result.isCaughtUp())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Replicate next batch - full batch is not caught up")
+    void replicateNextBatchFullBatchIsNotCaughtUp() {
+        // Arrange
+        List<UserChange> changes = List.of(buildChange(1), buildChange(2));
+        when(userProfileRepository.findLastAppliedSeq()).thenReturn(Mono.empty());
+        when(userChangeFeedGateway.fetchChangesAfter(0L, 2)).thenReturn(Flux.fromIterable(changes));
+        when(userProfileRepository.applyChanges(changes)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(useCase.replicateNextBatch(2))
+                .expectNextMatches(result -> result.getLastSeq() == 2 && !result.isCaughtUp())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Replicate next batch - empty feed does not touch the projection")
+    void replicateNextBatchEmptyFeed() {
+        // Arrange
+        when(userProfileRepository.findLastAppliedSeq()).thenReturn(Mono.just(7L));
+        when(userChangeFeedGateway.fetchChangesAfter(7L, 10)).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(useCase.replicateNextBatch(10))
+                .expectNextMatches(result -> result.getLastSeq() == 7 && result.isCaughtUp())
+                .verifyComplete();
+
+        verify(userProfileRepository, never()).applyChanges(any());
+    }
+}
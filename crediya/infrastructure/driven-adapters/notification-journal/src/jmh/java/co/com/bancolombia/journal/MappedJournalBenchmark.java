@@ -0,0 +1,65 @@
+package co.com.bancolombia.journal;
+
+import co.com.bancolombia.model.orders.Orders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Single-threaded append throughput of decision events; run with {@code ./gradlew :notification-journal:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class MappedJournalBenchmark {
+
+    private Path directory;
+    private MappedJournal journal;
+    private Orders order;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal-bench");
+        journal = MappedJournal.open(directory, 256 * 1024 * 1024);
+        order = Orders.builder()
+                .id(UUID.randomUUID().toString())
+                .emailAddress("cliente@correo.com")
+                .amount(new BigDecimal("15000000.00"))
+                .deadline(36)
+                .idStatus(UUID.randomUUID().toString())
+                .idLoanType(UUID.randomUUID().toString())
+                .updateDate(LocalDateTime.now())
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long appendDecision() {
+        return journal.append(order, DecisionEventCodec.INSTANCE);
+    }
+}
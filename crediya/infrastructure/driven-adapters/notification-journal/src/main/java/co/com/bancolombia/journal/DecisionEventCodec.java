@@ -0,0 +1,140 @@
+package co.com.bancolombia.journal;
+
+import co.com.bancolombia.model.orders.Orders;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Binary layout of a decision event: version, decision date, amount, term and the order's text fields.
+ *
+ * <p>Fixed-width fields are little-endian; strings are a short length followed by UTF-8 bytes, with
+ * {@code -1} for null. ASCII strings, which is what ids and e-mails are in practice, are copied char by char
+ * without an intermediate array.</p>
+ */
+public final class DecisionEventCodec implements JournalCodec<Orders> {
+
+    public static final DecisionEventCodec INSTANCE = new DecisionEventCodec();
+
+    private static final byte VERSION = 1;
+    private static final long NO_DATE = Long.MIN_VALUE;
+    private static final int FIXED_LENGTH = Byte.BYTES + Long.BYTES + Byte.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int STRING_FIELDS = 4;
+
+    private DecisionEventCodec() {
+    }
+
+    @Override
+    public int maxLength(Orders order) {
+        return FIXED_LENGTH + STRING_FIELDS * Short.BYTES
+                + 3 * (length(order.getId()) + length(order.getIdStatus())
+                + length(order.getIdLoanType()) + length(order.getEmailAddress()));
+    }
+
+    @Override
+    public int encode(Orders order, ByteBuffer target, int offset) {
+        ByteBuffer out = target.order() == ByteOrder.LITTLE_ENDIAN ? target : target.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int position = offset;
+        out.put(position, VERSION);
+        position += Byte.BYTES;
+        out.putLong(position, order.getUpdateDate() == null ? NO_DATE : toEpochMillis(order.getUpdateDate()));
+        position += Long.BYTES;
+
+        BigDecimal amount = order.getAmount();
+        out.put(position, (byte) (amount == null ? -1 : amount.scale()));
+        position += Byte.BYTES;
+        out.putLong(position, amount == null ? 0 : amount.unscaledValue().longValueExact());
+        position += Long.BYTES;
+        out.putInt(position, order.getDeadline() == null ? -1 : order.getDeadline());
+        position += Integer.BYTES;
+
+        position = putString(out, position, order.getId());
+        position = putString(out, position, order.getIdStatus());
+        position = putString(out, position, order.getIdLoanType());
+        position = putString(out, position, order.getEmailAddress());
+        return position - offset;
+    }
+
+    @Override
+    public Orders decode(ByteBuffer source, int offset, int length) {
+        ByteBuffer in = source.order() == ByteOrder.LITTLE_ENDIAN ? source : source.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int position = offset;
+        byte version = in.get(position);
+        if (version != VERSION) {
+            throw new IllegalStateException("Versión de evento de decisión no soportada: " + version);
+        }
+        position += Byte.BYTES;
+        long decisionDate = in.getLong(position);
+        position += Long.BYTES;
+        byte scale = in.get(position);
+        position += Byte.BYTES;
+        long unscaledAmount = in.getLong(position);
+        position += Long.BYTES;
+        int deadline = in.getInt(position);
+        position += Integer.BYTES;
+
+        String[] fields = new String[STRING_FIELDS];
+        for (int i = 0; i < STRING_FIELDS; i++) {
+            int size = in.getShort(position);
+            position += Short.BYTES;
+            if (size >= 0) {
+                byte[] bytes = new byte[size];
+                in.get(position, bytes);
+                fields[i] = new String(bytes, StandardCharsets.UTF_8);
+                position += size;
+            }
+        }
+
+        return Orders.builder()
+                .id(fields[0])
+                .idStatus(fields[1])
+                .idLoanType(fields[2])
+                .emailAddress(fields[3])
+                .amount(scale < 0 ? null : BigDecimal.valueOf(unscaledAmount, scale))
+                .deadline(deadline < 0 ? null : deadline)
+                .updateDate(decisionDate == NO_DATE ? null
+                        : LocalDateTime.ofEpochSecond(Math.floorDiv(decisionDate, 1000),
+                        (int) Math.floorMod(decisionDate, 1000) * 1_000_000, ZoneOffset.UTC))
+                .build();
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static long toEpochMillis(LocalDateTime date) {
+        return date.toEpochSecond(ZoneOffset.UTC) * 1000 + date.getNano() / 1_000_000;
+    }
+
+    private static int putString(ByteBuffer out, int position, String value) {
+        if (value == null) {
+            out.putShort(position, (short) -1);
+            return position + Short.BYTES;
+        }
+        int length = value.length();
+        if (length > Short.MAX_VALUE / 3) {
+            throw new IllegalArgumentException("Campo demasiado largo para el journal: " + length + " caracteres");
+        }
+        int start = position + Short.BYTES;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                return putEncoded(out, position, value);
+            }
+            out.put(start + i, (byte) c);
+        }
+        out.putShort(position, (short) length);
+        return start + length;
+    }
+
+    private static int putEncoded(ByteBuffer out, int position, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putShort(position, (short) bytes.length);
+        out.put(position + Short.BYTES, bytes);
+        return position + Short.BYTES + bytes.length;
+    }
+}
@@ -0,0 +1,21 @@
+package co.com.bancolombia.journal;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Writes values straight into the mapped segment and reads them back, so appends need no intermediate buffer.
+ */
+public interface JournalCodec<T> {
+
+    /**
+     * Upper bound of the encoded size, used to decide whether the record still fits in the current segment.
+     */
+    int maxLength(T value);
+
+    /**
+     * Encodes the value at {@code offset} using absolute puts and returns the bytes written (at least one).
+     */
+    int encode(T value, ByteBuffer target, int offset);
+
+    T decode(ByteBuffer source, int offset, int length);
+}
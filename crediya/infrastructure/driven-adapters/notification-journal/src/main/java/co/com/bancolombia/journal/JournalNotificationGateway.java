@@ -0,0 +1,99 @@
+package co.com.bancolombia.journal;
+
+import co.com.bancolombia.journal.config.JournalProperties;
+import co.com.bancolombia.model.notification.gateways.NotificationGateway;
+import co.com.bancolombia.model.orders.Orders;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Publishes decision events to a local memory-mapped journal, for deployments without SQS.
+ *
+ * <p>Consumers read the events with {@link #tailer(long)}. Pages are flushed to disk every
+ * {@code flushInterval}; an event appended after the last flush survives a crash of the process but not of
+ * the machine. Every {@code retentionCheckInterval} the oldest segments are deleted once the journal exceeds
+ * {@code retentionSize} or they are older than {@code retentionAge}.</p>
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(prefix = "adapter.journal", name = "enabled", havingValue = "true")
+public class JournalNotificationGateway implements NotificationGateway {
+
+    private final MappedJournal journal;
+    private final Counter appended;
+    private final Counter segmentsDeleted;
+    private final Disposable flusher;
+    private final Disposable retention;
+
+    public JournalNotificationGateway(JournalProperties properties, MeterRegistry meterRegistry) {
+        this.journal = MappedJournal.open(Path.of(properties.directory()),
+                Math.toIntExact(properties.segmentSize().toBytes()));
+        this.appended = Counter.builder("crediya.notification.journal.appended")
+                .description("Eventos de decisión escritos en el journal local")
+                .register(meterRegistry);
+        this.flusher = Flux.interval(properties.flushInterval(), Schedulers.boundedElastic())
+                .subscribe(tick -> journal.force(),
+                        error -> log.error("Falló el volcado periódico del journal", error));
+        this.segmentsDeleted = Counter.builder("crediya.notification.journal.segments.deleted")
+                .description("Segmentos del journal local eliminados por retención")
+                .register(meterRegistry);
+        this.retention = Flux.interval(properties.retentionCheckInterval(), Schedulers.boundedElastic())
+                .subscribe(tick -> deleteExpiredSegments(properties));
+        log.info("Journal de notificaciones habilitado en {} con segmentos de {}",
+                properties.directory(), properties.segmentSize());
+    }
+
+    @Override
+    public Mono<Void> notifyOrderDecision(Orders order) {
+        return Mono.fromRunnable(() -> append(order))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    @Override
+    public Mono<Void> notifyOrderDecisions(List<Orders> orders) {
+        return Mono.fromRunnable(() -> orders.forEach(this::append))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    /**
+     * Reader of the decision events, starting at {@code address} (zero for the oldest retained event).
+     */
+    public JournalTailer tailer(long address) {
+        return address == 0 ? journal.tailer() : journal.tailer(address);
+    }
+
+    @PreDestroy
+    public void stop() {
+        flusher.dispose();
+        retention.dispose();
+        journal.close();
+    }
+
+    void deleteExpiredSegments(JournalProperties properties) {
+        try {
+            segmentsDeleted.increment(journal.deleteExpiredSegments(properties.retentionSize().toBytes(),
+                    Instant.now().minus(properties.retentionAge())));
+        } catch (RuntimeException e) {
+            log.warn("Falló la limpieza periódica del journal: {}", e.getMessage());
+        }
+    }
+
+    private void append(Orders order) {
+        journal.append(order, DecisionEventCodec.INSTANCE);
+        appended.increment();
+    }
+}
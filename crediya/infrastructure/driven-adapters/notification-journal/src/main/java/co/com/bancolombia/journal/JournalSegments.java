@@ -0,0 +1,118 @@
+package co.com.bancolombia.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * On-disk layout shared by {@link MappedJournal} and {@link JournalTailer}.
+ *
+ * <p>Each segment is a fixed-size file named after its index. Records are 8-byte aligned and start with a
+ * header of two little-endian ints: payload length and CRC32C of the payload. The length is written last with
+ * release semantics, so a reader that sees it non-zero also sees the payload. A length of {@code -1} seals the
+ * segment; zero means nothing has been written there yet.</p>
+ */
+final class JournalSegments {
+
+    static final int HEADER_LENGTH = 8;
+    static final int END_OF_SEGMENT = -1;
+    static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final String SUFFIX = ".journal";
+
+    private JournalSegments() {
+    }
+
+    static int align(int length) {
+        return (length + 7) & ~7;
+    }
+
+    static long address(long segmentIndex, int offset) {
+        return (segmentIndex << 32) | offset;
+    }
+
+    static long segmentOf(long address) {
+        return address >>> 32;
+    }
+
+    static int offsetOf(long address) {
+        return (int) address;
+    }
+
+    static Path segmentPath(Path directory, long segmentIndex) {
+        return directory.resolve(String.format("%020d%s", segmentIndex, SUFFIX));
+    }
+
+    static List<Long> existingSegments(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No fue posible listar los segmentos del journal", e);
+        }
+    }
+
+    /**
+     * Maps the segment, creating it with {@code size} zeroed bytes when {@code create} is set.
+     * Returns {@code null} when the file does not exist yet or is still being sized by the writer.
+     */
+    static MappedByteBuffer map(Path file, int size, boolean create) {
+        if (!create && !Files.exists(file)) {
+            return null;
+        }
+        StandardOpenOption[] options = create
+                ? new StandardOpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE}
+                : new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE};
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            long length = create ? size : channel.size();
+            if (length < HEADER_LENGTH) {
+                return null;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No fue posible mapear el segmento " + file, e);
+        }
+    }
+
+    /**
+     * Returns the length of the committed record at {@code offset}, {@link #END_OF_SEGMENT} when the segment is
+     * sealed or exhausted, or zero when there is no valid record there (not written yet or torn by a crash).
+     */
+    static int readLength(ByteBuffer buffer, ByteBuffer crcView, CRC32C crc, int offset) {
+        if (offset + HEADER_LENGTH > buffer.capacity()) {
+            return END_OF_SEGMENT;
+        }
+        int length = (int) INT.getAcquire(buffer, offset);
+        if (length == END_OF_SEGMENT || length == 0) {
+            return length;
+        }
+        int payloadOffset = offset + HEADER_LENGTH;
+        if (length < 0 || length > buffer.capacity() - payloadOffset) {
+            return 0;
+        }
+        return buffer.getInt(offset + 4) == checksum(crcView, crc, payloadOffset, length) ? length : 0;
+    }
+
+    static int checksum(ByteBuffer crcView, CRC32C crc, int offset, int length) {
+        crcView.limit(offset + length).position(offset);
+        crc.reset();
+        crc.update(crcView);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,100 @@
+package co.com.bancolombia.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+
+import static co.com.bancolombia.journal.JournalSegments.END_OF_SEGMENT;
+import static co.com.bancolombia.journal.JournalSegments.HEADER_LENGTH;
+import static co.com.bancolombia.journal.JournalSegments.align;
+
+/**
+ * Sequential reader of a {@link MappedJournal}, safe to use while the journal is being written.
+ *
+ * <p>Not thread-safe: each consumer keeps its own tailer and persists {@link #address()} as its checkpoint.
+ * A checkpoint in a segment already removed by retention resumes at the oldest segment still on disk.</p>
+ */
+public final class JournalTailer {
+
+    private final Path directory;
+    private final CRC32C crc = new CRC32C();
+
+    private long segmentIndex;
+    private int offset;
+    private MappedByteBuffer buffer;
+    private ByteBuffer crcView;
+
+    JournalTailer(Path directory, long address) {
+        this.directory = directory;
+        this.segmentIndex = JournalSegments.segmentOf(address);
+        this.offset = JournalSegments.offsetOf(address);
+    }
+
+    /**
+     * Returns the next committed record, or {@code null} when the reader has caught up with the writer.
+     */
+    public <T> T poll(JournalCodec<T> codec) {
+        while (true) {
+            if (buffer == null && !mapCurrent()) {
+                return null;
+            }
+            int length = JournalSegments.readLength(buffer, crcView, crc, offset);
+            if (length == 0) {
+                return null;
+            }
+            if (length == END_OF_SEGMENT) {
+                if (!advance()) {
+                    return null;
+                }
+                continue;
+            }
+            T value = codec.decode(buffer, offset + HEADER_LENGTH, length);
+            offset += align(HEADER_LENGTH + length);
+            return value;
+        }
+    }
+
+    /**
+     * Address of the next record to read.
+     */
+    public long address() {
+        return JournalSegments.address(segmentIndex, offset);
+    }
+
+    private boolean mapCurrent() {
+        buffer = JournalSegments.map(JournalSegments.segmentPath(directory, segmentIndex), 0, false);
+        if (buffer == null) {
+            return skipDeletedSegments();
+        }
+        crcView = buffer.duplicate();
+        return true;
+    }
+
+    private boolean skipDeletedSegments() {
+        // Only a segment removed by retention has later segments on disk; a segment not created yet has none
+        Long oldest = JournalSegments.existingSegments(directory).stream()
+                .filter(index -> index > segmentIndex)
+                .findFirst()
+                .orElse(null);
+        if (oldest == null) {
+            return false;
+        }
+        segmentIndex = oldest;
+        offset = 0;
+        return mapCurrent();
+    }
+
+    private boolean advance() {
+        MappedByteBuffer next = JournalSegments.map(JournalSegments.segmentPath(directory, segmentIndex + 1), 0, false);
+        if (next == null) {
+            // The next segment may already be gone if retention overtook a lagging reader
+            return skipDeletedSegments();
+        }
+        segmentIndex++;
+        offset = 0;
+        buffer = next;
+        crcView = next.duplicate();
+        return true;
+    }
+}
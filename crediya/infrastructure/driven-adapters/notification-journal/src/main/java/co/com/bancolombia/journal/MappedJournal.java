@@ -0,0 +1,222 @@
+package co.com.bancolombia.journal;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import static co.com.bancolombia.journal.JournalSegments.END_OF_SEGMENT;
+import static co.com.bancolombia.journal.JournalSegments.HEADER_LENGTH;
+import static co.com.bancolombia.journal.JournalSegments.INT;
+import static co.com.bancolombia.journal.JournalSegments.align;
+
+/**
+ * Append-only journal backed by memory-mapped, fixed-size segment files.
+ *
+ * <p>Appends encode straight into the mapped segment and allocate nothing once the segment is mapped; a new
+ * segment is created when the next record does not fit. Records reach the page cache on append, so they
+ * survive a crash of the process; {@link #force()} flushes them to disk for machine crashes. On open, the last
+ * segment is scanned and everything after the last record with a valid checksum is zeroed, so a torn write is
+ * never read. Sealed segments are only removed by {@link #deleteExpiredSegments(long, Instant)}, oldest first.</p>
+ */
+@Log4j2
+public final class MappedJournal implements AutoCloseable {
+
+    private final Path directory;
+    private final int segmentSize;
+    private final CRC32C crc = new CRC32C();
+
+    private long segmentIndex;
+    private MappedByteBuffer buffer;
+    private ByteBuffer crcView;
+    private int position;
+    private boolean closed;
+
+    private MappedJournal(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    public static MappedJournal open(Path directory, int segmentSize) {
+        if (segmentSize < 4096 || segmentSize % 8 != 0) {
+            throw new IllegalArgumentException("El tamaño de segmento debe ser múltiplo de 8 y de al menos 4096 bytes");
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No fue posible crear el directorio del journal " + directory, e);
+        }
+        MappedJournal journal = new MappedJournal(directory, segmentSize);
+        journal.recover();
+        return journal;
+    }
+
+    /**
+     * Appends the value and returns its address, usable with {@link #tailer(long)}.
+     */
+    public synchronized <T> long append(T value, JournalCodec<T> codec) {
+        if (closed) {
+            throw new IllegalStateException("El journal está cerrado");
+        }
+        int maxRecord = align(HEADER_LENGTH + codec.maxLength(value));
+        if (maxRecord > segmentSize) {
+            throw new IllegalArgumentException("El evento excede el tamaño del segmento del journal");
+        }
+        if (position + maxRecord > segmentSize) {
+            roll();
+        }
+        int payloadOffset = position + HEADER_LENGTH;
+        int length = codec.encode(value, buffer, payloadOffset);
+        if (length <= 0 || HEADER_LENGTH + length > maxRecord) {
+            throw new IllegalStateException("El codec escribió una longitud inválida: " + length);
+        }
+        buffer.putInt(position + 4, JournalSegments.checksum(crcView, crc, payloadOffset, length));
+        INT.setRelease(buffer, position, length);
+
+        long address = JournalSegments.address(segmentIndex, position);
+        position += align(HEADER_LENGTH + length);
+        return address;
+    }
+
+    /**
+     * Reader positioned at the first record still on disk.
+     */
+    public JournalTailer tailer() {
+        List<Long> segments = JournalSegments.existingSegments(directory);
+        return tailer(JournalSegments.address(segments.isEmpty() ? 0 : segments.get(0), 0));
+    }
+
+    /**
+     * Reader positioned at {@code address}, typically one saved earlier from {@link JournalTailer#address()}.
+     */
+    public JournalTailer tailer(long address) {
+        return new JournalTailer(directory, address);
+    }
+
+    /**
+     * Address the next append will use, once it fits in the current segment.
+     */
+    public synchronized long nextAddress() {
+        return JournalSegments.address(segmentIndex, position);
+    }
+
+    /**
+     * Deletes the oldest sealed segments while the segments on disk take more than {@code maxRetainedBytes} or
+     * were last written before {@code modifiedBefore}. The segment being written is always kept. Returns how many
+     * segments were deleted; a tailer still reading one of them resumes at the oldest segment left.
+     */
+    public int deleteExpiredSegments(long maxRetainedBytes, Instant modifiedBefore) {
+        long current;
+        synchronized (this) {
+            current = segmentIndex;
+        }
+        List<Long> segments = JournalSegments.existingSegments(directory);
+        long retainedBytes = (long) segments.size() * segmentSize;
+        int deleted = 0;
+        for (long index : segments) {
+            if (index >= current) {
+                break;
+            }
+            Path file = JournalSegments.segmentPath(directory, index);
+            try {
+                if (retainedBytes <= maxRetainedBytes
+                        && !Files.getLastModifiedTime(file).toInstant().isBefore(modifiedBefore)) {
+                    break;
+                }
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("No fue posible eliminar el segmento {} del journal: {}", file, e.getMessage());
+                break;
+            }
+            retainedBytes -= segmentSize;
+            deleted++;
+        }
+        if (deleted > 0) {
+            log.info("Eliminados {} segmentos antiguos del journal en {}", deleted, directory);
+        }
+        return deleted;
+    }
+
+    public void force() {
+        MappedByteBuffer current;
+        synchronized (this) {
+            current = closed ? null : buffer;
+        }
+        if (current != null) {
+            current.force();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            buffer.force();
+            closed = true;
+        }
+    }
+
+    private void recover() {
+        List<Long> segments = JournalSegments.existingSegments(directory);
+        segmentIndex = segments.isEmpty() ? 0 : segments.get(segments.size() - 1);
+        mapSegment(!segments.isEmpty());
+
+        int offset = 0;
+        int length;
+        while ((length = JournalSegments.readLength(buffer, crcView, crc, offset)) > 0) {
+            offset += align(HEADER_LENGTH + length);
+        }
+        if (length == END_OF_SEGMENT && offset + HEADER_LENGTH <= segmentSize) {
+            // Sealed before the next segment was created
+            position = offset;
+            roll();
+            return;
+        }
+        position = Math.min(offset, segmentSize);
+        int cleared = clearFrom(position);
+        if (cleared > 0) {
+            log.warn("Journal recuperado en el segmento {}: se descartaron {} bytes tras la posición {}",
+                    segmentIndex, cleared, position);
+        }
+    }
+
+    private void roll() {
+        if (position + HEADER_LENGTH <= segmentSize) {
+            INT.setRelease(buffer, position, END_OF_SEGMENT);
+        }
+        buffer.force();
+        segmentIndex++;
+        mapSegment(false);
+        position = 0;
+    }
+
+    private void mapSegment(boolean existing) {
+        Path file = JournalSegments.segmentPath(directory, segmentIndex);
+        buffer = JournalSegments.map(file, segmentSize, !existing);
+        if (buffer == null || buffer.capacity() != segmentSize) {
+            throw new IllegalStateException("El segmento " + file + " no tiene el tamaño configurado de "
+                    + segmentSize + " bytes");
+        }
+        crcView = buffer.duplicate();
+    }
+
+    private int clearFrom(int offset) {
+        int cleared = 0;
+        for (int i = offset; i + Long.BYTES <= segmentSize; i += Long.BYTES) {
+            if (buffer.getLong(i) != 0) {
+                buffer.putLong(i, 0);
+                cleared += Long.BYTES;
+            }
+        }
+        if (cleared > 0) {
+            buffer.force();
+        }
+        return cleared;
+    }
+}
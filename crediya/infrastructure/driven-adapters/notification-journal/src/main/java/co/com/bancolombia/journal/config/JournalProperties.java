@@ -0,0 +1,18 @@
+package co.com.bancolombia.journal.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapter.journal")
+public record JournalProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/journal") String directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("1s") Duration flushInterval,
+        @DefaultValue("1GB") DataSize retentionSize,
+        @DefaultValue("7d") Duration retentionAge,
+        @DefaultValue("1m") Duration retentionCheckInterval
+) {}
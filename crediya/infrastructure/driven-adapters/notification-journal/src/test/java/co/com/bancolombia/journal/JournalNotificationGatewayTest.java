@@ -0,0 +1,94 @@
+package co.com.bancolombia.journal;
+
+import co.com.bancolombia.journal.config.JournalProperties;
+import co.com.bancolombia.model.orders.Orders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JournalNotificationGatewayTest {
+
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JournalNotificationGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        gateway = new JournalNotificationGateway(
+                properties(),
+                meterRegistry);
+    }
+
+    private JournalProperties properties() {
+        return new JournalProperties(true, directory.toString(), DataSize.ofKilobytes(64), Duration.ofSeconds(1),
+                DataSize.ofGigabytes(1), Duration.ofDays(7), Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        gateway.stop();
+    }
+
+    @Test
+    @DisplayName("Debe escribir las decisiones en el journal y permitir leerlas con un tailer")
+    void shouldAppendDecisionsAndTailThem() {
+        // Arrange
+        Orders approved = order("order-1", "cliente@correo.com", new BigDecimal("15000000.50"));
+        Orders rejected = order("order-2", "señora@correo.com", new BigDecimal("2000.00"));
+
+        // Act & Assert
+        StepVerifier.create(gateway.notifyOrderDecisions(List.of(approved, rejected)))
+                .verifyComplete();
+
+        JournalTailer tailer = gateway.tailer(0);
+        assertThat(tailer.poll(DecisionEventCodec.INSTANCE)).isEqualTo(approved);
+        assertThat(tailer.poll(DecisionEventCodec.INSTANCE)).isEqualTo(rejected);
+        assertThat(tailer.poll(DecisionEventCodec.INSTANCE)).isNull();
+        assertThat(meterRegistry.get("crediya.notification.journal.appended").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Debe conservar los eventos al reiniciar el gateway")
+    void shouldKeepEventsAcrossRestarts() {
+        // Arrange
+        Orders order = order("order-3", "otro@correo.com", new BigDecimal("500.00"));
+        StepVerifier.create(gateway.notifyOrderDecision(order)).verifyComplete();
+        gateway.stop();
+
+        // Act
+        gateway = new JournalNotificationGateway(
+                properties(),
+                meterRegistry);
+
+        // Assert
+        assertThat(gateway.tailer(0).poll(DecisionEventCodec.INSTANCE)).isEqualTo(order);
+    }
+
+    private Orders order(String id, String email, BigDecimal amount) {
+        return Orders.builder()
+                .id(id)
+                .emailAddress(email)
+                .amount(amount)
+                .deadline(24)
+                .idStatus("status-approved")
+                .idLoanType("loan-type")
+                .updateDate(LocalDateTime.of(2025, 9, 10, 14, 30, 15, 123_000_000))
+                .build();
+    }
+}
@@ -0,0 +1,267 @@
+package co.com.bancolombia.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedJournalTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    private static final JournalCodec<String> TEXT = new JournalCodec<>() {
+        @Override
+        public int maxLength(String value) {
+            return value.length();
+        }
+
+        @Override
+        public int encode(String value, ByteBuffer target, int offset) {
+            byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+            target.put(offset, bytes);
+            return bytes.length;
+        }
+
+        @Override
+        public String decode(ByteBuffer source, int offset, int length) {
+            byte[] bytes = new byte[length];
+            source.get(offset, bytes);
+            return new String(bytes, StandardCharsets.US_ASCII);
+        }
+    };
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Debe leer los eventos en el orden en que se escribieron")
+    void shouldTailEventsInAppendOrder() {
+        // Arrange
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_SIZE)) {
+            JournalTailer tailer = journal.tailer();
+
+            // Act
+            journal.append("evento-1", TEXT);
+            journal.append("evento-2", TEXT);
+
+            // Assert
+            assertThat(tailer.poll(TEXT)).isEqualTo("evento-1");
+            assertThat(tailer.poll(TEXT)).isEqualTo("evento-2");
+            assertThat(tailer.poll(TEXT)).isNull();
+
+            journal.append("evento-3", TEXT);
+            assertThat(tailer.poll(TEXT)).isEqualTo("evento-3");
+        }
+    }
+
+    @Test
+    @DisplayName("Debe rotar de segmento cuando el evento no cabe y seguir leyendo en el siguiente")
+    void shouldRollSegmentsAndTailAcrossThem() {
+        // Arrange
+        String payload = "x".repeat(1000);
+
+        // Act
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(i + payload, TEXT);
+            }
+
+            // Assert
+            assertThat(JournalSegments.existingSegments(directory)).hasSizeGreaterThan(1);
+            List<String> read = drain(journal.tailer());
+            assertThat(read).hasSize(10);
+            assertThat(read.get(9)).startsWith("9");
+        }
+    }
+
+    @Test
+    @DisplayName("Debe continuar tras el último evento al reabrir sin haber cerrado el journal")
+    void shouldResumeAfterLastEventWhenReopenedWithoutClose() {
+        // Arrange
+        MappedJournal crashed = MappedJournal.open(directory, SEGMENT_SIZE);
+        crashed.append("antes-1", TEXT);
+        long second = crashed.append("antes-2", TEXT);
+
+        // Act
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_SIZE)) {
+            journal.append("despues", TEXT);
+
+            // Assert
+            assertThat(drain(journal.tailer())).containsExactly("antes-1", "antes-2", "despues");
+            JournalTailer fromCheckpoint = journal.tailer(second);
+            assertThat(fromCheckpoint.poll(TEXT)).isEqualTo("antes-2");
+        }
+    }
+
+    @Test
+    @DisplayName("Debe descartar un registro incompleto por una caída y sobrescribirlo con el siguiente evento")
+    void shouldDiscardTornRecordOnRecovery() throws IOException {
+        // Arrange
+        long nextAddress;
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_SIZE)) {
+            journal.append("completo", TEXT);
+            nextAddress = journal.nextAddress();
+        }
+        writeTornRecord(JournalSegments.offsetOf(nextAddress));
+
+        // Act
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_SIZE)) {
+            journal.append("nuevo", TEXT);
+
+            // Assert
+            assertThat(drain(journal.tailer())).containsExactly("completo", "nuevo");
+        }
+    }
+
+    @Test
+    @DisplayName("Debe crear el siguiente segmento cuando la caída ocurrió tras sellar el actual")
+    void shouldRollWhenLastSegmentWasSealed() throws IOException {
+        // Arrange
+        long nextAddress;
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_SIZE)) {
+            journal.append("sellado", TEXT);
+            nextAddress = journal.nextAddress();
+        }
+        writeInt(JournalSegments.offsetOf(nextAddress), JournalSegments.END_OF_SEGMENT);
+
+        // Act
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_SIZE)) {
+            long address = journal.append("siguiente", TEXT);
+
+            // Assert
+            assertThat(JournalSegments.segmentOf(address)).isEqualTo(1);
+            assertThat(drain(journal.tailer())).containsExactly("sellado", "siguiente");
+        }
+    }
+
+    @Test
+    @DisplayName("Debe eliminar los segmentos sellados más antiguos que exceden el tamaño retenido")
+    void shouldDeleteOldestSealedSegmentsOverRetainedSize() {
+        // Arrange
+        String payload = "x".repeat(1000);
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 20; i++) {
+                journal.append(i + payload, TEXT);
+            }
+            List<Long> before = JournalSegments.existingSegments(directory);
+            JournalTailer behind = journal.tailer();
+
+            // Act
+            int deleted = journal.deleteExpiredSegments(2L * SEGMENT_SIZE, Instant.EPOCH);
+
+            // Assert
+            List<Long> after = JournalSegments.existingSegments(directory);
+            assertThat(deleted).isEqualTo(before.size() - 2);
+            assertThat(after).containsExactlyElementsOf(before.subList(before.size() - 2, before.size()));
+            List<String> read = drain(behind);
+            assertThat(read).isNotEmpty();
+            assertThat(read.get(read.size() - 1)).startsWith("19");
+        }
+    }
+
+    @Test
+    @DisplayName("Debe saltar al segmento más antiguo retenido cuando el siguiente se eliminó mientras se leía el actual")
+    void shouldSkipDeletedNextSegmentWhileReadingCurrentOne() {
+        // Arrange
+        String payload = "x".repeat(1000);
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 20; i++) {
+                journal.append(i + payload, TEXT);
+            }
+            List<Long> before = JournalSegments.existingSegments(directory);
+            JournalTailer inFirstSegment = journal.tailer();
+            assertThat(inFirstSegment.poll(TEXT)).startsWith("0");
+
+            // Act
+            journal.deleteExpiredSegments(2L * SEGMENT_SIZE, Instant.EPOCH);
+            List<String> read = drain(inFirstSegment);
+
+            // Assert
+            assertThat(JournalSegments.existingSegments(directory)).doesNotContain(1L);
+            assertThat(JournalSegments.segmentOf(inFirstSegment.address())).isEqualTo(before.get(before.size() - 1));
+            assertThat(read.get(read.size() - 1)).startsWith("19");
+        }
+    }
+
+    @Test
+    @DisplayName("Debe eliminar los segmentos sellados antiguos y conservar siempre el segmento en escritura")
+    void shouldDeleteAgedSegmentsButKeepTheCurrentOne() throws IOException {
+        // Arrange
+        String payload = "x".repeat(1000);
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 6; i++) {
+                journal.append(i + payload, TEXT);
+            }
+            List<Long> before = JournalSegments.existingSegments(directory);
+            FileTime old = FileTime.from(Instant.now().minus(Duration.ofDays(30)));
+            for (long index : before) {
+                Files.setLastModifiedTime(JournalSegments.segmentPath(directory, index), old);
+            }
+
+            // Act
+            int deleted = journal.deleteExpiredSegments(Long.MAX_VALUE, Instant.now().minus(Duration.ofDays(7)));
+
+            // Assert
+            assertThat(deleted).isEqualTo(before.size() - 1);
+            assertThat(JournalSegments.existingSegments(directory)).containsExactly(before.get(before.size() - 1));
+            journal.append("siguiente", TEXT);
+            assertThat(drain(journal.tailer())).endsWith("siguiente");
+        }
+    }
+
+    @Test
+    @DisplayName("Debe rechazar eventos más grandes que un segmento")
+    void shouldRejectEventsLargerThanSegment() {
+        try (MappedJournal journal = MappedJournal.open(directory, SEGMENT_SIZE)) {
+            // Act & Assert
+            assertThatThrownBy(() -> journal.append("x".repeat(SEGMENT_SIZE), TEXT))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private List<String> drain(JournalTailer tailer) {
+        List<String> read = new ArrayList<>();
+        String value;
+        while ((value = tailer.poll(TEXT)) != null) {
+            read.add(value);
+        }
+        return read;
+    }
+
+    private void writeTornRecord(int offset) throws IOException {
+        // Length and part of the payload made it to disk, the checksum did not
+        ByteBuffer torn = ByteBuffer.allocate(32).order(ByteOrder.LITTLE_ENDIAN);
+        torn.putInt(40).putInt(0).put("parcial-sin-termi".getBytes(StandardCharsets.US_ASCII)).flip();
+        write(offset, torn);
+    }
+
+    private void writeInt(int offset, int value) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.putInt(value).flip();
+        write(offset, bytes);
+    }
+
+    private void write(int offset, ByteBuffer bytes) throws IOException {
+        Path segment = JournalSegments.segmentPath(directory, 0);
+        assertThat(Files.exists(segment)).isTrue();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(bytes, offset);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package co.com.bancolombia.r2dbc.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "adapters.r2dbc.loan-type-catalog")
+public record LoanTypeCatalogProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5m") Duration refreshInterval,
+        @DefaultValue("5s") Duration reconnectDelay
+) {}
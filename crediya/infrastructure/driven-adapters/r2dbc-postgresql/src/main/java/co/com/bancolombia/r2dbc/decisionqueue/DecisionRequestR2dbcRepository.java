@@ -0,0 +1,59 @@
+package co.com.bancolombia.r2dbc.decisionqueue;
+
+import co.com.bancolombia.r2dbc.decisionqueue.data.DecisionRequestData;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Repository
+public interface DecisionRequestR2dbcRepository extends ReactiveCrudRepository<DecisionRequestData, UUID> {
+
+    @Query("INSERT INTO decision_request (id, order_id, decision, status, attempts, created_at, next_attempt_at) " +
+           "VALUES ($1, $2, $3, 'QUEUED', 0, now(), now()) " +
+           "RETURNING *")
+    Mono<DecisionRequestData> enqueue(UUID id, UUID orderId, String decision);
+
+    /**
+     * Served by idx_decision_request_due; the lease is the new next_attempt_at, so an abandoned claim becomes
+     * due again once it expires.
+     */
+    @Query("UPDATE decision_request SET status = 'PROCESSING', attempts = attempts + 1, " +
+           "next_attempt_at = now() + $2 * INTERVAL '1 millisecond' " +
+           "WHERE id IN (" +
+           "SELECT id FROM decision_request " +
+           "WHERE completed_at IS NULL AND next_attempt_at <= now() " +
+           "ORDER BY next_attempt_at " +
+           "LIMIT $1 " +
+           "FOR UPDATE SKIP LOCKED" +
+           ") " +
+           "RETURNING *")
+    Flux<DecisionRequestData> claimBatch(int batchSize, long leaseMillis);
+
+    /**
+     * Fenced by the attempts value returned by the claim: once the lease expires and another worker claims the
+     * request, attempts has moved on and the late worker updates no row.
+     */
+    @Modifying
+    @Query("UPDATE decision_request SET status = $2, result = $3, error = $4, completed_at = now() " +
+           "WHERE id = $1 AND attempts = $5 AND completed_at IS NULL")
+    Mono<Integer> complete(UUID id, String status, String result, String error, int attempts);
+
+    @Modifying
+    @Query("UPDATE decision_request SET status = 'QUEUED', error = $3, " +
+           "next_attempt_at = now() + $2 * INTERVAL '1 millisecond' " +
+           "WHERE id = $1 AND attempts = $4 AND completed_at IS NULL")
+    Mono<Integer> scheduleRetry(UUID id, long delayMillis, String error, int attempts);
+
+    @Query("SELECT COALESCE(EXTRACT(EPOCH FROM now() - MIN(created_at)), 0)::float8 " +
+           "FROM decision_request WHERE completed_at IS NULL")
+    Mono<Double> findOldestQueuedAgeSeconds();
+
+    @Modifying
+    @Query("DELETE FROM decision_request WHERE completed_at < now() - $1 * INTERVAL '1 millisecond'")
+    Mono<Integer> deleteFinishedBefore(long retentionMillis);
+}
@@ -0,0 +1,101 @@
+package co.com.bancolombia.r2dbc.decisionqueue;
+
+import co.com.bancolombia.model.decisionqueue.DecisionRequest;
+import co.com.bancolombia.model.decisionqueue.DecisionRequestStatus;
+import co.com.bancolombia.model.decisionqueue.gateways.DecisionRequestRepository;
+import co.com.bancolombia.r2dbc.decisionqueue.data.DecisionRequestData;
+import co.com.bancolombia.r2dbc.helper.Uuids;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class DecisionRequestRepositoryAdapter implements DecisionRequestRepository {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final DecisionRequestR2dbcRepository repository;
+
+    @Override
+    public Mono<DecisionRequest> enqueue(DecisionRequest request) {
+        UUID orderId = Uuids.parse(request.getOrderId());
+        if (orderId == null) {
+            return Mono.error(new IllegalArgumentException("ID de solicitud inválido: " + request.getOrderId()));
+        }
+        return repository.enqueue(UUID.fromString(request.getId()), orderId, request.getDecision())
+                .map(this::toDomain)
+                .doOnNext(queued -> log.debug("Decisión {} encolada para orden {}", queued.getId(), queued.getOrderId()));
+    }
+
+    @Override
+    public Mono<DecisionRequest> findById(String id) {
+        UUID requestId = Uuids.parse(id);
+        if (requestId == null) {
+            return Mono.empty();
+        }
+        return repository.findById(requestId)
+                .map(this::toDomain);
+    }
+
+    @Override
+    public Flux<DecisionRequest> claimBatch(int batchSize, Duration lease) {
+        return repository.claimBatch(batchSize, lease.toMillis())
+                .map(this::toDomain);
+    }
+
+    @Override
+    public Mono<Boolean> complete(String id, int attempts, DecisionRequestStatus status, String result,
+                                  String error) {
+        return Mono.defer(() -> repository.complete(Uuids.parse(id), status.name(), result, truncate(error), attempts))
+                .map(rows -> rows > 0);
+    }
+
+    @Override
+    public Mono<Boolean> scheduleRetry(String id, int attempts, Duration delay, String error) {
+        return Mono.defer(() -> repository.scheduleRetry(Uuids.parse(id), delay.toMillis(), truncate(error), attempts))
+                .map(rows -> rows > 0)
+                .doOnNext(scheduled -> {
+                    if (scheduled) {
+                        log.debug("Reintento de la decisión {} programado en {} ms", id, delay.toMillis());
+                    }
+                });
+    }
+
+    @Override
+    public Mono<Duration> findOldestQueuedAge() {
+        return repository.findOldestQueuedAgeSeconds()
+                .map(seconds -> Duration.ofMillis((long) (seconds * 1000)))
+                .defaultIfEmpty(Duration.ZERO);
+    }
+
+    @Override
+    public Mono<Long> deleteFinishedBefore(Duration retention) {
+        return repository.deleteFinishedBefore(retention.toMillis())
+                .map(Integer::longValue);
+    }
+
+    private DecisionRequest toDomain(DecisionRequestData data) {
+        return DecisionRequest.builder()
+                .id(Uuids.format(data.getId()))
+                .orderId(Uuids.format(data.getOrderId()))
+                .decision(data.getDecision())
+                .status(DecisionRequestStatus.valueOf(data.getStatus()))
+                .result(data.getResult())
+                .error(data.getError())
+                .attempts(data.getAttempts() != null ? data.getAttempts() : 0)
+                .createdAt(data.getCreatedAt())
+                .completedAt(data.getCompletedAt())
+                .build();
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
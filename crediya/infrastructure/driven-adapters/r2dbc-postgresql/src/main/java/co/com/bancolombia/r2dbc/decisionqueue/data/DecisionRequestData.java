@@ -0,0 +1,49 @@
+package co.com.bancolombia.r2dbc.decisionqueue.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table("decision_request")
+public class DecisionRequestData {
+    @Id
+    private UUID id;
+
+    @Column("order_id")
+    private UUID orderId;
+
+    @Column("decision")
+    private String decision;
+
+    @Column("status")
+    private String status;
+
+    @Column("result")
+    private String result;
+
+    @Column("error")
+    private String error;
+
+    @Column("attempts")
+    private Integer attempts;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column("completed_at")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,48 @@
+package co.com.bancolombia.r2dbc.helper;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Conversions between the String ids of the domain and the native uuid columns.
+ *
+ * <p>Ids arriving from the API are not validated upstream, so a malformed id is treated like one that does
+ * not exist instead of failing the query.</p>
+ */
+public final class Uuids {
+
+    private static final int CANONICAL_LENGTH = 36;
+
+    private Uuids() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Parses a canonical UUID, or returns null when the id is null or malformed.
+     */
+    public static UUID parse(String id) {
+        if (id == null || id.length() != CANONICAL_LENGTH) {
+            return null;
+        }
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses every well-formed id, skipping the rest.
+     */
+    public static UUID[] parseAll(List<String> ids) {
+        return ids.stream()
+                .map(Uuids::parse)
+                .filter(Objects::nonNull)
+                .toArray(UUID[]::new);
+    }
+
+    public static String format(UUID id) {
+        return id != null ? id.toString() : null;
+    }
+}
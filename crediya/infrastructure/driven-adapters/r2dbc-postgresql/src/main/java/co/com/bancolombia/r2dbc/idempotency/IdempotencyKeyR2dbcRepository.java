@@ -0,0 +1,41 @@
+package co.com.bancolombia.r2dbc.idempotency;
+
+import co.com.bancolombia.r2dbc.idempotency.data.IdempotencyKeyData;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Repository
+public interface IdempotencyKeyR2dbcRepository extends ReactiveCrudRepository<IdempotencyKeyData, String> {
+
+    @Query("INSERT INTO idempotency_key (key_hash, request_hash, order_id, owner, expires_at) " +
+           "VALUES ($1, $2, NULL, $3, now() + $4 * INTERVAL '1 second') " +
+           "ON CONFLICT (key_hash) DO UPDATE SET " +
+           "request_hash = EXCLUDED.request_hash, " +
+           "order_id = NULL, " +
+           "owner = EXCLUDED.owner, " +
+           "expires_at = EXCLUDED.expires_at " +
+           "WHERE idempotency_key.expires_at < now() " +
+           "RETURNING key_hash")
+    Mono<String> reserve(String keyHash, String requestHash, UUID owner, Long leaseSeconds);
+
+    @Query("SELECT * FROM idempotency_key WHERE key_hash = $1 AND expires_at >= now()")
+    Mono<IdempotencyKeyData> findActive(String keyHash);
+
+    @Modifying
+    @Query("UPDATE idempotency_key SET order_id = $2, expires_at = now() + $3 * INTERVAL '1 second' " +
+           "WHERE key_hash = $1 AND owner = $4 AND order_id IS NULL")
+    Mono<Integer> complete(String keyHash, UUID orderId, Long ttlSeconds, UUID owner);
+
+    @Modifying
+    @Query("DELETE FROM idempotency_key WHERE key_hash = $1 AND owner = $2 AND order_id IS NULL")
+    Mono<Integer> release(String keyHash, UUID owner);
+
+    @Modifying
+    @Query("DELETE FROM idempotency_key WHERE expires_at < now()")
+    Mono<Integer> deleteExpired();
+}
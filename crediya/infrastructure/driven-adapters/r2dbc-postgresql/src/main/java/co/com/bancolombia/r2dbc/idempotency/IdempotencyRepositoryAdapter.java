@@ -0,0 +1,57 @@
+package co.com.bancolombia.r2dbc.idempotency;
+
+import co.com.bancolombia.model.idempotency.IdempotencyRecord;
+import co.com.bancolombia.model.idempotency.gateways.IdempotencyRepository;
+import co.com.bancolombia.r2dbc.helper.Uuids;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRepositoryAdapter implements IdempotencyRepository {
+
+    private final IdempotencyKeyR2dbcRepository repository;
+
+    @Override
+    public Mono<String> reserve(String keyHash, String requestHash, Duration lease) {
+        return Mono.defer(() -> {
+            UUID owner = UUID.randomUUID();
+            return repository.reserve(keyHash, requestHash, owner, Math.max(1, lease.toSeconds()))
+                    .map(reserved -> owner.toString());
+        });
+    }
+
+    @Override
+    public Mono<IdempotencyRecord> findActive(String keyHash) {
+        return repository.findActive(keyHash)
+                .map(data -> IdempotencyRecord.builder()
+                        .keyHash(data.getKeyHash())
+                        .requestHash(data.getRequestHash())
+                        .orderId(Uuids.format(data.getOrderId()))
+                        .build());
+    }
+
+    @Override
+    public Mono<Boolean> complete(String keyHash, String owner, String orderId, Duration ttl) {
+        return Mono.defer(() -> repository.complete(keyHash, Uuids.parse(orderId), ttl.toSeconds(), Uuids.parse(owner)))
+                .map(rows -> rows > 0);
+    }
+
+    @Override
+    public Mono<Void> release(String keyHash, String owner) {
+        return Mono.defer(() -> repository.release(keyHash, Uuids.parse(owner))).then();
+    }
+
+    @Override
+    public Mono<Long> deleteExpired() {
+        return repository.deleteExpired()
+                .map(Integer::longValue)
+                .doOnNext(deleted -> log.debug("Claves de idempotencia vencidas eliminadas: {}", deleted));
+    }
+}
@@ -0,0 +1,35 @@
+package co.com.bancolombia.r2dbc.idempotency.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table("idempotency_key")
+public class IdempotencyKeyData {
+    @Id
+    @Column("key_hash")
+    private String keyHash;
+
+    @Column("request_hash")
+    private String requestHash;
+
+    @Column("order_id")
+    private UUID orderId;
+
+    @Column("owner")
+    private UUID owner;
+
+    @Column("expires_at")
+    private LocalDateTime expiresAt;
+}
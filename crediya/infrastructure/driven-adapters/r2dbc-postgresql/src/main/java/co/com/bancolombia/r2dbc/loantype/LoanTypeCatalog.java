@@ -0,0 +1,160 @@
+package co.com.bancolombia.r2dbc.loantype;
+
+import co.com.bancolombia.model.loantype.LoanType;
+import co.com.bancolombia.r2dbc.config.LoanTypeCatalogProperties;
+import co.com.bancolombia.r2dbc.config.PostgreSQLConnectionPool;
+import co.com.bancolombia.r2dbc.config.PostgresqlConnectionProperties;
+import co.com.bancolombia.r2dbc.loantype.mapper.LoanTypeMapper;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory snapshot of the loan_type table.
+ *
+ * <p>The snapshot is replaced as a whole: on startup, whenever the {@code loan_type_changed} channel fires
+ * (see changelog 006) and on a periodic full refresh that covers missed notifications. The listener runs
+ * on a dedicated connection outside the pool because LISTEN is bound to its session.</p>
+ */
+@Slf4j
+@Component
+public class LoanTypeCatalog {
+
+    static final String CHANNEL = "loan_type_changed";
+
+    private final LoanTypeR2dbcRepository repository;
+    private final LoanTypeMapper loanTypeMapper;
+    private final LoanTypeCatalogProperties properties;
+    private final PostgresqlConnectionFactory listenerConnectionFactory;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private Disposable subscription;
+
+    public LoanTypeCatalog(LoanTypeR2dbcRepository repository,
+                           LoanTypeMapper loanTypeMapper,
+                           LoanTypeCatalogProperties properties,
+                           PostgresqlConnectionProperties connectionProperties) {
+        this.repository = repository;
+        this.loanTypeMapper = loanTypeMapper;
+        this.properties = properties;
+        this.listenerConnectionFactory = new PostgresqlConnectionFactory(
+                PostgreSQLConnectionPool.connectionConfiguration(connectionProperties));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.enabled()) {
+            log.info("Catálogo de tipos de préstamo en memoria deshabilitado");
+            return;
+        }
+        log.info("Iniciando catálogo de tipos de préstamo con refresco completo cada {}", properties.refreshInterval());
+        Flux<String> periodicRefresh = Flux.interval(properties.refreshInterval(), properties.refreshInterval())
+                .map(tick -> "refresco periódico");
+
+        subscription = Flux.merge(Flux.just("carga inicial"), listenForChanges(), periodicRefresh)
+                .onBackpressureLatest()
+                .concatMap(this::reloadQuietly, 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * Current snapshot, or empty until the first load completes or when the catalog is disabled.
+     */
+    public Optional<Snapshot> current() {
+        return Optional.ofNullable(snapshot.get());
+    }
+
+    Mono<Snapshot> reload() {
+        return repository.findAll()
+                .map(loanTypeMapper::toDomain)
+                .collectList()
+                .map(Snapshot::of)
+                .doOnNext(snapshot::set);
+    }
+
+    private Mono<Snapshot> reloadQuietly(String reason) {
+        return reload()
+                .doOnNext(loaded -> log.debug("Catálogo de tipos de préstamo recargado ({}): {} tipos", reason, loaded.size()))
+                .onErrorResume(error -> {
+                    log.warn("No se pudo recargar el catálogo de tipos de préstamo ({}): {}", reason, error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Emits once per notification. A reload is also requested after every (re)connection,
+     * since changes made while the listener was down were not notified.
+     */
+    private Flux<String> listenForChanges() {
+        return Flux.usingWhen(
+                        listenerConnectionFactory.create(),
+                        connection -> connection.createStatement("LISTEN " + CHANNEL).execute()
+                                .flatMap(result -> result.getRowsUpdated())
+                                .then(Mono.just("reconexión del listener"))
+                                .concatWith(connection.getNotifications()
+                                        .map(notification -> "notificación " + notification.getParameter())),
+                        PostgresqlConnection::close)
+                .doOnSubscribe(s -> log.debug("Escuchando canal {}", CHANNEL))
+                .onErrorResume(error -> {
+                    log.warn("Listener del canal {} desconectado: {}", CHANNEL, error.getMessage());
+                    return Mono.empty();
+                })
+                .repeatWhen(completed -> completed.delayElements(properties.reconnectDelay()));
+    }
+
+    /**
+     * Immutable view of the catalog. Callers receive copies because {@link LoanType} is mutable.
+     */
+    public static final class Snapshot {
+
+        private final Map<String, LoanType> byId;
+        private final List<LoanType> all;
+
+        private Snapshot(Map<String, LoanType> byId, List<LoanType> all) {
+            this.byId = byId;
+            this.all = all;
+        }
+
+        static Snapshot of(List<LoanType> loanTypes) {
+            Map<String, LoanType> byId = loanTypes.stream()
+                    .collect(Collectors.toUnmodifiableMap(LoanType::getId, Function.identity()));
+            return new Snapshot(byId, List.copyOf(loanTypes));
+        }
+
+        public Optional<LoanType> findById(String id) {
+            return Optional.ofNullable(id != null ? byId.get(id) : null).map(loanType -> loanType.toBuilder().build());
+        }
+
+        public List<LoanType> findAll() {
+            return all.stream().map(loanType -> loanType.toBuilder().build()).toList();
+        }
+
+        public boolean contains(String id) {
+            return id != null && byId.containsKey(id);
+        }
+
+        public int size() {
+            return all.size();
+        }
+    }
+}
@@ -4,6 +4,8 @@ import co.com.bancolombia.r2dbc.loantype.data.LoanTypeData;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.UUID;
+
 @Repository
-public interface LoanTypeR2dbcRepository extends ReactiveCrudRepository<LoanTypeData, String> {
+public interface LoanTypeR2dbcRepository extends ReactiveCrudRepository<LoanTypeData, UUID> {
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package co.com.bancolombia.r2dbc.loantype;
 
 import co.com.bancolombia.model.loantype.LoanType;
 import co.com.bancolombia.model.loantype.gateways.LoanTypeRepository;
+import co.com.bancolombia.r2dbc.helper.Uuids;
 import co.com.bancolombia.r2dbc.loantype.mapper.LoanTypeMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +10,9 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Optional;
+import java.util.UUID;
+
 @Slf4j
 @Repository
 @RequiredArgsConstructor
@@ -16,11 +20,20 @@ public class LoanTypeRepositoryAdapter implements LoanTypeRepository {
 
     private final LoanTypeR2dbcRepository repository;
     private final LoanTypeMapper loanTypeMapper;
+    private final LoanTypeCatalog loanTypeCatalog;
 
     @Override
     public Mono<LoanType> findById(String id) {
         log.debug("Buscando tipo de préstamo con ID: {}", id);
-        return repository.findById(id)
+        Optional<LoanTypeCatalog.Snapshot> snapshot = loanTypeCatalog.current();
+        if (snapshot.isPresent()) {
+            return Mono.justOrEmpty(snapshot.get().findById(id));
+        }
+        UUID uuid = Uuids.parse(id);
+        if (uuid == null) {
+            return Mono.empty();
+        }
+        return repository.findById(uuid)
                 .map(loanTypeMapper::toDomain)
                 .doOnNext(loanType -> log.debug("Tipo de préstamo encontrado: {} - {}", loanType.getId(), loanType.getName()));
     }
@@ -28,6 +41,10 @@ public class LoanTypeRepositoryAdapter implements LoanTypeRepository {
     @Override
     public Flux<LoanType> findAll() {
         log.debug("Obteniendo todos los tipos de préstamo");
+        Optional<LoanTypeCatalog.Snapshot> snapshot = loanTypeCatalog.current();
+        if (snapshot.isPresent()) {
+            return Flux.fromIterable(snapshot.get().findAll());
+        }
         return repository.findAll()
                 .map(loanTypeMapper::toDomain)
                 .doOnNext(loanType -> log.debug("Tipo de préstamo: {} - {}", loanType.getId(), loanType.getName()));
@@ -36,7 +53,15 @@ public class LoanTypeRepositoryAdapter implements LoanTypeRepository {
     @Override
     public Mono<Boolean> existsById(String id) {
         log.debug("Verificando si existe tipo de préstamo con ID: {}", id);
-        return repository.existsById(id)
+        Optional<LoanTypeCatalog.Snapshot> snapshot = loanTypeCatalog.current();
+        if (snapshot.isPresent()) {
+            return Mono.just(snapshot.get().contains(id));
+        }
+        UUID uuid = Uuids.parse(id);
+        if (uuid == null) {
+            return Mono.just(false);
+        }
+        return repository.existsById(uuid)
                 .doOnNext(exists -> log.debug("Existe tipo de préstamo con ID {}: {}", id, exists));
     }
 }
\ No newline at end of file
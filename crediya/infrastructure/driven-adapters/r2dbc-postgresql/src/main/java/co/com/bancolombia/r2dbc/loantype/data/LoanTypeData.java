@@ -9,6 +9,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.UUID;
 
 @Data
 @NoArgsConstructor
@@ -17,7 +18,7 @@ import java.math.BigDecimal;
 @Table("loan_type")
 public class LoanTypeData {
     @Id
-    private String id;
+    private UUID id;
 
     @Column("name")
     private String name;
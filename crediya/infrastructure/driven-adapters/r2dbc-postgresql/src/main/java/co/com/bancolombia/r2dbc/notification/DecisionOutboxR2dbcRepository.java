@@ -0,0 +1,57 @@
+package co.com.bancolombia.r2dbc.notification;
+
+import co.com.bancolombia.r2dbc.notification.data.ClaimedDecisionData;
+import co.com.bancolombia.r2dbc.notification.data.DecisionOutboxData;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface DecisionOutboxR2dbcRepository extends ReactiveCrudRepository<DecisionOutboxData, Long> {
+
+    @Query("WITH claimed AS (" +
+           "UPDATE decision_outbox SET attempts = attempts + 1, " +
+           "next_attempt_at = now() + $2 * INTERVAL '1 millisecond' " +
+           "WHERE seq IN (" +
+           "SELECT seq FROM decision_outbox " +
+           "WHERE sent_at IS NULL AND failed_at IS NULL AND next_attempt_at <= now() " +
+           "ORDER BY seq " +
+           "LIMIT $1 " +
+           "FOR UPDATE SKIP LOCKED" +
+           ") " +
+           "RETURNING seq, order_id, id_status, attempts, created_at" +
+           ") " +
+           "SELECT c.seq, c.attempts, c.created_at, c.order_id, c.id_status, " +
+           "o.amount, o.deadline, o.email_address, o.id_loan_type, o.creation_date, o.update_date " +
+           "FROM claimed c " +
+           "INNER JOIN orders o ON o.id = c.order_id " +
+           "ORDER BY c.seq")
+    Flux<ClaimedDecisionData> claimBatch(int batchSize, long leaseMillis);
+
+    @Modifying
+    @Query("UPDATE decision_outbox SET sent_at = now() WHERE seq = ANY($1)")
+    Mono<Integer> markSent(Long[] seqs);
+
+    @Modifying
+    @Query("UPDATE decision_outbox SET next_attempt_at = now() + $2 * INTERVAL '1 millisecond' WHERE seq = ANY($1)")
+    Mono<Integer> scheduleRetry(Long[] seqs, long delayMillis);
+
+    @Modifying
+    @Query("UPDATE decision_outbox SET failed_at = now() WHERE seq = ANY($1)")
+    Mono<Integer> markFailed(Long[] seqs);
+
+    @Modifying
+    @Query("DELETE FROM decision_outbox WHERE seq IN (" +
+           "SELECT seq FROM decision_outbox " +
+           "WHERE sent_at < now() - $1 * INTERVAL '1 millisecond' " +
+           "ORDER BY sent_at " +
+           "LIMIT $2)")
+    Mono<Integer> deleteSentBefore(long retentionMillis, int limit);
+
+    @Query("SELECT COALESCE(EXTRACT(EPOCH FROM now() - MIN(created_at)), 0)::float8 " +
+           "FROM decision_outbox WHERE sent_at IS NULL AND failed_at IS NULL")
+    Mono<Double> findOldestPendingAgeSeconds();
+}
@@ -0,0 +1,91 @@
+package co.com.bancolombia.r2dbc.notification;
+
+import co.com.bancolombia.model.notification.DecisionOutboxEntry;
+import co.com.bancolombia.model.notification.gateways.DecisionOutboxRepository;
+import co.com.bancolombia.model.orders.Orders;
+import co.com.bancolombia.r2dbc.helper.Uuids;
+import co.com.bancolombia.r2dbc.notification.data.ClaimedDecisionData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class DecisionOutboxRepositoryAdapter implements DecisionOutboxRepository {
+
+    private final DecisionOutboxR2dbcRepository repository;
+
+    @Override
+    public Flux<DecisionOutboxEntry> claimBatch(int batchSize, Duration lease) {
+        return repository.claimBatch(batchSize, lease.toMillis())
+                .map(this::toEntry);
+    }
+
+    @Override
+    public Mono<Void> markSent(List<Long> seqs) {
+        if (seqs.isEmpty()) {
+            return Mono.empty();
+        }
+        return repository.markSent(seqs.toArray(Long[]::new))
+                .doOnNext(rows -> log.debug("Decisiones marcadas como enviadas: {}", rows))
+                .then();
+    }
+
+    @Override
+    public Mono<Void> scheduleRetry(List<Long> seqs, Duration delay) {
+        if (seqs.isEmpty()) {
+            return Mono.empty();
+        }
+        return repository.scheduleRetry(seqs.toArray(Long[]::new), delay.toMillis())
+                .doOnNext(rows -> log.debug("Reintento de {} decisiones programado en {} ms", rows, delay.toMillis()))
+                .then();
+    }
+
+    @Override
+    public Mono<Void> markFailed(List<Long> seqs) {
+        if (seqs.isEmpty()) {
+            return Mono.empty();
+        }
+        return repository.markFailed(seqs.toArray(Long[]::new))
+                .doOnNext(rows -> log.warn("Decisiones marcadas como fallidas tras agotar los reintentos: {}", rows))
+                .then();
+    }
+
+    @Override
+    public Mono<Long> deleteSentBefore(Duration retention, int limit) {
+        return repository.deleteSentBefore(retention.toMillis(), limit)
+                .map(Integer::longValue)
+                .doOnNext(deleted -> log.debug("Decisiones enviadas eliminadas del outbox: {}", deleted));
+    }
+
+    @Override
+    public Mono<Duration> findOldestPendingAge() {
+        return repository.findOldestPendingAgeSeconds()
+                .map(seconds -> Duration.ofMillis((long) (seconds * 1000)))
+                .defaultIfEmpty(Duration.ZERO);
+    }
+
+    private DecisionOutboxEntry toEntry(ClaimedDecisionData data) {
+        return DecisionOutboxEntry.builder()
+                .seq(data.getSeq())
+                .attempts(data.getAttempts())
+                .createdAt(data.getCreatedAt())
+                .order(Orders.builder()
+                        .id(Uuids.format(data.getOrderId()))
+                        .amount(data.getAmount())
+                        .deadline(data.getDeadline())
+                        .emailAddress(data.getEmailAddress())
+                        .idStatus(Uuids.format(data.getIdStatus()))
+                        .idLoanType(Uuids.format(data.getIdLoanType()))
+                        .creationDate(data.getCreationDate())
+                        .updateDate(data.getUpdateDate())
+                        .build())
+                .build();
+    }
+}
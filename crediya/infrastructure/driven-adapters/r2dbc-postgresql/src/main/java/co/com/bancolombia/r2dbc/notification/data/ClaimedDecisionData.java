@@ -0,0 +1,28 @@
+package co.com.bancolombia.r2dbc.notification.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ClaimedDecisionData {
+    private Long seq;
+    private Integer attempts;
+    private LocalDateTime createdAt;
+    private UUID orderId;
+    private BigDecimal amount;
+    private Integer deadline;
+    private String emailAddress;
+    private UUID idStatus;
+    private UUID idLoanType;
+    private LocalDateTime creationDate;
+    private LocalDateTime updateDate;
+}
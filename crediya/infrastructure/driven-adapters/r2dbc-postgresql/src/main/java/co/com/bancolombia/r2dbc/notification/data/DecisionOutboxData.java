@@ -0,0 +1,43 @@
+package co.com.bancolombia.r2dbc.notification.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table("decision_outbox")
+public class DecisionOutboxData {
+    @Id
+    private Long seq;
+
+    @Column("order_id")
+    private UUID orderId;
+
+    @Column("id_status")
+    private UUID idStatus;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("attempts")
+    private Integer attempts;
+
+    @Column("next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column("sent_at")
+    private LocalDateTime sentAt;
+
+    @Column("failed_at")
+    private LocalDateTime failedAt;
+}
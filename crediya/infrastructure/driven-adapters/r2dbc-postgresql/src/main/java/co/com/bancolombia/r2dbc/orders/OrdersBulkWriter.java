@@ -0,0 +1,56 @@
+package co.com.bancolombia.r2dbc.orders;
+
+import co.com.bancolombia.r2dbc.orders.data.OrdersData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Writes several orders with a single multi-row INSERT.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrdersBulkWriter {
+
+    private static final String INSERT_COLUMNS = "INSERT INTO orders (id, amount, deadline, email_address, " +
+            "creation_date, update_date, id_status, id_loan_type) VALUES ";
+    private static final int INSERT_COLUMN_COUNT = 8;
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Long> insertRows(List<OrdersData> rows) {
+        if (rows.isEmpty()) {
+            return Mono.just(0L);
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(buildMultiRowInsert(rows.size()));
+        int param = 0;
+        for (OrdersData data : rows) {
+            spec = spec.bind(param++, data.getId())
+                    .bind(param++, data.getAmount())
+                    .bind(param++, data.getDeadline())
+                    .bind(param++, data.getEmailAddress())
+                    .bind(param++, data.getCreationDate())
+                    .bind(param++, data.getUpdateDate())
+                    .bind(param++, data.getIdStatus())
+                    .bind(param++, data.getIdLoanType());
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    static String buildMultiRowInsert(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_COLUMNS.length() + rows * 48).append(INSERT_COLUMNS);
+        for (int row = 0; row < rows; row++) {
+            int base = row * INSERT_COLUMN_COUNT;
+            sql.append(row == 0 ? "(" : ", (");
+            for (int column = 1; column <= INSERT_COLUMN_COUNT; column++) {
+                sql.append(column == 1 ? "$" : ", $").append(base + column);
+            }
+            sql.append(')');
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,126 @@
+package co.com.bancolombia.r2dbc.orders;
+
+import co.com.bancolombia.r2dbc.config.GroupCommitProperties;
+import co.com.bancolombia.r2dbc.orders.data.OrdersData;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+
+/**
+ * Group commit for single order inserts.
+ *
+ * <p>Concurrent inserts are queued and flushed when {@code maxBatchSize} rows are waiting or {@code maxWait}
+ * has passed, whichever comes first. Each flush is one multi-row INSERT on one connection, so a peak of
+ * concurrent requests uses at most {@code writers} pooled connections for its inserts. If a flush fails,
+ * its rows are retried one by one so a single bad row only fails its own caller.</p>
+ *
+ * <p>Callers enqueue under a short lock instead of retrying a contended emission, so a request thread
+ * never spins on the event loop waiting for another caller to finish its enqueue.</p>
+ */
+@Slf4j
+@Component
+public class OrdersGroupCommitWriter {
+
+    private final OrdersBulkWriter bulkWriter;
+    private final GroupCommitProperties properties;
+    private final Sinks.Many<PendingInsert> queue = Sinks.many().unicast().onBackpressureBuffer();
+    private final Object emitLock = new Object();
+    private final DistributionSummary batchSize;
+    private final Timer insertLatency;
+    private final Disposable subscription;
+
+    public OrdersGroupCommitWriter(OrdersBulkWriter bulkWriter,
+                                   GroupCommitProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.bulkWriter = bulkWriter;
+        this.properties = properties;
+        this.batchSize = DistributionSummary.builder("crediya.orders.group_commit.batch.size")
+                .description("Solicitudes escritas por cada sentencia de group commit")
+                .register(meterRegistry);
+        this.insertLatency = Timer.builder("crediya.orders.group_commit.latency")
+                .description("Tiempo desde que se encola una solicitud hasta que queda escrita")
+                .register(meterRegistry);
+        this.subscription = properties.enabled() ? start() : null;
+    }
+
+    public boolean isEnabled() {
+        return subscription != null;
+    }
+
+    public Mono<Void> submit(OrdersData data) {
+        return Mono.create(sink -> {
+            Timer.Sample sample = Timer.start();
+            Sinks.EmitResult result;
+            synchronized (emitLock) {
+                result = queue.tryEmitNext(new PendingInsert(data, sink, sample));
+            }
+            if (result.isFailure()) {
+                sink.error(new IllegalStateException("No se pudo encolar la solicitud para group commit: " + result));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            synchronized (emitLock) {
+                queue.tryEmitComplete();
+            }
+            subscription.dispose();
+        }
+    }
+
+    private Disposable start() {
+        log.info("Group commit de solicitudes habilitado: hasta {} filas o {} por escritura, {} escritores",
+                properties.maxBatchSize(), properties.maxWait(), properties.writers());
+        return queue.asFlux()
+                .bufferTimeout(Math.max(1, properties.maxBatchSize()), properties.maxWait(), true)
+                .flatMap(this::flush, Math.max(1, properties.writers()))
+                .subscribe();
+    }
+
+    private Mono<Void> flush(List<PendingInsert> batch) {
+        batchSize.record(batch.size());
+        return bulkWriter.insertRows(batch.stream().map(PendingInsert::data).toList())
+                .doOnNext(rows -> batch.forEach(this::succeed))
+                .then()
+                .onErrorResume(error -> {
+                    log.warn("Fallo la escritura agrupada de {} solicitudes, reintentando una a una: {}",
+                            batch.size(), error.getMessage());
+                    return Flux.fromIterable(batch)
+                            .concatMap(this::flushOne)
+                            .then();
+                });
+    }
+
+    private Mono<Void> flushOne(PendingInsert pending) {
+        return bulkWriter.insertRows(List.of(pending.data()))
+                .doOnNext(rows -> succeed(pending))
+                .doOnError(error -> fail(pending, error))
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    private void succeed(PendingInsert pending) {
+        pending.sample().stop(insertLatency);
+        pending.sink().success();
+    }
+
+    private void fail(PendingInsert pending, Throwable error) {
+        pending.sample().stop(insertLatency);
+        pending.sink().error(error);
+    }
+
+    private record PendingInsert(OrdersData data, MonoSink<Void> sink, Timer.Sample sample) {
+    }
+}
@@ -2,6 +2,8 @@ package co.com.bancolombia.r2dbc.orders;
 
 import co.com.bancolombia.r2dbc.orders.data.OrdersData;
 import co.com.bancolombia.r2dbc.orders.data.OrderPendingData;
+import co.com.bancolombia.r2dbc.orders.data.PendingExpiryChunkData;
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
@@ -11,20 +13,111 @@ import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Repository
-public interface OrdersR2dbcRepository extends ReactiveCrudRepository<OrdersData, String>, ReactiveQueryByExampleExecutor<OrdersData> {
+public interface OrdersR2dbcRepository extends ReactiveCrudRepository<OrdersData, UUID>, ReactiveQueryByExampleExecutor<OrdersData> {
+
+    String DECISION_OUTBOX_INSERT = "INSERT INTO decision_outbox (order_id, id_status, created_at, attempts, next_attempt_at) " +
+           "SELECT id, id_status, now(), 0, now() FROM updated";
     
     Flux<OrdersData> findByEmailAddress(String emailAddress);
-    
-    @Query("SELECT s.id FROM status s WHERE s.name = 'PENDING'")
-    Mono<String> findPendingStatusId();
+
+    /**
+     * Served by idx_orders_email_address; an applicant has few orders, so the remaining filters are cheap.
+     */
+    @Query("SELECT * FROM orders " +
+           "WHERE email_address = $1 AND amount = $2 AND deadline = $3 AND id_loan_type = $4 " +
+           "AND creation_date >= $5 " +
+           "ORDER BY creation_date DESC LIMIT 1")
+    Mono<OrdersData> findRecentDuplicate(String emailAddress, BigDecimal amount, Integer deadline,
+                                         UUID idLoanType, LocalDateTime since);
+
+    /**
+     * Served by idx_orders_creation_date, so only the requested range is read.
+     */
+    @Query("SELECT * FROM orders WHERE creation_date >= $1 ORDER BY creation_date")
+    Flux<OrdersData> findCreatedSince(LocalDateTime since);
     
     @Query("INSERT INTO orders (id, amount, deadline, email_address, creation_date, update_date, id_status, id_loan_type) " +
-           "VALUES ($1, $2, $3, $4, $5, $6, $7, $8)")
-    Mono<Void> insertOrder(String id, BigDecimal amount, Integer deadline, 
-                          String emailAddress, LocalDateTime creationDate, LocalDateTime updateDate,
-                          String idStatus, String idLoanType);
+           "VALUES ($1, $2, $3, $4, $5, $6, $7, $8) " +
+           "RETURNING *")
+    Mono<OrdersData> insertOrder(UUID id, BigDecimal amount, Integer deadline,
+                                 String emailAddress, LocalDateTime creationDate, LocalDateTime updateDate,
+                                 UUID idStatus, UUID idLoanType);
+
+    /**
+     * The decision and its outbox entry are written by one statement, so both commit or neither does.
+     * A decided order no longer needs its claim, so the claim is cleared too.
+     */
+    @Query("WITH updated AS (" +
+           "UPDATE orders SET id_status = $3, update_date = now(), claimed_by = NULL, claim_expires_at = NULL " +
+           "WHERE id = $1 AND id_status = $2 " +
+           "RETURNING *" +
+           "), outbox AS (" +
+           DECISION_OUTBOX_INSERT +
+           ") SELECT * FROM updated")
+    Mono<OrdersData> updateStatusIfCurrent(UUID id, UUID expectedStatusId, UUID newStatusId);
+
+    @Query("WITH updated AS (" +
+           "UPDATE orders SET id_status = $3, update_date = now(), claimed_by = NULL, claim_expires_at = NULL " +
+           "WHERE id = ANY($1) AND id_status = $2 " +
+           "RETURNING *" +
+           "), outbox AS (" +
+           DECISION_OUTBOX_INSERT +
+           ") SELECT * FROM updated")
+    Flux<OrdersData> updateStatusIfCurrentAll(UUID[] ids, UUID expectedStatusId, UUID newStatusId);
+
+    /**
+     * Served by idx_orders_status_creation_date. Orders locked by a concurrent claim are skipped rather than
+     * waited for, and an order locked then committed by that claim is re-checked against its new expiry, so no
+     * order is handed to two assessors. The assessor's own live claims are renewed and returned again.
+     */
+    @Query("UPDATE orders SET claimed_by = $2, claim_expires_at = now() + $4 * INTERVAL '1 millisecond' " +
+           "WHERE id IN (" +
+           "SELECT id FROM orders " +
+           "WHERE id_status = $1 " +
+           "AND (claim_expires_at IS NULL OR claim_expires_at <= now() OR claimed_by = $2) " +
+           "ORDER BY creation_date " +
+           "LIMIT $3 " +
+           "FOR UPDATE SKIP LOCKED" +
+           ") " +
+           "RETURNING *")
+    Flux<OrdersData> claimPending(UUID pendingStatusId, UUID assessorId, int limit, long leaseMillis);
+
+    @Modifying
+    @Query("UPDATE orders SET claimed_by = NULL, claim_expires_at = NULL " +
+           "WHERE id = $1 AND claimed_by = $2 AND claim_expires_at > now()")
+    Mono<Integer> releaseClaim(UUID id, UUID assessorId);
+
+    /**
+     * One keyset chunk of the pending order expiry, served by idx_orders_status_creation_date. The chunk locks
+     * at most $8 rows and commits on its own, and rows locked by a decision or by another instance running the
+     * expiry are skipped. Cancelled orders are queued in the outbox like any other decision.
+     */
+    @Query("WITH batch AS (" +
+           "SELECT id, creation_date FROM orders " +
+           "WHERE id_status = $1 AND creation_date < $3 " +
+           "AND (cardinality($4::uuid[]) = 0 OR id_loan_type = ANY($4)) " +
+           "AND id_loan_type <> ALL($5) " +
+           "AND (creation_date, id) > ($6, $7) " +
+           "ORDER BY creation_date, id " +
+           "LIMIT $8 " +
+           "FOR UPDATE SKIP LOCKED" +
+           "), updated AS (" +
+           "UPDATE orders o SET id_status = $2, update_date = now(), claimed_by = NULL, claim_expires_at = NULL " +
+           "FROM batch WHERE o.id = batch.id " +
+           "RETURNING o.*" +
+           "), outbox AS (" +
+           DECISION_OUTBOX_INSERT +
+           "), last AS (" +
+           "SELECT creation_date, id FROM batch ORDER BY creation_date DESC, id DESC LIMIT 1" +
+           ") SELECT (SELECT count(*) FROM batch) AS scanned, (SELECT count(*) FROM updated) AS cancelled, " +
+           "(SELECT creation_date FROM last) AS last_creation_date, (SELECT id FROM last) AS last_id")
+    Mono<PendingExpiryChunkData> cancelStalePending(UUID pendingStatusId, UUID cancelledStatusId,
+                                                    LocalDateTime createdBefore, UUID[] loanTypeIds,
+                                                    UUID[] excludedLoanTypeIds, LocalDateTime afterCreationDate,
+                                                    UUID afterId, int limit);
 
     @Query("SELECT " +
            "o.amount, " +
@@ -32,16 +125,18 @@ public interface OrdersR2dbcRepository extends ReactiveCrudRepository<OrdersData
            "o.email_address, " +
            "lt.name as loan_type, " +
            "lt.interest_rate, " +
-           "s.name as status_order, " +
-           "ROUND((o.amount * lt.interest_rate) / o.deadline, 2) as total_monthly_debt " +
+           "o.id_status, " +
+           "up.name as applicant_name, " +
+           "up.last_name as applicant_last_name, " +
+           "up.base_salary " +
            "FROM orders o " +
            "INNER JOIN loan_type lt ON o.id_loan_type = lt.id " +
-           "INNER JOIN status s ON o.id_status = s.id " +
-           "WHERE ($1 IS NULL OR s.id = $1) " +
+           "LEFT JOIN user_profile up ON up.email_address = o.email_address " +
+           "WHERE ($1 IS NULL OR o.id_status = $1) " +
            "AND ($2 IS NULL OR o.email_address ILIKE CONCAT('%', $2, '%')) " +
            "ORDER BY o.creation_date DESC " +
            "OFFSET $3 LIMIT $4")
-    Flux<OrderPendingData> findPendingOrdersQuery(String statusId, 
+    Flux<OrderPendingData> findPendingOrdersQuery(UUID statusId,
                                                    String email, 
                                                    int offset, 
                                                    int limit);
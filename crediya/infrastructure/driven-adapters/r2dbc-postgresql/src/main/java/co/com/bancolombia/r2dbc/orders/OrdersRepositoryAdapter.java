@@ -1,20 +1,28 @@
 package co.com.bancolombia.r2dbc.orders;
 
+import co.com.bancolombia.model.expiry.PendingExpiryChunk;
+import co.com.bancolombia.model.expiry.PendingExpiryScope;
 import co.com.bancolombia.model.orders.Orders;
 import co.com.bancolombia.model.orders.PendingRequest;
 import co.com.bancolombia.model.orders.gateways.OrdersRepository;
+import co.com.bancolombia.model.status.StatusRegistry;
+import co.com.bancolombia.r2dbc.helper.Uuids;
 import co.com.bancolombia.r2dbc.orders.data.OrderPendingData;
 import co.com.bancolombia.r2dbc.orders.data.OrdersData;
+import co.com.bancolombia.r2dbc.orders.data.PendingExpiryChunkData;
 import co.com.bancolombia.r2dbc.orders.mapper.OrdersMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.r2dbc.core.DatabaseClient;
-import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -23,56 +31,105 @@ import java.util.UUID;
 public class OrdersRepositoryAdapter implements OrdersRepository {
 
     private final OrdersR2dbcRepository repository;
-    private final TransactionalOperator txOperator;
     private final DatabaseClient databaseClient;
     private final OrdersMapper ordersMapper;
+    private final StatusRegistry statusRegistry;
+    private final OrdersBulkWriter bulkWriter;
+    private final OrdersGroupCommitWriter groupCommitWriter;
+
+    // Sorts before every stored order, so the first chunk of a scope starts at its oldest order
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID KEYSET_START_ID = new UUID(0L, 0L);
+
+    @Override
+    public Mono<Orders> insert(Orders orders) {
+        log.debug("Insertando nueva solicitud con ID: {}", orders.getId());
+        OrdersData ordersData = ordersMapper.toData(orders);
+
+        if (groupCommitWriter.isEnabled()) {
+            return groupCommitWriter.submit(ordersData)
+                    .thenReturn(orders)
+                    .doOnSuccess(savedOrder -> log.debug("Solicitud insertada en lote con ID: {}", orders.getId()))
+                    .doOnError(error -> log.error("Error al insertar solicitud con ID {}: {}", orders.getId(), error.getMessage()));
+        }
+
+        return repository.insertOrder(
+                        ordersData.getId(),
+                        ordersData.getAmount(),
+                        ordersData.getDeadline(),
+                        ordersData.getEmailAddress(),
+                        ordersData.getCreationDate(),
+                        ordersData.getUpdateDate(),
+                        ordersData.getIdStatus(),
+                        ordersData.getIdLoanType())
+                .map(ordersMapper::toDomain)
+                .doOnSuccess(savedOrder -> log.debug("Solicitud insertada exitosamente con ID: {}", orders.getId()))
+                .doOnError(error -> log.error("Error al insertar solicitud con ID {}: {}", orders.getId(), error.getMessage()));
+    }
+
+    @Override
+    public Mono<Orders> updateStatusIfCurrent(String id, String expectedStatusId, String newStatusId) {
+        log.debug("Cambiando estado de la solicitud {} de {} a {}", id, expectedStatusId, newStatusId);
+
+        UUID uuid = Uuids.parse(id);
+        if (uuid == null) {
+            return Mono.empty();
+        }
+        return repository.updateStatusIfCurrent(uuid, Uuids.parse(expectedStatusId), Uuids.parse(newStatusId))
+                .map(ordersMapper::toDomain)
+                .doOnSuccess(updatedOrder -> log.debug("Solicitud con ID {} {}", id,
+                        updatedOrder != null ? "cambió de estado" : "no está en el estado esperado"))
+                .doOnError(error -> log.error("Error al cambiar estado de la solicitud con ID {}: {}", id, error.getMessage()));
+    }
 
     @Override
-    public Mono<Orders> save(Orders orders) {
-        log.debug("Guardando solicitud con ID: {}", orders.getId());
-
-        return txOperator.transactional(
-                repository.existsById(orders.getId())
-                        .defaultIfEmpty(false)
-                        .doOnNext(exists -> log.debug("La solicitud con ID {} {} existe", 
-                                orders.getId(), exists ? "SI" : "NO"))
-                        .flatMap(exists -> {
-                            OrdersData ordersData = ordersMapper.toData(orders);
-                            if (exists) {
-                                log.debug("Actualizando solicitud existente con ID: {}", orders.getId());
-                                return repository.save(ordersData); // UPDATE
-                            } else {
-                                log.debug("Insertando nueva solicitud con ID: {}", orders.getId());
-                                return repository.insertOrder(
-                                        ordersData.getId(),
-                                        ordersData.getAmount(),
-                                        ordersData.getDeadline(),
-                                        ordersData.getEmailAddress(),
-                                        ordersData.getCreationDate(),
-                                        ordersData.getUpdateDate(),
-                                        ordersData.getIdStatus(),
-                                        ordersData.getIdLoanType()
-                                ).then(Mono.just(ordersData)); // INSERT directo
-                            }
-                        })
-                        .map(ordersMapper::toDomain)
-                        .doOnSuccess(savedOrder ->
-                                log.debug("Solicitud guardada exitosamente con ID: {}", savedOrder.getId())
-                        )
-                        .doOnError(error ->
-                                log.error("Error al guardar solicitud con ID {}: {}", orders.getId(), error.getMessage())
-                        )
-        );
+    public Flux<Orders> updateStatusIfCurrentAll(List<String> ids, String expectedStatusId, String newStatusId) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        log.debug("Cambiando estado de {} solicitudes de {} a {}", ids.size(), expectedStatusId, newStatusId);
+
+        return repository.updateStatusIfCurrentAll(Uuids.parseAll(ids), Uuids.parse(expectedStatusId),
+                        Uuids.parse(newStatusId))
+                .map(ordersMapper::toDomain)
+                .doOnError(error -> log.error("Error al cambiar estado de {} solicitudes: {}", ids.size(), error.getMessage()));
+    }
+
+    @Override
+    public Mono<Void> insertAll(List<Orders> orders) {
+        if (orders.isEmpty()) {
+            return Mono.empty();
+        }
+        log.debug("Insertando lote de {} solicitudes", orders.size());
+
+        return bulkWriter.insertRows(orders.stream().map(ordersMapper::toData).toList())
+                .doOnNext(rows -> log.debug("Lote insertado: {} solicitudes", rows))
+                .doOnError(error -> log.error("Error al insertar lote de {} solicitudes: {}", orders.size(), error.getMessage()))
+                .then();
     }
 
     @Override
     public Mono<Orders> findById(String id) {
         log.debug("Buscando solicitud con ID: {}", id);
-        return repository.findById(id)
+        UUID uuid = Uuids.parse(id);
+        if (uuid == null) {
+            return Mono.empty();
+        }
+        return repository.findById(uuid)
                 .map(ordersMapper::toDomain)
                 .doOnNext(order -> log.debug("Solicitud encontrada: {}", order.getId()));
     }
 
+    @Override
+    public Flux<Orders> findByIds(List<String> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+        log.debug("Buscando {} solicitudes por ID", ids.size());
+        return repository.findAllById(List.of(Uuids.parseAll(ids)))
+                .map(ordersMapper::toDomain);
+    }
+
     @Override
     public Flux<Orders> findByEmailAddress(String emailAddress) {
         log.debug("Buscando solicitudes para email: {}", emailAddress);
@@ -82,21 +139,78 @@ public class OrdersRepositoryAdapter implements OrdersRepository {
     }
 
     @Override
-    public Mono<String> findPendingStatusId() {
-        log.debug("Obteniendo ID del estado PENDING");
-        return repository.findPendingStatusId()
-                .doOnNext(statusId -> log.debug("ID del estado PENDING: {}", statusId));
+    public Mono<Orders> findRecentDuplicate(String emailAddress, BigDecimal amount, Integer deadline,
+                                            String loanTypeId, LocalDateTime since) {
+        UUID idLoanType = Uuids.parse(loanTypeId);
+        if (idLoanType == null) {
+            return Mono.empty();
+        }
+        return repository.findRecentDuplicate(emailAddress, amount, deadline, idLoanType, since)
+                .map(ordersMapper::toDomain)
+                .doOnNext(order -> log.debug("Solicitud duplicada encontrada en base de datos: {}", order.getId()));
+    }
+
+    @Override
+    public Flux<Orders> findCreatedSince(LocalDateTime since) {
+        log.debug("Buscando solicitudes creadas desde: {}", since);
+        return repository.findCreatedSince(since)
+                .map(ordersMapper::toDomain);
+    }
+
+    @Override
+    public Flux<Orders> claimPending(String pendingStatusId, String assessorId, int limit, Duration lease) {
+        log.debug("Asignando hasta {} solicitudes pendientes al asesor {}", limit, assessorId);
+
+        // RETURNING does not keep the subquery order
+        return repository.claimPending(Uuids.parse(pendingStatusId), Uuids.parse(assessorId), limit, lease.toMillis())
+                .map(ordersMapper::toDomain)
+                .sort(Comparator.comparing(Orders::getCreationDate))
+                .doOnError(error -> log.error("Error asignando solicitudes al asesor {}: {}", assessorId, error.getMessage()));
+    }
+
+    @Override
+    public Mono<Boolean> releaseClaim(String id, String assessorId) {
+        UUID uuid = Uuids.parse(id);
+        if (uuid == null) {
+            return Mono.just(false);
+        }
+        return repository.releaseClaim(uuid, Uuids.parse(assessorId))
+                .map(released -> released > 0);
+    }
+
+    @Override
+    public Mono<PendingExpiryChunk> cancelStalePending(String pendingStatusId, String cancelledStatusId,
+                                                       PendingExpiryScope scope, PendingExpiryChunk after,
+                                                       int limit) {
+        LocalDateTime afterCreationDate = after != null ? after.getLastCreationDate() : KEYSET_START;
+        UUID afterId = after != null ? Uuids.parse(after.getLastId()) : KEYSET_START_ID;
+
+        return repository.cancelStalePending(Uuids.parse(pendingStatusId), Uuids.parse(cancelledStatusId),
+                        scope.getCreatedBefore(), Uuids.parseAll(scope.getLoanTypeIds()),
+                        Uuids.parseAll(scope.getExcludedLoanTypeIds()), afterCreationDate, afterId, limit)
+                .map(data -> toExpiryChunk(scope, data))
+                .doOnError(error -> log.error("Error cancelando solicitudes pendientes vencidas ({}): {}",
+                        scope.getName(), error.getMessage()));
+    }
+
+    private static PendingExpiryChunk toExpiryChunk(PendingExpiryScope scope, PendingExpiryChunkData data) {
+        return PendingExpiryChunk.builder()
+                .scope(scope.getName())
+                .scanned(data.getScanned().intValue())
+                .cancelled(data.getCancelled().intValue())
+                .lastCreationDate(data.getLastCreationDate())
+                .lastId(Uuids.format(data.getLastId()))
+                .build();
     }
 
     @Override
     public Flux<PendingRequest> findPendingRequests(UUID statusId, String email, int page, int size) {
         log.debug("Buscando solicitudes pendientes - statusId: {}, email: {}, page: {}, size: {}", 
                   statusId, email, page, size);
-        
-        String statusIdStr = statusId != null ? statusId.toString() : null;
+
         int offset = page * size;
-        
-        return repository.findPendingOrdersQuery(statusIdStr, email, offset, size)
+
+        return repository.findPendingOrdersQuery(statusId, email, offset, size)
                 .map(this::mapToPendingRequest)
                 .doOnNext(dto -> log.debug("Solicitud pendiente encontrada para email: {}", dto.getEmailAddress()))
                 .doOnComplete(() -> log.debug("Consulta de solicitudes pendientes completada"));
@@ -107,12 +221,21 @@ public class OrdersRepositoryAdapter implements OrdersRepository {
                 .amount(data.getAmount())
                 .deadline(data.getDeadline())
                 .emailAddress(data.getEmailAddress())
-                .name("")
+                .name(buildApplicantName(data))
                 .loanType(data.getLoanType())
                 .interestRate(data.getInterestRate())
-                .status(data.getStatusOrder())
-                .baseSalary(BigDecimal.ZERO)
-                .monthlyAmount(data.getTotalMonthlyDebt())
+                .status(statusRegistry.nameOf(Uuids.format(data.getIdStatus())))
+                .baseSalary(data.getBaseSalary())
                 .build();
     }
+
+    private String buildApplicantName(OrderPendingData data) {
+        if (data.getBaseSalary() == null) {
+            return null;
+        }
+        String name = data.getApplicantName() != null ? data.getApplicantName().trim() : "";
+        String lastName = data.getApplicantLastName() != null ? data.getApplicantLastName().trim() : "";
+        String fullName = (name + " " + lastName).trim();
+        return fullName.isEmpty() ? "N/A" : fullName;
+    }
 }
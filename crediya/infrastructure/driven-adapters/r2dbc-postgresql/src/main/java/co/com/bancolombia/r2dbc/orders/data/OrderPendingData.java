@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.util.UUID;
 
 @Data
 @NoArgsConstructor
@@ -17,6 +18,8 @@ public class OrderPendingData {
     private String emailAddress;
     private String loanType;
     private BigDecimal interestRate;
-    private String statusOrder;
-    private BigDecimal totalMonthlyDebt;
+    private UUID idStatus;
+    private String applicantName;
+    private String applicantLastName;
+    private BigDecimal baseSalary;
 }
\ No newline at end of file
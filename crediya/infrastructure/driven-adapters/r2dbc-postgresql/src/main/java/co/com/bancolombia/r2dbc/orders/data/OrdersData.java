@@ -11,6 +11,7 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Data
 @NoArgsConstructor
@@ -19,7 +20,7 @@ import java.time.LocalDateTime;
 @Table("orders")
 public class OrdersData {
     @Id
-    private String id;
+    private UUID id;
 
     @Column("amount")
     private BigDecimal amount;
@@ -37,9 +38,15 @@ public class OrdersData {
     private LocalDateTime updateDate;
 
     @Column("id_status")
-    private String idStatus;
+    private UUID idStatus;
 
     @Column("id_loan_type")
-    private String idLoanType;
+    private UUID idLoanType;
+
+    @Column("claimed_by")
+    private UUID claimedBy;
+
+    @Column("claim_expires_at")
+    private LocalDateTime claimExpiresAt;
 
 }
@@ -0,0 +1,20 @@
+package co.com.bancolombia.r2dbc.orders.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class PendingExpiryChunkData {
+    private Long scanned;
+    private Long cancelled;
+    private LocalDateTime lastCreationDate;
+    private UUID lastId;
+}
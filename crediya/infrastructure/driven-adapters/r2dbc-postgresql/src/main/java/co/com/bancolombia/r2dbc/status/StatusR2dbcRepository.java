@@ -0,0 +1,11 @@
+package co.com.bancolombia.r2dbc.status;
+
+import co.com.bancolombia.r2dbc.status.data.StatusData;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface StatusR2dbcRepository extends ReactiveCrudRepository<StatusData, UUID> {
+}
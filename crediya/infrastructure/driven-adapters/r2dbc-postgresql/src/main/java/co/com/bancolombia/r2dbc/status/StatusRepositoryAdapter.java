@@ -0,0 +1,27 @@
+package co.com.bancolombia.r2dbc.status;
+
+import co.com.bancolombia.model.status.Status;
+import co.com.bancolombia.model.status.gateways.StatusRepository;
+import co.com.bancolombia.r2dbc.helper.Uuids;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class StatusRepositoryAdapter implements StatusRepository {
+
+    private final StatusR2dbcRepository repository;
+
+    @Override
+    public Flux<Status> findAll() {
+        log.debug("Obteniendo todos los estados");
+        return repository.findAll()
+                .map(data -> Status.builder()
+                        .id(Uuids.format(data.getId()))
+                        .name(data.getName())
+                        .build());
+    }
+}
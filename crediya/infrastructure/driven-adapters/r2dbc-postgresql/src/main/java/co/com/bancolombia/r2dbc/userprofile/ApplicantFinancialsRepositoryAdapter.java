@@ -0,0 +1,38 @@
+package co.com.bancolombia.r2dbc.userprofile;
+
+import co.com.bancolombia.model.amortization.AmortizationEngine;
+import co.com.bancolombia.model.autodecision.ApplicantFinancials;
+import co.com.bancolombia.model.autodecision.gateways.ApplicantFinancialsRepository;
+import co.com.bancolombia.r2dbc.helper.Uuids;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Reads the applicant's income from the local user profile projection and adds up the installments of their
+ * approved orders with {@link AmortizationEngine}, the same formula used for the pending report and the
+ * decision engine. Both queries run concurrently.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApplicantFinancialsRepositoryAdapter implements ApplicantFinancialsRepository {
+
+    private final UserProfileR2dbcRepository repository;
+    private final AmortizationEngine amortizationEngine;
+
+    @Override
+    public Mono<ApplicantFinancials> findByEmailAddress(String emailAddress, String approvedStatusId) {
+        Mono<BigDecimal> monthlyDebt = repository.findApprovedLoans(emailAddress, Uuids.parse(approvedStatusId))
+                .mapNotNull(loan -> amortizationEngine.monthlyAmount(
+                        loan.getAmount(), loan.getInterestRate(), loan.getDeadline()))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return Mono.zip(repository.findByEmailAddress(emailAddress), monthlyDebt)
+                .map(found -> ApplicantFinancials.builder()
+                        .baseSalary(found.getT1().getBaseSalary())
+                        .monthlyDebt(found.getT2())
+                        .build());
+    }
+}
@@ -0,0 +1,55 @@
+package co.com.bancolombia.r2dbc.userprofile;
+
+import co.com.bancolombia.r2dbc.userprofile.data.ApprovedLoanData;
+import co.com.bancolombia.r2dbc.userprofile.data.UserProfileData;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface UserProfileR2dbcRepository extends ReactiveCrudRepository<UserProfileData, UUID> {
+
+    @Query("INSERT INTO user_profile (user_id, name, last_name, email_address, base_salary, source_seq, updated_at) " +
+           "VALUES ($1, $2, $3, $4, $5, $6, now()) " +
+           "ON CONFLICT (user_id) DO UPDATE SET " +
+           "name = EXCLUDED.name, " +
+           "last_name = EXCLUDED.last_name, " +
+           "email_address = EXCLUDED.email_address, " +
+           "base_salary = EXCLUDED.base_salary, " +
+           "source_seq = EXCLUDED.source_seq, " +
+           "updated_at = EXCLUDED.updated_at " +
+           "WHERE user_profile.source_seq < EXCLUDED.source_seq")
+    Mono<Void> upsertProfile(UUID userId, String name, String lastName, String emailAddress,
+                             BigDecimal baseSalary, Long sourceSeq);
+
+    /**
+     * Drops the older profile of another user still holding the email, so the upsert does not hit
+     * uk_user_profile_email_address when an email moves between users. That user's own later change
+     * brings their profile back with the new email.
+     */
+    @Query("DELETE FROM user_profile WHERE email_address = $2 AND user_id <> $1 AND source_seq < $3")
+    Mono<Void> releaseEmail(UUID userId, String emailAddress, Long sourceSeq);
+
+    @Query("DELETE FROM user_profile WHERE user_id = $1 AND source_seq < $2")
+    Mono<Void> deleteProfile(UUID userId, Long sourceSeq);
+
+    Mono<UserProfileData> findByEmailAddress(String emailAddress);
+
+    @Query("SELECT o.amount, lt.interest_rate, o.deadline " +
+           "FROM orders o INNER JOIN loan_type lt ON o.id_loan_type = lt.id " +
+           "WHERE o.email_address = $1 AND o.id_status = $2")
+    Flux<ApprovedLoanData> findApprovedLoans(String emailAddress, UUID approvedStatusId);
+
+    @Query("SELECT last_seq FROM replication_cursor WHERE feed_name = $1")
+    Mono<Long> findLastSeq(String feedName);
+
+    @Query("UPDATE replication_cursor SET last_seq = $2, last_change_at = $3, updated_at = now() " +
+           "WHERE feed_name = $1 AND last_seq < $2")
+    Mono<Void> advanceCursor(String feedName, Long lastSeq, LocalDateTime lastChangeAt);
+}
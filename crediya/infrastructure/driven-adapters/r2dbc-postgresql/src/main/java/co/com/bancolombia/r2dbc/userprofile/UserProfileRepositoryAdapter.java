@@ -0,0 +1,67 @@
+package co.com.bancolombia.r2dbc.userprofile;
+
+import co.com.bancolombia.model.userprofile.UserChange;
+import co.com.bancolombia.model.userprofile.gateways.UserProfileRepository;
+import co.com.bancolombia.r2dbc.helper.Uuids;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class UserProfileRepositoryAdapter implements UserProfileRepository {
+
+    static final String FEED_NAME = "pragma-users";
+
+    private final UserProfileR2dbcRepository repository;
+    private final TransactionalOperator txOperator;
+
+    @Override
+    public Mono<Long> findLastAppliedSeq() {
+        return repository.findLastSeq(FEED_NAME)
+                .doOnNext(seq -> log.debug("Última secuencia aplicada del feed {}: {}", FEED_NAME, seq));
+    }
+
+    @Override
+    public Mono<Void> applyChanges(List<UserChange> changes) {
+        if (changes.isEmpty()) {
+            return Mono.empty();
+        }
+        UserChange last = changes.get(changes.size() - 1);
+        log.debug("Aplicando {} cambios de usuario hasta seq: {}", changes.size(), last.getSeq());
+
+        return txOperator.transactional(
+                Flux.fromIterable(changes)
+                        .concatMap(this::applyChange)
+                        .then(repository.advanceCursor(FEED_NAME, last.getSeq(), last.getOccurredAt()))
+        ).doOnError(error -> log.error("Error aplicando cambios de usuario hasta seq {}: {}",
+                last.getSeq(), error.getMessage()));
+    }
+
+    private Mono<Void> applyChange(UserChange change) {
+        UUID userId = Uuids.parse(change.getUserId());
+        if (userId == null) {
+            return Mono.error(new IllegalArgumentException("Identificador de usuario inválido en el cambio "
+                    + change.getSeq() + ": " + change.getUserId()));
+        }
+        if (change.isDeletion()) {
+            return repository.deleteProfile(userId, change.getSeq());
+        }
+        return repository.releaseEmail(userId, change.getEmailAddress(), change.getSeq())
+                .then(repository.upsertProfile(
+                        userId,
+                        change.getName(),
+                        change.getLastName(),
+                        change.getEmailAddress(),
+                        change.getBaseSalary(),
+                        change.getSeq()
+                ));
+    }
+}
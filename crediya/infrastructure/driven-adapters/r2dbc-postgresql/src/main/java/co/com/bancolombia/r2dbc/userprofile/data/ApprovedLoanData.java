@@ -0,0 +1,18 @@
+package co.com.bancolombia.r2dbc.userprofile.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ApprovedLoanData {
+    private BigDecimal amount;
+    private BigDecimal interestRate;
+    private Integer deadline;
+}
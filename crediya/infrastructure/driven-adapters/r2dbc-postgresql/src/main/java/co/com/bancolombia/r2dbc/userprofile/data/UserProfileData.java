@@ -0,0 +1,42 @@
+package co.com.bancolombia.r2dbc.userprofile.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table("user_profile")
+public class UserProfileData {
+    @Id
+    @Column("user_id")
+    private UUID userId;
+
+    @Column("name")
+    private String name;
+
+    @Column("last_name")
+    private String lastName;
+
+    @Column("email_address")
+    private String emailAddress;
+
+    @Column("base_salary")
+    private BigDecimal baseSalary;
+
+    @Column("source_seq")
+    private Long sourceSeq;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,42 @@
+package co.com.bancolombia.r2dbc.helper;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class UuidsTest {
+
+    private static final String ID = "550e8400-e29b-41d4-a716-446655440001";
+
+    @Test
+    @DisplayName("Parse - canonical ids become UUIDs and malformed ids become null")
+    void parse() {
+        // Act & Assert
+        assertEquals(UUID.fromString(ID), Uuids.parse(ID));
+        assertNull(Uuids.parse(null));
+        assertNull(Uuids.parse("order-123"));
+        assertNull(Uuids.parse("1-1-1-1-1"));
+        assertNull(Uuids.parse("550e8400-e29b-41d4-a716-44665544000z"));
+    }
+
+    @Test
+    @DisplayName("Parse all - malformed ids are skipped")
+    void parseAll() {
+        // Act & Assert
+        assertArrayEquals(new UUID[]{UUID.fromString(ID)}, Uuids.parseAll(List.of("order-123", ID)));
+    }
+
+    @Test
+    @DisplayName("Format - canonical lowercase string, null stays null")
+    void format() {
+        // Act & Assert
+        assertEquals(ID, Uuids.format(UUID.fromString(ID.toUpperCase())));
+        assertNull(Uuids.format(null));
+    }
+}
@@ -0,0 +1,133 @@
+package co.com.bancolombia.r2dbc.loantype;
+
+import co.com.bancolombia.model.loantype.LoanType;
+import co.com.bancolombia.r2dbc.config.LoanTypeCatalogProperties;
+import co.com.bancolombia.r2dbc.config.PostgresqlConnectionProperties;
+import co.com.bancolombia.r2dbc.loantype.data.LoanTypeData;
+import co.com.bancolombia.r2dbc.loantype.mapper.LoanTypeMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LoanTypeRepositoryAdapterTest {
+
+    private static final String LOAN_TYPE_ID = "550e8400-e29b-41d4-a716-446655441003";
+
+    @Mock
+    private LoanTypeR2dbcRepository repository;
+
+    @Mock
+    private LoanTypeMapper loanTypeMapper;
+
+    private LoanTypeCatalog catalog;
+    private LoanTypeRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new LoanTypeCatalog(repository, loanTypeMapper,
+                new LoanTypeCatalogProperties(true, Duration.ofMinutes(5), Duration.ofSeconds(5)),
+                new PostgresqlConnectionProperties("localhost", 5432, "crediya", "public", "postgres", "secret"));
+        adapter = new LoanTypeRepositoryAdapter(repository, loanTypeMapper, catalog);
+    }
+
+    private LoanTypeData buildData(String id) {
+        return LoanTypeData.builder().id(UUID.fromString(id)).name("MICROCREDITO").build();
+    }
+
+    private LoanType buildLoanType(String id) {
+        return LoanType.builder()
+                .id(id)
+                .name("MICROCREDITO")
+                .minimumAmount(new BigDecimal("10000"))
+                .maximumAmount(new BigDecimal("500000"))
+                .interestRate(new BigDecimal("12.5"))
+                .automaticValidation(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Find by ID - served from the snapshot once loaded")
+    void findByIdServedFromSnapshot() {
+        // Arrange
+        LoanTypeData data = buildData(LOAN_TYPE_ID);
+        when(repository.findAll()).thenReturn(Flux.just(data));
+        when(loanTypeMapper.toDomain(data)).thenReturn(buildLoanType(LOAN_TYPE_ID));
+        catalog.reload().block();
+
+        // Act & Assert
+        StepVerifier.create(adapter.findById(LOAN_TYPE_ID))
+                .assertNext(loanType -> assertEquals("MICROCREDITO", loanType.getName()))
+                .verifyComplete();
+        StepVerifier.create(adapter.findById("missing"))
+                .verifyComplete();
+        StepVerifier.create(adapter.existsById(LOAN_TYPE_ID))
+                .expectNext(true)
+                .verifyComplete();
+
+        verify(repository, never()).findById(any(UUID.class));
+        verify(repository, never()).existsById(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Find by ID - falls back to the database before the first load")
+    void findByIdFallsBackBeforeLoad() {
+        // Arrange
+        LoanTypeData data = buildData(LOAN_TYPE_ID);
+        when(repository.findById(UUID.fromString(LOAN_TYPE_ID))).thenReturn(Mono.just(data));
+        when(loanTypeMapper.toDomain(data)).thenReturn(buildLoanType(LOAN_TYPE_ID));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findById(LOAN_TYPE_ID))
+                .assertNext(loanType -> assertEquals(LOAN_TYPE_ID, loanType.getId()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Snapshot - returned loan types cannot alter the catalog")
+    void snapshotReturnsCopies() {
+        // Arrange
+        LoanTypeData data = buildData(LOAN_TYPE_ID);
+        when(repository.findAll()).thenReturn(Flux.just(data));
+        when(loanTypeMapper.toDomain(data)).thenReturn(buildLoanType(LOAN_TYPE_ID));
+        catalog.reload().block();
+
+        // Act
+        adapter.findById(LOAN_TYPE_ID).block().setName("ALTERADO");
+
+        // Assert
+        StepVerifier.create(adapter.findById(LOAN_TYPE_ID))
+                .assertNext(loanType -> assertEquals("MICROCREDITO", loanType.getName()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Find by ID - a malformed id is not found without querying the database")
+    void findByIdMalformedId() {
+        // Act & Assert
+        StepVerifier.create(adapter.findById("missing"))
+                .verifyComplete();
+        StepVerifier.create(adapter.existsById("missing"))
+                .expectNext(false)
+                .verifyComplete();
+
+        verify(repository, never()).findById(any(UUID.class));
+        verify(repository, never()).existsById(any(UUID.class));
+    }
+}
@@ -0,0 +1,145 @@
+package co.com.bancolombia.r2dbc.orders;
+
+import co.com.bancolombia.r2dbc.config.GroupCommitProperties;
+import co.com.bancolombia.r2dbc.orders.data.OrdersData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrdersGroupCommitWriterTest {
+
+    @Mock
+    private OrdersBulkWriter bulkWriter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrdersGroupCommitWriter writer;
+
+    private OrdersGroupCommitWriter buildWriter(int maxBatchSize, Duration maxWait) {
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new OrdersGroupCommitWriter(bulkWriter,
+                new GroupCommitProperties(true, maxBatchSize, maxWait, 1), meterRegistry);
+        return writer;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    private OrdersData buildData(String id) {
+        return OrdersData.builder().id(UUID.nameUUIDFromBytes(id.getBytes())).build();
+    }
+
+    @Test
+    @DisplayName("Group commit - concurrent inserts are written in full batches")
+    void concurrentInsertsShareStatements() {
+        // Arrange
+        buildWriter(5, Duration.ofSeconds(1));
+        when(bulkWriter.insertRows(anyList())).thenAnswer(invocation -> Mono.just((long) invocation.<List<?>>getArgument(0).size()));
+
+        // Act
+        StepVerifier.create(Flux.range(0, 10).flatMap(i -> writer.submit(buildData("order-" + i))))
+                .verifyComplete();
+
+        // Assert
+        verify(bulkWriter, times(2)).insertRows(argThat(rows -> rows.size() == 5));
+        assertEquals(10.0, meterRegistry.get("crediya.orders.group_commit.batch.size").summary().totalAmount());
+        assertEquals(10, meterRegistry.get("crediya.orders.group_commit.latency").timer().count());
+    }
+
+    @Test
+    @DisplayName("Group commit - a partial batch is flushed after the max wait")
+    void partialBatchFlushedAfterMaxWait() {
+        // Arrange
+        buildWriter(50, Duration.ofMillis(20));
+        when(bulkWriter.insertRows(anyList())).thenReturn(Mono.just(1L));
+
+        // Act & Assert
+        StepVerifier.create(writer.submit(buildData("order-1")))
+                .expectComplete()
+                .verify(Duration.ofSeconds(2));
+        assertTrue(writer.isEnabled());
+    }
+
+    @Test
+    @DisplayName("Group commit - inserts from many threads are all queued and written")
+    void parallelSubmittersAreSerialized() {
+        // Arrange
+        buildWriter(16, Duration.ofMillis(5));
+        when(bulkWriter.insertRows(anyList())).thenAnswer(invocation -> Mono.just((long) invocation.<List<?>>getArgument(0).size()));
+
+        // Act
+        StepVerifier.create(Flux.range(0, 200)
+                        .parallel(8)
+                        .runOn(Schedulers.parallel())
+                        .flatMap(i -> writer.submit(buildData("order-" + i)))
+                        .sequential())
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+
+        // Assert
+        assertEquals(200, meterRegistry.get("crediya.orders.group_commit.latency").timer().count());
+    }
+
+    @Test
+    @DisplayName("Group commit - an insert submitted after stop fails instead of waiting")
+    void submitAfterStopFails() {
+        // Arrange
+        buildWriter(5, Duration.ofSeconds(1));
+        writer.stop();
+
+        // Act & Assert
+        StepVerifier.create(writer.submit(buildData("order-1")))
+                .expectError(IllegalStateException.class)
+                .verify(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Group commit - a failing row only fails its own caller")
+    void failingRowIsIsolated() {
+        // Arrange
+        buildWriter(2, Duration.ofSeconds(1));
+        when(bulkWriter.insertRows(argThat(rows -> rows != null && rows.size() == 2)))
+                .thenReturn(Mono.error(new IllegalStateException("duplicate key")));
+        when(bulkWriter.insertRows(argThat(rows -> rows != null && rows.size() == 1 && buildData("good").getId().equals(rows.get(0).getId()))))
+                .thenReturn(Mono.just(1L));
+        when(bulkWriter.insertRows(argThat(rows -> rows != null && rows.size() == 1 && buildData("bad").getId().equals(rows.get(0).getId()))))
+                .thenReturn(Mono.error(new IllegalStateException("duplicate key")));
+
+        // Act
+        Mono<Void> good = writer.submit(buildData("good"));
+        Mono<Void> bad = writer.submit(buildData("bad"));
+
+        // Assert
+        StepVerifier.create(Flux.merge(good.thenReturn("good").onErrorReturn("good-failed"),
+                        bad.thenReturn("bad").onErrorReturn("bad-failed")).collectList())
+                .assertNext(outcomes -> {
+                    assertTrue(outcomes.contains("good"));
+                    assertTrue(outcomes.contains("bad-failed"));
+                })
+                .verifyComplete();
+    }
+}
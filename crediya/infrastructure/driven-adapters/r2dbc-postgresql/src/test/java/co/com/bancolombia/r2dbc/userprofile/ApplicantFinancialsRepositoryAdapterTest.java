@@ -0,0 +1,70 @@
+package co.com.bancolombia.r2dbc.userprofile;
+
+import co.com.bancolombia.model.amortization.AmortizationEngine;
+import co.com.bancolombia.r2dbc.userprofile.data.ApprovedLoanData;
+import co.com.bancolombia.r2dbc.userprofile.data.UserProfileData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicantFinancialsRepositoryAdapterTest {
+
+    private static final String EMAIL = "ana.gomez@example.com";
+    private static final String APPROVED_STATUS_ID = "550e8400-e29b-41d4-a716-446655440002";
+
+    @Mock
+    private UserProfileR2dbcRepository repository;
+
+    private ApplicantFinancialsRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new ApplicantFinancialsRepositoryAdapter(repository, new AmortizationEngine(16));
+    }
+
+    @Test
+    @DisplayName("Should add up the French installments of the approved orders")
+    void shouldSumInstallmentsOfApprovedOrders() {
+        // Arrange
+        when(repository.findByEmailAddress(EMAIL)).thenReturn(Mono.just(UserProfileData.builder()
+                .emailAddress(EMAIL)
+                .baseSalary(new BigDecimal("3500000"))
+                .build()));
+        when(repository.findApprovedLoans(EMAIL, UUID.fromString(APPROVED_STATUS_ID))).thenReturn(Flux.just(
+                new ApprovedLoanData(new BigDecimal("12000"), new BigDecimal("0.01"), 12),
+                new ApprovedLoanData(new BigDecimal("12000"), BigDecimal.ZERO, 12)));
+
+        // Act & Assert
+        StepVerifier.create(adapter.findByEmailAddress(EMAIL, APPROVED_STATUS_ID))
+                .assertNext(financials -> {
+                    assertEquals(new BigDecimal("3500000"), financials.getBaseSalary());
+                    assertEquals(new BigDecimal("2066.19"), financials.getMonthlyDebt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should answer empty when the applicant has no local profile")
+    void shouldBeEmptyWithoutProfile() {
+        // Arrange
+        when(repository.findByEmailAddress(EMAIL)).thenReturn(Mono.empty());
+        when(repository.findApprovedLoans(EMAIL, UUID.fromString(APPROVED_STATUS_ID))).thenReturn(Flux.empty());
+
+        // Act & Assert
+        StepVerifier.create(adapter.findByEmailAddress(EMAIL, APPROVED_STATUS_ID))
+                .verifyComplete();
+    }
+}
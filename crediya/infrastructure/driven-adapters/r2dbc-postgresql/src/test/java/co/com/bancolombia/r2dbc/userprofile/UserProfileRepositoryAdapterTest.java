@@ -0,0 +1,110 @@
+package co.com.bancolombia.r2dbc.userprofile;
+
+import co.com.bancolombia.model.userprofile.UserChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserProfileRepositoryAdapterTest {
+
+    private static final String FIRST_USER_ID = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
+    private static final String SECOND_USER_ID = "9b2d3c4e-1f5a-4b6c-8d7e-0a1b2c3d4e5f";
+    private static final String EMAIL = "ana.gomez@example.com";
+    private static final LocalDateTime OCCURRED_AT = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Mock
+    private UserProfileR2dbcRepository repository;
+
+    @Mock
+    private TransactionalOperator txOperator;
+
+    private UserProfileRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new UserProfileRepositoryAdapter(repository, txOperator);
+    }
+
+    private UserChange buildChange(long seq, String userId, String emailAddress) {
+        return UserChange.builder()
+                .seq(seq)
+                .userId(userId)
+                .changeType("UPSERTED")
+                .name("Ana")
+                .lastName("Gómez")
+                .emailAddress(emailAddress)
+                .baseSalary(new BigDecimal("3500000"))
+                .occurredAt(OCCURRED_AT)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should free the email from the previous owner before upserting the new owner's profile")
+    @SuppressWarnings("unchecked")
+    void shouldMoveEmailBetweenUsers() {
+        // Arrange
+        UUID firstUser = UUID.fromString(FIRST_USER_ID);
+        UUID secondUser = UUID.fromString(SECOND_USER_ID);
+        UserChange moved = buildChange(11L, SECOND_USER_ID, EMAIL);
+        UserChange renamed = buildChange(12L, FIRST_USER_ID, "ana.gomez.old@example.com");
+        when(txOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.releaseEmail(any(UUID.class), anyString(), anyLong())).thenReturn(Mono.empty());
+        when(repository.upsertProfile(any(UUID.class), anyString(), anyString(), anyString(), any(BigDecimal.class),
+                anyLong())).thenReturn(Mono.empty());
+        when(repository.advanceCursor(UserProfileRepositoryAdapter.FEED_NAME, 12L, OCCURRED_AT))
+                .thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(adapter.applyChanges(List.of(moved, renamed)))
+                .verifyComplete();
+
+        InOrder order = inOrder(repository);
+        order.verify(repository).releaseEmail(secondUser, EMAIL, 11L);
+        order.verify(repository).upsertProfile(secondUser, "Ana", "Gómez", EMAIL, new BigDecimal("3500000"), 11L);
+        order.verify(repository).releaseEmail(firstUser, "ana.gomez.old@example.com", 12L);
+        order.verify(repository).upsertProfile(firstUser, "Ana", "Gómez", "ana.gomez.old@example.com",
+                new BigDecimal("3500000"), 12L);
+        order.verify(repository).advanceCursor(UserProfileRepositoryAdapter.FEED_NAME, 12L, OCCURRED_AT);
+    }
+
+    @Test
+    @DisplayName("Should delete a profile without touching other users' emails")
+    @SuppressWarnings("unchecked")
+    void shouldDeleteProfile() {
+        // Arrange
+        UserChange deletion = buildChange(13L, FIRST_USER_ID, null).toBuilder()
+                .changeType(UserChange.DELETED)
+                .build();
+        when(txOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.deleteProfile(UUID.fromString(FIRST_USER_ID), 13L)).thenReturn(Mono.empty());
+        when(repository.advanceCursor(UserProfileRepositoryAdapter.FEED_NAME, 13L, OCCURRED_AT))
+                .thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(adapter.applyChanges(List.of(deletion)))
+                .verifyComplete();
+
+        verify(repository, never()).releaseEmail(any(), any(), any());
+    }
+}
@@ -0,0 +1,169 @@
+package co.com.bancolombia.sqs.sender;
+
+import co.com.bancolombia.sqs.sender.config.SQSSenderProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Buffers outgoing messages and sends them with SendMessageBatch.
+ *
+ * <p>A batch is sent when {@code batchSize} messages (at most 10, the SQS limit) are waiting or
+ * {@code batchWait} has passed. Entries the queue rejects are re-queued on their own, up to
+ * {@code maxAttempts}; a sender fault or a failed call fails only the affected callers once attempts run out.
+ * An entry the response does not mention at all is failed, so its caller never waits forever.</p>
+ */
+@Log4j2
+@Component
+public class SQSBatchSender {
+
+    static final int MAX_BATCH_SIZE = 10;
+    private static final Duration RETRY_DELAY = Duration.ofMillis(50);
+
+    private final SQSSenderProperties properties;
+    private final SqsAsyncClient client;
+    private final Sinks.Many<PendingMessage> queue = Sinks.many().unicast().onBackpressureBuffer();
+    private final Object emitLock = new Object();
+    private final int batchSize;
+    private final DistributionSummary fillRatio;
+    private final Timer sendLatency;
+    private final Disposable subscription;
+
+    public SQSBatchSender(SQSSenderProperties properties, SqsAsyncClient client, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.client = client;
+        this.batchSize = Math.min(Math.max(1, properties.batchSize()), MAX_BATCH_SIZE);
+        this.fillRatio = DistributionSummary.builder("crediya.sqs.batch.fill_ratio")
+                .description("Fracción ocupada de cada SendMessageBatch")
+                .register(meterRegistry);
+        this.sendLatency = Timer.builder("crediya.sqs.batch.send.latency")
+                .description("Duración de cada llamada SendMessageBatch")
+                .register(meterRegistry);
+        this.subscription = queue.asFlux()
+                .bufferTimeout(batchSize, properties.batchWait(), true)
+                .flatMap(this::sendBatch, Math.max(1, properties.senders()))
+                .subscribe();
+    }
+
+    /**
+     * Queues the message and completes with its SQS message id once its batch is accepted.
+     */
+    public Mono<String> send(String body) {
+        return Mono.create(sink -> enqueue(new PendingMessage(body, sink, 1)));
+    }
+
+    @PreDestroy
+    public void stop() {
+        synchronized (emitLock) {
+            queue.tryEmitComplete();
+        }
+        subscription.dispose();
+    }
+
+    private void enqueue(PendingMessage message) {
+        Sinks.EmitResult result;
+        synchronized (emitLock) {
+            result = queue.tryEmitNext(message);
+        }
+        if (result.isFailure()) {
+            message.sink().error(new IllegalStateException("No se pudo encolar el mensaje para SQS: " + result));
+        }
+    }
+
+    private Mono<Void> sendBatch(List<PendingMessage> batch) {
+        fillRatio.record((double) batch.size() / batchSize);
+        SendMessageBatchRequest request = SendMessageBatchRequest.builder()
+                .queueUrl(properties.queueUrl())
+                .entries(IntStream.range(0, batch.size())
+                        .mapToObj(i -> SendMessageBatchRequestEntry.builder()
+                                .id(Integer.toString(i))
+                                .messageBody(batch.get(i).body())
+                                .build())
+                        .toList())
+                .build();
+        Timer.Sample sample = Timer.start();
+
+        return Mono.fromFuture(() -> client.sendMessageBatch(request))
+                .doOnNext(response -> {
+                    sample.stop(sendLatency);
+                    handleResponse(batch, response);
+                })
+                .doOnError(error -> {
+                    sample.stop(sendLatency);
+                    log.warn("Fallo SendMessageBatch de {} mensajes: {}", batch.size(), error.getMessage());
+                    batch.forEach(message -> retryOrFail(message, error));
+                })
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    private void handleResponse(List<PendingMessage> batch, SendMessageBatchResponse response) {
+        boolean[] answered = new boolean[batch.size()];
+        response.successful().forEach(entry -> {
+            int index = Integer.parseInt(entry.id());
+            answered[index] = true;
+            batch.get(index).sink().success(entry.messageId());
+        });
+
+        List<BatchResultErrorEntry> failed = new ArrayList<>(response.failed());
+        if (!failed.isEmpty()) {
+            log.warn("SendMessageBatch rechazó {} de {} mensajes", failed.size(), batch.size());
+        }
+        failed.forEach(entry -> {
+            int index = Integer.parseInt(entry.id());
+            answered[index] = true;
+            PendingMessage message = batch.get(index);
+            RuntimeException error = new IllegalStateException(
+                    "SQS rechazó el mensaje: " + entry.code() + " " + entry.message());
+            if (Boolean.TRUE.equals(entry.senderFault())) {
+                message.sink().error(error);
+            } else {
+                retryOrFail(message, error);
+            }
+        });
+
+        for (int index = 0; index < batch.size(); index++) {
+            if (!answered[index]) {
+                log.warn("SendMessageBatch no informó el resultado de la entrada {}", index);
+                batch.get(index).sink().error(new IllegalStateException(
+                        "SQS no informó el resultado del mensaje en el lote"));
+            }
+        }
+    }
+
+    private void retryOrFail(PendingMessage message, Throwable error) {
+        if (message.attempt() < properties.maxAttempts()) {
+            // Re-queued from another thread after a short pause: the callback may run inside the queue drain
+            Schedulers.parallel().schedule(() -> enqueue(message.nextAttempt()),
+                    RETRY_DELAY.toMillis() * message.attempt(), TimeUnit.MILLISECONDS);
+        } else {
+            message.sink().error(error);
+        }
+    }
+
+    private record PendingMessage(String body, MonoSink<String> sink, int attempt) {
+
+        PendingMessage nextAttempt() {
+            return new PendingMessage(body, sink, attempt + 1);
+        }
+    }
+}
@@ -6,24 +6,34 @@ import co.com.bancolombia.model.orders.Orders;
 import co.com.bancolombia.sqs.sender.config.SQSSenderProperties;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @Log4j2
-@RequiredArgsConstructor
 public class SQSSender implements NotificationGateway {
     private final SQSSenderProperties properties;
     private final SqsAsyncClient client;
-    private final ObjectMapper objectMapper;
+    private final SQSBatchSender batchSender;
+    private final ObjectWriter decisionWriter;
+
+    public SQSSender(SQSSenderProperties properties, SqsAsyncClient client, SQSBatchSender batchSender,
+                     ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.client = client;
+        this.batchSender = batchSender;
+        this.decisionWriter = objectMapper.writerFor(DecisionMessage.class);
+    }
 
     public Mono<String> send(String message) {
         return Mono.fromCallable(() -> buildRequest(message))
@@ -42,25 +52,33 @@ public class SQSSender implements NotificationGateway {
     @Override
     public Mono<Void> notifyOrderDecision(Orders order) {
         return Mono.fromCallable(() -> buildNotificationMessage(order))
-                .flatMap(this::send)
+                .flatMap(batchSender::send)
                 .doOnNext(messageId -> log.info("Order decision notification sent for order: {} with messageId: {}", 
                         order.getId(), messageId))
                 .then()
                 .onErrorMap(ex -> new RuntimeException("Failed to send order decision notification", ex));
     }
 
+    /**
+     * Sends every decision through the batch sender, so they share SendMessageBatch calls.
+     */
+    @Override
+    public Mono<Void> notifyOrderDecisions(List<Orders> orders) {
+        return Flux.fromIterable(orders)
+                .flatMap(this::notifyOrderDecision)
+                .then();
+    }
+
     private String buildNotificationMessage(Orders order) {
         try {
-            Map<String, Object> message = new HashMap<>();
-            message.put("orderId", order.getId());
-            message.put("emailAddress", order.getEmailAddress());
-            message.put("decision", getDecisionFromStatusId(order.getIdStatus()));
-            message.put("amount", order.getAmount());
-            message.put("deadline", order.getDeadline());
-            message.put("decisionDate", order.getUpdateDate());
-            message.put("type", "ORDER_DECISION");
-            
-            return objectMapper.writeValueAsString(message);
+            return decisionWriter.writeValueAsString(new DecisionMessage(
+                    order.getId(),
+                    order.getEmailAddress(),
+                    getDecisionFromStatusId(order.getIdStatus()),
+                    order.getAmount(),
+                    order.getDeadline(),
+                    order.getUpdateDate(),
+                    "ORDER_DECISION"));
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Failed to serialize notification message", e);
         }
@@ -74,4 +92,8 @@ public class SQSSender implements NotificationGateway {
             return "UNKNOWN";
         }
     }
+
+    private record DecisionMessage(String orderId, String emailAddress, String decision, BigDecimal amount,
+                                   Integer deadline, LocalDateTime decisionDate, String type) {
+    }
 }
@@ -1,10 +1,17 @@
 package co.com.bancolombia.sqs.sender.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
 
 @ConfigurationProperties(prefix = "adapter.sqs")
 public record SQSSenderProperties(
      String region,
      String queueUrl,
-     String endpoint){
+     String endpoint,
+     @DefaultValue("10") int batchSize,
+     @DefaultValue("20ms") Duration batchWait,
+     @DefaultValue("4") int senders,
+     @DefaultValue("3") int maxAttempts){
 }
@@ -0,0 +1,192 @@
+package co.com.bancolombia.sqs.sender;
+
+import co.com.bancolombia.sqs.sender.config.SQSSenderProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SQSBatchSenderTest {
+
+    private static final String QUEUE_URL = "http://localhost:4566/000000000000/sample";
+
+    @Mock
+    private SqsAsyncClient client;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SQSBatchSender batchSender;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        batchSender = new SQSBatchSender(
+                new SQSSenderProperties("us-east-1", QUEUE_URL, null, 10, Duration.ofMillis(50), 1, 3),
+                client, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchSender.stop();
+    }
+
+    @Test
+    @DisplayName("Send batch - concurrent messages share one SendMessageBatch")
+    void shouldGroupConcurrentMessagesInOneBatch() {
+        // Arrange
+        when(client.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        acceptAll(invocation.getArgument(0))));
+
+        // Act & Assert
+        StepVerifier.create(Flux.range(0, 3)
+                        .flatMap(i -> batchSender.send("mensaje-" + i))
+                        .collectList())
+                .assertNext(ids -> assertThat(ids).containsExactlyInAnyOrder("msg-0", "msg-1", "msg-2"))
+                .verifyComplete();
+
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(client, times(1)).sendMessageBatch(captor.capture());
+        assertThat(captor.getValue().queueUrl()).isEqualTo(QUEUE_URL);
+        assertThat(captor.getValue().entries()).hasSize(3);
+        assertThat(meterRegistry.get("crediya.sqs.batch.fill_ratio").summary().totalAmount()).isEqualTo(0.3);
+        assertThat(meterRegistry.get("crediya.sqs.batch.send.latency").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Send batch - only entries rejected by a transient failure are re-sent")
+    void shouldRequeueOnlyFailedEntries() {
+        // Arrange
+        when(client.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                        .successful(SendMessageBatchResultEntry.builder().id("0").messageId("msg-a").build())
+                        .failed(BatchResultErrorEntry.builder().id("1").code("ServiceUnavailable")
+                                .senderFault(false).build())
+                        .build()))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        acceptAll(invocation.getArgument(0))));
+
+        // Act & Assert
+        StepVerifier.create(Mono.zip(batchSender.send("a"), batchSender.send("b")))
+                .assertNext(ids -> {
+                    assertThat(ids.getT1()).isEqualTo("msg-a");
+                    assertThat(ids.getT2()).isEqualTo("msg-0");
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(client, atLeast(2)).sendMessageBatch(captor.capture());
+        assertThat(captor.getAllValues().get(1).entries())
+                .extracting(SendMessageBatchRequestEntry::messageBody)
+                .containsExactly("b");
+    }
+
+    @Test
+    @DisplayName("Send batch - sender fault fails without retry")
+    void shouldFailWithoutRetryOnSenderFault() {
+        // Arrange
+        when(client.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                        .failed(BatchResultErrorEntry.builder().id("0").code("InvalidMessageContents")
+                                .senderFault(true).build())
+                        .build()));
+
+        // Act & Assert
+        StepVerifier.create(batchSender.send("invalido"))
+                .expectErrorMatches(error -> error.getMessage().contains("InvalidMessageContents"))
+                .verify(Duration.ofSeconds(5));
+
+        verify(client, times(1)).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    @Test
+    @DisplayName("Send batch - failed call fails after max attempts")
+    void shouldFailAfterMaxAttemptsWhenCallFails() {
+        // Arrange
+        when(client.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Connection refused")));
+
+        // Act & Assert
+        StepVerifier.create(batchSender.send("mensaje"))
+                .expectErrorMessage("Connection refused")
+                .verify(Duration.ofSeconds(5));
+
+        verify(client, times(3)).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    @Test
+    @DisplayName("Send batch - entries missing from the response fail")
+    void shouldFailEntriesMissingFromResponse() {
+        // Arrange
+        when(client.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(SendMessageBatchResponse.builder()
+                        .successful(SendMessageBatchResultEntry.builder().id("0").messageId("msg-a").build())
+                        .build()));
+
+        // Act & Assert
+        StepVerifier.create(Mono.zip(batchSender.send("a"), batchSender.send("b").onErrorReturn("sin-resultado")))
+                .assertNext(ids -> {
+                    assertThat(ids.getT1()).isEqualTo("msg-a");
+                    assertThat(ids.getT2()).isEqualTo("sin-resultado");
+                })
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Send batch - fill ratio is measured against the configured batch size")
+    void shouldMeasureFillRatioAgainstConfiguredBatchSize() {
+        // Arrange
+        batchSender.stop();
+        batchSender = new SQSBatchSender(
+                new SQSSenderProperties("us-east-1", QUEUE_URL, null, 4, Duration.ofMillis(50), 1, 3),
+                client, meterRegistry);
+        when(client.sendMessageBatch(any(SendMessageBatchRequest.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(
+                        acceptAll(invocation.getArgument(0))));
+
+        // Act & Assert
+        StepVerifier.create(Flux.range(0, 4)
+                        .flatMap(i -> batchSender.send("mensaje-" + i))
+                        .collectList())
+                .assertNext(ids -> assertThat(ids).hasSize(4))
+                .verifyComplete();
+
+        assertThat(meterRegistry.get("crediya.sqs.batch.fill_ratio").summary().max()).isEqualTo(1.0);
+    }
+
+    private static SendMessageBatchResponse acceptAll(SendMessageBatchRequest request) {
+        return SendMessageBatchResponse.builder()
+                .successful(request.entries().stream()
+                        .map(entry -> SendMessageBatchResultEntry.builder()
+                                .id(entry.id())
+                                .messageId("msg-" + entry.id())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package co.com.bancolombia.api;
 
+import co.com.bancolombia.api.handler.CacheAdminHandler;
 import co.com.bancolombia.api.handler.OrderHandler;
 import co.com.bancolombia.api.handler.ReportHandler;
 import org.springframework.context.annotation.Bean;
@@ -16,14 +17,18 @@ public class RouterRest {
     
     private final OrderHandler orderHandler;
     private final ReportHandler reportHandler;
+    private final CacheAdminHandler cacheAdminHandler;
     
-    public RouterRest(OrderHandler orderHandler, ReportHandler reportHandler) {
+    public RouterRest(OrderHandler orderHandler, ReportHandler reportHandler, CacheAdminHandler cacheAdminHandler) {
         this.orderHandler = orderHandler;
         this.reportHandler = reportHandler;
+        this.cacheAdminHandler = cacheAdminHandler;
     }
     
     private static final String API_V1 = "/api/v1";
     private static final String SOLICITUD_PATH = API_V1 + "/solicitud";
+    private static final String CLAIMS_PATH = API_V1 + "/solicitudes-pendientes/asignaciones";
+    private static final String APPLICANT_CACHE_PATH = API_V1 + "/admin/cache/applicants";
 
 
     @Bean
@@ -31,12 +36,29 @@ public class RouterRest {
         return route(POST(SOLICITUD_PATH)
                         .and(accept(MediaType.APPLICATION_JSON)), 
                 orderHandler::createLoanRequest)
+                .andRoute(POST(SOLICITUD_PATH + "/batch"),
+                        orderHandler::createLoanRequestBatch)
                 .andRoute(GET(SOLICITUD_PATH + "/{id}"), 
                         orderHandler::getLoanRequest)
+                .andRoute(GET(SOLICITUD_PATH + "/{id}/amortizacion"),
+                        orderHandler::getAmortizationSchedule)
+                .andRoute(PUT(SOLICITUD_PATH + "/decisiones")
+                        .and(accept(MediaType.APPLICATION_JSON)),
+                        orderHandler::updateOrderDecisions)
+                .andRoute(GET(SOLICITUD_PATH + "/decisiones/{requestId}"),
+                        orderHandler::getDecisionRequest)
                 .andRoute(PUT(SOLICITUD_PATH + "/{id}/decision")
                         .and(accept(MediaType.APPLICATION_JSON)), 
                         orderHandler::updateOrderDecision)
                 .andRoute(GET(API_V1 + "/solicitudes-pendientes"), 
-                        reportHandler::getPendingRequests);
+                        reportHandler::getPendingRequests)
+                .andRoute(POST(CLAIMS_PATH),
+                        orderHandler::claimPendingOrders)
+                .andRoute(DELETE(CLAIMS_PATH + "/{id}"),
+                        orderHandler::releaseClaimedOrder)
+                .andRoute(DELETE(APPLICANT_CACHE_PATH + "/{email}"),
+                        cacheAdminHandler::evictApplicant)
+                .andRoute(DELETE(APPLICANT_CACHE_PATH),
+                        cacheAdminHandler::evictAllApplicants);
     }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package co.com.bancolombia.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "report.applicant-cache")
+public record ApplicantCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") int maxEntries,
+        @DefaultValue("5m") Duration ttl,
+        @DefaultValue("30m") Duration staleWindow
+) {}
@@ -0,0 +1,29 @@
+package co.com.bancolombia.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Eligibility rules for loan types with automatic validation. The top-level limits apply to loan types
+ * without an entry in {@code policies}; a policy bound left empty is not checked.
+ */
+@ConfigurationProperties(prefix = "loan.auto-decision")
+public record AutoDecisionProperties(
+        @DefaultValue("0.40") BigDecimal maxDebtToIncome,
+        @DefaultValue("1") int minTermMonths,
+        @DefaultValue("60") int maxTermMonths,
+        @DefaultValue List<Policy> policies
+) {
+
+    public record Policy(
+            String loanTypeId,
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            Integer minTermMonths,
+            Integer maxTermMonths,
+            BigDecimal maxDebtToIncome
+    ) {}
+}
@@ -0,0 +1,24 @@
+package co.com.bancolombia.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Background processing of assessor decisions. {@code concurrency} bounds the decisions applied at once per
+ * instance; finished requests are kept for {@code retention} so their status can still be queried.
+ */
+@ConfigurationProperties(prefix = "loan.decision-queue")
+public record DecisionQueueProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("250ms") Duration pollInterval,
+        @DefaultValue("50") int batchSize,
+        @DefaultValue("8") int concurrency,
+        @DefaultValue("30s") Duration lease,
+        @DefaultValue("5") int maxAttempts,
+        @DefaultValue("1s") Duration initialBackoff,
+        @DefaultValue("1m") Duration maxBackoff,
+        @DefaultValue("7d") Duration retention,
+        @DefaultValue("1h") Duration cleanupInterval
+) {}
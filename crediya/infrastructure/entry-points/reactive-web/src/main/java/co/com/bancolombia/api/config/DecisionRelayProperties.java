@@ -0,0 +1,20 @@
+package co.com.bancolombia.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "notification.relay")
+public record DecisionRelayProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("30s") Duration lease,
+        @DefaultValue("1s") Duration initialBackoff,
+        @DefaultValue("5m") Duration maxBackoff,
+        @DefaultValue("10") int maxAttempts,
+        @DefaultValue("7d") Duration retention,
+        @DefaultValue("1h") Duration purgeInterval,
+        @DefaultValue("1000") int purgeChunkSize
+) {}
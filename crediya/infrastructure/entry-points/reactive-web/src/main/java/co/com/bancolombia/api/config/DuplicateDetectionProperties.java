@@ -0,0 +1,20 @@
+package co.com.bancolombia.api.config;
+
+import co.com.bancolombia.model.duplicate.DuplicateAction;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Detection of applications submitted twice. {@code buckets} splits the window for expiry; disable
+ * {@code databaseFallback} on a single instance to skip the orders table lookup on every new application.
+ */
+@ConfigurationProperties(prefix = "loan.duplicate-detection")
+public record DuplicateDetectionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("REJECT") DuplicateAction action,
+        @DefaultValue("30s") Duration window,
+        @DefaultValue("6") int buckets,
+        @DefaultValue("true") boolean databaseFallback
+) {}
@@ -166,9 +166,13 @@ public class GlobalExceptionHandler implements ErrorWebExceptionHandler {
      */
     private HttpStatus mapBusinessExceptionToStatus(OrdersBusinessException exception) {
         return switch (exception.getCode()) {
-            case "LOAN_TYPE_NOT_FOUND", "ORDER_NOT_FOUND" -> HttpStatus.NOT_FOUND;
+            case "LOAN_TYPE_NOT_FOUND", "ORDER_NOT_FOUND", "DECISION_REQUEST_NOT_FOUND" -> HttpStatus.NOT_FOUND;
             case "INVALID_LOAN_AMOUNT", "VALIDATION_ERROR" -> HttpStatus.BAD_REQUEST;
             case "UNAUTHORIZED" -> HttpStatus.UNAUTHORIZED;
+            case "IDEMPOTENCY_IN_PROGRESS", "ORDER_ALREADY_PROCESSED", "DUPLICATE_APPLICATION",
+                 "ORDER_NOT_CLAIMED" -> HttpStatus.CONFLICT;
+            case "IDEMPOTENCY_KEY_REUSED" -> HttpStatus.UNPROCESSABLE_ENTITY;
+            case "VELOCITY_LIMIT_EXCEEDED" -> HttpStatus.TOO_MANY_REQUESTS;
             case "PENDING_STATUS_NOT_FOUND" -> HttpStatus.INTERNAL_SERVER_ERROR;
             default -> HttpStatus.INTERNAL_SERVER_ERROR;
         };
@@ -0,0 +1,16 @@
+package co.com.bancolombia.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "loan.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("10000") int maxEntries,
+        @DefaultValue("10s") Duration waitTimeout,
+        @DefaultValue("100ms") Duration pollInterval,
+        @DefaultValue("15m") Duration cleanupInterval,
+        @DefaultValue("30s") Duration inProgressLease
+) {}
@@ -0,0 +1,9 @@
+package co.com.bancolombia.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "loan.batch")
+public record LoanBatchProperties(
+        @DefaultValue("500") int chunkSize
+) {}
@@ -0,0 +1,17 @@
+package co.com.bancolombia.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Claims of pending orders by assessors. A claim not decided or released within {@code lease} goes back to the
+ * queue; {@code defaultSize} is used when the request does not say how many orders to claim.
+ */
+@ConfigurationProperties(prefix = "loan.claims")
+public record OrderClaimProperties(
+        @DefaultValue("15m") Duration lease,
+        @DefaultValue("10") int defaultSize,
+        @DefaultValue("50") int maxSize
+) {}
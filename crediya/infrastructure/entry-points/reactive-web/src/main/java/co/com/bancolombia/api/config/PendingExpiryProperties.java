@@ -0,0 +1,33 @@
+package co.com.bancolombia.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Expiry of pending orders nobody decided. {@code maxAge} applies to loan types without an entry in
+ * {@code loanTypes}; each run cancels at most {@code chunkSize} orders per transaction.
+ */
+@ConfigurationProperties(prefix = "loan.pending-expiry")
+public record PendingExpiryProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1h") Duration interval,
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("30d") Duration maxAge,
+        @DefaultValue List<LoanTypeMaxAge> loanTypes
+) {
+
+    public record LoanTypeMaxAge(String loanTypeId, Duration maxAge) {
+
+        public LoanTypeMaxAge {
+            // A loan type id the query cannot match would widen the scope to every loan type
+            UUID.fromString(loanTypeId);
+            if (maxAge == null || maxAge.isNegative() || maxAge.isZero()) {
+                throw new IllegalArgumentException("La antigüedad máxima de " + loanTypeId + " debe ser positiva");
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package co.com.bancolombia.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "report.enrichment")
+public record ReportEnrichmentProperties(
+        @DefaultValue("8") int concurrency
+) {}
@@ -0,0 +1,12 @@
+package co.com.bancolombia.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "external.services.user-feed")
+public record UserFeedProperties(
+        @DefaultValue("true") boolean enabled,
+        String apiKey,
+        @DefaultValue("5000") long pollIntervalMs,
+        @DefaultValue("200") int batchSize
+) {}
@@ -0,0 +1,21 @@
+package co.com.bancolombia.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Applications allowed per email and per user each hour and each day. {@code slots} is the resolution of
+ * each window; {@code stripes} times {@code maxKeysPerStripe} bounds the applicants tracked per dimension.
+ */
+@ConfigurationProperties(prefix = "loan.velocity")
+public record VelocityLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5") int maxPerHour,
+        @DefaultValue("20") int maxPerDay,
+        @DefaultValue("12") int slots,
+        @DefaultValue("16") int stripes,
+        @DefaultValue("4096") int maxKeysPerStripe,
+        @DefaultValue("10m") Duration evictionInterval
+) {}
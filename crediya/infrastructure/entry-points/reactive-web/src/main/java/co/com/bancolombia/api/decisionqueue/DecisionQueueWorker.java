@@ -0,0 +1,113 @@
+package co.com.bancolombia.api.decisionqueue;
+
+import co.com.bancolombia.api.config.DecisionQueueProperties;
+import co.com.bancolombia.model.decisionqueue.DecisionWorkResult;
+import co.com.bancolombia.usecase.decisionqueue.DecisionQueueUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Polls the decision queue and applies queued assessor decisions, a bounded number at a time.
+ *
+ * <p>Queue lag is published as {@code crediya.decision.queue.lag.seconds}: the age of the oldest decision not
+ * yet finished, measured after each round. It stays near the poll interval while the workers keep up.</p>
+ */
+@Slf4j
+@Component
+public class DecisionQueueWorker {
+
+    private final DecisionQueueUseCase decisionQueueUseCase;
+    private final DecisionQueueProperties properties;
+    private final Counter completedCounter;
+    private final Counter failureCounter;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Disposable.Composite subscriptions = Disposables.composite();
+
+    public DecisionQueueWorker(DecisionQueueUseCase decisionQueueUseCase,
+                               DecisionQueueProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.decisionQueueUseCase = decisionQueueUseCase;
+        this.properties = properties;
+        this.completedCounter = Counter.builder("crediya.decision.queue.completed")
+                .description("Decisiones en cola procesadas")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("crediya.decision.queue.failures")
+                .description("Decisiones en cola que fallaron y se reintentarán o se abandonaron")
+                .register(meterRegistry);
+        Gauge.builder("crediya.decision.queue.lag.seconds", lagMillis, millis -> millis.get() / 1000.0)
+                .description("Antigüedad de la decisión más antigua pendiente de procesar")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.enabled()) {
+            log.info("Procesamiento asíncrono de decisiones deshabilitado");
+            return;
+        }
+        log.info("Iniciando procesamiento de decisiones en cola cada {} con concurrencia {}",
+                properties.pollInterval(), properties.concurrency());
+        subscriptions.add(Flux.interval(properties.pollInterval(), properties.pollInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> drainQueue(), 1)
+                .subscribe());
+        subscriptions.add(Flux.interval(properties.cleanupInterval(), properties.cleanupInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> purgeFinished(), 1)
+                .subscribe());
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscriptions.dispose();
+    }
+
+    Mono<DecisionWorkResult> drainQueue() {
+        return decisionQueueUseCase.processNextBatch(properties.batchSize(), properties.concurrency())
+                .expand(result -> result.isDrained()
+                        ? Mono.empty()
+                        : decisionQueueUseCase.processNextBatch(properties.batchSize(), properties.concurrency()))
+                .doOnNext(this::record)
+                .last()
+                .flatMap(result -> decisionQueueUseCase.oldestQueuedAge()
+                        .doOnNext(age -> lagMillis.set(age.toMillis()))
+                        .thenReturn(result))
+                .onErrorResume(error -> {
+                    log.warn("Error procesando decisiones en cola: {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    Mono<Long> purgeFinished() {
+        return decisionQueueUseCase.purgeFinished(properties.retention())
+                .doOnNext(deleted -> {
+                    if (deleted > 0) {
+                        log.info("Eliminadas {} decisiones en cola finalizadas", deleted);
+                    }
+                })
+                .onErrorResume(error -> {
+                    log.warn("Error eliminando decisiones en cola finalizadas: {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private void record(DecisionWorkResult result) {
+        completedCounter.increment(result.getCompleted());
+        failureCounter.increment(result.getFailed());
+        if (result.getFailed() > 0) {
+            log.warn("No se pudieron procesar {} decisiones en cola", result.getFailed());
+        }
+    }
+}
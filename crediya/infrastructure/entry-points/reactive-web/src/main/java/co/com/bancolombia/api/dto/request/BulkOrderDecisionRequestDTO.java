@@ -0,0 +1,23 @@
+package co.com.bancolombia.api.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkOrderDecisionRequestDTO {
+
+    @NotEmpty(message = "Debe enviar al menos una decisión")
+    @Size(max = 500, message = "No se pueden enviar más de 500 decisiones por solicitud")
+    @JsonProperty("decisions")
+    private List<OrderDecisionItemDTO> decisions;
+}
@@ -0,0 +1,20 @@
+package co.com.bancolombia.api.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderDecisionItemDTO {
+
+    @JsonProperty("id")
+    private String orderId;
+
+    @JsonProperty("decision")
+    private String decision;
+}
@@ -0,0 +1,26 @@
+package co.com.bancolombia.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AmortizationScheduleResponseDTO {
+
+    private String id;
+
+    private BigDecimal installment;
+
+    private BigDecimal totalInterest;
+
+    private BigDecimal totalPaid;
+
+    private List<ScheduledPaymentResponseDTO> payments;
+}
@@ -0,0 +1,23 @@
+package co.com.bancolombia.api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResponseDTO {
+
+    private long index;
+
+    private String id;
+
+    private String result;
+
+    private String error;
+}
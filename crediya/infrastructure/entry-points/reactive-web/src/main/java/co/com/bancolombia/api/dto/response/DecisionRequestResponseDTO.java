@@ -0,0 +1,35 @@
+package co.com.bancolombia.api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DecisionRequestResponseDTO {
+
+    private String id;
+
+    private String orderId;
+
+    private String decision;
+
+    private String status;
+
+    private String result;
+
+    private String error;
+
+    private String statusUrl;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime completedAt;
+}
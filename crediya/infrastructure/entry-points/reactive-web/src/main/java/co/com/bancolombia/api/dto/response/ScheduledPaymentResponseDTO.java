@@ -0,0 +1,25 @@
+package co.com.bancolombia.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduledPaymentResponseDTO {
+
+    private int number;
+
+    private BigDecimal payment;
+
+    private BigDecimal interest;
+
+    private BigDecimal principal;
+
+    private BigDecimal balance;
+}
@@ -0,0 +1,26 @@
+package co.com.bancolombia.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+@Builder
+public class UserChangeDTO {
+    private Long seq;
+    private String userId;
+    private String changeType;
+    private String name;
+    private String lastName;
+    private String emailAddress;
+    private BigDecimal baseSalary;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,72 @@
+package co.com.bancolombia.api.handler;
+
+import co.com.bancolombia.api.dto.response.AuthResponseDTO;
+import co.com.bancolombia.api.enums.RolEnum;
+import co.com.bancolombia.api.services.ApplicantProfileCache;
+import co.com.bancolombia.api.services.AuthServiceClient;
+import co.com.bancolombia.model.orders.exceptions.UnauthorizedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Handler for administrative cache operations. Restricted to the ADMIN role.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheAdminHandler {
+
+    private final ApplicantProfileCache applicantProfileCache;
+    private final AuthServiceClient authServiceClient;
+
+    public Mono<ServerResponse> evictApplicant(ServerRequest request) {
+        String email = request.pathVariable("email");
+
+        return validateUserToken(request, RolEnum.ADMIN.getId())
+                .flatMap(authUser -> {
+                    boolean removed = applicantProfileCache.evict(email);
+                    log.info("Entrada de caché de solicitante invalidada por {} - email: {}, existía: {}",
+                            authUser.getIdUser(), email, removed);
+                    return ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(Map.of("evicted", removed ? 1 : 0));
+                });
+    }
+
+    public Mono<ServerResponse> evictAllApplicants(ServerRequest request) {
+        return validateUserToken(request, RolEnum.ADMIN.getId())
+                .flatMap(authUser -> {
+                    int removed = applicantProfileCache.evictAll();
+                    log.info("Caché de solicitantes vaciado por {} - entradas eliminadas: {}", authUser.getIdUser(), removed);
+                    return ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(Map.of("evicted", removed));
+                });
+    }
+
+    private Mono<AuthResponseDTO> validateUserToken(ServerRequest request, UUID requiredRoleId) {
+        String authHeader = request.headers().firstHeader("Authorization");
+
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return Mono.error(new UnauthorizedException("Authorization header missing or invalid"));
+        }
+
+        String token = authHeader.substring(7);
+
+        return authServiceClient.validateToken(token)
+                .flatMap(user -> {
+                    if (!user.getIdRol().equals(requiredRoleId)) {
+                        return Mono.error(new UnauthorizedException("No tiene permisos para realizar esta acción"));
+                    }
+                    return Mono.just(user);
+                });
+    }
+}
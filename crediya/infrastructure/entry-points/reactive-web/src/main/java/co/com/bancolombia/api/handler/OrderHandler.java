@@ -1,13 +1,35 @@
 package co.com.bancolombia.api.handler;
 
+import co.com.bancolombia.api.config.DecisionQueueProperties;
+import co.com.bancolombia.api.config.LoanBatchProperties;
+import co.com.bancolombia.api.config.OrderClaimProperties;
+import co.com.bancolombia.api.dto.request.BulkOrderDecisionRequestDTO;
 import co.com.bancolombia.api.dto.request.CreateLoanRequestDTO;
 import co.com.bancolombia.api.dto.request.OrderDecisionRequestDTO;
 import co.com.bancolombia.api.dto.response.LoanRequestResponseDTO;
+import co.com.bancolombia.api.dto.response.AmortizationScheduleResponseDTO;
 import co.com.bancolombia.api.dto.response.AuthResponseDTO;
+import co.com.bancolombia.api.dto.response.BatchItemResponseDTO;
+import co.com.bancolombia.api.dto.response.ClaimedOrderResponseDTO;
+import co.com.bancolombia.api.dto.response.DecisionRequestResponseDTO;
+import co.com.bancolombia.api.dto.response.DecisionResultResponseDTO;
+import co.com.bancolombia.api.dto.response.ScheduledPaymentResponseDTO;
 import co.com.bancolombia.api.enums.RolEnum;
 import co.com.bancolombia.api.services.AuthServiceClient;
+import co.com.bancolombia.model.amortization.AmortizationSchedule;
+import co.com.bancolombia.model.decisionqueue.DecisionRequest;
+import co.com.bancolombia.model.orders.BatchItemResult;
+import co.com.bancolombia.model.orders.DecisionResult;
+import co.com.bancolombia.model.orders.LoanRequestItem;
+import co.com.bancolombia.model.orders.LoanRequestValidator;
+import co.com.bancolombia.model.orders.OrderDecision;
+import co.com.bancolombia.model.orders.Orders;
 import co.com.bancolombia.model.orders.exceptions.UnauthorizedException;
-import co.com.bancolombia.transaction.TransactionalAdapter;
+import co.com.bancolombia.model.orders.exceptions.ValidationException;
+import co.com.bancolombia.model.status.StatusRegistry;
+import co.com.bancolombia.usecase.decisionqueue.interfaces.IDecisionQueueUseCase;
+import co.com.bancolombia.usecase.idempotency.interfaces.IIdempotentLoanRequestUseCase;
+import co.com.bancolombia.usecase.orderclaim.interfaces.IOrderClaimUseCase;
 import co.com.bancolombia.usecase.orders.interfaces.IOrdersUseCase;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -18,8 +40,12 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -35,7 +61,23 @@ public class OrderHandler {
     private final IOrdersUseCase ordersUseCase;
     private final Validator validator;
     private final AuthServiceClient authServiceClient;
-    private final TransactionalAdapter transactionalAdapter;
+    private final LoanBatchProperties loanBatchProperties;
+    private final IIdempotentLoanRequestUseCase idempotentLoanRequestUseCase;
+    private final IDecisionQueueUseCase decisionQueueUseCase;
+    private final DecisionQueueProperties decisionQueueProperties;
+    private final IOrderClaimUseCase orderClaimUseCase;
+    private final OrderClaimProperties orderClaimProperties;
+    private final StatusRegistry statusRegistry;
+
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String PREFER_HEADER = "Prefer";
+    static final String PREFERENCE_APPLIED_HEADER = "Preference-Applied";
+    static final String RESPOND_ASYNC = "respond-async";
+    static final String DECISION_REQUEST_PATH = "/api/v1/solicitud/decisiones/";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+    // Eight bind parameters per row must stay under the PostgreSQL limit of 65535 per statement
+    private static final int MAX_CHUNK_SIZE = 8000;
 
     public Mono<ServerResponse> createLoanRequest(ServerRequest request) {
         String traceId = generateTraceId();
@@ -48,6 +90,50 @@ public class OrderHandler {
                 .doOnError(error -> log.error("[{}] Error procesando solicitud: {}", traceId, error.getMessage()));
     }
 
+    /**
+     * Accepts a JSON array or an NDJSON stream of loan requests and answers one result per item.
+     * Items are decoded and stored chunk by chunk, so memory does not grow with the batch size.
+     */
+    public Mono<ServerResponse> createLoanRequestBatch(ServerRequest request) {
+        String traceId = generateTraceId();
+        int chunkSize = Math.min(Math.max(1, loanBatchProperties.chunkSize()), MAX_CHUNK_SIZE);
+        MediaType responseType = request.headers().contentType()
+                .filter(MediaType.APPLICATION_NDJSON::isCompatibleWith)
+                .orElse(MediaType.APPLICATION_JSON);
+        log.info("[{}] Iniciando procesamiento de lote de solicitudes en bloques de {}", traceId, chunkSize);
+
+        return validateUserToken(request, RolEnum.CLIENT.getId())
+                .flatMap(authUser -> {
+                    Flux<LoanRequestItem> items = request.bodyToFlux(CreateLoanRequestDTO.class)
+                            .map(this::mapToLoanRequestItem);
+                    Flux<BatchItemResponseDTO> results = ordersUseCase
+                            .createLoanRequests(authUser.getIdUser().toString(), items, chunkSize)
+                            .map(this::mapToBatchItemResponseDTO);
+                    return ServerResponse.ok()
+                            .contentType(responseType)
+                            .body(results, BatchItemResponseDTO.class);
+                })
+                .doOnError(error -> log.error("[{}] Error procesando lote de solicitudes: {}", traceId, error.getMessage()));
+    }
+
+    private LoanRequestItem mapToLoanRequestItem(CreateLoanRequestDTO dto) {
+        return LoanRequestItem.builder()
+                .amount(dto.getAmount())
+                .deadline(dto.getDeadline())
+                .emailAddress(dto.getEmailAddress())
+                .loanTypeId(dto.getLoanTypeId())
+                .build();
+    }
+
+    private BatchItemResponseDTO mapToBatchItemResponseDTO(BatchItemResult result) {
+        return BatchItemResponseDTO.builder()
+                .index(result.getIndex())
+                .id(result.getOrderId())
+                .result(result.getResult())
+                .error(result.getError())
+                .build();
+    }
+
     public Mono<ServerResponse> getLoanRequest(ServerRequest request) {
         String orderId = request.pathVariable("id");
         String traceId = generateTraceId();
@@ -64,28 +150,64 @@ public class OrderHandler {
                 .doOnError(error -> log.error("[{}] Error consultando solicitud {}: {}", traceId, orderId, error.getMessage()));
     }
 
+    /**
+     * Answers the French-system schedule of an order: installment, totals and one row per monthly payment.
+     */
+    public Mono<ServerResponse> getAmortizationSchedule(ServerRequest request) {
+        String orderId = request.pathVariable("id");
+        String traceId = generateTraceId();
+
+        return validateUserToken(request, RolEnum.ADMIN.getId())
+                .flatMap(authUser -> ordersUseCase.getAmortizationSchedule(orderId))
+                .map(schedule -> mapToAmortizationScheduleResponseDTO(orderId, schedule))
+                .flatMap(response -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(response))
+                .doOnError(error -> log.error("[{}] Error consultando el plan de pagos de {}: {}", traceId, orderId, error.getMessage()));
+    }
+
+    private AmortizationScheduleResponseDTO mapToAmortizationScheduleResponseDTO(String orderId,
+                                                                                 AmortizationSchedule schedule) {
+        return AmortizationScheduleResponseDTO.builder()
+                .id(orderId)
+                .installment(schedule.getInstallment())
+                .totalInterest(schedule.getTotalInterest())
+                .totalPaid(schedule.getTotalPaid())
+                .payments(schedule.getPayments().stream()
+                        .map(payment -> ScheduledPaymentResponseDTO.builder()
+                                .number(payment.getNumber())
+                                .payment(payment.getPayment())
+                                .interest(payment.getInterest())
+                                .principal(payment.getPrincipal())
+                                .balance(payment.getBalance())
+                                .build())
+                        .toList())
+                .build();
+    }
+
     private Mono<LoanRequestResponseDTO> processLoanCreation(ServerRequest request, AuthResponseDTO authUser, String traceId) {
         return request.bodyToMono(CreateLoanRequestDTO.class)
                 .switchIfEmpty(Mono.error(new IllegalArgumentException("El cuerpo de la solicitud no puede estar vacío")))
                 .doOnNext(dto -> log.info("[{}] Datos recibidos para usuario: {} con email: {}", traceId, authUser.getIdUser(), dto.getEmailAddress()))
                 .flatMap(this::validateLoanRequest)
                 //.flatMap(dto -> this.validateClientOwnership(authUser, dto))
-                .flatMap(dto -> processLoanRequest(dto, authUser.getIdUser(), traceId));
+                .flatMap(dto -> processLoanRequest(dto, authUser.getIdUser(), request.headers().firstHeader(IDEMPOTENCY_KEY_HEADER), traceId));
     }
 
+    /**
+     * Runs the same single-pass validation as the domain, so every field error is reported at once
+     * without reflective bean validation.
+     */
     private Mono<CreateLoanRequestDTO> validateLoanRequest(CreateLoanRequestDTO dto) {
-        Set<ConstraintViolation<CreateLoanRequestDTO>> violations = validator.validate(dto);
-        
-        if (!violations.isEmpty()) {
-            String errorMessage = violations.stream()
-                    .map(ConstraintViolation::getMessage)
-                    .reduce((a, b) -> a + "; " + b)
-                    .orElse("Errores de validación en la solicitud");
-            
-            log.warn("Validation failed for loan request: {}", errorMessage);
-            throw new ConstraintViolationException(violations);
+        List<String> errors = LoanRequestValidator.validate(
+                dto.getAmount(), dto.getDeadline(), dto.getEmailAddress(), dto.getLoanTypeId());
+
+        if (!errors.isEmpty()) {
+            ValidationException exception = new ValidationException(errors);
+            log.warn("Validation failed for loan request: {}", exception.getMessage());
+            return Mono.error(exception);
         }
-        
+
         log.debug("Validation successful for loan request");
         return Mono.just(dto);
     }
@@ -117,20 +239,36 @@ public class OrderHandler {
     }
 
     /**
-     * Process loan request with transactional boundary.
-     * Follows Single Responsibility Principle: Only handles loan processing logic
-     * Uses TransactionalAdapter for proper transaction management
+     * Process loan request.
+     * Creation writes a single row, so it runs without a handler-level transaction; holding one would
+     * pin a pooled connection per request and defeat the group commit of inserts.
+     * With an Idempotency-Key header a retried request returns the order created by the first attempt.
      */
-    private Mono<LoanRequestResponseDTO> processLoanRequest(CreateLoanRequestDTO dto, UUID idUser, String traceId) {
-        return transactionalAdapter.executeInTransaction(
-                ordersUseCase.createLoanRequest(
-                        idUser.toString(),
-                        dto.getAmount(),
-                        dto.getDeadline(),
-                        dto.getEmailAddress(),
-                        dto.getLoanTypeId()
-                )
-        )
+    private Mono<LoanRequestResponseDTO> processLoanRequest(CreateLoanRequestDTO dto, UUID idUser,
+                                                            String idempotencyKey, String traceId) {
+        Mono<Orders> creation;
+        if (idempotencyKey == null) {
+            creation = ordersUseCase.createLoanRequest(
+                    idUser.toString(),
+                    dto.getAmount(),
+                    dto.getDeadline(),
+                    dto.getEmailAddress(),
+                    dto.getLoanTypeId()
+            );
+        } else if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            return Mono.error(new IllegalArgumentException(
+                    "El encabezado Idempotency-Key debe tener entre 1 y " + MAX_IDEMPOTENCY_KEY_LENGTH + " caracteres"));
+        } else {
+            creation = idempotentLoanRequestUseCase.createLoanRequest(
+                    idUser.toString(),
+                    idempotencyKey,
+                    dto.getAmount(),
+                    dto.getDeadline(),
+                    dto.getEmailAddress(),
+                    dto.getLoanTypeId()
+            );
+        }
+        return creation
         .map(this::mapToResponseDTO)
         .doOnNext(response -> log.info("[{}] Solicitud creada con ID: {}", traceId, response.getId()));
     }
@@ -141,13 +279,13 @@ public class OrderHandler {
                 .bodyValue(responseDTO);
     }
 
-    private LoanRequestResponseDTO mapToResponseDTO(co.com.bancolombia.model.orders.Orders order) {
+    private LoanRequestResponseDTO mapToResponseDTO(Orders order) {
         return LoanRequestResponseDTO.builder()
                 .id(order.getId())
                 .amount(order.getAmount())
                 .deadline(order.getDeadline())
                 .emailAddress(order.getEmailAddress())
-                .status("PENDING")
+                .status(statusRegistry.nameOf(order.getIdStatus()))
                 .loanType(order.getIdLoanType())
                 .creationDate(order.getCreationDate())
                 .updateDate(order.getUpdateDate())
@@ -176,6 +314,10 @@ public class OrderHandler {
                 });
     }
 
+    /**
+     * Applies the decision and answers with the updated order. With {@code Prefer: respond-async} the decision
+     * is queued instead and the answer is 202 with the URL of its status.
+     */
     public Mono<ServerResponse> updateOrderDecision(ServerRequest request) {
         String orderId = request.pathVariable("id");
         String traceId = generateTraceId();
@@ -185,12 +327,140 @@ public class OrderHandler {
         return validateUserToken(request, RolEnum.ASSESSOR.getId())
                 .flatMap(authUser -> request.bodyToMono(OrderDecisionRequestDTO.class)
                         .switchIfEmpty(Mono.error(new IllegalArgumentException("El cuerpo de la solicitud no puede estar vacío")))
-                        .flatMap(dto -> transactionalAdapter.executeInTransaction(
-                                ordersUseCase.updateOrderDecision(orderId, dto.getDecision())
-                        ))
-                        .map(this::mapToResponseDTO)
-                        .flatMap(this::buildSuccessResponse))
+                        .flatMap(dto -> prefersAsync(request)
+                                ? queueDecision(orderId, dto.getDecision())
+                                : ordersUseCase.updateOrderDecision(orderId, dto.getDecision())
+                                        .map(this::mapToResponseDTO)
+                                        .flatMap(this::buildSuccessResponse)))
                 .doOnSuccess(response -> log.info("[{}] Decisión procesada exitosamente para orden: {}", traceId, orderId))
                 .doOnError(error -> log.error("[{}] Error procesando decisión para orden {}: {}", traceId, orderId, error.getMessage()));
     }
+
+    /**
+     * Answers the status of a queued decision and, once finished, its outcome.
+     */
+    public Mono<ServerResponse> getDecisionRequest(ServerRequest request) {
+        String requestId = request.pathVariable("requestId");
+
+        return validateUserToken(request, RolEnum.ASSESSOR.getId())
+                .flatMap(authUser -> decisionQueueUseCase.findById(requestId))
+                .map(this::mapToDecisionRequestResponseDTO)
+                .flatMap(dto -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(dto));
+    }
+
+    private Mono<ServerResponse> queueDecision(String orderId, String decision) {
+        return decisionQueueUseCase.submit(orderId, decision)
+                .map(this::mapToDecisionRequestResponseDTO)
+                .flatMap(dto -> ServerResponse.accepted()
+                        .location(URI.create(dto.getStatusUrl()))
+                        .header(PREFERENCE_APPLIED_HEADER, RESPOND_ASYNC)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(dto));
+    }
+
+    private boolean prefersAsync(ServerRequest request) {
+        return decisionQueueProperties.enabled() && request.headers().header(PREFER_HEADER).stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .anyMatch(preference -> RESPOND_ASYNC.equalsIgnoreCase(preference.trim()));
+    }
+
+    private DecisionRequestResponseDTO mapToDecisionRequestResponseDTO(DecisionRequest decisionRequest) {
+        return DecisionRequestResponseDTO.builder()
+                .id(decisionRequest.getId())
+                .orderId(decisionRequest.getOrderId())
+                .decision(decisionRequest.getDecision())
+                .status(decisionRequest.getStatus().name())
+                .result(decisionRequest.getResult())
+                .error(decisionRequest.getError())
+                .statusUrl(DECISION_REQUEST_PATH + decisionRequest.getId())
+                .createdAt(decisionRequest.getCreatedAt())
+                .completedAt(decisionRequest.getCompletedAt())
+                .build();
+    }
+
+    /**
+     * Claims the next pending orders for the calling assessor; {@code cantidad} says how many.
+     */
+    public Mono<ServerResponse> claimPendingOrders(ServerRequest request) {
+        String traceId = generateTraceId();
+
+        return validateUserToken(request, RolEnum.ASSESSOR.getId())
+                .flatMap(authUser -> {
+                    int count = request.queryParam("cantidad")
+                            .map(Integer::parseInt)
+                            .orElse(orderClaimProperties.defaultSize());
+                    return orderClaimUseCase.claimNext(authUser.getIdUser().toString(), count)
+                            .map(this::mapToClaimedOrderResponseDTO)
+                            .collectList();
+                })
+                .doOnNext(claimed -> log.info("[{}] {} solicitudes asignadas al asesor", traceId, claimed.size()))
+                .flatMap(claimed -> ServerResponse.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .bodyValue(claimed));
+    }
+
+    /**
+     * Gives a claimed order back to the queue before its lease expires.
+     */
+    public Mono<ServerResponse> releaseClaimedOrder(ServerRequest request) {
+        String orderId = request.pathVariable("id");
+
+        return validateUserToken(request, RolEnum.ASSESSOR.getId())
+                .flatMap(authUser -> orderClaimUseCase.release(orderId, authUser.getIdUser().toString()))
+                .then(ServerResponse.noContent().build());
+    }
+
+    private ClaimedOrderResponseDTO mapToClaimedOrderResponseDTO(Orders order) {
+        return ClaimedOrderResponseDTO.builder()
+                .id(order.getId())
+                .amount(order.getAmount())
+                .deadline(order.getDeadline())
+                .emailAddress(order.getEmailAddress())
+                .loanType(order.getIdLoanType())
+                .creationDate(order.getCreationDate())
+                .claimExpiresAt(order.getClaimExpiresAt())
+                .build();
+    }
+
+    /**
+     * Applies a list of decisions with one token validation and answers one outcome per order.
+     */
+    public Mono<ServerResponse> updateOrderDecisions(ServerRequest request) {
+        String traceId = generateTraceId();
+        log.info("[{}] Procesando decisiones en lote", traceId);
+
+        return validateUserToken(request, RolEnum.ASSESSOR.getId())
+                .flatMap(authUser -> request.bodyToMono(BulkOrderDecisionRequestDTO.class)
+                        .switchIfEmpty(Mono.error(new IllegalArgumentException("El cuerpo de la solicitud no puede estar vacío")))
+                        .map(this::validateBulkDecisionRequest)
+                        .flatMap(dto -> ordersUseCase.updateOrderDecisions(dto.getDecisions().stream()
+                                        .map(item -> new OrderDecision(item.getOrderId(), item.getDecision()))
+                                        .toList())
+                                .map(this::mapToDecisionResultResponseDTO)
+                                .collectList())
+                        .flatMap(results -> ServerResponse.ok()
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(results)))
+                .doOnSuccess(response -> log.info("[{}] Decisiones en lote procesadas", traceId))
+                .doOnError(error -> log.error("[{}] Error procesando decisiones en lote: {}", traceId, error.getMessage()));
+    }
+
+    private BulkOrderDecisionRequestDTO validateBulkDecisionRequest(BulkOrderDecisionRequestDTO dto) {
+        Set<ConstraintViolation<BulkOrderDecisionRequestDTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return dto;
+    }
+
+    private DecisionResultResponseDTO mapToDecisionResultResponseDTO(DecisionResult result) {
+        return DecisionResultResponseDTO.builder()
+                .id(result.getOrderId())
+                .decision(result.getDecision())
+                .result(result.getResult())
+                .error(result.getError())
+                .build();
+    }
 }
\ No newline at end of file
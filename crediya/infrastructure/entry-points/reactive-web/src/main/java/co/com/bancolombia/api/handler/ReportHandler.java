@@ -2,11 +2,9 @@ package co.com.bancolombia.api.handler;
 
 import co.com.bancolombia.api.dto.response.AuthResponseDTO;
 import co.com.bancolombia.api.dto.response.PendingRequestResponseDTO;
-import co.com.bancolombia.api.util.ReportBuilder;
-import co.com.bancolombia.api.dto.response.UserReportResponseDTO;
+import co.com.bancolombia.api.util.PendingRequestEnricher;
 import co.com.bancolombia.api.enums.RolEnum;
 import co.com.bancolombia.api.services.AuthServiceClient;
-import co.com.bancolombia.model.orders.PendingRequest;
 import co.com.bancolombia.model.orders.exceptions.UnauthorizedException;
 import co.com.bancolombia.usecase.orders.interfaces.IOrdersUseCase;
 import lombok.RequiredArgsConstructor;
@@ -30,7 +28,7 @@ public class ReportHandler {
 
     private final IOrdersUseCase ordersUseCase;
     private final AuthServiceClient authServiceClient;
-    private final ReportBuilder reportBuilder;
+    private final PendingRequestEnricher pendingRequestEnricher;
 
     public Mono<ServerResponse> getPendingRequests(ServerRequest request) {
         String traceId = generateTraceId();
@@ -57,43 +55,17 @@ public class ReportHandler {
         UUID statusId = statusParam != null ? UUID.fromString(statusParam) : null;
         
         return ordersUseCase.findPendingRequests(statusId, emailParam, page, size)
-                .flatMap(pendingRequest -> this.enrichRequestWithUserData(authUser.getToken(), pendingRequest, traceId))
                 .collectList()
+                .flatMap(requests -> pendingRequestEnricher.enrichPage(authUser.getToken(), requests, traceId))
                 .doOnNext(requests -> log.info("[{}] Se encontraron {} solicitudes pendientes", traceId, requests.size()));
     }
 
-    private Mono<PendingRequestResponseDTO> enrichRequestWithUserData(
-            String token, PendingRequest pendingRequest, String traceId) {
-        
-        return authServiceClient.getUserByEmailAddress(token, pendingRequest.getEmailAddress())
-                .onErrorResume(ex -> {
-                    log.warn("[{}] No se pudo obtener datos del usuario para email: {}", traceId, pendingRequest.getEmailAddress());
-                    return Mono.empty();
-                })
-                .map(user -> reportBuilder.buildFrom(pendingRequest, user))
-                .defaultIfEmpty(this.convertToDTO(pendingRequest));
-    }
-
     private Mono<ServerResponse> buildPendingRequestsResponse(java.util.List<PendingRequestResponseDTO> pendingRequests) {
         return ServerResponse.ok()
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(pendingRequests);
     }
 
-    private PendingRequestResponseDTO convertToDTO(PendingRequest pendingRequest) {
-        return PendingRequestResponseDTO.builder()
-                .amount(pendingRequest.getAmount())
-                .deadline(pendingRequest.getDeadline())
-                .emailAddress(pendingRequest.getEmailAddress())
-                .name(pendingRequest.getName())
-                .loanType(pendingRequest.getLoanType())
-                .interestRate(pendingRequest.getInterestRate())
-                .status(pendingRequest.getStatus())
-                .baseSalary(pendingRequest.getBaseSalary())
-                .monthlyAmount(pendingRequest.getMonthlyAmount())
-                .build();
-    }
-
     private String generateTraceId() {
         return "REPORT-" + System.currentTimeMillis() + "-" + Thread.currentThread().getId();
     }
@@ -0,0 +1,55 @@
+package co.com.bancolombia.api.idempotency;
+
+import co.com.bancolombia.api.config.IdempotencyProperties;
+import co.com.bancolombia.usecase.idempotency.interfaces.IIdempotentLoanRequestUseCase;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Periodically deletes expired idempotency keys so the table only holds keys inside their TTL.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyKeyCleaner {
+
+    private final IIdempotentLoanRequestUseCase idempotentLoanRequestUseCase;
+    private final IdempotencyProperties properties;
+    private Disposable subscription;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        log.info("Iniciando limpieza de claves de idempotencia cada {}", properties.cleanupInterval());
+        subscription = Flux.interval(properties.cleanupInterval(), properties.cleanupInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> purge(), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    Mono<Long> purge() {
+        return idempotentLoanRequestUseCase.purgeExpired()
+                .doOnNext(deleted -> {
+                    if (deleted > 0) {
+                        log.info("Eliminadas {} claves de idempotencia vencidas", deleted);
+                    }
+                })
+                .onErrorResume(error -> {
+                    log.warn("Error eliminando claves de idempotencia vencidas: {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+}
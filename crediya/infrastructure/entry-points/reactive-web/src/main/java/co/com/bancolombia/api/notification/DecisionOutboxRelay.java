@@ -0,0 +1,128 @@
+package co.com.bancolombia.api.notification;
+
+import co.com.bancolombia.api.config.DecisionRelayProperties;
+import co.com.bancolombia.model.notification.RelayResult;
+import co.com.bancolombia.usecase.notification.DecisionRelayUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Polls the decision outbox and publishes pending decisions in batches.
+ *
+ * <p>Relay lag is published as {@code crediya.notification.outbox.lag.seconds}: the age of the oldest
+ * decision not yet sent, measured after each round. It stays near zero while the relay keeps up.
+ * Decisions dropped after their last attempt are counted in {@code crediya.notification.outbox.dead}, and
+ * sent decisions older than the retention are purged every {@code purgeInterval}.</p>
+ */
+@Slf4j
+@Component
+public class DecisionOutboxRelay {
+
+    private final DecisionRelayUseCase relayUseCase;
+    private final DecisionRelayProperties properties;
+    private final Counter publishedCounter;
+    private final Counter failureCounter;
+    private final Counter deadCounter;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private Disposable subscription;
+    private Disposable purgeSubscription;
+
+    public DecisionOutboxRelay(DecisionRelayUseCase relayUseCase,
+                               DecisionRelayProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.relayUseCase = relayUseCase;
+        this.properties = properties;
+        this.publishedCounter = Counter.builder("crediya.notification.outbox.published")
+                .description("Decisiones publicadas desde el outbox")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("crediya.notification.outbox.failures")
+                .description("Decisiones cuya publicación falló y se reintentará")
+                .register(meterRegistry);
+        this.deadCounter = Counter.builder("crediya.notification.outbox.dead")
+                .description("Decisiones descartadas tras agotar los reintentos de publicación")
+                .register(meterRegistry);
+        Gauge.builder("crediya.notification.outbox.lag.seconds", lagMillis, millis -> millis.get() / 1000.0)
+                .description("Antigüedad de la decisión más antigua pendiente de enviar")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.enabled()) {
+            log.info("Relay de notificaciones de decisiones deshabilitado");
+            return;
+        }
+        log.info("Iniciando relay de notificaciones de decisiones cada {}", properties.pollInterval());
+        subscription = Flux.interval(properties.pollInterval(), properties.pollInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> drainOutbox(), 1)
+                .subscribe();
+        purgeSubscription = Flux.interval(properties.purgeInterval(), properties.purgeInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> purgeSent(), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        if (purgeSubscription != null) {
+            purgeSubscription.dispose();
+        }
+    }
+
+    Mono<RelayResult> drainOutbox() {
+        return relayUseCase.relayNextBatch(properties.batchSize())
+                .expand(result -> result.isDrained()
+                        ? Mono.empty()
+                        : relayUseCase.relayNextBatch(properties.batchSize()))
+                .doOnNext(this::record)
+                .last()
+                .flatMap(result -> relayUseCase.oldestPendingAge()
+                        .doOnNext(age -> lagMillis.set(age.toMillis()))
+                        .thenReturn(result))
+                .onErrorResume(error -> {
+                    log.warn("Error publicando decisiones desde el outbox: {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    Mono<Long> purgeSent() {
+        return relayUseCase.purgeSent(properties.retention(), properties.purgeChunkSize())
+                .doOnNext(deleted -> {
+                    if (deleted > 0) {
+                        log.info("Eliminadas {} decisiones enviadas hace más de {}", deleted, properties.retention());
+                    }
+                })
+                .onErrorResume(error -> {
+                    log.warn("Error eliminando decisiones enviadas del outbox: {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private void record(RelayResult result) {
+        publishedCounter.increment(result.getPublished());
+        failureCounter.increment(result.getFailed());
+        deadCounter.increment(result.getAbandoned());
+        if (result.getFailed() > 0) {
+            log.warn("No se pudieron publicar {} decisiones; se reintentarán", result.getFailed());
+        }
+        if (result.getAbandoned() > 0) {
+            log.error("{} decisiones agotaron {} intentos y quedaron marcadas como fallidas",
+                    result.getAbandoned(), properties.maxAttempts());
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package co.com.bancolombia.api.openapi;
 
 import co.com.bancolombia.api.handler.OrderHandler;
+import co.com.bancolombia.api.dto.request.BulkOrderDecisionRequestDTO;
 import co.com.bancolombia.api.dto.request.CreateLoanRequestDTO;
+import co.com.bancolombia.api.dto.response.AmortizationScheduleResponseDTO;
+import co.com.bancolombia.api.dto.response.BatchItemResponseDTO;
+import co.com.bancolombia.api.dto.response.ClaimedOrderResponseDTO;
+import co.com.bancolombia.api.dto.response.DecisionRequestResponseDTO;
+import co.com.bancolombia.api.dto.response.DecisionResultResponseDTO;
 import co.com.bancolombia.api.dto.response.LoanRequestResponseDTO;
 import co.com.bancolombia.api.dto.response.ErrorResponseDTO;
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,6 +35,7 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 public class OrderOpenApi {
 
     private static final String API_V1_SOLICITUD = "/api/v1/solicitud";
+    private static final String API_V1_ASIGNACIONES = "/api/v1/solicitudes-pendientes/asignaciones";
 
     @Bean
     @RouterOperations({
@@ -44,6 +51,10 @@ public class OrderOpenApi {
                             description = "Creates a new loan request for authenticated clients",
                             tags = {"Loan Orders"},
                             security = @SecurityRequirement(name = "bearerAuth"),
+                            parameters = {
+                                    @Parameter(name = "Idempotency-Key", in = ParameterIn.HEADER, required = false,
+                                            description = "Client-generated key; retries with the same key return the original loan request")
+                            },
                             requestBody = @RequestBody(
                                     required = true,
                                     description = "Loan request data",
@@ -57,6 +68,145 @@ public class OrderOpenApi {
                                     @ApiResponse(responseCode = "401", description = "Authentication failed - invalid or missing token",
                                             content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))),
                                     @ApiResponse(responseCode = "403", description = "Access denied - insufficient privileges",
+                                            content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))),
+                                    @ApiResponse(responseCode = "409", description = "A request with the same Idempotency-Key is still in progress",
+                                            content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))),
+                                    @ApiResponse(responseCode = "422", description = "Idempotency-Key reused with a different request body",
+                                            content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = API_V1_SOLICITUD + "/batch",
+                    produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+                    method = RequestMethod.POST,
+                    beanClass = OrderHandler.class,
+                    beanMethod = "createLoanRequestBatch",
+                    operation = @Operation(
+                            operationId = "createLoanRequestBatch",
+                            summary = "Create Loan Requests in Batch",
+                            description = "Creates loan requests from a JSON array or an NDJSON stream and returns one result per item, in submission order",
+                            tags = {"Loan Orders"},
+                            security = @SecurityRequirement(name = "bearerAuth"),
+                            requestBody = @RequestBody(
+                                    required = true,
+                                    description = "Loan requests as a JSON array or NDJSON stream",
+                                    content = @Content(schema = @Schema(implementation = CreateLoanRequestDTO.class))
+                            ),
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Per-item results",
+                                            content = @Content(schema = @Schema(implementation = BatchItemResponseDTO.class))),
+                                    @ApiResponse(responseCode = "401", description = "Authentication failed - invalid or missing token",
+                                            content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = API_V1_SOLICITUD + "/decisiones",
+                    produces = {MediaType.APPLICATION_JSON_VALUE},
+                    method = RequestMethod.PUT,
+                    beanClass = OrderHandler.class,
+                    beanMethod = "updateOrderDecisions",
+                    operation = @Operation(
+                            operationId = "updateOrderDecisions",
+                            summary = "Bulk Order Decisions",
+                            description = "Approves or rejects up to 500 pending loan requests and returns one outcome per order",
+                            tags = {"Loan Orders"},
+                            security = @SecurityRequirement(name = "bearerAuth"),
+                            requestBody = @RequestBody(
+                                    required = true,
+                                    description = "List of order decisions",
+                                    content = @Content(schema = @Schema(implementation = BulkOrderDecisionRequestDTO.class))
+                            ),
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Per-order outcomes",
+                                            content = @Content(schema = @Schema(implementation = DecisionResultResponseDTO.class))),
+                                    @ApiResponse(responseCode = "400", description = "Invalid request data",
+                                            content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))),
+                                    @ApiResponse(responseCode = "401", description = "Authentication failed - invalid or missing token",
+                                            content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = API_V1_SOLICITUD + "/decisiones/{requestId}",
+                    produces = {MediaType.APPLICATION_JSON_VALUE},
+                    method = RequestMethod.GET,
+                    beanClass = OrderHandler.class,
+                    beanMethod = "getDecisionRequest",
+                    operation = @Operation(
+                            operationId = "getDecisionRequest",
+                            summary = "Get Queued Decision Status",
+                            description = "Returns the status of a decision submitted with Prefer: respond-async",
+                            tags = {"Loan Orders"},
+                            security = @SecurityRequirement(name = "bearerAuth"),
+                            parameters = @Parameter(
+                                    name = "requestId",
+                                    description = "Decision request ID returned in the Location header",
+                                    required = true,
+                                    in = ParameterIn.PATH
+                            ),
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Decision request found",
+                                            content = @Content(schema = @Schema(implementation = DecisionRequestResponseDTO.class))),
+                                    @ApiResponse(responseCode = "404", description = "Decision request not found",
+                                            content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))),
+                                    @ApiResponse(responseCode = "401", description = "Authentication failed - invalid or missing token",
+                                            content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = API_V1_ASIGNACIONES,
+                    produces = {MediaType.APPLICATION_JSON_VALUE},
+                    method = RequestMethod.POST,
+                    beanClass = OrderHandler.class,
+                    beanMethod = "claimPendingOrders",
+                    operation = @Operation(
+                            operationId = "claimPendingOrders",
+                            summary = "Claim Pending Loan Requests",
+                            description = "Assigns the oldest pending loan requests nobody else holds to the calling assessor until the lease expires",
+                            tags = {"Loan Orders"},
+                            security = @SecurityRequirement(name = "bearerAuth"),
+                            parameters = @Parameter(
+                                    name = "cantidad",
+                                    description = "Number of loan requests to claim",
+                                    required = false,
+                                    in = ParameterIn.QUERY,
+                                    example = "10"
+                            ),
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Claimed loan requests, possibly fewer than asked",
+                                            content = @Content(schema = @Schema(implementation = ClaimedOrderResponseDTO.class))),
+                                    @ApiResponse(responseCode = "400", description = "Invalid number of loan requests",
+                                            content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))),
+                                    @ApiResponse(responseCode = "401", description = "Authentication failed - invalid or missing token",
+                                            content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
+                            }
+                    )
+            ),
+            @RouterOperation(
+                    path = API_V1_ASIGNACIONES + "/{id}",
+                    method = RequestMethod.DELETE,
+                    beanClass = OrderHandler.class,
+                    beanMethod = "releaseClaimedOrder",
+                    operation = @Operation(
+                            operationId = "releaseClaimedOrder",
+                            summary = "Release Claimed Loan Request",
+                            description = "Returns a claimed loan request to the queue before its lease expires",
+                            tags = {"Loan Orders"},
+                            security = @SecurityRequirement(name = "bearerAuth"),
+                            parameters = @Parameter(
+                                    name = "id",
+                                    description = "Loan request ID",
+                                    required = true,
+                                    in = ParameterIn.PATH
+                            ),
+                            responses = {
+                                    @ApiResponse(responseCode = "204", description = "Loan request released"),
+                                    @ApiResponse(responseCode = "409", description = "Loan request not claimed by the caller",
+                                            content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))),
+                                    @ApiResponse(responseCode = "401", description = "Authentication failed - invalid or missing token",
                                             content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
                             }
                     )
@@ -89,6 +239,34 @@ public class OrderOpenApi {
                                             content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
                             }
                     )
+            ),
+            @RouterOperation(
+                    path = API_V1_SOLICITUD + "/{id}/amortizacion",
+                    produces = {MediaType.APPLICATION_JSON_VALUE},
+                    method = RequestMethod.GET,
+                    beanClass = OrderHandler.class,
+                    beanMethod = "getAmortizationSchedule",
+                    operation = @Operation(
+                            operationId = "getAmortizationSchedule",
+                            summary = "Get Amortization Schedule",
+                            description = "Returns the French-system payment schedule of a loan request at its loan type's monthly rate",
+                            tags = {"Loan Orders"},
+                            security = @SecurityRequirement(name = "bearerAuth"),
+                            parameters = @Parameter(
+                                    name = "id",
+                                    description = "Loan request ID",
+                                    required = true,
+                                    in = ParameterIn.PATH
+                            ),
+                            responses = {
+                                    @ApiResponse(responseCode = "200", description = "Payment schedule",
+                                            content = @Content(schema = @Schema(implementation = AmortizationScheduleResponseDTO.class))),
+                                    @ApiResponse(responseCode = "404", description = "Loan request not found",
+                                            content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class))),
+                                    @ApiResponse(responseCode = "401", description = "Authentication failed - invalid or missing token",
+                                            content = @Content(schema = @Schema(implementation = ErrorResponseDTO.class)))
+                            }
+                    )
             )
     })
     public RouterFunction<ServerResponse> orderRoutesDoc() {
@@ -0,0 +1,100 @@
+package co.com.bancolombia.api.orderexpiry;
+
+import co.com.bancolombia.api.config.PendingExpiryProperties;
+import co.com.bancolombia.model.expiry.PendingExpiryChunk;
+import co.com.bancolombia.usecase.orderexpiry.PendingOrderExpiryUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Periodically cancels pending orders older than the maximum age of their loan type.
+ *
+ * <p>Every instance runs the job; chunks skip rows another instance has locked, so concurrent runs split the
+ * work instead of blocking each other. Progress is published per chunk as {@code crediya.orders.expiry.cancelled}
+ * (tagged by scope) and {@code crediya.orders.expiry.chunks}, and the outcome of the last run as
+ * {@code crediya.orders.expiry.last.run.cancelled}.</p>
+ */
+@Slf4j
+@Component
+public class PendingOrderExpiryJob {
+
+    private final PendingOrderExpiryUseCase pendingOrderExpiryUseCase;
+    private final PendingExpiryProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Counter chunkCounter;
+    private final AtomicLong lastRunCancelled = new AtomicLong();
+    private Disposable subscription;
+
+    public PendingOrderExpiryJob(PendingOrderExpiryUseCase pendingOrderExpiryUseCase,
+                                 PendingExpiryProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.pendingOrderExpiryUseCase = pendingOrderExpiryUseCase;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.chunkCounter = Counter.builder("crediya.orders.expiry.chunks")
+                .description("Bloques procesados por el vencimiento de solicitudes pendientes")
+                .register(meterRegistry);
+        Gauge.builder("crediya.orders.expiry.last.run.cancelled", lastRunCancelled, AtomicLong::get)
+                .description("Solicitudes pendientes canceladas en la última ejecución")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.enabled()) {
+            log.info("Vencimiento de solicitudes pendientes deshabilitado");
+            return;
+        }
+        log.info("Iniciando vencimiento de solicitudes pendientes cada {} en bloques de {}",
+                properties.interval(), properties.chunkSize());
+        subscription = Flux.interval(properties.interval(), properties.interval())
+                .onBackpressureDrop()
+                .concatMap(tick -> expireStale(), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    Mono<Long> expireStale() {
+        return pendingOrderExpiryUseCase.expireStale()
+                .doOnNext(this::record)
+                .reduce(0L, (total, chunk) -> total + chunk.getCancelled())
+                .doOnNext(cancelled -> {
+                    lastRunCancelled.set(cancelled);
+                    if (cancelled > 0) {
+                        log.info("Canceladas {} solicitudes pendientes vencidas", cancelled);
+                    }
+                })
+                .onErrorResume(error -> {
+                    log.warn("Error cancelando solicitudes pendientes vencidas: {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private void record(PendingExpiryChunk chunk) {
+        chunkCounter.increment();
+        Counter.builder("crediya.orders.expiry.cancelled")
+                .description("Solicitudes pendientes canceladas por vencimiento")
+                .tag("scope", chunk.getScope())
+                .register(meterRegistry)
+                .increment(chunk.getCancelled());
+        log.debug("Bloque de vencimiento ({}): {} revisadas, {} canceladas", chunk.getScope(),
+                chunk.getScanned(), chunk.getCancelled());
+    }
+}
@@ -0,0 +1,106 @@
+package co.com.bancolombia.api.replication;
+
+import co.com.bancolombia.api.config.UserFeedProperties;
+import co.com.bancolombia.model.userprofile.ReplicationResult;
+import co.com.bancolombia.usecase.userprofile.UserProfileReplicationUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Polls the user change feed and applies it to the local user profile projection.
+ *
+ * <p>Replication lag is published as {@code crediya.user_profile.replication.lag.seconds}: the time elapsed
+ * since the last poll that found the feed fully drained. It stays below the poll interval while the
+ * consumer keeps up and grows steadily when the feed is unreachable or the consumer falls behind.</p>
+ */
+@Slf4j
+@Component
+public class UserProfileReplicator {
+
+    private final UserProfileReplicationUseCase replicationUseCase;
+    private final UserFeedProperties feedProperties;
+    private final Counter appliedCounter;
+    private final Counter failureCounter;
+    private final AtomicLong lastSeq = new AtomicLong();
+    private final AtomicLong lastCaughtUpAtMillis = new AtomicLong(System.currentTimeMillis());
+    private Disposable subscription;
+
+    public UserProfileReplicator(UserProfileReplicationUseCase replicationUseCase,
+                                 UserFeedProperties feedProperties,
+                                 MeterRegistry meterRegistry) {
+        this.replicationUseCase = replicationUseCase;
+        this.feedProperties = feedProperties;
+        this.appliedCounter = Counter.builder("crediya.user_profile.replication.applied")
+                .description("Cambios de usuario aplicados a la proyección local")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("crediya.user_profile.replication.failures")
+                .description("Rondas de replicación fallidas")
+                .register(meterRegistry);
+        Gauge.builder("crediya.user_profile.replication.lag.seconds", this, UserProfileReplicator::lagSeconds)
+                .description("Segundos desde la última vez que la proyección estuvo al día con el feed")
+                .register(meterRegistry);
+        Gauge.builder("crediya.user_profile.replication.last_seq", lastSeq, AtomicLong::get)
+                .description("Última secuencia del feed aplicada")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!feedProperties.enabled()) {
+            log.info("Replicación de perfiles de usuario deshabilitada");
+            return;
+        }
+        log.info("Iniciando replicación de perfiles de usuario cada {} ms", feedProperties.pollIntervalMs());
+        subscription = Flux.interval(Duration.ZERO, Duration.ofMillis(feedProperties.pollIntervalMs()))
+                .onBackpressureDrop()
+                .concatMap(tick -> drainFeed(), 1)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    Mono<ReplicationResult> drainFeed() {
+        long pollStartedAt = System.currentTimeMillis();
+        return replicationUseCase.replicateNextBatch(feedProperties.batchSize())
+                .expand(result -> result.isCaughtUp()
+                        ? Mono.empty()
+                        : replicationUseCase.replicateNextBatch(feedProperties.batchSize()))
+                .doOnNext(this::record)
+                .last()
+                .doOnNext(result -> lastCaughtUpAtMillis.set(pollStartedAt))
+                .onErrorResume(error -> {
+                    failureCounter.increment();
+                    log.warn("Error replicando perfiles de usuario: {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    double lagSeconds() {
+        return (System.currentTimeMillis() - lastCaughtUpAtMillis.get()) / 1000.0;
+    }
+
+    private void record(ReplicationResult result) {
+        appliedCounter.increment(result.getAppliedChanges());
+        lastSeq.set(result.getLastSeq());
+        if (result.getAppliedChanges() > 0) {
+            log.debug("Replicados {} cambios de usuario hasta seq: {}", result.getAppliedChanges(), result.getLastSeq());
+        }
+    }
+}
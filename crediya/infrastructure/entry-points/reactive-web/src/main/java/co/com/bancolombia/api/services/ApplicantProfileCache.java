@@ -0,0 +1,170 @@
+package co.com.bancolombia.api.services;
+
+import co.com.bancolombia.api.config.ApplicantCacheProperties;
+import co.com.bancolombia.api.dto.response.UserReportResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Size-bounded cache of applicant profiles in front of {@link AuthServiceClient#getUserByEmailAddress}.
+ * Fresh entries are served directly; stale ones are served while a background refresh runs,
+ * and entries past the stale window are fetched again before answering.
+ */
+@Slf4j
+@Component
+public class ApplicantProfileCache {
+
+    private final AuthServiceClient authServiceClient;
+    private final ApplicantCacheProperties properties;
+    private final Clock clock;
+    private final Map<String, CachedApplicant> entries;
+    private final Map<String, Mono<UserReportResponseDTO>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter refreshFailures;
+
+    @Autowired
+    public ApplicantProfileCache(AuthServiceClient authServiceClient,
+                                 ApplicantCacheProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this(authServiceClient, properties, meterRegistry, Clock.systemUTC());
+    }
+
+    ApplicantProfileCache(AuthServiceClient authServiceClient,
+                          ApplicantCacheProperties properties,
+                          MeterRegistry meterRegistry,
+                          Clock clock) {
+        this.authServiceClient = authServiceClient;
+        this.properties = properties;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedApplicant> eldest) {
+                boolean evict = size() > Math.max(1, properties.maxEntries());
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        };
+
+        this.hits = requests(meterRegistry, "hit");
+        this.staleHits = requests(meterRegistry, "stale");
+        this.misses = requests(meterRegistry, "miss");
+        this.evictions = Counter.builder("crediya.applicant_cache.evictions")
+                .description("Perfiles de solicitante expulsados por capacidad")
+                .register(meterRegistry);
+        this.refreshFailures = Counter.builder("crediya.applicant_cache.refresh.failures")
+                .description("Consultas al servicio de autenticación fallidas al refrescar el caché")
+                .register(meterRegistry);
+        meterRegistry.gauge("crediya.applicant_cache.size", this, ApplicantProfileCache::size);
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("crediya.applicant_cache.requests")
+                .description("Consultas al caché de perfiles de solicitante por resultado")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public Mono<UserReportResponseDTO> getUserByEmailAddress(String token, String email) {
+        if (!properties.enabled()) {
+            return authServiceClient.getUserByEmailAddress(token, email);
+        }
+
+        return Mono.defer(() -> {
+            CachedApplicant cached = lookup(email);
+            Instant now = clock.instant();
+
+            if (cached != null && now.isBefore(cached.fetchedAt().plus(properties.ttl()))) {
+                hits.increment();
+                return Mono.just(cached.toDto(email));
+            }
+            if (cached != null && now.isBefore(cached.fetchedAt().plus(properties.ttl()).plus(properties.staleWindow()))) {
+                staleHits.increment();
+                load(token, email).subscribe(user -> { }, ex -> { });
+                return Mono.just(cached.toDto(email));
+            }
+
+            misses.increment();
+            return load(token, email);
+        });
+    }
+
+    public boolean evict(String email) {
+        synchronized (entries) {
+            return entries.remove(email) != null;
+        }
+    }
+
+    public int evictAll() {
+        synchronized (entries) {
+            int removed = entries.size();
+            entries.clear();
+            return removed;
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private CachedApplicant lookup(String email) {
+        synchronized (entries) {
+            return entries.get(email);
+        }
+    }
+
+    /**
+     * Single flight per email: concurrent misses and background refreshes share one remote call.
+     */
+    private Mono<UserReportResponseDTO> load(String token, String email) {
+        return inFlight.computeIfAbsent(email, key -> authServiceClient.getUserByEmailAddress(token, key)
+                .doOnNext(user -> store(key, user))
+                .doOnError(ex -> {
+                    refreshFailures.increment();
+                    log.warn("No se pudo refrescar el perfil en caché para email {}: {}", key, ex.getMessage());
+                })
+                .doFinally(signal -> inFlight.remove(key))
+                .cache());
+    }
+
+    private void store(String email, UserReportResponseDTO user) {
+        CachedApplicant applicant = new CachedApplicant(
+                user.getName(), user.getLastName(), user.getBaseSalary(), clock.instant());
+        synchronized (entries) {
+            entries.put(email, applicant);
+        }
+    }
+
+    /**
+     * Only the fields the pending-requests report needs.
+     */
+    private record CachedApplicant(String name, String lastName, BigDecimal baseSalary, Instant fetchedAt) {
+
+        UserReportResponseDTO toDto(String email) {
+            return UserReportResponseDTO.builder()
+                    .name(name)
+                    .lastName(lastName)
+                    .emailAddress(email)
+                    .baseSalary(baseSalary)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package co.com.bancolombia.api.services;
+
+import co.com.bancolombia.api.config.ApiPaths;
+import co.com.bancolombia.api.config.UserFeedProperties;
+import co.com.bancolombia.api.dto.response.UserChangeDTO;
+import co.com.bancolombia.api.dto.response.UserChangeFeedResponseDTO;
+import co.com.bancolombia.model.userprofile.UserChange;
+import co.com.bancolombia.model.userprofile.gateways.UserChangeFeedGateway;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reads the user change feed exposed by the authentication service.
+ */
+@Slf4j
+@Service
+public class UserChangeFeedClient implements UserChangeFeedGateway {
+
+    private static final String API_KEY_HEADER = "X-Api-Key";
+
+    private final WebClient webClient;
+    private final UserFeedProperties feedProperties;
+
+    public UserChangeFeedClient(WebClient.Builder builder, UserFeedProperties feedProperties) {
+        this.webClient = builder.baseUrl(ApiPaths.getAuthServiceBaseUrl()).build();
+        this.feedProperties = feedProperties;
+    }
+
+    @Override
+    public Flux<UserChange> fetchChangesAfter(long afterSeq, int limit) {
+        log.debug("Consultando feed de cambios de usuarios desde seq: {}", afterSeq);
+
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(ApiPaths.USER_CHANGES)
+                        .queryParam("after", afterSeq)
+                        .queryParam("limit", limit)
+                        .build())
+                .header(API_KEY_HEADER, feedProperties.apiKey())
+                .retrieve()
+                .bodyToMono(UserChangeFeedResponseDTO.class)
+                .flatMapIterable(UserChangeFeedResponseDTO::getChanges)
+                .map(this::toDomain)
+                .doOnError(error -> log.error("Error consultando feed de cambios de usuarios: {}", error.getMessage()));
+    }
+
+    private UserChange toDomain(UserChangeDTO dto) {
+        return UserChange.builder()
+                .seq(dto.getSeq())
+                .userId(dto.getUserId())
+                .changeType(dto.getChangeType())
+                .name(dto.getName())
+                .lastName(dto.getLastName())
+                .emailAddress(dto.getEmailAddress())
+                .baseSalary(dto.getBaseSalary())
+                .occurredAt(dto.getOccurredAt())
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package co.com.bancolombia.api.util;
+
+import co.com.bancolombia.api.config.ReportEnrichmentProperties;
+import co.com.bancolombia.api.dto.response.PendingRequestResponseDTO;
+import co.com.bancolombia.api.dto.response.UserReportResponseDTO;
+import co.com.bancolombia.api.services.ApplicantProfileCache;
+import co.com.bancolombia.model.orders.PendingRequest;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Enriches a page of pending requests with applicant data.
+ * Each distinct email is resolved once with bounded concurrency and the page keeps its original order.
+ */
+@Slf4j
+@Component
+public class PendingRequestEnricher {
+
+    private final ApplicantProfileCache applicantProfileCache;
+    private final ReportBuilder reportBuilder;
+    private final int concurrency;
+    private final Timer pageTimer;
+    private final DistributionSummary lookupsPerPage;
+
+    public PendingRequestEnricher(ApplicantProfileCache applicantProfileCache,
+                                  ReportBuilder reportBuilder,
+                                  ReportEnrichmentProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.applicantProfileCache = applicantProfileCache;
+        this.reportBuilder = reportBuilder;
+        this.concurrency = Math.max(1, properties.concurrency());
+        this.pageTimer = Timer.builder("crediya.report.enrichment.latency")
+                .description("Tiempo de enriquecimiento de una página de solicitudes pendientes")
+                .register(meterRegistry);
+        this.lookupsPerPage = DistributionSummary.builder("crediya.report.enrichment.lookups")
+                .description("Consultas remotas de usuario por página tras deduplicar correos")
+                .register(meterRegistry);
+    }
+
+    public Mono<List<PendingRequestResponseDTO>> enrichPage(String token, List<PendingRequest> page, String traceId) {
+        Set<String> emails = emailsToResolve(page);
+        lookupsPerPage.record(emails.size());
+
+        return Flux.fromIterable(emails)
+                .flatMap(email -> fetchUser(token, email, traceId).map(user -> Tuples.of(email, user)), concurrency)
+                .collectMap(Tuple2::getT1, Tuple2::getT2)
+                .map(users -> buildPage(page, users))
+                .transform(this::timed);
+    }
+
+    private Set<String> emailsToResolve(List<PendingRequest> page) {
+        Set<String> emails = new LinkedHashSet<>();
+        for (PendingRequest request : page) {
+            if (!request.hasApplicantProfile() && request.getEmailAddress() != null) {
+                emails.add(request.getEmailAddress());
+            }
+        }
+        return emails;
+    }
+
+    private Mono<UserReportResponseDTO> fetchUser(String token, String email, String traceId) {
+        return applicantProfileCache.getUserByEmailAddress(token, email)
+                .onErrorResume(ex -> {
+                    log.warn("[{}] No se pudo obtener datos del usuario para email: {}", traceId, email);
+                    return Mono.empty();
+                });
+    }
+
+    private List<PendingRequestResponseDTO> buildPage(List<PendingRequest> page, Map<String, UserReportResponseDTO> users) {
+        return page.stream()
+                .map(request -> {
+                    UserReportResponseDTO user = request.hasApplicantProfile() ? null : users.get(request.getEmailAddress());
+                    return user != null ? reportBuilder.buildFrom(request, user) : reportBuilder.buildFrom(request);
+                })
+                .toList();
+    }
+
+    private <T> Mono<T> timed(Mono<T> source) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            return source.doFinally(signal -> sample.stop(pageTimer));
+        });
+    }
+}
@@ -5,6 +5,8 @@ import co.com.bancolombia.api.dto.response.UserReportResponseDTO;
 import co.com.bancolombia.model.orders.PendingRequest;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+
 /**
  * Builder pattern implementation for creating enriched reports.
  * Follows Single Responsibility Principle by focusing only on report building.
@@ -28,6 +30,28 @@ public class ReportBuilder {
                 .build();
     }
 
+    /**
+     * Builds the report row from the pending request alone, using the applicant data
+     * it already carries or empty defaults when none is available.
+     */
+    public PendingRequestResponseDTO buildFrom(PendingRequest pendingRequest) {
+        if (pendingRequest == null) {
+            throw new IllegalArgumentException("PendingRequest cannot be null");
+        }
+
+        return PendingRequestResponseDTO.builder()
+                .amount(pendingRequest.getAmount())
+                .deadline(pendingRequest.getDeadline())
+                .emailAddress(pendingRequest.getEmailAddress())
+                .name(pendingRequest.getName() != null ? pendingRequest.getName() : "")
+                .loanType(pendingRequest.getLoanType())
+                .interestRate(pendingRequest.getInterestRate())
+                .baseSalary(pendingRequest.hasApplicantProfile() ? pendingRequest.getBaseSalary() : BigDecimal.ZERO)
+                .monthlyAmount(pendingRequest.getMonthlyAmount())
+                .status(pendingRequest.getStatus())
+                .build();
+    }
+
     private void validateInputs(PendingRequest pendingRequest, UserReportResponseDTO user) {
         if (pendingRequest == null) {
             throw new IllegalArgumentException("PendingRequest cannot be null");
@@ -0,0 +1,92 @@
+package co.com.bancolombia.api.velocity;
+
+import co.com.bancolombia.api.config.VelocityLimitProperties;
+import co.com.bancolombia.model.velocity.VelocityLimit;
+import co.com.bancolombia.model.velocity.VelocityTracker;
+import co.com.bancolombia.usecase.orders.ApplicationVelocityLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rebuilds the application velocity counters at start-up, then drops idle counters periodically.
+ *
+ * <p>Refusals are published as {@code crediya.loan.velocity.rejections}, tagged by dimension (email or user)
+ * and window, and the tracked applicants as {@code crediya.loan.velocity.keys}.</p>
+ */
+@Slf4j
+@Component
+public class VelocityLimitMonitor {
+
+    private final ApplicationVelocityLimiter limiter;
+    private final VelocityLimitProperties properties;
+    private Disposable subscription;
+
+    public VelocityLimitMonitor(ApplicationVelocityLimiter limiter, VelocityLimitProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.properties = properties;
+        if (properties.enabled()) {
+            register(meterRegistry, "email", limiter.emailTracker());
+            register(meterRegistry, "user", limiter.userTracker());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.enabled()) {
+            log.info("Límites de solicitudes por solicitante deshabilitados");
+            return;
+        }
+        subscription = rebuild()
+                .thenMany(Flux.interval(properties.evictionInterval(), properties.evictionInterval()))
+                .onBackpressureDrop()
+                .subscribe(tick -> evictIdle());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    Mono<Long> rebuild() {
+        return limiter.rebuild()
+                .doOnNext(counted -> log.info("Contadores de solicitudes reconstruidos con {} solicitudes recientes",
+                        counted))
+                .onErrorResume(error -> {
+                    log.warn("Error reconstruyendo los contadores de solicitudes: {}", error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    void evictIdle() {
+        int evicted = limiter.evictIdle();
+        if (evicted > 0) {
+            log.debug("Eliminados {} contadores de solicitantes inactivos", evicted);
+        }
+    }
+
+    private static void register(MeterRegistry meterRegistry, String dimension, VelocityTracker tracker) {
+        for (VelocityLimit limit : tracker.limits()) {
+            FunctionCounter.builder("crediya.loan.velocity.rejections", tracker, t -> t.rejections(limit))
+                    .description("Solicitudes rechazadas por superar el límite por solicitante")
+                    .tag("dimension", dimension)
+                    .tag("window", limit.window().toString())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("crediya.loan.velocity.keys", tracker, VelocityTracker::size)
+                .description("Solicitantes con contadores en memoria")
+                .tag("dimension", dimension)
+                .register(meterRegistry);
+    }
+}
@@ -2,14 +2,37 @@ package co.com.bancolombia.api;
 
 import co.com.bancolombia.api.dto.request.CreateLoanRequestDTO;
 import co.com.bancolombia.api.dto.response.AuthResponseDTO;
+import co.com.bancolombia.api.dto.response.BatchItemResponseDTO;
+import co.com.bancolombia.api.dto.response.DecisionResultResponseDTO;
 import co.com.bancolombia.api.dto.response.UserReportResponseDTO;
+import co.com.bancolombia.api.config.ApplicantCacheProperties;
+import co.com.bancolombia.api.config.DecisionQueueProperties;
+import co.com.bancolombia.api.config.LoanBatchProperties;
+import co.com.bancolombia.api.config.OrderClaimProperties;
+import co.com.bancolombia.api.config.ReportEnrichmentProperties;
+import co.com.bancolombia.api.util.PendingRequestEnricher;
 import co.com.bancolombia.api.util.ReportBuilder;
+import co.com.bancolombia.api.handler.CacheAdminHandler;
 import co.com.bancolombia.api.handler.OrderHandler;
 import co.com.bancolombia.api.handler.ReportHandler;
+import co.com.bancolombia.api.services.ApplicantProfileCache;
 import co.com.bancolombia.api.services.AuthServiceClient;
+import co.com.bancolombia.model.amortization.AmortizationEngine;
+import co.com.bancolombia.model.amortization.AmortizationSchedule;
+import co.com.bancolombia.model.decisionqueue.DecisionRequest;
+import co.com.bancolombia.model.decisionqueue.DecisionRequestStatus;
+import co.com.bancolombia.model.enums.StatusEnum;
+import co.com.bancolombia.model.orders.BatchItemResult;
+import co.com.bancolombia.model.orders.DecisionResult;
+import co.com.bancolombia.model.orders.OrderDecision;
 import co.com.bancolombia.model.orders.Orders;
-import co.com.bancolombia.transaction.TransactionalAdapter;
+import co.com.bancolombia.model.status.Status;
+import co.com.bancolombia.model.status.StatusRegistry;
+import co.com.bancolombia.usecase.decisionqueue.interfaces.IDecisionQueueUseCase;
+import co.com.bancolombia.usecase.idempotency.interfaces.IIdempotentLoanRequestUseCase;
+import co.com.bancolombia.usecase.orderclaim.interfaces.IOrderClaimUseCase;
 import co.com.bancolombia.usecase.orders.interfaces.IOrdersUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,13 +47,16 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Set;
+import java.util.Arrays;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.mock;
@@ -42,10 +68,12 @@ class RouterRestTest {
 
     private WebTestClient webTestClient;
     private IOrdersUseCase ordersUseCase;
+    private IIdempotentLoanRequestUseCase idempotentLoanRequestUseCase;
+    private IDecisionQueueUseCase decisionQueueUseCase;
+    private IOrderClaimUseCase orderClaimUseCase;
     private Validator validator;
     private AuthServiceClient authServiceClient;
     private ReportBuilder reportBuilder;
-    private TransactionalAdapter transactionalAdapter;
 
     private CreateLoanRequestDTO buildLoanRequest() {
         return CreateLoanRequestDTO.builder()
@@ -63,7 +91,7 @@ class RouterRestTest {
                 .deadline(request.getDeadline())
                 .emailAddress(request.getEmailAddress())
                 .idLoanType(request.getLoanTypeId())
-                .idStatus("pending-status-id")
+                .idStatus(StatusEnum.PENDING.getId())
                 .creationDate(LocalDateTime.now())
                 .updateDate(LocalDateTime.now())
                 .build();
@@ -72,14 +100,29 @@ class RouterRestTest {
     @BeforeEach
     void setup() {
         ordersUseCase = mock(IOrdersUseCase.class);
+        idempotentLoanRequestUseCase = mock(IIdempotentLoanRequestUseCase.class);
+        decisionQueueUseCase = mock(IDecisionQueueUseCase.class);
+        orderClaimUseCase = mock(IOrderClaimUseCase.class);
         validator = mock(Validator.class);
         authServiceClient = mock(AuthServiceClient.class);
         reportBuilder = mock(ReportBuilder.class);
-        transactionalAdapter = mock(TransactionalAdapter.class);
 
-        OrderHandler orderHandler = new OrderHandler(ordersUseCase, validator, authServiceClient, transactionalAdapter);
-        ReportHandler reportHandler = new ReportHandler(ordersUseCase, authServiceClient, reportBuilder);
-        RouterRest routerRest = new RouterRest(orderHandler, reportHandler);
+        OrderHandler orderHandler = new OrderHandler(ordersUseCase, validator, authServiceClient,
+                new LoanBatchProperties(500), idempotentLoanRequestUseCase, decisionQueueUseCase,
+                new DecisionQueueProperties(true, Duration.ofMillis(250), 50, 8, Duration.ofSeconds(30), 5,
+                        Duration.ofSeconds(1), Duration.ofMinutes(1), Duration.ofDays(7), Duration.ofHours(1)),
+                orderClaimUseCase, new OrderClaimProperties(Duration.ofMinutes(15), 10, 50),
+                StatusRegistry.from(Arrays.stream(StatusEnum.values())
+                        .map(status -> new Status(status.getId(), status.getName()))
+                        .toList()));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ApplicantProfileCache applicantProfileCache = new ApplicantProfileCache(authServiceClient,
+                new ApplicantCacheProperties(true, 100, Duration.ofMinutes(5), Duration.ofMinutes(30)), meterRegistry);
+        PendingRequestEnricher enricher = new PendingRequestEnricher(
+                applicantProfileCache, reportBuilder, new ReportEnrichmentProperties(8), meterRegistry);
+        ReportHandler reportHandler = new ReportHandler(ordersUseCase, authServiceClient, enricher);
+        CacheAdminHandler cacheAdminHandler = new CacheAdminHandler(applicantProfileCache, authServiceClient);
+        RouterRest routerRest = new RouterRest(orderHandler, reportHandler, cacheAdminHandler);
         RouterFunction<ServerResponse> router = routerRest.routerFunction();
 
         this.webTestClient = WebTestClient.bindToRouterFunction(router).build();
@@ -111,15 +154,10 @@ class RouterRestTest {
         Mockito.lenient().when(authServiceClient.getUserByEmailAddress(anyString(), anyString()))
                 .thenReturn(Mono.just(mockUserResponse));
 
-        when(validator.validate(any(CreateLoanRequestDTO.class))).thenReturn(Set.of());
 
         when(ordersUseCase.createLoanRequest(
                 anyString(), any(BigDecimal.class), any(Integer.class), anyString(), anyString()
         )).thenReturn(Mono.just(savedOrder));
-        
-        when(transactionalAdapter.executeInTransaction(any(Mono.class))).thenAnswer(
-                invocation -> invocation.getArgument(0)
-        );
 
         webTestClient.post()
                 .uri("/api/v1/solicitud")
@@ -135,6 +173,72 @@ class RouterRestTest {
                 .jsonPath("$.status").isEqualTo("PENDING");
     }
 
+    @Test
+    @DisplayName("POST /api/v1/solicitud - an automatically decided order reports its decided status")
+    void createLoanRequestAutoDecided() {
+        // Arrange
+        CreateLoanRequestDTO request = buildLoanRequest();
+        Orders approvedOrder = buildOrdersFromRequest(request).toBuilder()
+                .idStatus(StatusEnum.APPROVED.getId())
+                .build();
+        AuthResponseDTO mockClientResponse = AuthResponseDTO.builder()
+                .idUser(UUID.randomUUID())
+                .idRol(UUID.fromString("b71ed6c9-1dd9-4c14-8a4a-fe06166d5cdb")) // CLIENT
+                .token("mock-jwt-token")
+                .build();
+
+        when(authServiceClient.validateToken(anyString())).thenReturn(Mono.just(mockClientResponse));
+        when(ordersUseCase.createLoanRequest(
+                anyString(), any(BigDecimal.class), any(Integer.class), anyString(), anyString()
+        )).thenReturn(Mono.just(approvedOrder));
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/solicitud")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer mock-jwt-token")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(approvedOrder.getId())
+                .jsonPath("$.status").isEqualTo("APPROVED");
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/solicitud - with Idempotency-Key uses the idempotent use case")
+    void createLoanRequestWithIdempotencyKey() {
+        // Arrange
+        CreateLoanRequestDTO request = buildLoanRequest();
+        Orders savedOrder = buildOrdersFromRequest(request);
+        AuthResponseDTO mockClientResponse = AuthResponseDTO.builder()
+                .idUser(UUID.randomUUID())
+                .idRol(UUID.fromString("b71ed6c9-1dd9-4c14-8a4a-fe06166d5cdb")) // CLIENT
+                .nameUser("Test Client User")
+                .token("mock-jwt-token")
+                .build();
+
+        when(authServiceClient.validateToken(anyString())).thenReturn(Mono.just(mockClientResponse));
+        when(idempotentLoanRequestUseCase.createLoanRequest(
+                anyString(), eq("retry-key-1"), any(BigDecimal.class), any(Integer.class), anyString(), anyString()
+        )).thenReturn(Mono.just(savedOrder));
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/solicitud")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer mock-jwt-token")
+                .header("Idempotency-Key", "retry-key-1")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(savedOrder.getId());
+
+        Mockito.verify(ordersUseCase, Mockito.never()).createLoanRequest(
+                anyString(), any(BigDecimal.class), any(Integer.class), anyString(), anyString());
+    }
+
     @Test
     @DisplayName("GET /api/v1/solicitud/{id} - success")
     void getLoanRequestSuccess() {
@@ -145,7 +249,7 @@ class RouterRestTest {
                 .deadline(24)
                 .emailAddress("test@example.com")
                 .idLoanType("550e8400-e29b-41d4-a716-446655441003")
-                .idStatus("pending-status-id")
+                .idStatus(StatusEnum.PENDING.getId())
                 .creationDate(LocalDateTime.now())
                 .updateDate(LocalDateTime.now())
                 .build();
@@ -173,13 +277,209 @@ class RouterRestTest {
                 .jsonPath("$.status").isEqualTo("PENDING");
     }
 
+    @Test
+    @DisplayName("GET /api/v1/solicitud/{id}/amortizacion - returns the payment schedule")
+    void getAmortizationScheduleSuccess() {
+        // Arrange
+        AuthResponseDTO mockAdminResponse = AuthResponseDTO.builder()
+                .idUser(UUID.randomUUID())
+                .idRol(UUID.fromString("80e86d27-20a4-44be-b90d-44eeb378d409")) // ADMIN
+                .token("mock-token")
+                .build();
+        AmortizationSchedule schedule = new AmortizationEngine(4)
+                .schedule(new BigDecimal("12000"), new BigDecimal("0.01"), 12);
+        when(authServiceClient.validateToken(anyString())).thenReturn(Mono.just(mockAdminResponse));
+        when(ordersUseCase.getAmortizationSchedule("order-123")).thenReturn(Mono.just(schedule));
+
+        // Act & Assert
+        webTestClient.get()
+                .uri("/api/v1/solicitud/order-123/amortizacion")
+                .header("Authorization", "Bearer mock-jwt-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo("order-123")
+                .jsonPath("$.installment").isEqualTo(1066.19)
+                .jsonPath("$.payments.length()").isEqualTo(12)
+                .jsonPath("$.payments[11].balance").isEqualTo(0.0);
+    }
+
+
+    @Test
+    @DisplayName("POST /api/v1/solicitud/batch - NDJSON stream returns one result per item")
+    void createLoanRequestBatchNdjson() {
+        AuthResponseDTO mockClientResponse = AuthResponseDTO.builder()
+                .idUser(UUID.randomUUID())
+                .idRol(UUID.fromString("b71ed6c9-1dd9-4c14-8a4a-fe06166d5cdb")) // CLIENT
+                .token("mock-jwt-token")
+                .build();
+        when(authServiceClient.validateToken(anyString())).thenReturn(Mono.just(mockClientResponse));
+        when(ordersUseCase.createLoanRequests(anyString(), any(), eq(500)))
+                .thenAnswer(invocation -> {
+                    Flux<?> items = invocation.getArgument(1);
+                    return items.index()
+                            .map(item -> item.getT1() == 0
+                                    ? BatchItemResult.created(0, "order-1")
+                                    : BatchItemResult.rejected(item.getT1(), "El monto debe ser mayor que 0"));
+                });
+
+        String body = "{\"amount\":50000,\"deadline\":24,\"email_address\":\"a@test.com\",\"id_tipo_prestamo\":\"lt-1\"}\n"
+                + "{\"amount\":0,\"deadline\":24,\"email_address\":\"b@test.com\",\"id_tipo_prestamo\":\"lt-1\"}\n";
+
+        webTestClient.post()
+                .uri("/api/v1/solicitud/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header("Authorization", "Bearer mock-jwt-token")
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(BatchItemResponseDTO.class)
+                .hasSize(2)
+                .value(results -> {
+                    assertEquals("CREATED", results.get(0).getResult());
+                    assertEquals("order-1", results.get(0).getId());
+                    assertEquals("REJECTED", results.get(1).getResult());
+                });
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/solicitud/decisiones - returns one outcome per order")
+    void updateOrderDecisionsBulk() {
+        // Arrange
+        AuthResponseDTO mockAssessorResponse = AuthResponseDTO.builder()
+                .idUser(UUID.randomUUID())
+                .idRol(UUID.fromString("3a371249-a1f0-4eb3-b06c-5a670ab6eca9")) // ASSESSOR
+                .token("mock-jwt-token")
+                .build();
+        when(authServiceClient.validateToken(anyString())).thenReturn(Mono.just(mockAssessorResponse));
+        when(ordersUseCase.updateOrderDecisions(anyList())).thenReturn(Flux.just(
+                DecisionResult.applied(new OrderDecision("order-1", "APPROVED")),
+                DecisionResult.alreadyProcessed(new OrderDecision("order-2", "REJECTED"))));
+
+        String body = "{\"decisions\":[{\"id\":\"order-1\",\"decision\":\"APPROVED\"},"
+                + "{\"id\":\"order-2\",\"decision\":\"REJECTED\"}]}";
+
+        // Act & Assert
+        webTestClient.put()
+                .uri("/api/v1/solicitud/decisiones")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer mock-jwt-token")
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(DecisionResultResponseDTO.class)
+                .hasSize(2)
+                .value(results -> {
+                    assertEquals("APPLIED", results.get(0).getResult());
+                    assertEquals("ALREADY_PROCESSED", results.get(1).getResult());
+                    assertEquals("order-2", results.get(1).getId());
+                });
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/solicitud/{id}/decision - Prefer: respond-async queues the decision with 202")
+    void updateOrderDecisionAsync() {
+        // Arrange
+        AuthResponseDTO mockAssessorResponse = AuthResponseDTO.builder()
+                .idUser(UUID.randomUUID())
+                .idRol(UUID.fromString("3a371249-a1f0-4eb3-b06c-5a670ab6eca9")) // ASSESSOR
+                .token("mock-jwt-token")
+                .build();
+        when(authServiceClient.validateToken(anyString())).thenReturn(Mono.just(mockAssessorResponse));
+        when(decisionQueueUseCase.submit("order-1", "APPROVED"))
+                .thenReturn(Mono.just(buildDecisionRequest(DecisionRequestStatus.QUEUED, null)));
+
+        // Act & Assert
+        webTestClient.put()
+                .uri("/api/v1/solicitud/order-1/decision")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer mock-jwt-token")
+                .header("Prefer", "respond-async")
+                .bodyValue("{\"decision\":\"APPROVED\"}")
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectHeader().location("/api/v1/solicitud/decisiones/request-1")
+                .expectHeader().valueEquals("Preference-Applied", "respond-async")
+                .expectBody()
+                .jsonPath("$.id").isEqualTo("request-1")
+                .jsonPath("$.status").isEqualTo("QUEUED");
+
+        Mockito.verify(ordersUseCase, Mockito.never()).updateOrderDecision(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/solicitud/decisiones/{requestId} - returns the outcome of a queued decision")
+    void getDecisionRequestSuccess() {
+        // Arrange
+        AuthResponseDTO mockAssessorResponse = AuthResponseDTO.builder()
+                .idUser(UUID.randomUUID())
+                .idRol(UUID.fromString("3a371249-a1f0-4eb3-b06c-5a670ab6eca9")) // ASSESSOR
+                .token("mock-jwt-token")
+                .build();
+        when(authServiceClient.validateToken(anyString())).thenReturn(Mono.just(mockAssessorResponse));
+        when(decisionQueueUseCase.findById("request-1"))
+                .thenReturn(Mono.just(buildDecisionRequest(DecisionRequestStatus.COMPLETED, "APPLIED")));
+
+        // Act & Assert
+        webTestClient.get()
+                .uri("/api/v1/solicitud/decisiones/request-1")
+                .header("Authorization", "Bearer mock-jwt-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("COMPLETED")
+                .jsonPath("$.result").isEqualTo("APPLIED")
+                .jsonPath("$.orderId").isEqualTo("order-1");
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/solicitudes-pendientes/asignaciones - claims orders for the calling assessor")
+    void claimPendingOrdersSuccess() {
+        // Arrange
+        UUID assessorId = UUID.randomUUID();
+        AuthResponseDTO mockAssessorResponse = AuthResponseDTO.builder()
+                .idUser(assessorId)
+                .idRol(UUID.fromString("3a371249-a1f0-4eb3-b06c-5a670ab6eca9")) // ASSESSOR
+                .token("mock-jwt-token")
+                .build();
+        Orders claimed = buildOrdersFromRequest(buildLoanRequest()).toBuilder()
+                .claimedBy(assessorId.toString())
+                .claimExpiresAt(LocalDateTime.now().plusMinutes(15))
+                .build();
+        when(authServiceClient.validateToken(anyString())).thenReturn(Mono.just(mockAssessorResponse));
+        when(orderClaimUseCase.claimNext(assessorId.toString(), 5)).thenReturn(Flux.just(claimed));
+
+        // Act & Assert
+        webTestClient.post()
+                .uri("/api/v1/solicitudes-pendientes/asignaciones?cantidad=5")
+                .header("Authorization", "Bearer mock-jwt-token")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].id").isEqualTo("order-123")
+                .jsonPath("$[0].asignada_hasta").exists();
+    }
+
+    private DecisionRequest buildDecisionRequest(DecisionRequestStatus status, String result) {
+        return DecisionRequest.builder()
+                .id("request-1")
+                .orderId("order-1")
+                .decision("APPROVED")
+                .status(status)
+                .result(result)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
 
     @Test
     @DisplayName("RouterRest - basic instantiation")
     void routerRestBasicTest() {
         OrderHandler orderHandler = mock(OrderHandler.class);
         ReportHandler reportHandler = mock(ReportHandler.class);
-        RouterRest routerRest = new RouterRest(orderHandler, reportHandler);
+        CacheAdminHandler cacheAdminHandler = mock(CacheAdminHandler.class);
+        RouterRest routerRest = new RouterRest(orderHandler, reportHandler, cacheAdminHandler);
         assertNotNull(routerRest);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package co.com.bancolombia.api;
 
+import co.com.bancolombia.api.handler.CacheAdminHandler;
 import co.com.bancolombia.api.handler.OrderHandler;
 import co.com.bancolombia.api.handler.ReportHandler;
 import org.junit.jupiter.api.Test;
@@ -16,7 +17,8 @@ class SimpleRouterTest {
     void routerRestBasicTest() {
         OrderHandler orderHandler = mock(OrderHandler.class);
         ReportHandler reportHandler = mock(ReportHandler.class);
-        RouterRest routerRest = new RouterRest(orderHandler, reportHandler);
+        CacheAdminHandler cacheAdminHandler = mock(CacheAdminHandler.class);
+        RouterRest routerRest = new RouterRest(orderHandler, reportHandler, cacheAdminHandler);
         assertNotNull(routerRest);
     }
 }
\ No newline at end of file
@@ -1,11 +1,17 @@
 package co.com.bancolombia.api.config;
 
 import co.com.bancolombia.api.RouterRest;
+import co.com.bancolombia.api.handler.CacheAdminHandler;
 import co.com.bancolombia.api.handler.OrderHandler;
 import co.com.bancolombia.api.handler.ReportHandler;
+import co.com.bancolombia.api.services.ApplicantProfileCache;
 import co.com.bancolombia.api.services.AuthServiceClient;
+import co.com.bancolombia.api.util.PendingRequestEnricher;
 import co.com.bancolombia.api.util.ReportBuilder;
-import co.com.bancolombia.transaction.TransactionalAdapter;
+import co.com.bancolombia.model.status.StatusRegistry;
+import co.com.bancolombia.usecase.decisionqueue.interfaces.IDecisionQueueUseCase;
+import co.com.bancolombia.usecase.idempotency.interfaces.IIdempotentLoanRequestUseCase;
+import co.com.bancolombia.usecase.orderclaim.interfaces.IOrderClaimUseCase;
 import co.com.bancolombia.usecase.orders.interfaces.IOrdersUseCase;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,7 +22,7 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import jakarta.validation.Validator;
 
-@ContextConfiguration(classes = {RouterRest.class, OrderHandler.class, ReportHandler.class})
+@ContextConfiguration(classes = {RouterRest.class, OrderHandler.class, ReportHandler.class, CacheAdminHandler.class})
 @WebFluxTest
 @Import({CorsConfig.class, SecurityHeadersConfig.class, ValidationConfig.class})
 class ConfigTest {
@@ -37,7 +43,31 @@ class ConfigTest {
     private ReportBuilder reportBuilder;
     
     @MockBean
-    private TransactionalAdapter transactionalAdapter;
+    private PendingRequestEnricher pendingRequestEnricher;
+
+    @MockBean
+    private ApplicantProfileCache applicantProfileCache;
+
+    @MockBean
+    private LoanBatchProperties loanBatchProperties;
+
+    @MockBean
+    private IIdempotentLoanRequestUseCase idempotentLoanRequestUseCase;
+
+    @MockBean
+    private IDecisionQueueUseCase decisionQueueUseCase;
+
+    @MockBean
+    private DecisionQueueProperties decisionQueueProperties;
+
+    @MockBean
+    private IOrderClaimUseCase orderClaimUseCase;
+
+    @MockBean
+    private OrderClaimProperties orderClaimProperties;
+
+    @MockBean
+    private StatusRegistry statusRegistry;
 
     @Test
     void testContextLoads() {
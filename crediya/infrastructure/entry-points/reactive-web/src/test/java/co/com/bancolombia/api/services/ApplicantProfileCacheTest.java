@@ -0,0 +1,171 @@
+package co.com.bancolombia.api.services;
+
+import co.com.bancolombia.api.config.ApplicantCacheProperties;
+import co.com.bancolombia.api.dto.response.UserReportResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicantProfileCacheTest {
+
+    @Mock
+    private AuthServiceClient authServiceClient;
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private ApplicantProfileCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ApplicantProfileCache(authServiceClient,
+                new ApplicantCacheProperties(true, 2, Duration.ofMinutes(5), Duration.ofMinutes(30)),
+                meterRegistry, clock);
+    }
+
+    private UserReportResponseDTO buildUser(String email, String name) {
+        return UserReportResponseDTO.builder()
+                .id("user-id")
+                .name(name)
+                .lastName("Perez")
+                .emailAddress(email)
+                .baseSalary(new BigDecimal("4000000"))
+                .build();
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("crediya.applicant_cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("Get user - fresh entry is served without calling the auth service")
+    void freshEntryIsServedFromCache() {
+        // Arrange
+        when(authServiceClient.getUserByEmailAddress("token", "a@test.com"))
+                .thenReturn(Mono.just(buildUser("a@test.com", "Ana")));
+
+        // Act & Assert
+        StepVerifier.create(cache.getUserByEmailAddress("token", "a@test.com"))
+                .assertNext(user -> assertEquals("Ana", user.getName()))
+                .verifyComplete();
+        StepVerifier.create(cache.getUserByEmailAddress("token", "a@test.com"))
+                .assertNext(user -> {
+                    assertEquals("Ana", user.getName());
+                    assertEquals(new BigDecimal("4000000"), user.getBaseSalary());
+                })
+                .verifyComplete();
+
+        verify(authServiceClient, times(1)).getUserByEmailAddress("token", "a@test.com");
+        assertEquals(1.0, requests("miss"));
+        assertEquals(1.0, requests("hit"));
+    }
+
+    @Test
+    @DisplayName("Get user - stale entry is served while a refresh runs in the background")
+    void staleEntryIsServedAndRefreshed() {
+        // Arrange
+        when(authServiceClient.getUserByEmailAddress("token", "a@test.com"))
+                .thenReturn(Mono.just(buildUser("a@test.com", "Ana")))
+                .thenReturn(Mono.just(buildUser("a@test.com", "Ana Maria")));
+        cache.getUserByEmailAddress("token", "a@test.com").block();
+        clock.advance(Duration.ofMinutes(10));
+
+        // Act & Assert
+        StepVerifier.create(cache.getUserByEmailAddress("token", "a@test.com"))
+                .assertNext(user -> assertEquals("Ana", user.getName()))
+                .verifyComplete();
+        StepVerifier.create(cache.getUserByEmailAddress("token", "a@test.com"))
+                .assertNext(user -> assertEquals("Ana Maria", user.getName()))
+                .verifyComplete();
+
+        verify(authServiceClient, times(2)).getUserByEmailAddress("token", "a@test.com");
+        assertEquals(1.0, requests("stale"));
+    }
+
+    @Test
+    @DisplayName("Get user - entry past the stale window is fetched again before answering")
+    void expiredEntryIsReloaded() {
+        // Arrange
+        when(authServiceClient.getUserByEmailAddress("token", "a@test.com"))
+                .thenReturn(Mono.just(buildUser("a@test.com", "Ana")))
+                .thenReturn(Mono.just(buildUser("a@test.com", "Ana Maria")));
+        cache.getUserByEmailAddress("token", "a@test.com").block();
+        clock.advance(Duration.ofHours(1));
+
+        // Act & Assert
+        StepVerifier.create(cache.getUserByEmailAddress("token", "a@test.com"))
+                .assertNext(user -> assertEquals("Ana Maria", user.getName()))
+                .verifyComplete();
+        assertEquals(2.0, requests("miss"));
+    }
+
+    @Test
+    @DisplayName("Cache - least recently used entry is evicted at capacity and admin evict removes entries")
+    void boundedAndEvictable() {
+        // Arrange
+        when(authServiceClient.getUserByEmailAddress(anyString(), anyString()))
+                .thenAnswer(invocation -> Mono.just(buildUser(invocation.getArgument(1), "User")));
+
+        // Act
+        cache.getUserByEmailAddress("token", "a@test.com").block();
+        cache.getUserByEmailAddress("token", "b@test.com").block();
+        cache.getUserByEmailAddress("token", "c@test.com").block();
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertEquals(1.0, meterRegistry.get("crediya.applicant_cache.evictions").counter().count());
+        assertTrue(cache.evict("c@test.com"));
+        assertEquals(1, cache.evictAll());
+        assertEquals(0, cache.size());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
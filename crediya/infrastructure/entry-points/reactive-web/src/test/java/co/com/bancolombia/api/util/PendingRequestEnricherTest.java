@@ -0,0 +1,123 @@
+package co.com.bancolombia.api.util;
+
+import co.com.bancolombia.api.config.ReportEnrichmentProperties;
+import co.com.bancolombia.api.dto.response.UserReportResponseDTO;
+import co.com.bancolombia.api.services.ApplicantProfileCache;
+import co.com.bancolombia.model.orders.PendingRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PendingRequestEnricherTest {
+
+    @Mock
+    private ApplicantProfileCache applicantProfileCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PendingRequestEnricher enricher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        enricher = new PendingRequestEnricher(applicantProfileCache, new ReportBuilder(),
+                new ReportEnrichmentProperties(2), meterRegistry);
+    }
+
+    private PendingRequest buildRequest(String email, BigDecimal amount) {
+        return PendingRequest.builder()
+                .amount(amount)
+                .deadline(12)
+                .emailAddress(email)
+                .loanType("MICROCREDITO")
+                .status("PENDING")
+                .build();
+    }
+
+    private UserReportResponseDTO buildUser(String email, String name) {
+        return UserReportResponseDTO.builder()
+                .name(name)
+                .lastName("Perez")
+                .emailAddress(email)
+                .baseSalary(new BigDecimal("4000000"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Enrich page - resolves each email once and keeps row order")
+    void enrichPageDeduplicatesAndKeepsOrder() {
+        // Arrange
+        List<PendingRequest> page = List.of(
+                buildRequest("a@test.com", new BigDecimal("1")),
+                buildRequest("b@test.com", new BigDecimal("2")),
+                buildRequest("a@test.com", new BigDecimal("3")));
+        // The first email answers last to prove the output order does not follow completion order
+        when(applicantProfileCache.getUserByEmailAddress("token", "a@test.com"))
+                .thenReturn(Mono.just(buildUser("a@test.com", "Ana")).delayElement(Duration.ofMillis(50)));
+        when(applicantProfileCache.getUserByEmailAddress("token", "b@test.com"))
+                .thenReturn(Mono.just(buildUser("b@test.com", "Beto")));
+
+        // Act & Assert
+        StepVerifier.create(enricher.enrichPage("token", page, "trace"))
+                .assertNext(rows -> {
+                    assertEquals(3, rows.size());
+                    assertEquals(new BigDecimal("1"), rows.get(0).getAmount());
+                    assertEquals("Ana Perez", rows.get(0).getName());
+                    assertEquals("Beto Perez", rows.get(1).getName());
+                    assertEquals("Ana Perez", rows.get(2).getName());
+                })
+                .verifyComplete();
+
+        verify(applicantProfileCache, times(1)).getUserByEmailAddress("token", "a@test.com");
+        assertEquals(1, meterRegistry.get("crediya.report.enrichment.latency").timer().count());
+    }
+
+    @Test
+    @DisplayName("Enrich page - rows with a local profile skip the remote lookup")
+    void enrichPageSkipsLocalProfiles() {
+        // Arrange
+        PendingRequest local = buildRequest("c@test.com", BigDecimal.TEN);
+        local.setName("Carla Ruiz");
+        local.setBaseSalary(new BigDecimal("5000000"));
+
+        // Act & Assert
+        StepVerifier.create(enricher.enrichPage("token", List.of(local), "trace"))
+                .assertNext(rows -> assertEquals("Carla Ruiz", rows.get(0).getName()))
+                .verifyComplete();
+
+        verify(applicantProfileCache, never()).getUserByEmailAddress(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Enrich page - lookup failure falls back to the bare row")
+    void enrichPageFallsBackOnError() {
+        // Arrange
+        when(applicantProfileCache.getUserByEmailAddress("token", "d@test.com"))
+                .thenReturn(Mono.error(new RuntimeException("timeout")));
+
+        // Act & Assert
+        StepVerifier.create(enricher.enrichPage("token", List.of(buildRequest("d@test.com", BigDecimal.ONE)), "trace"))
+                .assertNext(rows -> {
+                    assertEquals("", rows.get(0).getName());
+                    assertEquals(BigDecimal.ZERO, rows.get(0).getBaseSalary());
+                })
+                .verifyComplete();
+    }
+}
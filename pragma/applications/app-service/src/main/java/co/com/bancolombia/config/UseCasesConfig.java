@@ -2,9 +2,11 @@ package co.com.bancolombia.config;
 
 import co.com.bancolombia.model.role.gateways.RoleRepository;
 import co.com.bancolombia.model.user.gateways.UserRepository;
+import co.com.bancolombia.model.userchange.gateways.UserChangeRepository;
 import co.com.bancolombia.usecase.auth.AuthUseCase;
 import co.com.bancolombia.usecase.user.UserUseCase;
 import co.com.bancolombia.usecase.user.interfaces.IUserUseCase;
+import co.com.bancolombia.usecase.userchange.UserChangeUseCase;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -22,4 +24,9 @@ public class UseCasesConfig {
     public AuthUseCase authUseCase(UserUseCase userUseCase) {
         return new AuthUseCase(userUseCase);
     }
+
+    @Bean
+    public UserChangeUseCase userChangeUseCase(UserChangeRepository userChangeRepository) {
+        return new UserChangeUseCase(userChangeRepository);
+    }
 }
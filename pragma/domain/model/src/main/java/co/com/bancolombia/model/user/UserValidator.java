@@ -0,0 +1,77 @@
+package co.com.bancolombia.model.user;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Validation of a user, run once by {@link User#validateData()}.
+ *
+ * <p>Checks every field in one pass and returns all the errors at once. The email pattern is compiled once,
+ * and a valid user allocates nothing beyond the regex matcher.</p>
+ */
+public final class UserValidator {
+
+    public static final BigDecimal MAX_BASE_SALARY = new BigDecimal("15000000");
+    public static final int MIN_PASSWORD_LENGTH = 3;
+
+    private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$");
+
+    private UserValidator() {
+    }
+
+    /**
+     * Returns the error messages in field order, or an empty list when the user is valid.
+     */
+    public static List<String> validate(User user) {
+        List<String> errors = null;
+
+        if (isBlank(user.getName())) {
+            errors = add(errors, "El nombre no puede ser nulo o vacío");
+        }
+
+        if (isBlank(user.getLastName())) {
+            errors = add(errors, "Los apellidos no pueden ser nulos o vacíos");
+        }
+
+        String emailAddress = user.getEmailAddress();
+        if (isBlank(emailAddress)) {
+            errors = add(errors, "El correo electrónico no puede ser nulo o vacío");
+        } else if (!EMAIL.matcher(emailAddress).matches()) {
+            errors = add(errors, "El formato del correo electrónico no es válido");
+        }
+
+        BigDecimal baseSalary = user.getBaseSalary();
+        if (baseSalary == null) {
+            errors = add(errors, "El salario base no puede ser nulo");
+        } else if (baseSalary.signum() <= 0) {
+            errors = add(errors, "El salario base debe ser mayor a 0");
+        } else if (baseSalary.compareTo(MAX_BASE_SALARY) > 0) {
+            errors = add(errors, "El salario base no puede ser mayor a 15,000,000");
+        }
+
+        if (isBlank(user.getIdRol())) {
+            errors = add(errors, "El ID del rol no puede ser nulo o vacío");
+        }
+
+        String password = user.getPassword();
+        if (isBlank(password)) {
+            errors = add(errors, "El password no puede ser nulo o vacío");
+        } else if (password.length() < MIN_PASSWORD_LENGTH) {
+            errors = add(errors, "El password debe tener al menos " + MIN_PASSWORD_LENGTH + " caracteres");
+        }
+
+        return errors == null ? List.of() : errors;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static List<String> add(List<String> errors, String error) {
+        List<String> target = errors == null ? new ArrayList<>(4) : errors;
+        target.add(error);
+        return target;
+    }
+}
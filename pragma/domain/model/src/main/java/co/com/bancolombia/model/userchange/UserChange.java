@@ -0,0 +1,33 @@
+package co.com.bancolombia.model.userchange;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entrada del feed de cambios de usuarios.
+ * El {@code seq} es monotónico y permite a los consumidores reanudar la lectura.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class UserChange {
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+
+    private Long seq;
+    private String userId;
+    private String changeType;
+    private String name;
+    private String lastName;
+    private String emailAddress;
+    private BigDecimal baseSalary;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,9 @@
+package co.com.bancolombia.model.userchange.gateways;
+
+import co.com.bancolombia.model.userchange.UserChange;
+import reactor.core.publisher.Flux;
+
+public interface UserChangeRepository {
+
+    Flux<UserChange> findChangesAfter(long afterSeq, int limit);
+}
@@ -24,28 +24,58 @@ class UserTest {
 
     @Test
     void createUser_WithNegativeSalary_ShouldFail() {
-        assertThrows(Exception.class, () -> {
-            User.builder()
-                    .name("Ana")
-                    .lastName("Lopez")
-                    .emailAddress("ana@email.com")
-                    .baseSalary(new BigDecimal("-1000"))
-                    .idRol("DEV")
-                    .password("testpass123")
-                    .build();
-        });
+        User user = User.builder()
+                .name("Ana")
+                .lastName("Lopez")
+                .emailAddress("ana@email.com")
+                .baseSalary(new BigDecimal("-1000"))
+                .idRol("DEV")
+                .password("testpass123")
+                .build();
+
+        assertThrows(IllegalArgumentException.class, user::validateData);
     }
 
     @Test
     void createUser_WithEmptyName_ShouldFail() {
-        assertThrows(Exception.class, () -> {
-            User.builder()
-                    .name("")
-                    .lastName("Garcia")
-                    .emailAddress("test@email.com")
-                    .baseSalary(new BigDecimal("1000000"))
-                    .password("testpass123")
-                    .build();
-        });
+        User user = User.builder()
+                .name("")
+                .lastName("Garcia")
+                .emailAddress("test@email.com")
+                .baseSalary(new BigDecimal("1000000"))
+                .password("testpass123")
+                .build();
+
+        assertThrows(IllegalArgumentException.class, user::validateData);
+    }
+
+    @Test
+    void validateData_WithSeveralInvalidFields_ReportsAllErrors() {
+        User user = User.builder()
+                .name(" ")
+                .lastName("Garcia")
+                .emailAddress("correo-invalido")
+                .baseSalary(new BigDecimal("20000000"))
+                .idRol("DEV")
+                .password("ab")
+                .build();
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, user::validateData);
+
+        assertEquals("El nombre no puede ser nulo o vacío; "
+                + "El formato del correo electrónico no es válido; "
+                + "El salario base no puede ser mayor a 15,000,000; "
+                + "El password debe tener al menos 3 caracteres", error.getMessage());
+    }
+
+    @Test
+    void builder_TrimsTextFieldsWithoutValidating() {
+        User user = User.builder()
+                .name("  Juan ")
+                .idRol(" DEV ")
+                .build();
+
+        assertEquals("Juan", user.getName());
+        assertEquals("DEV", user.getIdRol());
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package co.com.bancolombia.usecase.user;
 
 import co.com.bancolombia.model.exception.InvalidDataException;
 import co.com.bancolombia.model.exception.UserExistsException;
+import co.com.bancolombia.model.identifier.UuidV7;
 import co.com.bancolombia.model.role.gateways.RoleRepository;
 import co.com.bancolombia.model.user.User;
 import co.com.bancolombia.model.user.gateways.UserRepository;
@@ -10,8 +11,6 @@ import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Flux;
 
-import java.util.UUID;
-
 @RequiredArgsConstructor
 public class UserUseCase implements IUserUseCase {
 
@@ -76,7 +75,7 @@ public class UserUseCase implements IUserUseCase {
 
     private User asignarId(User user) {
         return user.toBuilder()
-                .id(UUID.randomUUID().toString())
+                .id(UuidV7.next().toString())
                 .build();
     }
 
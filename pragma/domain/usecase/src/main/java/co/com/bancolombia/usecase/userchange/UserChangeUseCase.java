@@ -0,0 +1,31 @@
+package co.com.bancolombia.usecase.userchange;
+
+import co.com.bancolombia.model.exception.InvalidDataException;
+import co.com.bancolombia.model.userchange.UserChange;
+import co.com.bancolombia.model.userchange.gateways.UserChangeRepository;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+@RequiredArgsConstructor
+public class UserChangeUseCase {
+
+    public static final int MAX_LIMIT = 500;
+
+    private final UserChangeRepository userChangeRepository;
+
+    /**
+     * Returns the changes recorded after the given sequence, in sequence order.
+     * Consumers resume by passing the last {@code seq} they applied.
+     */
+    public Flux<UserChange> getChangesAfter(long afterSeq, int limit) {
+        if (afterSeq < 0) {
+            return Flux.error(new InvalidDataException("El parámetro after no puede ser negativo"));
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            return Flux.error(new InvalidDataException("El parámetro limit debe estar entre 1 y " + MAX_LIMIT));
+        }
+        return userChangeRepository.findChangesAfter(afterSeq, limit)
+                .onErrorMap(error -> error instanceof InvalidDataException ? error
+                        : new InvalidDataException("Error interno al obtener cambios de usuarios", error));
+    }
+}
@@ -15,9 +15,11 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
+import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -60,7 +62,7 @@ class UserUseCaseTest {
                     user.getName().equals("Juan"))
                 .verifyComplete();
 
-        verify(userRepository).createUser(any(User.class));
+        verify(userRepository).createUser(argThat(user -> UUID.fromString(user.getId()).version() == 7));
     }
 
     @Test
@@ -0,0 +1,63 @@
+package co.com.bancolombia.usecase.userchange;
+
+import co.com.bancolombia.model.exception.InvalidDataException;
+import co.com.bancolombia.model.userchange.UserChange;
+import co.com.bancolombia.model.userchange.gateways.UserChangeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserChangeUseCaseTest {
+
+    @Mock
+    private UserChangeRepository userChangeRepository;
+
+    @InjectMocks
+    private UserChangeUseCase userChangeUseCase;
+
+    @Test
+    void getChangesAfter_WithMaxLimit_ShouldReturnChanges() {
+        UserChange change = UserChange.builder().seq(11L).changeType(UserChange.CREATED).build();
+        when(userChangeRepository.findChangesAfter(10L, UserChangeUseCase.MAX_LIMIT)).thenReturn(Flux.just(change));
+
+        StepVerifier.create(userChangeUseCase.getChangesAfter(10L, UserChangeUseCase.MAX_LIMIT))
+                .expectNext(change)
+                .verifyComplete();
+    }
+
+    @Test
+    void getChangesAfter_WithLimitAboveMax_ShouldFail() {
+        StepVerifier.create(userChangeUseCase.getChangesAfter(0L, UserChangeUseCase.MAX_LIMIT + 1))
+                .expectError(InvalidDataException.class)
+                .verify();
+
+        verify(userChangeRepository, never()).findChangesAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void getChangesAfter_WithZeroLimit_ShouldFail() {
+        StepVerifier.create(userChangeUseCase.getChangesAfter(0L, 0))
+                .expectError(InvalidDataException.class)
+                .verify();
+
+        verify(userChangeRepository, never()).findChangesAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void getChangesAfter_WithNegativeAfter_ShouldFail() {
+        StepVerifier.create(userChangeUseCase.getChangesAfter(-1L, 10))
+                .expectError(InvalidDataException.class)
+                .verify();
+
+        verify(userChangeRepository, never()).findChangesAfter(anyLong(), anyInt());
+    }
+}
@@ -5,7 +5,9 @@ import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
+import java.util.UUID;
+
 // TODO: This file is just an example, you should delete or modify it
-public interface MyReactiveRepository extends R2dbcRepository<UserData, String> {
+public interface MyReactiveRepository extends R2dbcRepository<UserData, UUID> {
 
 }
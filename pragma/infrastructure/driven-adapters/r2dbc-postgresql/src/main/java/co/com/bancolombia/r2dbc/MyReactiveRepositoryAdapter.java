@@ -7,11 +7,13 @@ import co.com.bancolombia.r2dbc.helper.ReactiveAdapterOperations;
 import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.stereotype.Repository;
 
+import java.util.UUID;
+
 @Repository
 public class MyReactiveRepositoryAdapter extends ReactiveAdapterOperations<
     User/* change for domain model */,
         UserData/* change for adapter model */,
-        String,
+        UUID,
     MyReactiveRepository
 > {
     public MyReactiveRepositoryAdapter(MyReactiveRepository repository, ObjectMapper mapper) {
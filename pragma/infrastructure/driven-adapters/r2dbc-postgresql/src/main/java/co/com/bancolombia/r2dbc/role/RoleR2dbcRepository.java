@@ -5,10 +5,12 @@ import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
+import java.util.UUID;
+
 @Repository
-public interface RoleR2dbcRepository extends ReactiveCrudRepository<RoleData, String> {
+public interface RoleR2dbcRepository extends ReactiveCrudRepository<RoleData, UUID> {
 
     Mono<RoleData> findByNombre(String nombre);
 
-    Mono<Boolean> existsByIdRol(String idRol);
+    Mono<Boolean> existsByIdRol(UUID idRol);
 }
\ No newline at end of file
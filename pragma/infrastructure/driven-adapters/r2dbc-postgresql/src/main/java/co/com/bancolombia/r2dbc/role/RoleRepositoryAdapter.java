@@ -2,6 +2,7 @@ package co.com.bancolombia.r2dbc.role;
 
 import co.com.bancolombia.model.role.Role;
 import co.com.bancolombia.model.role.gateways.RoleRepository;
+import co.com.bancolombia.r2dbc.helper.Uuids;
 import co.com.bancolombia.r2dbc.role.mapper.RoleMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +10,8 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.UUID;
+
 @Slf4j
 @Repository
 @RequiredArgsConstructor
@@ -44,7 +47,11 @@ public class RoleRepositoryAdapter implements RoleRepository {
     @Override
     public Mono<Role> getRoleById(String idRol) {
         log.debug("Obteniendo rol por ID: {}", idRol);
-        return repository.findById(idRol)
+        UUID uuid = Uuids.parse(idRol);
+        if (uuid == null) {
+            return Mono.empty();
+        }
+        return repository.findById(uuid)
                 .map(RoleMapper::toDomain)
                 .doOnSuccess(role ->
                         log.debug("Rol encontrado: {}", role != null ? role.getIdRol() : "null")
@@ -69,7 +76,11 @@ public class RoleRepositoryAdapter implements RoleRepository {
     @Override
     public Mono<Void> deleteById(String idRol) {
         log.debug("Eliminando rol con ID: {}", idRol);
-        return repository.deleteById(idRol)
+        UUID uuid = Uuids.parse(idRol);
+        if (uuid == null) {
+            return Mono.empty();
+        }
+        return repository.deleteById(uuid)
                 .doOnSuccess(unused ->
                         log.debug("Rol eliminado exitosamente: {}", idRol)
                 );
@@ -78,7 +89,11 @@ public class RoleRepositoryAdapter implements RoleRepository {
     @Override
     public Mono<Boolean> existsById(String idRol) {
         log.debug("Verificando existencia de rol: {}", idRol);
-        return repository.existsByIdRol(idRol)
+        UUID uuid = Uuids.parse(idRol);
+        if (uuid == null) {
+            return Mono.just(false);
+        }
+        return repository.existsByIdRol(uuid)
                 .defaultIfEmpty(false)
                 .doOnNext(exists -> log.debug("Rol {} existe: {}", idRol, exists));
     }
@@ -8,6 +8,8 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
+import java.util.UUID;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -17,7 +19,7 @@ public class RoleData {
 
     @Id
     @Column("id_rol")
-    private String idRol;
+    private UUID idRol;
 
     @Column("nombre")
     private String nombre;
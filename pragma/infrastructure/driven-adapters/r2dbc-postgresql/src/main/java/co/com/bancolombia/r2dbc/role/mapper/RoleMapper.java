@@ -1,6 +1,7 @@
 package co.com.bancolombia.r2dbc.role.mapper;
 
 import co.com.bancolombia.model.role.Role;
+import co.com.bancolombia.r2dbc.helper.Uuids;
 import co.com.bancolombia.r2dbc.role.data.RoleData;
 
 public class RoleMapper {
@@ -10,7 +11,7 @@ public class RoleMapper {
             return null;
         }
         return Role.builder()
-                .idRol(roleData.getIdRol())
+                .idRol(Uuids.format(roleData.getIdRol()))
                 .nombre(roleData.getNombre())
                 .descripcion(roleData.getDescripcion())
                 .build();
@@ -21,7 +22,7 @@ public class RoleMapper {
             return null;
         }
         return RoleData.builder()
-                .idRol(role.getIdRol())
+                .idRol(Uuids.parse(role.getIdRol()))
                 .nombre(role.getNombre())
                 .descripcion(role.getDescripcion())
                 .build();
@@ -2,9 +2,15 @@ package co.com.bancolombia.r2dbc.user;
 
 import co.com.bancolombia.model.user.User;
 import co.com.bancolombia.model.user.gateways.UserRepository;
+import co.com.bancolombia.model.userchange.UserChange;
+import co.com.bancolombia.r2dbc.helper.Uuids;
 import co.com.bancolombia.r2dbc.role.RoleR2dbcRepository;
 import co.com.bancolombia.r2dbc.role.mapper.RoleMapper;
+import co.com.bancolombia.r2dbc.user.data.UserData;
 import co.com.bancolombia.r2dbc.user.mapper.UserMapper;
+import co.com.bancolombia.r2dbc.userchange.UserChangeR2dbcRepository;
+import co.com.bancolombia.r2dbc.userchange.data.UserChangeData;
+import co.com.bancolombia.r2dbc.userchange.mapper.UserChangeMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +19,7 @@ import reactor.core.publisher.Mono;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Slf4j
 @Repository
@@ -21,6 +28,7 @@ public class UserRepositoryAdapter implements UserRepository {
 
     private final UserR2dbcRepository repository;
     private final RoleR2dbcRepository roleRepository;
+    private final UserChangeR2dbcRepository changeRepository;
 
     @Override
     @Transactional
@@ -40,8 +48,8 @@ public class UserRepositoryAdapter implements UserRepository {
                         data.getPassword(),
                         data.getCreationDate(),
                         data.getUpdateDate()
-                ))
-                .then(repository.findById(user.getId()))
+                ).then(repository.findById(data.getId())))
+                .flatMap(created -> recordChange(UserChange.CREATED, created))
                 .map(UserMapper::toDomain)
                 .doOnSuccess(userCreated ->
                         log.debug("Usuario creado exitosamente con ID: {}", userCreated.getId())
@@ -57,6 +65,7 @@ public class UserRepositoryAdapter implements UserRepository {
         log.debug("Actualizar usuario con ID: {}", user.getId());
         return Mono.fromCallable(() -> UserMapper.toDataForUpdate(user))
                 .flatMap(repository::save)
+                .flatMap(updated -> recordChange(UserChange.UPDATED, updated))
                 .map(UserMapper::toDomain)
                 .doOnSuccess(usuarioActualizado ->
                         log.debug("Usuario actualizado exitosamente con ID: {}", usuarioActualizado.getId())
@@ -77,7 +86,11 @@ public class UserRepositoryAdapter implements UserRepository {
     @Override
     public Mono<User> getUserById(String id) {
         log.debug("Obteniendo usuario por ID: {}", id);
-        return repository.findById(id)
+        UUID uuid = Uuids.parse(id);
+        if (uuid == null) {
+            return Mono.empty();
+        }
+        return repository.findById(uuid)
                 .flatMap(this::enrichWithRole)
                 .map(UserMapper::toDomain)
                 .doOnSuccess(user ->
@@ -105,9 +118,17 @@ public class UserRepositoryAdapter implements UserRepository {
     }
 
     @Override
+    @Transactional
     public Mono<Void> deleteById(String id) {
         log.debug("Eliminando usuario con ID: {}", id);
-        return repository.deleteById(id)
+        UUID uuid = Uuids.parse(id);
+        if (uuid == null) {
+            return Mono.empty();
+        }
+        return repository.findById(uuid)
+                .flatMap(existing -> repository.deleteById(uuid)
+                        .then(recordChange(UserChange.DELETED, existing)))
+                .then()
                 .doOnSuccess(unused ->
                         log.debug("Usuario eliminado exitosamente con ID: {}", id)
                 )
@@ -116,6 +137,22 @@ public class UserRepositoryAdapter implements UserRepository {
                 );
     }
 
+    private Mono<UserData> recordChange(String changeType, UserData userData) {
+        UserChangeData change = UserChangeMapper.fromUser(changeType, userData);
+        return changeRepository.recordChange(
+                        change.getUserId(),
+                        change.getChangeType(),
+                        change.getName(),
+                        change.getLastName(),
+                        change.getEmailAddress(),
+                        change.getBaseSalary(),
+                        change.getOccurredAt()
+                )
+                .doOnSuccess(rows -> log.debug("Cambio {} registrado en outbox para usuario: {}",
+                        changeType, userData.getId()))
+                .thenReturn(userData);
+    }
+
     private Mono<co.com.bancolombia.r2dbc.user.data.UserData> enrichWithRole(co.com.bancolombia.r2dbc.user.data.UserData userData) {
         if (userData.getIdRol() == null) {
             return Mono.just(userData);
@@ -13,6 +13,7 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Data
 @NoArgsConstructor
@@ -21,7 +22,7 @@ import java.time.LocalDateTime;
 @Table("users")
 public class UserData {
     @Id
-    private String id;
+    private UUID id;
 
     @Column("name")
     private String name;
@@ -51,7 +52,7 @@ public class UserData {
     private LocalDateTime updateDate;
 
     @Column("id_rol")
-    private String idRol;
+    private UUID idRol;
 
     @Column("password")
     private String password;
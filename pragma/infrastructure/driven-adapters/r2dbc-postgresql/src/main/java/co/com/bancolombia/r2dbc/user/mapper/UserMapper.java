@@ -1,6 +1,7 @@
 package co.com.bancolombia.r2dbc.user.mapper;
 
 import co.com.bancolombia.model.user.User;
+import co.com.bancolombia.r2dbc.helper.Uuids;
 import co.com.bancolombia.r2dbc.role.mapper.RoleMapper;
 import co.com.bancolombia.r2dbc.user.data.UserData;
 
@@ -14,7 +15,7 @@ public class UserMapper {
     public static UserData toDataForCreation(User user){
         LocalDateTime now = LocalDateTime.now();
         return UserData.builder()
-                .id(user.getId())
+                .id(Uuids.parse(user.getId()))
                 .name(user.getName())
                 .lastName(user.getLastName())
                 .birthDate(user.getBirthDate())
@@ -22,7 +23,7 @@ public class UserMapper {
                 .phone(user.getPhone())
                 .emailAddress(user.getEmailAddress())
                 .baseSalary(user.getBaseSalary())
-                .idRol(user.getIdRol())
+                .idRol(Uuids.parse(user.getIdRol()))
                 .password(user.getPassword())
                 .creationDate(now)
                 .updateDate(now)
@@ -32,7 +33,7 @@ public class UserMapper {
     public static UserData toDataForUpdate(User user){
         LocalDateTime now = LocalDateTime.now();
         return UserData.builder()
-                .id(user.getId())
+                .id(Uuids.parse(user.getId()))
                 .name(user.getName())
                 .lastName(user.getLastName())
                 .birthDate(user.getBirthDate())
@@ -40,7 +41,7 @@ public class UserMapper {
                 .phone(user.getPhone())
                 .emailAddress(user.getEmailAddress())
                 .baseSalary(user.getBaseSalary())
-                .idRol(user.getIdRol())
+                .idRol(Uuids.parse(user.getIdRol()))
                 .password(user.getPassword())
                 .updateDate(now)
                 .build();
@@ -48,7 +49,7 @@ public class UserMapper {
 
     public static User toDomain(UserData userData){
         return User.builder()
-                .id(userData.getId())
+                .id(Uuids.format(userData.getId()))
                 .name(userData.getName())
                 .lastName(userData.getLastName())
                 .birthDate(userData.getBirthDate())
@@ -56,7 +57,7 @@ public class UserMapper {
                 .phone(userData.getPhone())
                 .emailAddress(userData.getEmailAddress())
                 .baseSalary(userData.getBaseSalary())
-                .idRol(userData.getIdRol())
+                .idRol(Uuids.format(userData.getIdRol()))
                 .password(userData.getPassword())
                 .role(userData.getRole() != null ? RoleMapper.toDomain(userData.getRole()) : null)
                 .build();
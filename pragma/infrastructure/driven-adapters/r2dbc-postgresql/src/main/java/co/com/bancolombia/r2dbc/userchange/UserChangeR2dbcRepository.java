@@ -0,0 +1,32 @@
+package co.com.bancolombia.r2dbc.userchange;
+
+import co.com.bancolombia.r2dbc.userchange.data.UserChangeData;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface UserChangeR2dbcRepository extends ReactiveCrudRepository<UserChangeData, Long> {
+
+    /**
+     * Inserts an outbox row under a transaction-scoped advisory lock so that
+     * sequence values become visible in commit order and readers never skip
+     * a change committed after a higher sequence.
+     */
+    @Modifying
+    @Query("INSERT INTO user_change_outbox (user_id, change_type, name, last_name, email_address, base_salary, occurred_at) " +
+            "SELECT :user_id, :change_type, :name, :last_name, :email_address, :base_salary, :occurred_at " +
+            "FROM (SELECT pg_advisory_xact_lock(726001)) AS feed_lock")
+    Mono<Integer> recordChange(UUID user_id, String change_type, String name, String last_name,
+                               String email_address, BigDecimal base_salary, LocalDateTime occurred_at);
+
+    @Query("SELECT * FROM user_change_outbox WHERE seq > :afterSeq ORDER BY seq LIMIT :limit")
+    Flux<UserChangeData> findChangesAfter(long afterSeq, int limit);
+}
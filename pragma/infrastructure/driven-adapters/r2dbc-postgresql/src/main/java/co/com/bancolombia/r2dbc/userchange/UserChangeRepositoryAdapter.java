@@ -0,0 +1,25 @@
+package co.com.bancolombia.r2dbc.userchange;
+
+import co.com.bancolombia.model.userchange.UserChange;
+import co.com.bancolombia.model.userchange.gateways.UserChangeRepository;
+import co.com.bancolombia.r2dbc.userchange.mapper.UserChangeMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class UserChangeRepositoryAdapter implements UserChangeRepository {
+
+    private final UserChangeR2dbcRepository repository;
+
+    @Override
+    public Flux<UserChange> findChangesAfter(long afterSeq, int limit) {
+        log.debug("Obteniendo cambios de usuarios posteriores a seq: {}, limit: {}", afterSeq, limit);
+        return repository.findChangesAfter(afterSeq, limit)
+                .map(UserChangeMapper::toDomain)
+                .doOnComplete(() -> log.debug("Consulta de cambios de usuarios completada"));
+    }
+}
@@ -0,0 +1,39 @@
+package co.com.bancolombia.r2dbc.userchange.mapper;
+
+import co.com.bancolombia.model.userchange.UserChange;
+import co.com.bancolombia.r2dbc.helper.Uuids;
+import co.com.bancolombia.r2dbc.user.data.UserData;
+import co.com.bancolombia.r2dbc.userchange.data.UserChangeData;
+
+import java.time.LocalDateTime;
+
+public class UserChangeMapper {
+    private UserChangeMapper() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static UserChangeData fromUser(String changeType, UserData userData) {
+        return UserChangeData.builder()
+                .userId(userData.getId())
+                .changeType(changeType)
+                .name(userData.getName())
+                .lastName(userData.getLastName())
+                .emailAddress(userData.getEmailAddress())
+                .baseSalary(userData.getBaseSalary())
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    public static UserChange toDomain(UserChangeData data) {
+        return UserChange.builder()
+                .seq(data.getSeq())
+                .userId(Uuids.format(data.getUserId()))
+                .changeType(data.getChangeType())
+                .name(data.getName())
+                .lastName(data.getLastName())
+                .emailAddress(data.getEmailAddress())
+                .baseSalary(data.getBaseSalary())
+                .occurredAt(data.getOccurredAt())
+                .build();
+    }
+}
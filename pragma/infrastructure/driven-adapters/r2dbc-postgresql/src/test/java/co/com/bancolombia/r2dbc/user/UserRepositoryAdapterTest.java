@@ -3,6 +3,7 @@ package co.com.bancolombia.r2dbc.user;
 import co.com.bancolombia.model.user.User;
 import co.com.bancolombia.r2dbc.role.RoleR2dbcRepository;
 import co.com.bancolombia.r2dbc.user.data.UserData;
+import co.com.bancolombia.r2dbc.userchange.UserChangeR2dbcRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +15,7 @@ import reactor.test.StepVerifier;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -27,31 +29,37 @@ class UserRepositoryAdapterTest {
     @Mock
     private RoleR2dbcRepository roleRepository;
 
+    @Mock
+    private UserChangeR2dbcRepository changeRepository;
+
     @InjectMocks
     private UserRepositoryAdapter userRepositoryAdapter;
 
+    private static final String USER_ID = "123e4567-e89b-12d3-a456-426614174000";
+    private static final String ROLE_ID = "b71ed6c9-1dd9-4c14-8a4a-fe06166d5cdb";
+
     private User usuario;
     private UserData userData;
 
     @BeforeEach
     void setUp() {
         usuario = User.builder()
-                .id("123")
+                .id(USER_ID)
                 .name("Juan")
                 .lastName("Perez")
                 .emailAddress("juan@test.com")
                 .baseSalary(new BigDecimal("2000000"))
-                .idRol("DEV")
+                .idRol(ROLE_ID)
                 .password("encodedPassword")
                 .build();
 
         userData = UserData.builder()
-                .id("123")
+                .id(UUID.fromString(USER_ID))
                 .name("Juan")
                 .lastName("Perez")
                 .emailAddress("juan@test.com")
                 .baseSalary(new BigDecimal("2000000"))
-                .idRol("DEV")
+                .idRol(UUID.fromString(ROLE_ID))
                 .password("encodedPassword")
                 .creationDate(LocalDateTime.now())
                 .build();
@@ -71,27 +79,56 @@ class UserRepositoryAdapterTest {
 
     @Test
     void getUserById() {
-        when(repository.findById("123"))
+        when(repository.findById(UUID.fromString(USER_ID)))
                 .thenReturn(Mono.just(userData));
-        when(roleRepository.findById("DEV"))
+        when(roleRepository.findById(UUID.fromString(ROLE_ID)))
                 .thenReturn(Mono.empty());
 
-        StepVerifier.create(userRepositoryAdapter.getUserById("123"))
+        StepVerifier.create(userRepositoryAdapter.getUserById(USER_ID))
                 .expectNextMatches(user -> user.getName().equals("Juan"))
                 .verifyComplete();
 
-        verify(repository).findById("123");
+        verify(repository).findById(UUID.fromString(USER_ID));
     }
 
     @Test
     void deleteUser() {
-        when(repository.deleteById("123"))
+        when(repository.findById(UUID.fromString(USER_ID)))
+                .thenReturn(Mono.just(userData));
+        when(repository.deleteById(UUID.fromString(USER_ID)))
                 .thenReturn(Mono.empty());
+        when(changeRepository.recordChange(eq(UUID.fromString(USER_ID)), eq("DELETED"), eq("Juan"), eq("Perez"),
+                eq("juan@test.com"), any(), any()))
+                .thenReturn(Mono.just(1));
 
-        StepVerifier.create(userRepositoryAdapter.deleteById("123"))
+        StepVerifier.create(userRepositoryAdapter.deleteById(USER_ID))
                 .expectComplete()
                 .verify();
 
-        verify(repository).deleteById("123");
+        verify(repository).deleteById(UUID.fromString(USER_ID));
+        verify(changeRepository).recordChange(eq(UUID.fromString(USER_ID)), eq("DELETED"), eq("Juan"), eq("Perez"),
+                eq("juan@test.com"), any(), any());
+    }
+
+    @Test
+    void updateUserRecordsChange() {
+        when(repository.save(any(UserData.class)))
+                .thenReturn(Mono.just(userData));
+        when(changeRepository.recordChange(eq(UUID.fromString(USER_ID)), eq("UPDATED"), any(), any(), any(), any(), any()))
+                .thenReturn(Mono.just(1));
+
+        StepVerifier.create(userRepositoryAdapter.updateUser(usuario))
+                .expectNextMatches(user -> user.getId().equals(USER_ID))
+                .verifyComplete();
+
+        verify(changeRepository).recordChange(eq(UUID.fromString(USER_ID)), eq("UPDATED"), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void getUserByMalformedIdIsEmpty() {
+        StepVerifier.create(userRepositoryAdapter.getUserById("123"))
+                .verifyComplete();
+
+        verify(repository, never()).findById(any(UUID.class));
     }
 }
\ No newline at end of file
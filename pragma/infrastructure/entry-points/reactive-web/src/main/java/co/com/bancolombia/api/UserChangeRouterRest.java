@@ -0,0 +1,21 @@
+package co.com.bancolombia.api;
+
+import co.com.bancolombia.api.constants.ApiPaths;
+import co.com.bancolombia.api.userchange.UserChangeHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+@Configuration
+public class UserChangeRouterRest {
+
+    @Bean
+    public RouterFunction<ServerResponse> userChangeRoutes(UserChangeHandler userChangeHandler) {
+        return route()
+                .GET(ApiPaths.USER_CHANGES, userChangeHandler::getChanges)
+                .build();
+    }
+}
@@ -54,6 +54,7 @@ public class SecurityConfig {
         auth.pathMatchers(HttpMethod.POST, ApiPaths.LOGIN).permitAll();
         auth.pathMatchers(ApiPaths.HEALTH).permitAll();
         auth.pathMatchers(ApiPaths.ACTUATOR).permitAll();
+        auth.pathMatchers(HttpMethod.GET, ApiPaths.USER_CHANGES).permitAll();
         auth.pathMatchers(
                 ApiPaths.SWAGGER_UI,
                 ApiPaths.SWAGGER_UI_RESOURCES,
@@ -9,6 +9,9 @@ public final class ApiPaths {
     public static final String USERS = "/api/v1/users";
     public static final String USERSBYID = "/api/v1/users/{id}";
     public static final String USERSALL = "/api/v1/users";
+
+    // User change feed (service-to-service, API key protected)
+    public static final String USER_CHANGES = "/api/v1/user-changes";
     
     // Role endpoints
     public static final String ROL = "/api/v1/roles";
@@ -0,0 +1,11 @@
+package co.com.bancolombia.api.userchange;
+
+import jakarta.validation.constraints.NotBlank;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "user-feed")
+public record UserChangeFeedProperties(
+        @NotBlank String apiKey
+) {}
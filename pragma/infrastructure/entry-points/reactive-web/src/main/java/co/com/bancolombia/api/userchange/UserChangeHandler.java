@@ -0,0 +1,100 @@
+package co.com.bancolombia.api.userchange;
+
+import co.com.bancolombia.api.userchange.dto.UserChangeDTO;
+import co.com.bancolombia.api.userchange.dto.UserChangeFeedResponseDTO;
+import co.com.bancolombia.model.exception.AuthException;
+import co.com.bancolombia.model.exception.InvalidDataException;
+import co.com.bancolombia.model.userchange.UserChange;
+import co.com.bancolombia.usecase.userchange.UserChangeUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * Exposes the user change outbox as a resumable, sequence-ordered feed.
+ * Consumers are services, so access is granted by API key instead of a user JWT.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserChangeHandler {
+
+    public static final String API_KEY_HEADER = "X-Api-Key";
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final UserChangeUseCase userChangeUseCase;
+    private final UserChangeFeedProperties feedProperties;
+
+    public Mono<ServerResponse> getChanges(ServerRequest request) {
+        return Mono.defer(() -> {
+            validateApiKey(request.headers().firstHeader(API_KEY_HEADER));
+            long after = parseNumber(request.queryParam("after").orElse("0"), "after");
+            int limit = parseLimit(request.queryParam("limit").orElse(String.valueOf(DEFAULT_LIMIT)));
+
+            return userChangeUseCase.getChangesAfter(after, limit)
+                    .map(this::toDto)
+                    .collectList()
+                    .map(changes -> buildResponse(changes, after))
+                    .flatMap(response -> ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .bodyValue(response))
+                    .doOnSuccess(response -> log.debug("Feed de cambios consultado desde seq: {}", after));
+        });
+    }
+
+    private void validateApiKey(String apiKey) {
+        byte[] expected = feedProperties.apiKey().getBytes(StandardCharsets.UTF_8);
+        byte[] received = apiKey != null ? apiKey.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        if (!MessageDigest.isEqual(expected, received)) {
+            throw new AuthException("API key inválida para el feed de cambios de usuarios");
+        }
+    }
+
+    private long parseNumber(String value, String name) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidDataException("El parámetro " + name + " debe ser numérico");
+        }
+    }
+
+    /**
+     * Range-checks before narrowing, so an out-of-range value cannot wrap into the accepted range.
+     */
+    private int parseLimit(String value) {
+        long limit = parseNumber(value, "limit");
+        if (limit < 1 || limit > UserChangeUseCase.MAX_LIMIT) {
+            throw new InvalidDataException("El parámetro limit debe estar entre 1 y " + UserChangeUseCase.MAX_LIMIT);
+        }
+        return (int) limit;
+    }
+
+    private UserChangeFeedResponseDTO buildResponse(List<UserChangeDTO> changes, long after) {
+        long nextAfter = changes.isEmpty() ? after : changes.get(changes.size() - 1).getSeq();
+        return UserChangeFeedResponseDTO.builder()
+                .changes(changes)
+                .nextAfter(nextAfter)
+                .build();
+    }
+
+    private UserChangeDTO toDto(UserChange change) {
+        return UserChangeDTO.builder()
+                .seq(change.getSeq())
+                .userId(change.getUserId())
+                .changeType(change.getChangeType())
+                .name(change.getName())
+                .lastName(change.getLastName())
+                .emailAddress(change.getEmailAddress())
+                .baseSalary(change.getBaseSalary())
+                .occurredAt(change.getOccurredAt())
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package co.com.bancolombia.api.userchange.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Cambio registrado sobre un usuario")
+public class UserChangeDTO {
+
+    @Schema(description = "Secuencia monotónica del cambio", example = "42")
+    private Long seq;
+
+    @Schema(description = "ID del usuario afectado")
+    private String userId;
+
+    @Schema(description = "Tipo de cambio", example = "UPDATED", allowableValues = {"CREATED", "UPDATED", "DELETED"})
+    private String changeType;
+
+    private String name;
+    private String lastName;
+    private String emailAddress;
+    private BigDecimal baseSalary;
+
+    @Schema(description = "Momento en que se confirmó el cambio en origen")
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,23 @@
+package co.com.bancolombia.api.userchange.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Página del feed de cambios de usuarios")
+public class UserChangeFeedResponseDTO {
+
+    @Schema(description = "Cambios en orden de secuencia")
+    private List<UserChangeDTO> changes;
+
+    @Schema(description = "Valor a enviar como 'after' en la siguiente consulta", example = "42")
+    private Long nextAfter;
+}
@@ -0,0 +1,105 @@
+package co.com.bancolombia.api;
+
+import co.com.bancolombia.api.constants.ApiPaths;
+import co.com.bancolombia.api.exception.GlobalExceptionHandler;
+import co.com.bancolombia.api.userchange.UserChangeFeedProperties;
+import co.com.bancolombia.api.userchange.UserChangeHandler;
+import co.com.bancolombia.model.userchange.UserChange;
+import co.com.bancolombia.model.userchange.gateways.UserChangeRepository;
+import co.com.bancolombia.usecase.userchange.UserChangeUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import reactor.core.publisher.Flux;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserChangeRouterTest {
+
+    private static final String API_KEY = "feed-test-key";
+
+    private WebTestClient webTestClient;
+    private UserChangeRepository userChangeRepository;
+
+    @BeforeEach
+    void setUp() {
+        userChangeRepository = mock(UserChangeRepository.class);
+        UserChangeHandler handler = new UserChangeHandler(new UserChangeUseCase(userChangeRepository),
+                new UserChangeFeedProperties(API_KEY));
+        this.webTestClient = WebTestClient
+                .bindToRouterFunction(new UserChangeRouterRest().userChangeRoutes(handler))
+                .handlerStrategies(HandlerStrategies.builder()
+                        .exceptionHandler(new GlobalExceptionHandler())
+                        .build())
+                .build();
+    }
+
+    @Test
+    void getChanges_WithoutApiKey_ShouldReturnUnauthorized() {
+        webTestClient.get()
+                .uri(ApiPaths.USER_CHANGES + "?after=0")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        verify(userChangeRepository, never()).findChangesAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void getChanges_WithWrongApiKey_ShouldReturnUnauthorized() {
+        webTestClient.get()
+                .uri(ApiPaths.USER_CHANGES + "?after=0")
+                .header(UserChangeHandler.API_KEY_HEADER, "otra-clave")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        verify(userChangeRepository, never()).findChangesAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void getChanges_WithLimitAboveMax_ShouldReturnBadRequest() {
+        webTestClient.get()
+                .uri(ApiPaths.USER_CHANGES + "?after=0&limit=" + (UserChangeUseCase.MAX_LIMIT + 1))
+                .header(UserChangeHandler.API_KEY_HEADER, API_KEY)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(userChangeRepository, never()).findChangesAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void getChanges_WithLimitOverflowingInt_ShouldReturnBadRequest() {
+        webTestClient.get()
+                .uri(ApiPaths.USER_CHANGES + "?after=0&limit=4294967396")
+                .header(UserChangeHandler.API_KEY_HEADER, API_KEY)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(userChangeRepository, never()).findChangesAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void getChanges_WithValidApiKey_ShouldReturnFeed() {
+        UserChange change = UserChange.builder()
+                .seq(42L)
+                .userId("7c9e6679-7425-40de-944b-e07fc1f90ae7")
+                .changeType(UserChange.UPDATED)
+                .emailAddress("juan@test.com")
+                .build();
+        when(userChangeRepository.findChangesAfter(41L, UserChangeUseCase.MAX_LIMIT)).thenReturn(Flux.just(change));
+
+        webTestClient.get()
+                .uri(ApiPaths.USER_CHANGES + "?after=41&limit=" + UserChangeUseCase.MAX_LIMIT)
+                .header(UserChangeHandler.API_KEY_HEADER, API_KEY)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.changes[0].seq").isEqualTo(42)
+                .jsonPath("$.nextAfter").isEqualTo(42);
+    }
+}